@@ -22,11 +22,15 @@ import javax.xml.parsers.ParserConfigurationException;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/**
+ * {@link DocumentBuilder} isn't thread-safe, so a configured factory is shared instead and every
+ * thread creates its own builder
+ */
 @Configuration
 public class XmlParserConfig {
 
   @Bean
-  public DocumentBuilder documentBuilder() throws ParserConfigurationException {
+  public DocumentBuilderFactory documentBuilderFactory() throws ParserConfigurationException {
     var documentBuilderFactory = DocumentBuilderFactory.newInstance();
     documentBuilderFactory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
     documentBuilderFactory.setFeature("http://xml.org/sax/features/external-general-entities",
@@ -35,6 +39,6 @@ public class XmlParserConfig {
         false);
     documentBuilderFactory.setNamespaceAware(true);
     documentBuilderFactory.setExpandEntityReferences(false);
-    return documentBuilderFactory.newDocumentBuilder();
+    return documentBuilderFactory;
   }
 }
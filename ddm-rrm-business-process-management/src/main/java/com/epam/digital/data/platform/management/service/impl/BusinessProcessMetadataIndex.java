@@ -0,0 +1,185 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.service.impl;
+
+import com.epam.digital.data.platform.management.core.config.JacksonConfig;
+import com.epam.digital.data.platform.management.model.dto.BusinessProcessMetadataDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.Supplier;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps metadata parsed from BPMN content keyed by id of the content blob, so process listing
+ * reads and parses only processes which content has changed since the previous listing.
+ * <p>
+ * Every write, delete or fetch that changes a process changes its blob id as well, so cached
+ * metadata never has to be invalidated. Versions that have the same process content share its
+ * metadata.
+ * <p>
+ * Published metrics: {@value #INDEX_REQUESTS_METRIC} counter tagged by result.
+ */
+@Slf4j
+@Component
+public class BusinessProcessMetadataIndex {
+
+  public static final String INDEX_REQUESTS_METRIC = "rrm.bpmn.metadata.index.requests";
+  public static final String PROCESS_CREATED_ATTRIBUTE = "rrm:created";
+  public static final String PROCESS_MODIFIED_ATTRIBUTE = "rrm:modified";
+  public static final String PROCESS_ELEMENT = "bpmn:process";
+
+  /**
+   * Maximum number of indexed process contents of all versions. Least used ones are evicted when
+   * it's exceeded
+   */
+  static final long MAXIMUM_PROCESSES = 10_000;
+
+  private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+  private final Cache<String, BusinessProcessMetadataDto> metadata = Caffeine.newBuilder()
+      .maximumSize(MAXIMUM_PROCESSES)
+      .build();
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public BusinessProcessMetadataIndex(MeterRegistry meterRegistry) {
+    this.hitCounter = Counter.builder(INDEX_REQUESTS_METRIC)
+        .tag("result", "hit")
+        .register(meterRegistry);
+    this.missCounter = Counter.builder(INDEX_REQUESTS_METRIC)
+        .tag("result", "miss")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Get metadata of the process content
+   *
+   * @param blobId        id of the process content blob
+   * @param contentLoader reads the blob content if its metadata isn't indexed yet
+   * @return process metadata or null if there is no content to parse
+   */
+  @Nullable
+  public BusinessProcessMetadataDto getMetadata(@NonNull String blobId,
+      @NonNull Supplier<String> contentLoader) {
+    var indexedMetadata = metadata.getIfPresent(blobId);
+    if (Objects.nonNull(indexedMetadata)) {
+      hitCounter.increment();
+      return indexedMetadata;
+    }
+    missCounter.increment();
+    var processContent = contentLoader.get();
+    if (Objects.isNull(processContent)) {
+      log.debug("Content of process blob {} not found", blobId);
+      return null;
+    }
+    var parsedMetadata = parse(processContent);
+    metadata.put(blobId, parsedMetadata);
+    return parsedMetadata;
+  }
+
+  /**
+   * Parse metadata of the process content without indexing it. Dates are read from the root
+   * element and reading stops at the first process element, so diagram of the process isn't read
+   *
+   * @param processContent BPMN xml
+   * @return process metadata, its fields are null if process has no such attributes
+   * @throws RuntimeException if content isn't a valid xml
+   */
+  @NonNull
+  public BusinessProcessMetadataDto parse(@NonNull String processContent) {
+    XMLStreamReader reader = null;
+    try {
+      reader = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(processContent));
+      var builder = BusinessProcessMetadataDto.builder();
+      var rootElementRead = false;
+      while (reader.hasNext()) {
+        if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+          continue;
+        }
+        if (!rootElementRead) {
+          builder.created(parseDate(getAttribute(reader, PROCESS_CREATED_ATTRIBUTE)))
+              .modified(parseDate(getAttribute(reader, PROCESS_MODIFIED_ATTRIBUTE)));
+          rootElementRead = true;
+        }
+        if (PROCESS_ELEMENT.equals(getQualifiedName(reader.getPrefix(), reader.getLocalName()))) {
+          builder.processId(getAttribute(reader, "id"))
+              .name(getAttribute(reader, "name"));
+          break;
+        }
+      }
+      return builder.build();
+    } catch (XMLStreamException exception) {
+      throw new RuntimeException("Could not parse xml document", exception);
+    } finally {
+      close(reader);
+    }
+  }
+
+  @Nullable
+  private static String getAttribute(XMLStreamReader reader, String qualifiedName) {
+    for (int i = 0; i < reader.getAttributeCount(); i++) {
+      if (qualifiedName.equals(
+          getQualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)))) {
+        return reader.getAttributeValue(i);
+      }
+    }
+    return null;
+  }
+
+  private static String getQualifiedName(@Nullable String prefix, String localName) {
+    return Objects.isNull(prefix) || prefix.isEmpty() ? localName : prefix + ":" + localName;
+  }
+
+  @Nullable
+  private static LocalDateTime parseDate(@Nullable String date) {
+    return Objects.isNull(date) ? null : LocalDateTime.parse(date,
+        JacksonConfig.DATE_TIME_FORMATTER);
+  }
+
+  private static void close(@Nullable XMLStreamReader reader) {
+    if (Objects.isNull(reader)) {
+      return;
+    }
+    try {
+      reader.close();
+    } catch (XMLStreamException exception) {
+      log.trace("Could not close xml reader", exception);
+    }
+  }
+
+  /**
+   * Factory isn't changed after creation, readers created by it are used by a single thread each
+   */
+  private static XMLInputFactory createXmlInputFactory() {
+    var factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+}
@@ -29,6 +29,7 @@ import com.epam.digital.data.platform.management.filemanagement.service.Versione
 import com.epam.digital.data.platform.management.gitintegration.model.FileDatesDto;
 import com.epam.digital.data.platform.management.mapper.BusinessProcessMapper;
 import com.epam.digital.data.platform.management.model.dto.BusinessProcessInfoDto;
+import com.epam.digital.data.platform.management.model.dto.BusinessProcessMetadataDto;
 import com.epam.digital.data.platform.management.service.BusinessProcessService;
 import java.io.IOException;
 import java.io.StringReader;
@@ -36,8 +37,11 @@ import java.io.StringWriter;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
@@ -48,8 +52,6 @@ import org.apache.commons.io.FilenameUtils;
 import org.springframework.stereotype.Component;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
@@ -59,14 +61,19 @@ public class BusinessProcessServiceImpl implements BusinessProcessService {
 
   private static final String DIRECTORY_PATH = "bpmn";
   private static final String BPMN_FILE_EXTENSION = "bpmn";
-  public static final String PROCESS_CREATED_PATH = "rrm:created";
-  public static final String PROCESS_MODIFIED_PATH = "rrm:modified";
+  public static final String PROCESS_CREATED_PATH =
+      BusinessProcessMetadataIndex.PROCESS_CREATED_ATTRIBUTE;
+  public static final String PROCESS_MODIFIED_PATH =
+      BusinessProcessMetadataIndex.PROCESS_MODIFIED_ATTRIBUTE;
 
   private final VersionContextComponentManager versionContextComponentManager;
   private final BusinessProcessMapper mapper;
   private final GerritPropertiesConfig gerritPropertiesConfig;
-  private final DocumentBuilder documentBuilder;
+  private final DocumentBuilderFactory documentBuilderFactory;
   private final CacheService cacheService;
+  private final BusinessProcessMetadataIndex processMetadataIndex;
+  private final ThreadLocal<DocumentBuilder> documentBuilder =
+      ThreadLocal.withInitial(this::newDocumentBuilder);
 
   @Override
   public List<BusinessProcessInfoDto> getProcessesByVersion(String versionName) {
@@ -143,14 +150,6 @@ public class BusinessProcessServiceImpl implements BusinessProcessService {
     repo.rollbackFile(getProcessPath(processName));
   }
 
-  private String getAttributeFromContent(String processContent, String attribute) {
-    Document doc = parseBusinessProcess(processContent);
-    doc.getDocumentElement().normalize();
-    NodeList nodeList = doc.getElementsByTagName("bpmn:process");
-    Node node = nodeList.item(0);
-    return node.getAttributes().getNamedItem(attribute).getTextContent();
-  }
-
   private String getProcessPath(String processName) {
     return String.format(
         "%s/%s.%s", DIRECTORY_PATH, FilenameUtils.getName(processName), BPMN_FILE_EXTENSION);
@@ -158,34 +157,54 @@ public class BusinessProcessServiceImpl implements BusinessProcessService {
 
   private Document parseBusinessProcess(String processContent) {
     try {
-      return documentBuilder.parse(new InputSource(new StringReader(processContent)));
+      return documentBuilder.get().parse(new InputSource(new StringReader(processContent)));
     } catch (SAXException | IOException exception) {
       throw new RuntimeException("Could not parse xml document", exception);
     }
   }
 
+  private DocumentBuilder newDocumentBuilder() {
+    // the factory isn't guaranteed to be thread-safe either
+    synchronized (documentBuilderFactory) {
+      try {
+        return documentBuilderFactory.newDocumentBuilder();
+      } catch (ParserConfigurationException exception) {
+        throw new IllegalStateException("Could not create xml document builder", exception);
+      }
+    }
+  }
+
   private List<BusinessProcessInfoDto> getProcessesByVersion(String versionName,
       FileStatus skippedStatus) {
     List<VersionedFileInfoDto> fileList;
     var repo =
         versionContextComponentManager.getComponent(versionName, VersionedFileRepository.class);
     fileList = repo.getFileList(DIRECTORY_PATH);
+    var blobIds = repo.getFileBlobIds(DIRECTORY_PATH);
     var masterRepo =
         versionContextComponentManager.getComponent(
             gerritPropertiesConfig.getHeadBranch(), VersionedFileRepository.class);
+    Map<String, String> masterBlobIds = null;
     List<BusinessProcessInfoDto> processes = new ArrayList<>();
     List<String> conflicts = cacheService.getConflictsCache(versionName);
     for (VersionedFileInfoDto versionedFileInfoDto : fileList) {
       if (versionedFileInfoDto.getStatus().equals(skippedStatus)) {
         continue;
       }
-      String processContent;
+      var processPath = getProcessPath(versionedFileInfoDto.getName());
+      BusinessProcessMetadataDto metadata;
       if (versionedFileInfoDto.getStatus() == FileStatus.DELETED) {
-        processContent = masterRepo.readFile(getProcessPath(versionedFileInfoDto.getName()));
+        if (Objects.isNull(masterBlobIds)) {
+          masterBlobIds = masterRepo.getFileBlobIds(DIRECTORY_PATH);
+        }
+        metadata = getProcessMetadata(masterRepo, masterBlobIds, processPath);
       } else {
-        processContent = repo.readFile(getProcessPath(versionedFileInfoDto.getName()));
+        metadata = getProcessMetadata(repo, blobIds, processPath);
       }
-      var dates = getDatesFromContent(processContent);
+      var dates = FileDatesDto.builder()
+          .create(metadata.getCreated())
+          .update(metadata.getModified())
+          .build();
       if (Objects.isNull(dates.getCreate()) || Objects.isNull(dates.getUpdate())) {
         var path = getProcessPath(versionedFileInfoDto.getName());
         var datesFromRepo = versionedFileInfoDto.getStatus() == FileStatus.DELETED
@@ -203,43 +222,38 @@ public class BusinessProcessServiceImpl implements BusinessProcessService {
           mapper.toBusinessProcess(
               versionedFileInfoDto,
               dates,
-              getAttributeFromContent(processContent, "name"),
+              metadata.getName(),
               conflicts.contains(versionedFileInfoDto.getPath())));
     }
     return processes;
   }
 
-  private FileDatesDto getDatesFromContent(String processContent) {
-    FileDatesDto fileDatesDto = FileDatesDto.builder().build();
-    Document doc;
-    try {
-      doc = documentBuilder.parse(new InputSource(new StringReader(processContent)));
-    } catch (SAXException | IOException exception) {
-      throw new RuntimeException("Could not parse xml document", exception);
-    }
-    doc.getDocumentElement().normalize();
-    Element element = doc.getDocumentElement();
-    if (element.hasAttribute(PROCESS_MODIFIED_PATH)) {
-      fileDatesDto.setUpdate(
-          LocalDateTime.parse(
-              element.getAttribute(PROCESS_MODIFIED_PATH), JacksonConfig.DATE_TIME_FORMATTER));
+  /**
+   * Process metadata is read from the index while process content stays the same. Process that
+   * isn't committed to the version repository yet has no blob, so its content is parsed every time
+   */
+  private BusinessProcessMetadataDto getProcessMetadata(VersionedFileRepository repo,
+      Map<String, String> blobIds, String processPath) {
+    var blobId = blobIds.get(processPath);
+    BusinessProcessMetadataDto metadata = null;
+    if (Objects.nonNull(blobId)) {
+      metadata = processMetadataIndex.getMetadata(blobId, () -> repo.readBlob(blobId));
     }
-    if (element.hasAttribute(PROCESS_CREATED_PATH)) {
-      fileDatesDto.setCreate(
-          LocalDateTime.parse(
-              element.getAttribute(PROCESS_CREATED_PATH), JacksonConfig.DATE_TIME_FORMATTER));
-    }
-    return fileDatesDto;
+    return Objects.nonNull(metadata)
+        ? metadata : processMetadataIndex.parse(repo.readFile(processPath));
+  }
+
+  private FileDatesDto getDatesFromContent(String processContent) {
+    var metadata = processMetadataIndex.parse(processContent);
+    return FileDatesDto.builder()
+        .create(metadata.getCreated())
+        .update(metadata.getModified())
+        .build();
   }
 
   private String addDatesToContent(String processContent, LocalDateTime created,
       LocalDateTime modified) {
-    Document doc;
-    try {
-      doc = documentBuilder.parse(new InputSource(new StringReader(processContent)));
-    } catch (SAXException | IOException exception) {
-      throw new RuntimeException("Could not parse xml document", exception);
-    }
+    Document doc = parseBusinessProcess(processContent);
     Element element = doc.getDocumentElement();
     element.setAttributeNS(
         "http://www.w3.org/2000/xmlns/", "xmlns:rrm", "http://registry-regulation-management");
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.service;
+
+import com.epam.digital.data.platform.management.TestUtils;
+import com.epam.digital.data.platform.management.service.impl.BusinessProcessMetadataIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BusinessProcessMetadataIndex")
+class BusinessProcessMetadataIndexTest {
+
+  private static final String PROCESS_CONTENT = TestUtils.getContent("bp-sample.bpmn");
+  private static final String PROCESS_CONTENT_WITHOUT_DATES = TestUtils.getContent(
+      "bp-sample-without-dates.bpmn");
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final BusinessProcessMetadataIndex processMetadataIndex =
+      new BusinessProcessMetadataIndex(meterRegistry);
+
+  @Test
+  @DisplayName("should parse process content only once for the same blob")
+  void getMetadataTest() {
+    var loads = new AtomicInteger();
+
+    var first = processMetadataIndex.getMetadata("blobId", () -> {
+      loads.incrementAndGet();
+      return PROCESS_CONTENT;
+    });
+    var second = processMetadataIndex.getMetadata("blobId", () -> {
+      loads.incrementAndGet();
+      return PROCESS_CONTENT;
+    });
+
+    Assertions.assertThat(second).isSameAs(first);
+    Assertions.assertThat(first.getProcessId()).isEqualTo("Process_00mzcs7");
+    Assertions.assertThat(first.getName()).isEqualTo("Really test name");
+    Assertions.assertThat(first.getCreated())
+        .isEqualTo(LocalDateTime.of(2022, 10, 3, 14, 41, 20, 128000000));
+    Assertions.assertThat(first.getModified())
+        .isEqualTo(LocalDateTime.of(2022, 10, 3, 14, 41, 20, 128000000));
+    Assertions.assertThat(loads).hasValue(1);
+    Assertions.assertThat(getRequestsCount("hit")).isEqualTo(1);
+    Assertions.assertThat(getRequestsCount("miss")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should not index blob without content")
+  void getMetadataTest_noContent() {
+    Assertions.assertThat(processMetadataIndex.getMetadata("blobId", () -> null)).isNull();
+    Assertions.assertThat(processMetadataIndex.getMetadata("blobId", () -> PROCESS_CONTENT))
+        .isNotNull();
+    Assertions.assertThat(getRequestsCount("miss")).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("should return null dates if process content has no dates")
+  void parseTest_noDates() {
+    var metadata = processMetadataIndex.parse(PROCESS_CONTENT_WITHOUT_DATES);
+
+    Assertions.assertThat(metadata.getName()).isEqualTo("Really test name");
+    Assertions.assertThat(metadata.getCreated()).isNull();
+    Assertions.assertThat(metadata.getModified()).isNull();
+  }
+
+  @Test
+  @DisplayName("should throw RuntimeException if process content isn't xml")
+  void parseTest_invalidContent() {
+    Assertions.assertThatThrownBy(() -> processMetadataIndex.parse("Invalid content"))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessage("Could not parse xml document");
+  }
+
+  private double getRequestsCount(String result) {
+    return meterRegistry.get(BusinessProcessMetadataIndex.INDEX_REQUESTS_METRIC)
+        .tag("result", result)
+        .counter().count();
+  }
+}
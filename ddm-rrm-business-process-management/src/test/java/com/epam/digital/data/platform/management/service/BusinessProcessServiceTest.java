@@ -34,11 +34,14 @@ import com.epam.digital.data.platform.management.filemanagement.model.VersionedF
 import com.epam.digital.data.platform.management.filemanagement.service.VersionedFileRepository;
 import com.epam.digital.data.platform.management.mapper.BusinessProcessMapper;
 import com.epam.digital.data.platform.management.model.dto.BusinessProcessInfoDto;
+import com.epam.digital.data.platform.management.service.impl.BusinessProcessMetadataIndex;
 import com.epam.digital.data.platform.management.service.impl.BusinessProcessServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
-import javax.xml.parsers.DocumentBuilder;
+import java.util.Map;
+import javax.xml.parsers.DocumentBuilderFactory;
 import lombok.SneakyThrows;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -81,7 +84,10 @@ public class BusinessProcessServiceTest {
   @Mock
   private CacheService cacheService;
   @Autowired
-  private DocumentBuilder documentBuilder;
+  private DocumentBuilderFactory documentBuilderFactory;
+  @Spy
+  private BusinessProcessMetadataIndex processMetadataIndex =
+      new BusinessProcessMetadataIndex(new SimpleMeterRegistry());
 
   @Spy
   private BusinessProcessMapper businessProcessMapper =
@@ -97,8 +103,9 @@ public class BusinessProcessServiceTest {
             versionContextComponentManager,
             businessProcessMapper,
             gerritPropertiesConfig,
-            documentBuilder,
-            cacheService);
+            documentBuilderFactory,
+            cacheService,
+            processMetadataIndex);
     Mockito.when(
             versionContextComponentManager.getComponent(VERSION_ID, VersionedFileRepository.class))
         .thenReturn(repository);
@@ -204,6 +211,36 @@ public class BusinessProcessServiceTest {
         .hasMessage("Could not parse xml document");
   }
 
+  @Test
+  @SneakyThrows
+  void getBusinessProcessesListByVersionTest_indexedMetadata() {
+    var process = VersionedFileInfoDto.builder()
+        .name("business-process")
+        .path("bpmn/business-process." + BPMN_FILE_EXTENSION)
+        .status(FileStatus.CHANGED)
+        .build();
+    Mockito.doReturn(List.of(process)).when(repository).getFileList("bpmn");
+    Mockito.doReturn(Map.of("bpmn/business-process." + BPMN_FILE_EXTENSION, "blobId"))
+        .when(repository).getFileBlobIds("bpmn");
+    Mockito.doReturn(PROCESS_CONTENT).when(repository).readBlob("blobId");
+
+    var firstList = businessProcessService.getProcessesByVersion(VERSION_ID);
+    var secondList = businessProcessService.getProcessesByVersion(VERSION_ID);
+
+    var expectedBusinessProcess = BusinessProcessInfoDto.builder()
+        .name("business-process")
+        .title("Really test name")
+        .path("bpmn/business-process." + BPMN_FILE_EXTENSION)
+        .status(FileStatus.CHANGED)
+        .created(LocalDateTime.of(2022, 10, 3, 14, 41, 20, 128000000))
+        .updated(LocalDateTime.of(2022, 10, 3, 14, 41, 20, 128000000))
+        .build();
+    Assertions.assertThat(firstList).hasSize(1).element(0).isEqualTo(expectedBusinessProcess);
+    Assertions.assertThat(secondList).isEqualTo(firstList);
+    Mockito.verify(repository).readBlob("blobId");
+    Mockito.verify(repository, never()).readFile(anyString());
+  }
+
   @Test
   @SneakyThrows
   void getChangedBusinessProcessListByVersionTest() {
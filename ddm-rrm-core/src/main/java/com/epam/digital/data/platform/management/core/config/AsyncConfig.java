@@ -16,13 +16,41 @@
 
 package com.epam.digital.data.platform.management.core.config;
 
+import static org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
-@EnableAsync
-@ConditionalOnProperty(prefix = "registry-regulation-management.async", name = "enabled", havingValue = "true", matchIfMissing = true)
 public class AsyncConfig {
 
+  /**
+   * Executor of {@code @Async} methods configured by {@code spring.task.execution} properties, as
+   * Spring Boot would create it. It's declared here as Spring Boot backs off once any other
+   * executor bean is declared, e.g. the version candidates refresh one. Other asynchronous work of
+   * the application runs on executors of its own
+   */
+  @Lazy
+  @Bean(name = {APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+      AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+  @ConditionalOnMissingBean(name = APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+  public ThreadPoolTaskExecutor applicationTaskExecutor(
+      ObjectProvider<TaskExecutorBuilder> taskExecutorBuilder) {
+    return taskExecutorBuilder.getIfAvailable(TaskExecutorBuilder::new).build();
+  }
+
+  @Configuration
+  @EnableAsync
+  @ConditionalOnProperty(prefix = "registry-regulation-management.async", name = "enabled", havingValue = "true", matchIfMissing = true)
+  static class EnableAsyncConfig {
+
+  }
 }
@@ -16,6 +16,9 @@
 
 package com.epam.digital.data.platform.management.core.config;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -32,4 +35,166 @@ public class GerritPropertiesConfig {
   private String repository;
   private String headBranch;
   private String repositoryDirectory;
+
+  /**
+   * Defines how a change is looked up by its number. {@link ChangeLookupMode#SINGLE_QUERY} gets
+   * change details, current revision and mergeability with the change query itself instead of
+   * requesting them separately
+   */
+  private ChangeLookupMode changeLookupMode = ChangeLookupMode.SEPARATE_REQUESTS;
+
+  private ChangeQuery changeQuery = new ChangeQuery();
+  private ChangeCache changeCache = new ChangeCache();
+  private LabelsCache labelsCache = new LabelsCache();
+  private AsyncClient asyncClient = new AsyncClient();
+  private FileContent fileContent = new FileContent();
+  private HttpClient httpClient = new HttpClient();
+  private Events events = new Events();
+
+  @Getter
+  @Setter
+  public static class ChangeQuery {
+
+    /**
+     * Maximum number of changes requested from Gerrit at once. Longer change lists are read page
+     * by page
+     */
+    private int pageSize = 500;
+  }
+
+  @Getter
+  @Setter
+  public static class ChangeCache {
+
+    /**
+     * Period during which change info read from Gerrit is shared between requests. Changes made
+     * by this service evict it right away. {@code 0} disables caching, so change info is read from
+     * Gerrit every time
+     */
+    private Duration timeToLive = Duration.ZERO;
+
+    /**
+     * Maximum number of cached file lists of change revisions
+     */
+    private long maximumRevisions = 1_000;
+  }
+
+  @Getter
+  @Setter
+  public static class LabelsCache {
+
+    /**
+     * Period during which labels of a version candidate, e.g. its build status, are read from the
+     * cache. Labels are also updated by the version candidates refresh and dropped on Gerrit events
+     * of the change. {@code 0} reads them from Gerrit every time
+     */
+    private Duration timeToLive = Duration.ZERO;
+
+    /**
+     * Maximum number of changes with cached labels
+     */
+    private long maximumChanges = 1_000;
+  }
+
+  @Getter
+  @Setter
+  public static class AsyncClient {
+
+    /**
+     * Maximum number of Gerrit calls made by the async client at once. Calls run on the executor
+     * of the async client that is sized by this limit
+     */
+    private int maxConcurrentCalls = 16;
+
+    /**
+     * Maximum number of calls waiting for a free slot. Calls over the limit are rejected right
+     * away
+     */
+    private int maxQueuedCalls = 64;
+
+    /**
+     * Period after which a call is failed with timeout unless it's overridden for the operation
+     */
+    private Duration timeout = Duration.ofSeconds(10);
+
+    /**
+     * Timeouts of separate operations, e.g. {@code get-file-content}
+     */
+    private Map<String, Duration> operationTimeouts = new HashMap<>();
+
+    /**
+     * Number of failed calls within {@code failure-window} that opens the circuit breaker, so
+     * calls fail right away without reaching Gerrit
+     */
+    private int failureThreshold = 5;
+
+    /**
+     * Period in which failed calls are counted by the circuit breaker
+     */
+    private Duration failureWindow = Duration.ofSeconds(10);
+
+    /**
+     * Period after which an open circuit breaker closes and lets calls through again
+     */
+    private Duration openDuration = Duration.ofSeconds(30);
+  }
+
+  @Getter
+  @Setter
+  public static class FileContent {
+
+    /**
+     * Maximum number of files of the same change revision downloaded at once by a bulk content
+     * request, the calling thread included. {@code 1} downloads them one by one on the calling
+     * thread
+     */
+    private int parallelism = 1;
+  }
+
+  @Getter
+  @Setter
+  public static class HttpClient {
+
+    /**
+     * Reuses connections to Gerrit between requests through a shared connection pool instead of
+     * opening a new connection for every request. Other properties apply to the pool only
+     */
+    private boolean pooled = false;
+
+    /**
+     * Maximum number of open connections to Gerrit. Requests over the limit wait for a free
+     * connection up to {@code connection-request-timeout}
+     */
+    private int maxConnections = 20;
+
+    /**
+     * Period during which an idle connection is kept open unless Gerrit asks for a shorter one
+     */
+    private Duration keepAlive = Duration.ofSeconds(30);
+
+    /**
+     * Period of inactivity after which a connection is checked before it's reused
+     */
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private Duration readTimeout = Duration.ofSeconds(30);
+    private Duration connectionRequestTimeout = Duration.ofSeconds(10);
+  }
+
+  @Getter
+  @Setter
+  public static class Events {
+
+    /**
+     * Shared secret that Gerrit webhooks send in the {@code X-Gerrit-Event-Token} header. Events
+     * are rejected while it isn't set
+     */
+    private String secret;
+  }
+
+  public enum ChangeLookupMode {
+    SEPARATE_REQUESTS,
+    SINGLE_QUERY
+  }
 }
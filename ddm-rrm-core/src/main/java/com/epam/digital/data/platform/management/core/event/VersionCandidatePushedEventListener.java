@@ -0,0 +1,34 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.core.event;
+
+import org.springframework.context.event.EventListener;
+
+/**
+ * Provide handler for version candidate push event. The event is handled synchronously, so
+ * everything read after the push sees the new revision of the change
+ */
+public interface VersionCandidatePushedEventListener {
+
+  /**
+   * Handle version candidate push event
+   * @param event {@link VersionCandidatePushedEvent}
+   */
+  @EventListener(value = VersionCandidatePushedEvent.class)
+  void handleVersionCandidatePushedEvent(VersionCandidatePushedEvent event);
+
+}
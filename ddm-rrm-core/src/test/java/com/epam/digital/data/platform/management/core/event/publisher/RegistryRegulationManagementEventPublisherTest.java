@@ -17,6 +17,7 @@
 package com.epam.digital.data.platform.management.core.event.publisher;
 
 import com.epam.digital.data.platform.management.core.event.VersionCandidateCreatedEvent;
+import com.epam.digital.data.platform.management.core.event.VersionCandidatePushedEvent;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.internal.bytebuddy.utility.RandomString;
 import org.junit.jupiter.api.Test;
@@ -40,6 +41,8 @@ class RegistryRegulationManagementEventPublisherTest {
 
   @Captor
   ArgumentCaptor<VersionCandidateCreatedEvent> versionCandidateCreatedEventArgumentCaptor;
+  @Captor
+  ArgumentCaptor<VersionCandidatePushedEvent> versionCandidatePushedEventArgumentCaptor;
 
   @Test
   void publishVersionCandidateCreatedEvent() {
@@ -56,4 +59,20 @@ class RegistryRegulationManagementEventPublisherTest {
         .hasFieldOrPropertyWithValue("source", publisher)
         .hasFieldOrPropertyWithValue("versionCandidateNumber", versionCandidateNumber);
   }
+
+  @Test
+  void publishVersionCandidatePushedEvent() {
+    final var versionCandidateNumber = RandomString.make();
+
+    publisher.publishVersionCandidatePushedEvent(versionCandidateNumber);
+
+    Mockito.verify(applicationEventPublisher)
+        .publishEvent(versionCandidatePushedEventArgumentCaptor.capture());
+
+    final var actualEvent = versionCandidatePushedEventArgumentCaptor.getValue();
+
+    Assertions.assertThat(actualEvent)
+        .hasFieldOrPropertyWithValue("source", publisher)
+        .hasFieldOrPropertyWithValue("versionCandidateNumber", versionCandidateNumber);
+  }
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.filemanagement.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Change of a single file in a batch of changes that are saved to the version together. File is
+ * deleted if there is no content
+ */
+@Getter
+@Builder
+public class VersionedFileChangeDto {
+  private final String path;
+  private final String content;
+  private final String eTag;
+}
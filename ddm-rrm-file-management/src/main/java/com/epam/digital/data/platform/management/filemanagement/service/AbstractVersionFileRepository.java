@@ -17,11 +17,14 @@
 package com.epam.digital.data.platform.management.filemanagement.service;
 
 import com.epam.digital.data.platform.management.filemanagement.mapper.FileManagementMapper;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileChangeDto;
 import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileDatesDto;
 import com.epam.digital.data.platform.management.gerritintegration.service.GerritService;
 import com.epam.digital.data.platform.management.gitintegration.service.JGitService;
 import java.net.URLDecoder;
 import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
@@ -49,6 +52,18 @@ public abstract class AbstractVersionFileRepository implements VersionedFileRepo
         URLDecoder.decode(path, Charset.defaultCharset()));
   }
 
+  @Override
+  @NonNull
+  public Map<String, String> getFileBlobIds(@NonNull String path) {
+    return gitService.getFileBlobIds(versionId, path);
+  }
+
+  @Override
+  @Nullable
+  public String readBlob(@NonNull String blobId) {
+    return gitService.getBlobContent(versionId, blobId);
+  }
+
   @Override
   public void writeFile(@NonNull String path, @NonNull String content, String eTag) {
     throw new UnsupportedOperationException();
@@ -59,6 +74,11 @@ public abstract class AbstractVersionFileRepository implements VersionedFileRepo
     throw new UnsupportedOperationException();
   }
 
+  @Override
+  public void applyChanges(@NonNull List<VersionedFileChangeDto> changes) {
+    throw new UnsupportedOperationException();
+  }
+
   @Override
   public void rollbackFile(@NonNull String path) {
     throw new UnsupportedOperationException();
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.digital.data.platform.management.filemanagement.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers the change revision refs that were last fetched to the repository of every version
+ * candidate, so fetch and checkout are skipped while the current revision of the change in Gerrit
+ * stays the same.
+ * <p>
+ * Tracked revision has to be {@link #forget(String) forgotten} when local repository state may
+ * differ from it, e.g. the repository was re-created or local change wasn't pushed.
+ * <p>
+ * Published metrics: {@value #FETCH_METRIC} counter tagged by result - {@code performed} or
+ * {@code skipped}.
+ */
+@Slf4j
+@Component
+public class FetchedRevisionTracker {
+
+  public static final String FETCH_METRIC = "rrm.version.repository.fetch";
+
+  private final Map<String, String> fetchedRefs = new ConcurrentHashMap<>();
+
+  private final Counter performedCounter;
+  private final Counter skippedCounter;
+
+  public FetchedRevisionTracker(MeterRegistry meterRegistry) {
+    this.performedCounter = Counter.builder(FETCH_METRIC)
+        .tag("result", "performed")
+        .register(meterRegistry);
+    this.skippedCounter = Counter.builder(FETCH_METRIC)
+        .tag("result", "skipped")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Run fetch of the refs unless the same refs were the last fetched to the version repository
+   *
+   * @param versionId version which repository is updated
+   * @param refs      refs of the current change revision
+   * @param fetch     fetches and checks out the refs
+   */
+  public void fetchIfChanged(@NonNull String versionId, @NonNull String refs,
+      @NonNull Runnable fetch) {
+    if (refs.equals(fetchedRefs.get(versionId))) {
+      log.trace("Refs {} are already fetched to version {}, skipping fetch", refs, versionId);
+      skippedCounter.increment();
+      return;
+    }
+    fetch.run();
+    fetchedRefs.put(versionId, refs);
+    performedCounter.increment();
+  }
+
+  /**
+   * Forget the last fetched refs of the version, so its repository is fetched on next update
+   *
+   * @param versionId version which repository state is unknown
+   */
+  public void forget(@NonNull String versionId) {
+    fetchedRefs.remove(versionId);
+  }
+}
@@ -16,9 +16,11 @@
 
 package com.epam.digital.data.platform.management.filemanagement.service;
 
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileChangeDto;
 import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileDatesDto;
 import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileInfoDto;
 import java.util.List;
+import java.util.Map;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 
@@ -69,6 +71,25 @@ public interface VersionedFileRepository {
   @Nullable
   String readFile(@NonNull String path);
 
+  /**
+   * Gets ids of content blobs of files in specific path. Blob id stays the same while file content
+   * doesn't change, so it can be used as a key of data parsed from the file
+   *
+   * @param path version relative path to look files into
+   * @return version relative file paths mapped to their blob ids
+   */
+  @NonNull
+  Map<String, String> getFileBlobIds(@NonNull String path);
+
+  /**
+   * Reads content of the blob
+   *
+   * @param blobId id of the blob returned by {@link #getFileBlobIds(String)}
+   * @return blob content or null if there is no such blob in version
+   */
+  @Nullable
+  String readBlob(@NonNull String blobId);
+
   /**
    * Checks if file exists at specific path in the version
    *
@@ -86,6 +107,15 @@ public interface VersionedFileRepository {
    */
   void deleteFile(@NonNull String path, String eTag);
 
+  /**
+   * Writes and deletes several files in the version at once, so they are saved with a single
+   * commit. Nothing is changed if eTag of some file doesn't match its content
+   *
+   * @param changes changes of files, file is deleted if change has no content
+   * @throws UnsupportedOperationException if updating isn't allowed in version
+   */
+  void applyChanges(@NonNull List<VersionedFileChangeDto> changes);
+
   /**
    * Gets an id of the version of this repository
    *
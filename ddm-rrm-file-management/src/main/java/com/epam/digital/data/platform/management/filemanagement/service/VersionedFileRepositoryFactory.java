@@ -33,13 +33,15 @@ public class VersionedFileRepositoryFactory implements
   private final JGitService jGitService;
   private final GerritService gerritService;
   private final FileManagementMapper mapper;
+  private final FetchedRevisionTracker fetchedRevisionTracker;
 
   @Override
   @NonNull
   public VersionedFileRepository createComponent(@NonNull String versionId) {
     var repo = config.getHeadBranch().equals(versionId)
         ? new HeadFileRepositoryImpl(versionId, jGitService, gerritService, mapper)
-        : new VersionedFileRepositoryImpl(versionId, jGitService, gerritService, mapper);
+        : new VersionedFileRepositoryImpl(versionId, jGitService, gerritService, mapper,
+            fetchedRevisionTracker);
 
     repo.updateRepository();
     return repo;
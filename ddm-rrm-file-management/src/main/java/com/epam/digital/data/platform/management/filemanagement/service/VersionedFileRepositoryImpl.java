@@ -17,11 +17,13 @@ package com.epam.digital.data.platform.management.filemanagement.service;
 
 import com.epam.digital.data.platform.management.filemanagement.mapper.FileManagementMapper;
 import com.epam.digital.data.platform.management.filemanagement.model.FileStatus;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileChangeDto;
 import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileInfoDto;
 import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoDto;
 import com.epam.digital.data.platform.management.gerritintegration.model.FileInfoDto;
 import com.epam.digital.data.platform.management.gerritintegration.service.GerritService;
 import com.epam.digital.data.platform.management.gitintegration.exception.RepositoryNotFoundException;
+import com.epam.digital.data.platform.management.gitintegration.model.FileChangeDto;
 import com.epam.digital.data.platform.management.gitintegration.service.JGitService;
 import java.io.File;
 import java.nio.file.Path;
@@ -39,14 +41,20 @@ import org.springframework.lang.NonNull;
 
 public class VersionedFileRepositoryImpl extends AbstractVersionFileRepository {
 
+  private final FetchedRevisionTracker fetchedRevisionTracker;
+
   public VersionedFileRepositoryImpl(String versionId, JGitService gitService,
-      GerritService gerritService, FileManagementMapper mapper) {
+      GerritService gerritService, FileManagementMapper mapper,
+      FetchedRevisionTracker fetchedRevisionTracker) {
     super(versionId, gitService, gerritService, mapper);
+    this.fetchedRevisionTracker = fetchedRevisionTracker;
   }
 
   @Override
   @NonNull
   public List<VersionedFileInfoDto> getFileList(@NonNull String path) {
+    // file statuses are read from Gerrit, so it has to know about local commits
+    gitService.flushPush(versionId);
     Map<String, VersionedFileInfoDto> filesInMaster = gitService.getFilesInPath(versionId, path)
         .stream()
         .filter(Predicate.not(DOT_GIT_KEEP::equals))
@@ -82,13 +90,13 @@ public class VersionedFileRepositoryImpl extends AbstractVersionFileRepository {
   @Override
   public void writeFile(@NonNull String path, @NonNull String content) {
     updateRepository();
-    gitService.amend(versionId, path, content, null);
+    changeRepository(() -> gitService.amend(versionId, path, content, null));
   }
 
   @Override
   public void writeFile(@NonNull String path, @NonNull String content, String eTag) {
     updateRepository();
-    gitService.amend(versionId, path, content, eTag);
+    changeRepository(() -> gitService.amend(versionId, path, content, eTag));
   }
 
   @Override
@@ -104,7 +112,20 @@ public class VersionedFileRepositoryImpl extends AbstractVersionFileRepository {
   @Override
   public void deleteFile(@NonNull String path, String eTag) {
     updateRepository();
-    gitService.delete(versionId, path, eTag);
+    changeRepository(() -> gitService.delete(versionId, path, eTag));
+  }
+
+  @Override
+  public void applyChanges(@NonNull List<VersionedFileChangeDto> changes) {
+    updateRepository();
+    var fileChanges = changes.stream()
+        .map(change -> FileChangeDto.builder()
+            .path(change.getPath())
+            .content(change.getContent())
+            .eTag(change.getETag())
+            .build())
+        .collect(Collectors.toList());
+    changeRepository(() -> gitService.amendAll(versionId, fileChanges));
   }
 
   @Override
@@ -113,15 +134,33 @@ public class VersionedFileRepositoryImpl extends AbstractVersionFileRepository {
     if (changeId == null) {
       throw new RepositoryNotFoundException("Version " + versionId + " not found", versionId);
     } else {
+      if (!gitService.repoExists(versionId)) {
+        // re-created repository is on head-branch state whatever was fetched before
+        fetchedRevisionTracker.forget(versionId);
+      }
       gitService.cloneRepoIfNotExist(versionId);
       var changeInfo = gerritService.getChangeInfo(changeId);
-      gitService.fetch(versionId, changeInfo.getRefs());
+      fetchedRevisionTracker.fetchIfChanged(versionId, changeInfo.getRefs(),
+          () -> gitService.fetch(versionId, changeInfo.getRefs()));
     }
   }
 
   @Override
   public void rollbackFile(@NonNull String filePath) {
-    gitService.rollbackFile(versionId, filePath);
+    changeRepository(() -> gitService.rollbackFile(versionId, filePath));
+  }
+
+  /**
+   * Local commit that failed to be pushed differs from the fetched revision, so the repository
+   * has to be fetched again on next update
+   */
+  private void changeRepository(Runnable change) {
+    try {
+      change.run();
+    } catch (RuntimeException e) {
+      fetchedRevisionTracker.forget(versionId);
+      throw e;
+    }
   }
 
   private String getChangeId() {
@@ -25,6 +25,7 @@ import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import lombok.SneakyThrows;
 import org.apache.commons.io.FilenameUtils;
 import org.assertj.core.api.Assertions;
@@ -88,6 +89,17 @@ class HeadFileRepositoryTest {
     Assertions.assertThat(fileContent).isEqualTo(content);
   }
 
+  @Test
+  @SneakyThrows
+  void readBlobTest() {
+    var blobIds = Map.of("forms/form.json", "blobId");
+    Mockito.when(jGitService.getFileBlobIds("version", "forms")).thenReturn(blobIds);
+    Mockito.when(jGitService.getBlobContent("version", "blobId")).thenReturn("content");
+
+    Assertions.assertThat(repository.getFileBlobIds("forms")).isEqualTo(blobIds);
+    Assertions.assertThat(repository.readBlob("blobId")).isEqualTo("content");
+  }
+
   @Test
   @SneakyThrows
   void pullRepositoryTest() {
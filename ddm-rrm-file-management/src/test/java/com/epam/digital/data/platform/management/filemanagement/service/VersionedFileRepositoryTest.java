@@ -17,17 +17,22 @@
 package com.epam.digital.data.platform.management.filemanagement.service;
 
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 
 import com.epam.digital.data.platform.management.filemanagement.mapper.FileManagementMapper;
 import com.epam.digital.data.platform.management.filemanagement.model.FileStatus;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileChangeDto;
 import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileInfoDto;
 import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoDto;
 import com.epam.digital.data.platform.management.gerritintegration.model.FileInfoDto;
 import com.epam.digital.data.platform.management.gerritintegration.service.GerritService;
+import com.epam.digital.data.platform.management.gitintegration.model.FileChangeDto;
 import com.epam.digital.data.platform.management.gitintegration.model.FileDatesDto;
 import com.epam.digital.data.platform.management.gitintegration.service.JGitService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -58,10 +63,13 @@ public class VersionedFileRepositoryTest {
   private FileManagementMapper mapper = Mappers.getMapper(FileManagementMapper.class);
 
   private VersionedFileRepository repository;
+  private MeterRegistry meterRegistry;
 
   @BeforeEach
   void setUp() {
-    repository = new VersionedFileRepositoryImpl("version", jGitService, gerritService, mapper);
+    meterRegistry = new SimpleMeterRegistry();
+    repository = new VersionedFileRepositoryImpl("version", jGitService, gerritService, mapper,
+        new FetchedRevisionTracker(meterRegistry));
     var changeInfo = new ChangeInfoDto();
     changeInfo.setChangeId("changeId");
     changeInfo.setRefs(RandomString.make());
@@ -180,6 +188,24 @@ public class VersionedFileRepositoryTest {
     Mockito.verify(jGitService).amend("version", filepath, fileContent, null);
   }
 
+  @Test
+  @SneakyThrows
+  void applyChangesTest() {
+    final var filepath = "folder/" + RandomString.make();
+    final var fileContent = RandomString.make();
+    final var deletedFilepath = "folder/" + RandomString.make();
+
+    repository.applyChanges(List.of(
+        VersionedFileChangeDto.builder().path(filepath).content(fileContent).build(),
+        VersionedFileChangeDto.builder().path(deletedFilepath).eTag("eTag").build()));
+
+    Mockito.verify(jGitService).amendAll("version", List.of(
+        FileChangeDto.builder().path(filepath).content(fileContent).build(),
+        FileChangeDto.builder().path(deletedFilepath).eTag("eTag").build()));
+    Mockito.verify(jGitService, Mockito.never()).amend(anyString(), anyString(), anyString(),
+        Mockito.any());
+  }
+
   @Test
   @SneakyThrows
   void deleteTest() {
@@ -219,6 +245,70 @@ public class VersionedFileRepositoryTest {
     Mockito.verify(jGitService).fetch("version", changeInfo.getRefs());
   }
 
+  @Test
+  @SneakyThrows
+  void pullRepositoryTest_revisionNotChanged() {
+    var changeInfo = new ChangeInfoDto();
+    changeInfo.setChangeId(RandomString.make());
+    changeInfo.setRefs(RandomString.make());
+    Mockito.when(gerritService.getChangeInfo(changeInfo.getChangeId())).thenReturn(changeInfo);
+    Mockito.when(gerritService.getMRByNumber("version")).thenReturn(changeInfo);
+    Mockito.when(jGitService.repoExists("version")).thenReturn(true);
+
+    repository.updateRepository();
+    repository.updateRepository();
+
+    Mockito.verify(jGitService).fetch("version", changeInfo.getRefs());
+    Assertions.assertThat(getFetchCount("performed")).isEqualTo(1);
+    Assertions.assertThat(getFetchCount("skipped")).isEqualTo(1);
+
+    var newRefs = RandomString.make();
+    changeInfo.setRefs(newRefs);
+    repository.updateRepository();
+
+    Mockito.verify(jGitService).fetch("version", newRefs);
+    Assertions.assertThat(getFetchCount("performed")).isEqualTo(2);
+  }
+
+  @Test
+  @SneakyThrows
+  void pullRepositoryTest_repositoryRecreated() {
+    var changeInfo = new ChangeInfoDto();
+    changeInfo.setChangeId(RandomString.make());
+    changeInfo.setRefs(RandomString.make());
+    Mockito.when(gerritService.getChangeInfo(changeInfo.getChangeId())).thenReturn(changeInfo);
+    Mockito.when(gerritService.getMRByNumber("version")).thenReturn(changeInfo);
+    Mockito.when(jGitService.repoExists("version")).thenReturn(true, false);
+
+    repository.updateRepository();
+    repository.updateRepository();
+
+    Mockito.verify(jGitService, Mockito.times(2)).fetch("version", changeInfo.getRefs());
+    Assertions.assertThat(getFetchCount("skipped")).isZero();
+  }
+
+  @Test
+  @SneakyThrows
+  void writeFileTest_failedWriteFetchesAgain() {
+    final var filepath = "folder/" + RandomString.make();
+    final var fileContent = RandomString.make();
+    Mockito.when(jGitService.repoExists("version")).thenReturn(true);
+    Mockito.doThrow(new IllegalStateException("push failed")).when(jGitService)
+        .amend("version", filepath, fileContent, null);
+
+    Assertions.assertThatThrownBy(() -> repository.writeFile(filepath, fileContent))
+        .isInstanceOf(IllegalStateException.class);
+    repository.updateRepository();
+
+    Mockito.verify(jGitService, Mockito.times(2)).fetch(eq("version"), anyString());
+    Assertions.assertThat(getFetchCount("skipped")).isZero();
+  }
+
+  private double getFetchCount(String result) {
+    return meterRegistry.get(FetchedRevisionTracker.FETCH_METRIC).tag("result", result).counter()
+        .count();
+  }
+
   @Test
   @SneakyThrows
   void isFileExistsTest() {
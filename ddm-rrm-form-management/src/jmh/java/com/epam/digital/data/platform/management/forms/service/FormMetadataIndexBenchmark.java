@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.forms.service;
+
+import com.epam.digital.data.platform.management.forms.model.FormMetadataDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares streaming extraction of form header fields with the tree parse that was used before
+ * against a large form.
+ * <p>
+ * Run it with {@code mvn -P benchmark -pl ddm-rrm-form-management -am verify -DskipTests}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormMetadataIndexBenchmark {
+
+  private FormMetadataIndex formMetadataIndex;
+  private String formContent;
+
+  @Setup
+  public void setUp() {
+    formMetadataIndex = new FormMetadataIndex(new SimpleMeterRegistry());
+    formContent = LargeFormFixture.buildLargeForm();
+  }
+
+  @Benchmark
+  public FormMetadataDto streamingParse() {
+    return formMetadataIndex.parse(formContent);
+  }
+
+  @Benchmark
+  public Object treeParse() {
+    return LargeFormFixture.parseTree(formContent);
+  }
+}
@@ -2,6 +2,7 @@ package com.epam.digital.data.platform.management.forms;
 
 import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileInfoDto;
 import com.epam.digital.data.platform.management.forms.model.FormInfoDto;
+import com.epam.digital.data.platform.management.forms.model.FormMetadataDto;
 import com.epam.digital.data.platform.management.gitintegration.model.FileDatesDto;
 import com.jayway.jsonpath.JsonPath;
 import org.mapstruct.Mapper;
@@ -20,6 +21,11 @@ public interface FormMapper {
   @Mapping(target = "title", source = "formContent", qualifiedByName = "getTitleFromFormContent")
   FormInfoDto toForm(VersionedFileInfoDto fileInfoDto, FileDatesDto datesDto, String formContent, boolean conflicted);
 
+  @Mapping(target = "created", source = "datesDto.create")
+  @Mapping(target = "updated", source = "datesDto.update")
+  @Mapping(target = "title", source = "metadata.title")
+  FormInfoDto toForm(VersionedFileInfoDto fileInfoDto, FileDatesDto datesDto, FormMetadataDto metadata, boolean conflicted);
+
   @Named("getTitleFromFormContent")
   default String getTitleFromFormContent(String formContent) {
     return JsonPath.read(formContent, "$.title");
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.forms.service;
+
+import com.epam.digital.data.platform.management.core.config.JacksonConfig;
+import com.epam.digital.data.platform.management.forms.model.FormMetadataDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps metadata parsed from form content keyed by id of the content blob, so forms listing reads
+ * and parses only forms which content has changed since the previous listing.
+ * <p>
+ * Every write, delete or fetch that changes a form changes its blob id as well, so cached metadata
+ * never has to be invalidated. Versions that have the same form content share its metadata.
+ * <p>
+ * Published metrics: {@value #INDEX_REQUESTS_METRIC} counter tagged by result.
+ */
+@Slf4j
+@Component
+public class FormMetadataIndex {
+
+  public static final String INDEX_REQUESTS_METRIC = "rrm.forms.metadata.index.requests";
+  public static final String FORM_TITLE_FIELD = "title";
+  public static final String FORM_CREATED_FIELD = "created";
+  public static final String FORM_MODIFIED_FIELD = "modified";
+
+  /**
+   * Maximum number of indexed form contents of all versions. Least used ones are evicted when it's
+   * exceeded
+   */
+  static final long MAXIMUM_FORMS = 10_000;
+
+  private static final Set<String> HEADER_FIELDS =
+      Set.of(FORM_TITLE_FIELD, FORM_CREATED_FIELD, FORM_MODIFIED_FIELD);
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final Cache<String, FormMetadataDto> metadata = Caffeine.newBuilder()
+      .maximumSize(MAXIMUM_FORMS)
+      .build();
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public FormMetadataIndex(MeterRegistry meterRegistry) {
+    this.hitCounter = Counter.builder(INDEX_REQUESTS_METRIC)
+        .tag("result", "hit")
+        .register(meterRegistry);
+    this.missCounter = Counter.builder(INDEX_REQUESTS_METRIC)
+        .tag("result", "miss")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Get metadata of the form content
+   *
+   * @param blobId        id of the form content blob
+   * @param contentLoader reads the blob content if its metadata isn't indexed yet
+   * @return form metadata or null if there is no content to parse
+   */
+  @Nullable
+  public FormMetadataDto getMetadata(@NonNull String blobId,
+      @NonNull Supplier<String> contentLoader) {
+    var indexedMetadata = metadata.getIfPresent(blobId);
+    if (Objects.nonNull(indexedMetadata)) {
+      hitCounter.increment();
+      return indexedMetadata;
+    }
+    missCounter.increment();
+    var formContent = contentLoader.get();
+    if (Objects.isNull(formContent)) {
+      log.debug("Content of form blob {} not found", blobId);
+      return null;
+    }
+    var parsedMetadata = parse(formContent);
+    metadata.put(blobId, parsedMetadata);
+    return parsedMetadata;
+  }
+
+  /**
+   * Parse metadata of the form content without indexing it
+   *
+   * @param formContent form json
+   * @return form metadata, its fields are null if form has no such properties
+   */
+  @NonNull
+  public FormMetadataDto parse(@NonNull String formContent) {
+    var fields = readTopLevelFields(formContent);
+    return FormMetadataDto.builder()
+        .title(fields.get(FORM_TITLE_FIELD))
+        .created(parseDate(fields.get(FORM_CREATED_FIELD)))
+        .modified(parseDate(fields.get(FORM_MODIFIED_FIELD)))
+        .build();
+  }
+
+  /**
+   * Reads values of the top-level header fields with streaming parser. Form components, which are
+   * the most of the form, are skipped without building any tree and reading stops as soon as all
+   * header fields are found
+   */
+  private static Map<String, String> readTopLevelFields(String formContent) {
+    var fields = new HashMap<String, String>();
+    try (var parser = JSON_FACTORY.createParser(formContent)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IllegalArgumentException("Form content is not a json object");
+      }
+      while (fields.size() < HEADER_FIELDS.size()
+          && parser.nextToken() == JsonToken.FIELD_NAME) {
+        var field = parser.getCurrentName();
+        var valueToken = parser.nextToken();
+        if (HEADER_FIELDS.contains(field)) {
+          fields.put(field, valueToken.isScalarValue() ? parser.getValueAsString() : null);
+        }
+        parser.skipChildren();
+      }
+    } catch (IOException e) {
+      throw new IllegalArgumentException(
+          String.format("Form content is not a valid json: %s", e.getMessage()), e);
+    }
+    return fields;
+  }
+
+  @Nullable
+  private static LocalDateTime parseDate(@Nullable String date) {
+    return Objects.isNull(date) ? null : LocalDateTime.parse(date,
+        JacksonConfig.DATE_TIME_FORMATTER);
+  }
+}
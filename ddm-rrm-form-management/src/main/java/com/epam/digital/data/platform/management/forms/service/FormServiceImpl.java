@@ -28,15 +28,16 @@ import com.epam.digital.data.platform.management.forms.FormMapper;
 import com.epam.digital.data.platform.management.forms.exception.FormAlreadyExistsException;
 import com.epam.digital.data.platform.management.forms.exception.FormNotFoundException;
 import com.epam.digital.data.platform.management.forms.model.FormInfoDto;
+import com.epam.digital.data.platform.management.forms.model.FormMetadataDto;
 import com.epam.digital.data.platform.management.gitintegration.exception.FileAlreadyExistsException;
 import com.epam.digital.data.platform.management.gitintegration.model.FileDatesDto;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.io.FilenameUtils;
@@ -48,12 +49,13 @@ public class FormServiceImpl implements FormService {
 
   private static final String DIRECTORY_PATH = "forms";
   private static final String JSON_FILE_EXTENSION = "json";
-  public static final String FORM_CREATED_FIELD = "created";
-  public static final String FORM_MODIFIED_FIELD = "modified";
+  public static final String FORM_CREATED_FIELD = FormMetadataIndex.FORM_CREATED_FIELD;
+  public static final String FORM_MODIFIED_FIELD = FormMetadataIndex.FORM_MODIFIED_FIELD;
   private final VersionContextComponentManager versionContextComponentManager;
   private final GerritPropertiesConfig gerritPropertiesConfig;
   private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
   private final CacheService cacheService;
+  private final FormMetadataIndex formMetadataIndex;
 
   private final FormMapper formMapper;
 
@@ -151,19 +153,28 @@ public class FormServiceImpl implements FormService {
         versionContextComponentManager.getComponent(
             gerritPropertiesConfig.getHeadBranch(), VersionedFileRepository.class);
     List<VersionedFileInfoDto> fileList = repo.getFileList(DIRECTORY_PATH);
+    var blobIds = repo.getFileBlobIds(DIRECTORY_PATH);
+    Map<String, String> masterBlobIds = null;
     List<FormInfoDto> forms = new ArrayList<>();
     List<String> conflicts = cacheService.getConflictsCache(versionName);
     for (VersionedFileInfoDto versionedFileInfoDto : fileList) {
       if (versionedFileInfoDto.getStatus().equals(skippedStatus)) {
         continue;
       }
-      String formContent;
+      var formPath = getFormPath(versionedFileInfoDto.getName());
+      FormMetadataDto metadata;
       if (versionedFileInfoDto.getStatus() == FileStatus.DELETED) {
-        formContent = masterRepo.readFile(getFormPath(versionedFileInfoDto.getName()));
+        if (Objects.isNull(masterBlobIds)) {
+          masterBlobIds = masterRepo.getFileBlobIds(DIRECTORY_PATH);
+        }
+        metadata = getFormMetadata(masterRepo, masterBlobIds, formPath);
       } else {
-        formContent = repo.readFile(getFormPath(versionedFileInfoDto.getName()));
+        metadata = getFormMetadata(repo, blobIds, formPath);
       }
-      var dates = getDatesFromContent(formContent);
+      var dates = FileDatesDto.builder()
+          .create(metadata.getCreated())
+          .update(metadata.getModified())
+          .build();
       if (Objects.isNull(dates.getCreate()) || Objects.isNull(dates.getUpdate())) {
         var path = getFormPath(versionedFileInfoDto.getName());
         var datesFromRepo = versionedFileInfoDto.getStatus() == FileStatus.DELETED
@@ -181,23 +192,32 @@ public class FormServiceImpl implements FormService {
           formMapper.toForm(
               versionedFileInfoDto,
               dates,
-              formContent,
+              metadata,
               conflicts.contains(versionedFileInfoDto.getPath())));
     }
     return forms;
   }
 
-  private FileDatesDto getDatesFromContent(String formContent) {
-    LocalDateTime create = null;
-    LocalDateTime update = null;
-    var form = JsonParser.parseString(formContent).getAsJsonObject();
-    if (form.has(FORM_CREATED_FIELD)) {
-      create = parseDate(form.get(FORM_CREATED_FIELD));
+  /**
+   * Form metadata is read from the index while form content stays the same. Form that isn't
+   * committed to the version repository yet has no blob, so its content is parsed every time
+   */
+  private FormMetadataDto getFormMetadata(VersionedFileRepository repo,
+      Map<String, String> blobIds, String formPath) {
+    var blobId = blobIds.get(formPath);
+    FormMetadataDto metadata = null;
+    if (Objects.nonNull(blobId)) {
+      metadata = formMetadataIndex.getMetadata(blobId, () -> repo.readBlob(blobId));
     }
-    if (form.has(FORM_MODIFIED_FIELD)) {
-      update = parseDate(form.get(FORM_MODIFIED_FIELD));
-    }
-    return FileDatesDto.builder().create(create).update(update).build();
+    return Objects.nonNull(metadata) ? metadata : formMetadataIndex.parse(repo.readFile(formPath));
+  }
+
+  private FileDatesDto getDatesFromContent(String formContent) {
+    var metadata = formMetadataIndex.parse(formContent);
+    return FileDatesDto.builder()
+        .create(metadata.getCreated())
+        .update(metadata.getModified())
+        .build();
   }
 
   private String addDatesToContent(String content, LocalDateTime created, LocalDateTime modified) {
@@ -206,10 +226,4 @@ public class FormServiceImpl implements FormService {
     formJson.addProperty(FORM_MODIFIED_FIELD, modified.format(JacksonConfig.DATE_TIME_FORMATTER));
     return gson.toJson(formJson);
   }
-
-  private LocalDateTime parseDate(JsonElement dateElement) {
-    return dateElement.isJsonNull()
-        ? null
-        : LocalDateTime.parse(dateElement.getAsString(), JacksonConfig.DATE_TIME_FORMATTER);
-  }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.forms.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that streaming extraction of form header fields reads the same values as the tree parse
+ * that was used before. Their performance is compared by {@code FormMetadataIndexBenchmark} of the
+ * {@code benchmark} profile
+ */
+@DisplayName("FormMetadataIndex#parse of a large form")
+class FormMetadataIndexLargeFormTest {
+
+  final FormMetadataIndex formMetadataIndex = new FormMetadataIndex(new SimpleMeterRegistry());
+
+  @Test
+  @DisplayName("streaming extraction should read the same values as tree parse")
+  void parseTest() {
+    var formContent = LargeFormFixture.buildLargeForm();
+
+    var expected = LargeFormFixture.parseTree(formContent);
+    var actual = formMetadataIndex.parse(formContent);
+
+    Assertions.assertThat(actual.getTitle()).isEqualTo(expected.title);
+    Assertions.assertThat(actual.getCreated()).isEqualTo(expected.created);
+    Assertions.assertThat(actual.getModified()).isEqualTo(expected.modified);
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.forms.service;
+
+import com.epam.digital.data.platform.management.forms.util.TestUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("FormMetadataIndex")
+class FormMetadataIndexTest {
+
+  private final String FORM_CONTENT = TestUtils.getContent("form-sample.json");
+  private final String FORM_CONTENT_WITHOUT_DATES = TestUtils.getContent(
+      "form-sample-without-dates.json");
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final FormMetadataIndex formMetadataIndex = new FormMetadataIndex(meterRegistry);
+
+  @Test
+  @DisplayName("should parse form content only once for the same blob")
+  void getMetadataTest() {
+    var loads = new AtomicInteger();
+
+    var first = formMetadataIndex.getMetadata("blobId", () -> {
+      loads.incrementAndGet();
+      return FORM_CONTENT;
+    });
+    var second = formMetadataIndex.getMetadata("blobId", () -> {
+      loads.incrementAndGet();
+      return FORM_CONTENT;
+    });
+
+    Assertions.assertThat(second).isSameAs(first);
+    Assertions.assertThat(first.getTitle()).isEqualTo("Update physical factors");
+    Assertions.assertThat(first.getCreated())
+        .isEqualTo(LocalDateTime.of(2022, 12, 21, 13, 52, 31, 357000000));
+    Assertions.assertThat(first.getModified())
+        .isEqualTo(LocalDateTime.of(2022, 12, 22, 14, 52, 23, 745000000));
+    Assertions.assertThat(loads).hasValue(1);
+    Assertions.assertThat(getRequestsCount("hit")).isEqualTo(1);
+    Assertions.assertThat(getRequestsCount("miss")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should not index blob without content")
+  void getMetadataTest_noContent() {
+    Assertions.assertThat(formMetadataIndex.getMetadata("blobId", () -> null)).isNull();
+    Assertions.assertThat(formMetadataIndex.getMetadata("blobId", () -> FORM_CONTENT))
+        .isNotNull();
+    Assertions.assertThat(getRequestsCount("miss")).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("should return null dates if form content has no dates")
+  void parseTest_noDates() {
+    var metadata = formMetadataIndex.parse(FORM_CONTENT_WITHOUT_DATES);
+
+    Assertions.assertThat(metadata.getTitle()).isEqualTo("Update physical factors");
+    Assertions.assertThat(metadata.getCreated()).isNull();
+    Assertions.assertThat(metadata.getModified()).isNull();
+  }
+
+  @Test
+  @DisplayName("should read only top-level header fields")
+  void parseTest_nestedHeaderFields() {
+    var metadata = formMetadataIndex.parse("{\"components\":[{\"title\":\"Panel\","
+        + "\"components\":[{\"created\":\"nested\"}]}],\"title\":\"Form\",\"created\":null}");
+
+    Assertions.assertThat(metadata.getTitle()).isEqualTo("Form");
+    Assertions.assertThat(metadata.getCreated()).isNull();
+    Assertions.assertThat(metadata.getModified()).isNull();
+  }
+
+  @Test
+  @DisplayName("should throw IllegalArgumentException if form content isn't json object")
+  void parseTest_invalidContent() {
+    Assertions.assertThatThrownBy(() -> formMetadataIndex.parse("[]"))
+        .isInstanceOf(IllegalArgumentException.class);
+    Assertions.assertThatThrownBy(() -> formMetadataIndex.parse("{\"title\":"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private double getRequestsCount(String result) {
+    return meterRegistry.get(FormMetadataIndex.INDEX_REQUESTS_METRIC)
+        .tag("result", result)
+        .counter().count();
+  }
+}
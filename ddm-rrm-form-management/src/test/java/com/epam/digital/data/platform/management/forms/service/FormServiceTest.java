@@ -33,8 +33,10 @@ import com.epam.digital.data.platform.management.forms.exception.FormAlreadyExis
 import com.epam.digital.data.platform.management.forms.exception.FormNotFoundException;
 import com.epam.digital.data.platform.management.forms.model.FormInfoDto;
 import com.epam.digital.data.platform.management.forms.util.TestUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import lombok.SneakyThrows;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -77,6 +79,8 @@ class FormServiceTest {
   private CacheService cacheService;
   @Spy
   private FormMapper formMapper = Mappers.getMapper(FormMapper.class);
+  @Spy
+  private FormMetadataIndex formMetadataIndex = new FormMetadataIndex(new SimpleMeterRegistry());
   @InjectMocks
   private FormServiceImpl formService;
 
@@ -137,6 +141,31 @@ class FormServiceTest {
     Assertions.assertThat(resultList).hasSize(1).element(0).isEqualTo(expectedFormResponseDto);
   }
 
+  @Test
+  @SneakyThrows
+  void getFormListByVersionTest_indexedMetadata() {
+    var form = VersionedFileInfoDto.builder().name("form").path("forms/form.json")
+        .status(FileStatus.CHANGED)
+        .build();
+    Mockito.doReturn(List.of(form)).when(repository).getFileList("forms");
+    Mockito.doReturn(Map.of("forms/form.json", "blobId")).when(repository)
+        .getFileBlobIds("forms");
+    Mockito.doReturn(FORM_CONTENT).when(repository).readBlob("blobId");
+    Mockito.doReturn(List.of()).when(cacheService).getConflictsCache(VERSION_ID);
+
+    var firstList = formService.getFormListByVersion(VERSION_ID);
+    var secondList = formService.getFormListByVersion(VERSION_ID);
+
+    var expectedFormResponseDto = FormInfoDto.builder().name("form").path("forms/form.json")
+        .status(FileStatus.CHANGED).created(LocalDateTime.of(2022, 12, 21, 13, 52, 31, 357000000))
+        .updated(LocalDateTime.of(2022, 12, 22, 14, 52, 23, 745000000))
+        .title("Update physical factors").build();
+    Assertions.assertThat(firstList).hasSize(1).element(0).isEqualTo(expectedFormResponseDto);
+    Assertions.assertThat(secondList).isEqualTo(firstList);
+    Mockito.verify(repository).readBlob("blobId");
+    Mockito.verify(repository, never()).readFile(anyString());
+  }
+
   @Test
   @SneakyThrows
   void getChangedFormsListByVersionTest() {
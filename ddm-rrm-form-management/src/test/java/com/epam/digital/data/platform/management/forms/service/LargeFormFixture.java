@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.forms.service;
+
+import com.epam.digital.data.platform.management.core.config.JacksonConfig;
+import com.epam.digital.data.platform.management.forms.util.TestUtils;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.jayway.jsonpath.JsonPath;
+import java.time.LocalDateTime;
+
+/**
+ * Large form built from the sample form, so the components take the most of the content as they
+ * do in real Form.io forms, and the tree parse of its header fields that was used before the
+ * streaming extraction
+ */
+final class LargeFormFixture {
+
+  static final int COMPONENTS = 500;
+
+  private LargeFormFixture() {
+  }
+
+  /**
+   * Header fields extraction as it was done before: dates from Gson tree and title with JsonPath
+   */
+  static TreeParseResult parseTree(String formContent) {
+    var form = JsonParser.parseString(formContent).getAsJsonObject();
+    var result = new TreeParseResult();
+    result.created = parseDate(form.get(FormMetadataIndex.FORM_CREATED_FIELD));
+    result.modified = parseDate(form.get(FormMetadataIndex.FORM_MODIFIED_FIELD));
+    result.title = JsonPath.read(formContent, "$.title");
+    return result;
+  }
+
+  private static LocalDateTime parseDate(JsonElement dateElement) {
+    return dateElement == null || dateElement.isJsonNull() ? null
+        : LocalDateTime.parse(dateElement.getAsString(), JacksonConfig.DATE_TIME_FORMATTER);
+  }
+
+  /**
+   * Build form with components before header fields, the order forms are saved in
+   */
+  static String buildLargeForm() {
+    var sample = JsonParser.parseString(TestUtils.getContent("form-sample.json"))
+        .getAsJsonObject();
+    var components = new JsonArray();
+    for (int i = 0; i < COMPONENTS; i++) {
+      components.add(buildComponent(i));
+    }
+    var form = new JsonObject();
+    form.add("components", components);
+    sample.entrySet().stream()
+        .filter(entry -> !"components".equals(entry.getKey()))
+        .forEach(entry -> form.add(entry.getKey(), entry.getValue()));
+    return new GsonBuilder().setPrettyPrinting().create().toJson(form);
+  }
+
+  private static JsonObject buildComponent(int index) {
+    var validate = new JsonObject();
+    validate.addProperty("required", true);
+    validate.addProperty("maxLength", 255);
+    validate.addProperty("pattern", "^[А-ЯІЇЄҐа-яіїєґ' -]+$");
+    validate.addProperty("customMessage", "Поле заповнено некоректно");
+    var conditional = new JsonObject();
+    conditional.addProperty("show", true);
+    conditional.addProperty("when", "field" + (index - 1));
+    conditional.addProperty("eq", "true");
+    var component = new JsonObject();
+    component.addProperty("label", "Найменування юридичної особи " + index);
+    component.addProperty("key", "field" + index);
+    component.addProperty("type", "textfield");
+    component.addProperty("input", true);
+    component.addProperty("tableView", true);
+    component.addProperty("placeholder", "Введіть значення");
+    component.addProperty("tooltip", "Значення поля буде збережено до реєстру");
+    component.add("validate", validate);
+    component.add("conditional", conditional);
+    component.add("attributes", new JsonObject());
+    return component;
+  }
+
+  static class TreeParseResult {
+
+    String title;
+    LocalDateTime created;
+    LocalDateTime modified;
+  }
+}
@@ -19,20 +19,74 @@ import com.epam.digital.data.platform.management.core.config.GerritPropertiesCon
 import com.urswolfer.gerrit.client.rest.GerritApiImpl;
 import com.urswolfer.gerrit.client.rest.GerritAuthData;
 import com.urswolfer.gerrit.client.rest.GerritRestApiFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Objects;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 public class GerritConfig {
+
+  public static final String ASYNC_CLIENT_EXECUTOR_BEAN_NAME = "gerritAsyncClientExecutor";
+  public static final String FILE_CONTENT_EXECUTOR_BEAN_NAME = "gerritFileContentExecutor";
+
   @Autowired
   private GerritPropertiesConfig config;
 
   @Bean
   @ConditionalOnMissingBean
-  public GerritApiImpl gerritApi() {
+  public GerritApiImpl gerritApi(ObjectProvider<GerritHttpConnectionPool> connectionPool) {
+    var authData = new GerritAuthData.Basic(config.getUrl(), config.getUser(), config.getPassword());
+    var pool = connectionPool.getIfAvailable();
+    if (Objects.isNull(pool)) {
+      return (GerritApiImpl) new GerritRestApiFactory().create(authData);
+    }
     return (GerritApiImpl) new GerritRestApiFactory()
-        .create(new GerritAuthData.Basic(config.getUrl(), config.getUser(), config.getPassword()));
+        .create(authData, pool.requestExecutor(), pool);
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "gerrit.http-client", name = "pooled", havingValue = "true")
+  public GerritHttpConnectionPool gerritHttpConnectionPool(MeterRegistry meterRegistry) {
+    return new GerritHttpConnectionPool(config, meterRegistry);
+  }
+
+  /**
+   * Threads of the async Gerrit client calls. The client hands a call to the executor only when
+   * it holds one of {@code max-concurrent-calls} slots, so nothing has to wait in a queue. A call
+   * frees its slot just before its thread returns to the pool, so there are twice as many threads
+   * as slots for such a moment
+   */
+  @Bean(name = ASYNC_CLIENT_EXECUTOR_BEAN_NAME)
+  public ThreadPoolTaskExecutor gerritAsyncClientExecutor() {
+    var maxConcurrentCalls = config.getAsyncClient().getMaxConcurrentCalls();
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(maxConcurrentCalls);
+    executor.setMaxPoolSize(2 * maxConcurrentCalls);
+    executor.setQueueCapacity(0);
+    executor.setThreadNamePrefix("gerrit-async-client-");
+    executor.setDaemon(true);
+    return executor;
+  }
+
+  /**
+   * Threads that help the calling thread download files of bulk content requests. A helper is
+   * only started when a thread is free, otherwise the calling thread downloads the files alone.
+   * Idle threads are stopped, so the pool is empty between requests
+   */
+  @Bean(name = FILE_CONTENT_EXECUTOR_BEAN_NAME)
+  public ThreadPoolTaskExecutor gerritFileContentExecutor() {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(0);
+    executor.setMaxPoolSize(Math.max(1, config.getFileContent().getParallelism() - 1));
+    executor.setQueueCapacity(0);
+    executor.setThreadNamePrefix("gerrit-file-content-");
+    executor.setDaemon(true);
+    return executor;
   }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gerritintegration.config;
+
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.urswolfer.gerrit.client.rest.GerritAuthData;
+import com.urswolfer.gerrit.client.rest.http.HttpClientBuilderExtension;
+import com.urswolfer.gerrit.client.rest.http.HttpRequestExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.io.IOException;
+import java.util.Objects;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
+
+/**
+ * Makes Gerrit REST client share one connection pool between requests. The client builds a new
+ * http client for every request, so without the shared pool every request opens and closes its own
+ * connection.
+ * <p>
+ * The client doesn't read bodies of some responses, e.g. of its login requests, and such a response
+ * would keep its connection leased forever. So the client has to be created with
+ * {@link #requestExecutor()} that reads every response body at once and returns the connection to
+ * the pool.
+ * <p>
+ * Published metrics: {@code httpcomponents.httpclient.pool.*} gauges of the pool tagged with
+ * {@code httpclient} = {@value #POOL_NAME}.
+ */
+public class GerritHttpConnectionPool extends HttpClientBuilderExtension implements
+    AutoCloseable {
+
+  public static final String POOL_NAME = "gerrit";
+
+  private final PoolingHttpClientConnectionManager connectionManager;
+  private final RequestConfig requestConfig;
+  private final long keepAliveMillis;
+
+  public GerritHttpConnectionPool(GerritPropertiesConfig gerritPropertiesConfig,
+      MeterRegistry meterRegistry) {
+    var properties = gerritPropertiesConfig.getHttpClient();
+    this.connectionManager = new PoolingHttpClientConnectionManager();
+    this.connectionManager.setMaxTotal(properties.getMaxConnections());
+    // all requests go to the same Gerrit host, so the only route may use the whole pool
+    this.connectionManager.setDefaultMaxPerRoute(properties.getMaxConnections());
+    this.connectionManager.setValidateAfterInactivity(
+        (int) properties.getValidateAfterInactivity().toMillis());
+    this.requestConfig = RequestConfig.custom()
+        .setConnectTimeout((int) properties.getConnectTimeout().toMillis())
+        .setSocketTimeout((int) properties.getReadTimeout().toMillis())
+        .setConnectionRequestTimeout((int) properties.getConnectionRequestTimeout().toMillis())
+        .build();
+    this.keepAliveMillis = properties.getKeepAlive().toMillis();
+    new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME)
+        .bindTo(meterRegistry);
+  }
+
+  @Override
+  public HttpClientBuilder extend(HttpClientBuilder httpClientBuilder, GerritAuthData authData) {
+    return super.extend(httpClientBuilder, authData)
+        .setConnectionManager(connectionManager)
+        // http client built for a single request must not close the pool
+        .setConnectionManagerShared(true)
+        .setDefaultRequestConfig(requestConfig)
+        .setKeepAliveStrategy((response, context) -> {
+          var keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+              .getKeepAliveDuration(response, context);
+          return keepAlive < 0 ? keepAliveMillis : Math.min(keepAlive, keepAliveMillis);
+        });
+  }
+
+  /**
+   * Request executor that buffers response bodies, so a connection is returned to the pool as soon
+   * as the response is received. Gerrit responses are JSON the client reads into memory anyway.
+   */
+  public HttpRequestExecutor requestExecutor() {
+    return new HttpRequestExecutor() {
+      @Override
+      public HttpResponse execute(HttpClientBuilder client, HttpRequestBase request,
+          HttpContext context) throws IOException {
+        var response = super.execute(client, request, context);
+        var entity = response.getEntity();
+        if (Objects.nonNull(entity)) {
+          response.setEntity(new BufferedHttpEntity(entity));
+          EntityUtils.consume(entity);
+        }
+        return response;
+      }
+    };
+  }
+
+  @Override
+  public void close() {
+    connectionManager.close();
+  }
+}
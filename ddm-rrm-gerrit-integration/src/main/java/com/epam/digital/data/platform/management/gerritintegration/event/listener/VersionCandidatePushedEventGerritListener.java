@@ -0,0 +1,49 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gerritintegration.event.listener;
+
+import com.epam.digital.data.platform.management.core.event.VersionCandidatePushedEvent;
+import com.epam.digital.data.platform.management.core.event.VersionCandidatePushedEventListener;
+import com.epam.digital.data.platform.management.gerritintegration.service.ChangeLabelsCache;
+import com.epam.digital.data.platform.management.gerritintegration.service.GerritChangeCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener of the {@link VersionCandidatePushedEvent}.
+ * <p>
+ * It invalidates cached change info and labels of the version candidate, as the push created a new
+ * revision
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VersionCandidatePushedEventGerritListener implements
+    VersionCandidatePushedEventListener {
+
+  private final GerritChangeCache changeCache;
+  private final ChangeLabelsCache labelsCache;
+
+  @Override
+  public void handleVersionCandidatePushedEvent(VersionCandidatePushedEvent event) {
+    var versionCandidateNumber = event.getVersionCandidateNumber();
+    log.debug("Handling version candidate {} pushed event", versionCandidateNumber);
+    changeCache.invalidate(versionCandidateNumber);
+    labelsCache.invalidate(versionCandidateNumber);
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gerritintegration.service;
+
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps labels of changes, so build status of a version candidate (its {@code Verified} label) is
+ * read from Gerrit only when it may have changed.
+ * <p>
+ * Labels are kept for {@code gerrit.labels-cache.time-to-live}. They are
+ * {@link #update(String, Map) updated} by the version candidates refresh, which reads every open
+ * change anyway, and {@link #invalidate(String) invalidated} on Gerrit events of the change. A
+ * build votes on the same revision it was started for, so labels are keyed by change number
+ * rather than by revision.
+ * <p>
+ * Published metrics: {@value #CACHE_REQUESTS_METRIC} counter tagged by result.
+ */
+@Slf4j
+@Component
+public class ChangeLabelsCache {
+
+  public static final String CACHE_REQUESTS_METRIC = "rrm.gerrit.labels.cache.requests";
+
+  private final Cache<String, Map<String, Integer>> labels;
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public ChangeLabelsCache(GerritPropertiesConfig gerritPropertiesConfig,
+      MeterRegistry meterRegistry) {
+    var labelsCacheProperties = gerritPropertiesConfig.getLabelsCache();
+    this.labels = Caffeine.newBuilder()
+        .expireAfterWrite(labelsCacheProperties.getTimeToLive())
+        .maximumSize(labelsCacheProperties.getMaximumChanges())
+        .build();
+    this.hitCounter = Counter.builder(CACHE_REQUESTS_METRIC)
+        .tag("result", "hit")
+        .register(meterRegistry);
+    this.missCounter = Counter.builder(CACHE_REQUESTS_METRIC)
+        .tag("result", "miss")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Get labels of the change
+   *
+   * @param number change number
+   * @param loader reads labels from Gerrit if they aren't cached
+   */
+  public Map<String, Integer> getLabels(@NonNull String number,
+      @NonNull Supplier<Map<String, Integer>> loader) {
+    var cachedLabels = labels.getIfPresent(number);
+    if (Objects.nonNull(cachedLabels)) {
+      hitCounter.increment();
+      return cachedLabels;
+    }
+    missCounter.increment();
+    var loadedLabels = loader.get();
+    update(number, loadedLabels);
+    return loadedLabels;
+  }
+
+  /**
+   * Replace cached labels of the change with labels just read from Gerrit
+   *
+   * @param number        change number
+   * @param currentLabels current labels of the change
+   */
+  public void update(@NonNull String number, @Nullable Map<String, Integer> currentLabels) {
+    if (Objects.isNull(currentLabels)) {
+      labels.invalidate(number);
+      return;
+    }
+    labels.put(number, currentLabels);
+  }
+
+  /**
+   * Drop cached labels of the change, so they are read from Gerrit again
+   *
+   * @param number number of the changed change
+   */
+  public void invalidate(@NonNull String number) {
+    log.debug("Invalidating cached labels of change {}", number);
+    labels.invalidate(number);
+  }
+}
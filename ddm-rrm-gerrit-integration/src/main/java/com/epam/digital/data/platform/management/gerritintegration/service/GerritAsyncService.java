@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gerritintegration.service;
+
+import com.epam.digital.data.platform.management.gerritintegration.exception.GerritChangeNotFoundException;
+import com.epam.digital.data.platform.management.gerritintegration.exception.GerritCommunicationException;
+import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoDto;
+import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoShortDto;
+import com.epam.digital.data.platform.management.gerritintegration.model.FileInfoDto;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking facade of {@link GerritService} read operations. Calls are made by the application
+ * task executor with limited number of concurrent calls, so a slow Gerrit doesn't hold the calling
+ * threads. Every call is limited by its timeout and
+ * calls fail fast while Gerrit keeps failing.
+ * <p>
+ * Futures complete exceptionally with {@link GerritChangeNotFoundException} in case when gerrit
+ * returns 404 http status and with {@link GerritCommunicationException} in case of rest http
+ * errors, gerrit issues, timeouts or rejected calls.
+ */
+public interface GerritAsyncService {
+
+  /**
+   * Get gerrit change information by number
+   *
+   * @param number unique identifier of change
+   * @return {@link CompletableFuture} of {@link ChangeInfoDto} change info
+   */
+  CompletableFuture<ChangeInfoDto> getMRByNumber(String number);
+
+  /**
+   * Get gerrit change information by changeId
+   *
+   * @param changeId unique identifier of change
+   * @return {@link CompletableFuture} of {@link ChangeInfoDto} change info
+   */
+  CompletableFuture<ChangeInfoDto> getChangeInfo(String changeId);
+
+  /**
+   * Get last merged change
+   *
+   * @return {@link CompletableFuture} of {@link ChangeInfoDto}, completed with {@code null} if
+   * there is no merged change
+   */
+  CompletableFuture<ChangeInfoDto> getLastMergedMR();
+
+  /**
+   * Get opened changes
+   *
+   * @return {@link CompletableFuture} of {@link List} of {@link ChangeInfoShortDto}
+   */
+  CompletableFuture<List<ChangeInfoShortDto>> getMRList();
+
+  /**
+   * Get information about files in gerrit change
+   *
+   * @param changeId unique identifier of change
+   * @return {@link CompletableFuture} of {@link Map} of {@link String} file name and file info
+   */
+  CompletableFuture<Map<String, FileInfoDto>> getListOfChangesInMR(String changeId);
+
+  /**
+   * Get content of file
+   *
+   * @param changeId unique identifier of change
+   * @param filename full path to file
+   * @return {@link CompletableFuture} of {@link String} file content
+   */
+  CompletableFuture<String> getFileContent(String changeId, String filename);
+
+  /**
+   * Get content of several files of the current change revision
+   *
+   * @param changeId  unique identifier of change
+   * @param filenames full paths to files
+   * @return {@link CompletableFuture} of {@link Map} of file name and file content
+   */
+  CompletableFuture<Map<String, String>> getFilesContent(String changeId,
+      Collection<String> filenames);
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gerritintegration.service;
+
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.gerritintegration.config.GerritConfig;
+import com.epam.digital.data.platform.management.gerritintegration.exception.GerritChangeNotFoundException;
+import com.epam.digital.data.platform.management.gerritintegration.exception.GerritCommunicationException;
+import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoDto;
+import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoShortDto;
+import com.epam.digital.data.platform.management.gerritintegration.model.FileInfoDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link GerritAsyncService} that runs {@link GerritService} calls on the executor of the async
+ * client.
+ * <p>
+ * Up to {@code gerrit.async-client.max-concurrent-calls} calls run at once and up to
+ * {@code gerrit.async-client.max-queued-calls} wait for a free slot without holding an executor
+ * thread, other calls are rejected right away. Timed out call isn't interrupted and keeps its
+ * slot until Gerrit responds, so a slow Gerrit can occupy the slots but not the calling threads.
+ * <p>
+ * Calls are guarded by {@link GerritCircuitBreaker circuit breaker}: after
+ * {@code gerrit.async-client.failure-threshold} failures within
+ * {@code gerrit.async-client.failure-window} calls fail right away for
+ * {@code gerrit.async-client.open-duration}. Gerrit errors and calls that responded after their
+ * timeout are counted as failures, not found changes are not.
+ * <p>
+ * Published metrics: {@value #CALLS_METRIC} counter tagged by operation and result -
+ * {@code success}, {@code not_found}, {@code failure}, {@code timeout}, {@code rejected} or
+ * {@code short_circuited}, {@value #ACTIVE_CALLS_METRIC} and {@value #QUEUED_CALLS_METRIC} gauges
+ * and {@value #CIRCUIT_OPEN_METRIC} gauge that is {@code 1} while the circuit is open.
+ */
+@Slf4j
+@Component
+public class GerritAsyncServiceImpl implements GerritAsyncService {
+
+  public static final String CALLS_METRIC = "rrm.gerrit.async.calls";
+  public static final String ACTIVE_CALLS_METRIC = "rrm.gerrit.async.calls.active";
+  public static final String QUEUED_CALLS_METRIC = "rrm.gerrit.async.calls.queued";
+  public static final String CIRCUIT_OPEN_METRIC = "rrm.gerrit.async.circuit.open";
+
+  static final String GET_MR_BY_NUMBER = "get-mr-by-number";
+  static final String GET_CHANGE_INFO = "get-change-info";
+  static final String GET_LAST_MERGED_MR = "get-last-merged-mr";
+  static final String GET_MR_LIST = "get-mr-list";
+  static final String GET_LIST_OF_CHANGES_IN_MR = "get-list-of-changes-in-mr";
+  static final String GET_FILE_CONTENT = "get-file-content";
+  static final String GET_FILES_CONTENT = "get-files-content";
+
+  private final GerritService gerritService;
+  private final GerritPropertiesConfig.AsyncClient asyncClientProperties;
+  private final MeterRegistry meterRegistry;
+  private final Executor executor;
+
+  private final Semaphore callSlots;
+  private final Queue<QueuedCall> queuedCalls = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger activeCalls = new AtomicInteger();
+
+  private final GerritCircuitBreaker circuitBreaker;
+
+  public GerritAsyncServiceImpl(GerritService gerritService,
+      GerritPropertiesConfig gerritPropertiesConfig, MeterRegistry meterRegistry,
+      @Qualifier(GerritConfig.ASYNC_CLIENT_EXECUTOR_BEAN_NAME) Executor executor) {
+    this.gerritService = gerritService;
+    this.asyncClientProperties = gerritPropertiesConfig.getAsyncClient();
+    this.meterRegistry = meterRegistry;
+    this.executor = executor;
+    this.callSlots = new Semaphore(
+        asyncClientProperties.getMaxConcurrentCalls() + asyncClientProperties.getMaxQueuedCalls());
+
+    this.circuitBreaker = new GerritCircuitBreaker(asyncClientProperties.getFailureThreshold(),
+        asyncClientProperties.getFailureWindow(), asyncClientProperties.getOpenDuration());
+
+    Gauge.builder(ACTIVE_CALLS_METRIC, activeCalls, AtomicInteger::get)
+        .register(meterRegistry);
+    Gauge.builder(QUEUED_CALLS_METRIC, queuedCalls, Queue::size)
+        .register(meterRegistry);
+    Gauge.builder(CIRCUIT_OPEN_METRIC, circuitBreaker, breaker -> breaker.isOpen() ? 1 : 0)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public CompletableFuture<ChangeInfoDto> getMRByNumber(String number) {
+    return call(GET_MR_BY_NUMBER, () -> gerritService.getMRByNumber(number));
+  }
+
+  @Override
+  public CompletableFuture<ChangeInfoDto> getChangeInfo(String changeId) {
+    return call(GET_CHANGE_INFO, () -> gerritService.getChangeInfo(changeId));
+  }
+
+  @Override
+  public CompletableFuture<ChangeInfoDto> getLastMergedMR() {
+    return call(GET_LAST_MERGED_MR, gerritService::getLastMergedMR);
+  }
+
+  @Override
+  public CompletableFuture<List<ChangeInfoShortDto>> getMRList() {
+    return call(GET_MR_LIST, gerritService::getMRList);
+  }
+
+  @Override
+  public CompletableFuture<Map<String, FileInfoDto>> getListOfChangesInMR(String changeId) {
+    return call(GET_LIST_OF_CHANGES_IN_MR, () -> gerritService.getListOfChangesInMR(changeId));
+  }
+
+  @Override
+  public CompletableFuture<String> getFileContent(String changeId, String filename) {
+    return call(GET_FILE_CONTENT, () -> gerritService.getFileContent(changeId, filename));
+  }
+
+  @Override
+  public CompletableFuture<Map<String, String>> getFilesContent(String changeId,
+      Collection<String> filenames) {
+    return call(GET_FILES_CONTENT, () -> gerritService.getFilesContent(changeId, filenames));
+  }
+
+  private <T> CompletableFuture<T> call(String operation, Supplier<T> call) {
+    var timeout = getTimeout(operation);
+    var future = new CompletableFuture<T>();
+    if (!callSlots.tryAcquire()) {
+      countCall(operation, "rejected");
+      return CompletableFuture.failedFuture(
+          new CallRejectedException("Too many concurrent Gerrit calls"));
+    }
+    queuedCalls.add(new QueuedCall(future, () -> {
+      T result = null;
+      Throwable failure = null;
+      try {
+        result = callThroughCircuitBreaker(operation, call, timeout);
+      } catch (Throwable e) {
+        failure = e;
+      } finally {
+        // slot is freed before the caller is notified, so it may call again right away
+        activeCalls.decrementAndGet();
+        callSlots.release();
+      }
+      if (failure == null) {
+        future.complete(result);
+      } else {
+        future.completeExceptionally(failure);
+      }
+      runQueuedCalls();
+    }));
+    runQueuedCalls();
+    return future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+        .handle((result, throwable) -> {
+          if (throwable == null) {
+            countCall(operation, "success");
+            return result;
+          }
+          throw toCallException(operation, timeout, throwable);
+        });
+  }
+
+  /**
+   * Hands queued calls to the executor while there are free slots. Called after a call is
+   * queued and after a call is finished, so a queued call can't be left behind
+   */
+  private void runQueuedCalls() {
+    while (!queuedCalls.isEmpty()) {
+      var active = activeCalls.get();
+      if (active >= asyncClientProperties.getMaxConcurrentCalls()) {
+        return;
+      }
+      if (!activeCalls.compareAndSet(active, active + 1)) {
+        continue;
+      }
+      var queuedCall = queuedCalls.poll();
+      if (queuedCall == null) {
+        activeCalls.decrementAndGet();
+        continue;
+      }
+      try {
+        executor.execute(queuedCall.call);
+      } catch (RejectedExecutionException e) {
+        log.warn("Gerrit call was rejected by the executor: {}", e.getMessage());
+        activeCalls.decrementAndGet();
+        callSlots.release();
+        queuedCall.future.completeExceptionally(
+            new CallRejectedException("Gerrit call was rejected by the executor"));
+      }
+    }
+  }
+
+  /**
+   * Not found change is a Gerrit response, so it isn't counted as failure. Response that came
+   * after the timeout is counted as failure, the caller has already got the timeout by then
+   */
+  private <T> T callThroughCircuitBreaker(String operation, Supplier<T> call, Duration timeout) {
+    if (!circuitBreaker.isCallPermitted()) {
+      throw new CallShortCircuitedException();
+    }
+    var startedAt = System.nanoTime();
+    T response;
+    try {
+      response = call.get();
+    } catch (GerritChangeNotFoundException e) {
+      circuitBreaker.onSuccess();
+      throw e;
+    } catch (RuntimeException e) {
+      circuitBreaker.onFailure();
+      throw e;
+    }
+    if (System.nanoTime() - startedAt > timeout.toNanos()) {
+      circuitBreaker.onFailure();
+      throw new GerritCommunicationException(
+          String.format("Gerrit operation %s didn't finish in %s", operation, timeout));
+    }
+    circuitBreaker.onSuccess();
+    return response;
+  }
+
+  private RuntimeException toCallException(String operation, Duration timeout,
+      Throwable throwable) {
+    var cause = throwable instanceof CompletionException && throwable.getCause() != null
+        ? throwable.getCause() : throwable;
+    if (cause instanceof GerritChangeNotFoundException) {
+      countCall(operation, "not_found");
+      return (GerritChangeNotFoundException) cause;
+    }
+    if (cause instanceof CallShortCircuitedException) {
+      countCall(operation, "short_circuited");
+      return (CallShortCircuitedException) cause;
+    }
+    if (cause instanceof CallRejectedException) {
+      countCall(operation, "rejected");
+      return (CallRejectedException) cause;
+    }
+    if (cause instanceof TimeoutException) {
+      log.warn("Gerrit operation {} didn't finish in {}", operation, timeout);
+      countCall(operation, "timeout");
+      return new GerritCommunicationException(
+          String.format("Gerrit operation %s didn't finish in %s", operation, timeout), cause);
+    }
+    countCall(operation, "failure");
+    return cause instanceof RuntimeException ? (RuntimeException) cause
+        : new GerritCommunicationException(
+            String.format("Gerrit operation %s failed: %s", operation, cause.getMessage()), cause);
+  }
+
+  private Duration getTimeout(String operation) {
+    return asyncClientProperties.getOperationTimeouts()
+        .getOrDefault(operation, asyncClientProperties.getTimeout());
+  }
+
+  private void countCall(String operation, String result) {
+    Counter.builder(CALLS_METRIC)
+        .tag("operation", operation)
+        .tag("result", result)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  @RequiredArgsConstructor
+  private static class QueuedCall {
+
+    private final CompletableFuture<?> future;
+    private final Runnable call;
+  }
+
+  private static class CallRejectedException extends GerritCommunicationException {
+
+    CallRejectedException(String message) {
+      super(message);
+    }
+  }
+
+  private static class CallShortCircuitedException extends GerritCommunicationException {
+
+    CallShortCircuitedException() {
+      super("Gerrit calls are suspended after repeated failures");
+    }
+  }
+}
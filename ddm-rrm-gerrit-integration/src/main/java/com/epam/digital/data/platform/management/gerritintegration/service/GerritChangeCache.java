@@ -0,0 +1,285 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gerritintegration.service;
+
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoDto;
+import com.epam.digital.data.platform.management.gerritintegration.model.FileInfoDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Keeps change info and changed files read from Gerrit.
+ * <p>
+ * Change info is shared between requests for {@code gerrit.change-cache.time-to-live} and memoized
+ * for the current HTTP request, so it doesn't change within the request even if it has expired.
+ * Zero time to live disables caching, then change info is read from Gerrit every time. It's looked
+ * up by change number or change id, both of
+ * them are {@link #invalidate(String) invalidated} together when the change is modified by this
+ * service. Number and id of a change are known to be aliases for as long as its info is shared, the
+ * request memo is matched by the memoized change info itself. Changed files are keyed by change and
+ * its current revision ref known from cached change info. Files of a revision never change, so they
+ * are only evicted by size.
+ * <p>
+ * Change info and files are mutable, so the cache keeps its own copies and returns a copy on every
+ * read. Changes of a caller are never seen by other callers.
+ * <p>
+ * Published metrics: {@value #CACHE_REQUESTS_METRIC} counter tagged by result.
+ */
+@Slf4j
+@Component
+public class GerritChangeCache {
+
+  public static final String CACHE_REQUESTS_METRIC = "rrm.gerrit.change.cache.requests";
+
+  private static final String MEMO_ATTRIBUTE = GerritChangeCache.class.getName() + ".MEMO";
+  private static final String CHANGE_BY_NUMBER_PREFIX = "number:";
+  private static final String CHANGE_BY_ID_PREFIX = "change:";
+
+  private final Cache<String, ChangeInfoDto> changes;
+  private final Cache<String, Map<String, FileInfoDto>> files;
+  private final Cache<String, String> aliases;
+  private final boolean enabled;
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public GerritChangeCache(GerritPropertiesConfig gerritPropertiesConfig,
+      MeterRegistry meterRegistry) {
+    var changeCacheProperties = gerritPropertiesConfig.getChangeCache();
+    this.enabled = !changeCacheProperties.getTimeToLive().isZero();
+    this.changes = Caffeine.newBuilder()
+        .expireAfterWrite(changeCacheProperties.getTimeToLive())
+        .build();
+    // aliases are written together with the change info, so they live at least as long as it
+    this.aliases = Caffeine.newBuilder()
+        .expireAfterWrite(changeCacheProperties.getTimeToLive())
+        .build();
+    this.files = Caffeine.newBuilder()
+        .maximumSize(changeCacheProperties.getMaximumRevisions())
+        .build();
+    this.hitCounter = Counter.builder(CACHE_REQUESTS_METRIC)
+        .tag("result", "hit")
+        .register(meterRegistry);
+    this.missCounter = Counter.builder(CACHE_REQUESTS_METRIC)
+        .tag("result", "miss")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Get change info looked up by change number
+   *
+   * @param number change number
+   * @param loader reads change info from Gerrit if it isn't cached
+   */
+  public ChangeInfoDto getChangeByNumber(@NonNull String number,
+      @NonNull Supplier<ChangeInfoDto> loader) {
+    return getChange(CHANGE_BY_NUMBER_PREFIX + number, loader);
+  }
+
+  /**
+   * Get change info looked up by change id
+   *
+   * @param changeId change id, change number is also accepted by Gerrit
+   * @param loader   reads change info from Gerrit if it isn't cached
+   */
+  public ChangeInfoDto getChangeById(@NonNull String changeId,
+      @NonNull Supplier<ChangeInfoDto> loader) {
+    return getChange(CHANGE_BY_ID_PREFIX + changeId, loader);
+  }
+
+  /**
+   * Get files changed in the current revision of the change. Files are cached only if the current
+   * revision of the change is known from cached change info
+   *
+   * @param changeId change id or number
+   * @param loader   reads changed files from Gerrit if they aren't cached
+   */
+  public Map<String, FileInfoDto> getFiles(@NonNull String changeId,
+      @NonNull Supplier<Map<String, FileInfoDto>> loader) {
+    var revision = getCurrentRevision(changeId);
+    if (Objects.isNull(revision)) {
+      missCounter.increment();
+      return loader.get();
+    }
+    var key = changeId + "@" + revision;
+    var cachedFiles = files.getIfPresent(key);
+    if (Objects.nonNull(cachedFiles)) {
+      hitCounter.increment();
+      return copyOf(cachedFiles);
+    }
+    missCounter.increment();
+    var loadedFiles = loader.get();
+    if (Objects.nonNull(loadedFiles)) {
+      files.put(key, copyOf(loadedFiles));
+    }
+    return loadedFiles;
+  }
+
+  /**
+   * Drop cached change info of the change, so it's read from Gerrit again
+   *
+   * @param changeIdOrNumber change id or number of the modified change
+   */
+  public void invalidate(@NonNull String changeIdOrNumber) {
+    log.debug("Invalidating cached info of change {}", changeIdOrNumber);
+    var memo = getRequestMemo();
+    var identifiers = getIdentifiers(changeIdOrNumber, memo);
+    identifiers.forEach(identifier -> {
+      var keys = List.of(CHANGE_BY_NUMBER_PREFIX + identifier, CHANGE_BY_ID_PREFIX + identifier);
+      changes.invalidateAll(keys);
+      keys.forEach(memo::remove);
+    });
+    aliases.invalidateAll(identifiers);
+  }
+
+  private ChangeInfoDto getChange(String key, Supplier<ChangeInfoDto> loader) {
+    var memo = getRequestMemo();
+    var change = getCachedChange(memo, key);
+    if (Objects.nonNull(change)) {
+      hitCounter.increment();
+      memo.put(key, change);
+      return copyOf(change);
+    }
+    missCounter.increment();
+    var loadedChange = loader.get();
+    if (Objects.nonNull(loadedChange)) {
+      var cachedChange = copyOf(loadedChange);
+      rememberAliases(cachedChange);
+      changes.put(key, cachedChange);
+      memo.put(key, cachedChange);
+    }
+    return loadedChange;
+  }
+
+  @Nullable
+  private String getCurrentRevision(String changeIdOrNumber) {
+    var memo = getRequestMemo();
+    return getIdentifiers(changeIdOrNumber, memo).stream()
+        .flatMap(identifier -> Stream.of(CHANGE_BY_NUMBER_PREFIX + identifier,
+            CHANGE_BY_ID_PREFIX + identifier))
+        .map(key -> getCachedChange(memo, key))
+        .filter(Objects::nonNull)
+        .map(ChangeInfoDto::getRefs)
+        .filter(Objects::nonNull)
+        .findFirst()
+        .orElse(null);
+  }
+
+  @Nullable
+  private ChangeInfoDto getCachedChange(Map<String, ChangeInfoDto> memo, String key) {
+    var change = memo.get(key);
+    return Objects.nonNull(change) ? change : changes.getIfPresent(key);
+  }
+
+  private void rememberAliases(ChangeInfoDto change) {
+    var number = change.getNumber();
+    var changeId = change.getChangeId();
+    if (Objects.nonNull(number) && Objects.nonNull(changeId)) {
+      aliases.put(number, changeId);
+      aliases.put(changeId, number);
+    }
+  }
+
+  private Set<String> getIdentifiers(String changeIdOrNumber, Map<String, ChangeInfoDto> memo) {
+    var identifiers = new HashSet<String>();
+    identifiers.add(changeIdOrNumber);
+    var alias = aliases.getIfPresent(changeIdOrNumber);
+    if (Objects.nonNull(alias)) {
+      identifiers.add(alias);
+    }
+    memo.values().stream()
+        .filter(change -> changeIdOrNumber.equals(change.getNumber())
+            || changeIdOrNumber.equals(change.getChangeId()))
+        .flatMap(change -> Stream.of(change.getNumber(), change.getChangeId()))
+        .filter(Objects::nonNull)
+        .forEach(identifiers::add);
+    return identifiers;
+  }
+
+  /**
+   * Change info memoized for the current HTTP request, scheduled jobs and disabled cache get a
+   * throwaway map
+   */
+  @SuppressWarnings("unchecked")
+  private Map<String, ChangeInfoDto> getRequestMemo() {
+    var requestAttributes = RequestContextHolder.getRequestAttributes();
+    if (!enabled || Objects.isNull(requestAttributes)) {
+      return new HashMap<>();
+    }
+    var memo = (Map<String, ChangeInfoDto>) requestAttributes.getAttribute(MEMO_ATTRIBUTE,
+        RequestAttributes.SCOPE_REQUEST);
+    if (Objects.isNull(memo)) {
+      memo = new ConcurrentHashMap<>();
+      requestAttributes.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+    }
+    return memo;
+  }
+
+  private static ChangeInfoDto copyOf(ChangeInfoDto change) {
+    var copy = new ChangeInfoDto();
+    copy.setChangeId(change.getChangeId());
+    copy.setRefs(change.getRefs());
+    copy.setNumber(change.getNumber());
+    copy.setSubject(change.getSubject());
+    copy.setDescription(change.getDescription());
+    copy.setCreated(change.getCreated());
+    copy.setUpdated(change.getUpdated());
+    copy.setSubmitted(change.getSubmitted());
+    copy.setId(change.getId());
+    copy.setProject(change.getProject());
+    copy.setBranch(change.getBranch());
+    copy.setOwner(change.getOwner());
+    copy.setTopic(change.getTopic());
+    copy.setMergeable(change.getMergeable());
+    copy.setLabels(Objects.isNull(change.getLabels()) ? null : new HashMap<>(change.getLabels()));
+    copy.setMessages(
+        Objects.isNull(change.getMessages()) ? null : new ArrayList<>(change.getMessages()));
+    return copy;
+  }
+
+  private static Map<String, FileInfoDto> copyOf(Map<String, FileInfoDto> files) {
+    var copy = new HashMap<String, FileInfoDto>();
+    files.forEach((path, file) -> {
+      var fileCopy = new FileInfoDto();
+      fileCopy.setStatus(file.getStatus());
+      fileCopy.setLinesInserted(file.getLinesInserted());
+      fileCopy.setLinesDeleted(file.getLinesDeleted());
+      fileCopy.setSize(file.getSize());
+      fileCopy.setSizeDelta(file.getSizeDelta());
+      copy.put(path, fileCopy);
+    });
+    return copy;
+  }
+}
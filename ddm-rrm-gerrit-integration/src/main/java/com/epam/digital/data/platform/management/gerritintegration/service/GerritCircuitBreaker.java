@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gerritintegration.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Circuit breaker shared by concurrent Gerrit calls. Opens after {@code failureThreshold}
+ * failures counted from the first failure within {@code failureWindow}, a successful call starts
+ * counting anew. Open circuit doesn't let calls through for {@code openDuration} and closes
+ * after it.
+ * <p>
+ * State is kept in atomic fields only, so callers are never blocked. Failures that race with the
+ * start of a new window may be left out of the count, which only delays opening by a call.
+ */
+@Slf4j
+class GerritCircuitBreaker {
+
+  private static final long CLOSED = -1;
+
+  private final int failureThreshold;
+  private final long failureWindowMillis;
+  private final long openDurationMillis;
+  private final LongSupplier clock;
+
+  private final AtomicInteger failures = new AtomicInteger();
+  private final AtomicLong windowStartedAt = new AtomicLong();
+  private final AtomicLong openedAt = new AtomicLong(CLOSED);
+
+  GerritCircuitBreaker(int failureThreshold, Duration failureWindow, Duration openDuration) {
+    this(failureThreshold, failureWindow, openDuration, System::currentTimeMillis);
+  }
+
+  GerritCircuitBreaker(int failureThreshold, Duration failureWindow, Duration openDuration,
+      LongSupplier clock) {
+    this.failureThreshold = failureThreshold;
+    this.failureWindowMillis = failureWindow.toMillis();
+    this.openDurationMillis = openDuration.toMillis();
+    this.clock = clock;
+  }
+
+  /**
+   * @return {@code false} while the circuit is open. The first caller after the open duration
+   * closes the circuit
+   */
+  boolean isCallPermitted() {
+    var opened = openedAt.get();
+    if (opened == CLOSED) {
+      return true;
+    }
+    if (clock.getAsLong() - opened < openDurationMillis) {
+      return false;
+    }
+    if (openedAt.compareAndSet(opened, CLOSED)) {
+      failures.set(0);
+      log.info("Gerrit calls are resumed");
+    }
+    return true;
+  }
+
+  void onSuccess() {
+    if (failures.get() != 0) {
+      failures.set(0);
+    }
+  }
+
+  void onFailure() {
+    var now = clock.getAsLong();
+    var windowStart = windowStartedAt.get();
+    if (now - windowStart > failureWindowMillis
+        && windowStartedAt.compareAndSet(windowStart, now)) {
+      failures.set(0);
+    }
+    if (failures.incrementAndGet() >= failureThreshold
+        && openedAt.compareAndSet(CLOSED, now)) {
+      log.warn("Gerrit calls are suspended for {} ms after {} failures", openDurationMillis,
+          failureThreshold);
+    }
+  }
+
+  boolean isOpen() {
+    var opened = openedAt.get();
+    return opened != CLOSED && clock.getAsLong() - opened < openDurationMillis;
+  }
+}
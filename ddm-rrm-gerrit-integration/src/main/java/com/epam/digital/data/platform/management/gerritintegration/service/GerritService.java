@@ -20,10 +20,13 @@ import com.epam.digital.data.platform.management.gerritintegration.exception.Ger
 import com.epam.digital.data.platform.management.gerritintegration.exception.GerritConflictException;
 import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoDto;
 import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoShortDto;
+import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoShortPageDto;
 import com.epam.digital.data.platform.management.gerritintegration.model.CreateChangeInputDto;
 import com.epam.digital.data.platform.management.gerritintegration.model.FileInfoDto;
 import com.epam.digital.data.platform.management.gerritintegration.model.RobotCommentInputDto;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import org.springframework.lang.Nullable;
@@ -43,6 +46,19 @@ public interface GerritService {
    */
   List<ChangeInfoShortDto> getMRList();
 
+  /**
+   * Get a page of open changes, most recently updated first
+   *
+   * @param start        number of changes to skip
+   * @param limit        maximum number of changes in the page
+   * @param updatedSince if set, only changes updated since then are returned
+   * @return {@link ChangeInfoShortPageDto} page of changes
+   *
+   * @throws GerritChangeNotFoundException in case when gerrit returns 404 http status
+   * @throws GerritCommunicationException  in case of rest http errors or gerrit issues
+   */
+  ChangeInfoShortPageDto getMRPage(int start, int limit, @Nullable LocalDateTime updatedSince);
+
   /**
    * Returns last merged change
    *
@@ -64,6 +80,16 @@ public interface GerritService {
    */
   List<String> getClosedMrIds();
 
+  /**
+   * Get commit id the head branch points to in gerrit
+   *
+   * @return {@link String} head-branch commit id
+   *
+   * @throws GerritChangeNotFoundException in case when gerrit returns 404 http status
+   * @throws GerritCommunicationException  in case of rest http errors or gerrit issues
+   */
+  String getHeadBranchRevision();
+
   /**
    * Get gerrit change information by number
    *
@@ -106,6 +132,21 @@ public interface GerritService {
    */
   String getFileContent(String changeId, String filename);
 
+  /**
+   * Get content of several files of the current change revision. The revision is resolved once
+   * for all files and files are downloaded concurrently up to
+   * {@code gerrit.file-content.parallelism}
+   *
+   * @param changeId  unique identifier of change
+   * @param filenames names of files
+   * @return {@link Map} of {@link String} file name and file content. Files that don't exist in
+   * the revision are absent in the map
+   *
+   * @throws GerritChangeNotFoundException in case when gerrit returns 404 http status for change
+   * @throws GerritCommunicationException  in case of rest http errors or gerrit issues
+   */
+  Map<String, String> getFilesContent(String changeId, Collection<String> filenames);
+
   /**
    * Submit gerrit change by chnageId
    *
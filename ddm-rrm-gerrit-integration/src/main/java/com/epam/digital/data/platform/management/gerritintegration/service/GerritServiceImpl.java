@@ -17,12 +17,15 @@
 package com.epam.digital.data.platform.management.gerritintegration.service;
 
 import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig.ChangeLookupMode;
+import com.epam.digital.data.platform.management.gerritintegration.config.GerritConfig;
 import com.epam.digital.data.platform.management.gerritintegration.exception.GerritChangeNotFoundException;
 import com.epam.digital.data.platform.management.gerritintegration.exception.GerritCommunicationException;
 import com.epam.digital.data.platform.management.gerritintegration.exception.GerritConflictException;
 import com.epam.digital.data.platform.management.gerritintegration.mapper.GerritMapper;
 import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoDto;
 import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoShortDto;
+import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoShortPageDto;
 import com.epam.digital.data.platform.management.gerritintegration.model.CreateChangeInputDto;
 import com.epam.digital.data.platform.management.gerritintegration.model.FileInfoDto;
 import com.epam.digital.data.platform.management.gerritintegration.model.RobotCommentInputDto;
@@ -33,6 +36,7 @@ import com.google.gerrit.extensions.api.changes.RebaseInput;
 import com.google.gerrit.extensions.api.changes.ReviewInput;
 import com.google.gerrit.extensions.api.changes.ReviewResult;
 import com.google.gerrit.extensions.client.ChangeStatus;
+import com.google.gerrit.extensions.client.ListChangesOption;
 import com.google.gerrit.extensions.client.ReviewerState;
 import com.google.gerrit.extensions.common.ChangeInfo;
 import com.google.gerrit.extensions.common.ChangeInput;
@@ -42,14 +46,29 @@ import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.urswolfer.gerrit.client.rest.GerritApiImpl;
 import com.urswolfer.gerrit.client.rest.http.HttpStatusException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
@@ -63,6 +82,22 @@ public class GerritServiceImpl implements GerritService {
   public static final String VERIFIED_LABEL = "Verified";
   public static final short VERIFIED_VALUE = 1;
 
+  /**
+   * Options that make change query return everything {@link ChangeInfoDto} is built of
+   */
+  private static final EnumSet<ListChangesOption> CHANGE_DETAILS_OPTIONS = EnumSet.of(
+      ListChangesOption.CURRENT_REVISION,
+      ListChangesOption.DETAILED_ACCOUNTS,
+      ListChangesOption.LABELS,
+      ListChangesOption.MESSAGES);
+
+  /**
+   * Date format of Gerrit query operators, the space is escaped as the query is put to the url
+   * as is
+   */
+  private static final DateTimeFormatter QUERY_DATE_FORMATTER =
+      DateTimeFormatter.ofPattern("'%22'yyyy-MM-dd'%20'HH:mm:ss'%22'");
+
   @Autowired
   private GerritPropertiesConfig gerritPropertiesConfig;
 
@@ -72,12 +107,22 @@ public class GerritServiceImpl implements GerritService {
   @Autowired
   private GerritApiImpl gerritApi;
 
+  @Autowired
+  private GerritChangeCache changeCache;
+
+  @Autowired
+  private ChangeLabelsCache labelsCache;
+
+  @Autowired
+  @Qualifier(GerritConfig.FILE_CONTENT_EXECUTOR_BEAN_NAME)
+  private Executor fileContentExecutor;
+
   @Override
   public List<ChangeInfoShortDto> getMRList() {
     var query = String.format("project:%s+status:open+owner:%s",
         gerritPropertiesConfig.getRepository(), gerritPropertiesConfig.getUser());
     try {
-      return gerritApi.changes().query(query).get().stream()
+      return queryAllPages(query).stream()
           .map(gerritMapper::toChangeInfoShortDto)
           .collect(Collectors.toList());
     } catch (HttpStatusException ex) {
@@ -91,6 +136,33 @@ public class GerritServiceImpl implements GerritService {
     }
   }
 
+  @Override
+  public ChangeInfoShortPageDto getMRPage(int start, int limit,
+      @Nullable LocalDateTime updatedSince) {
+    var query = String.format("project:%s+status:open+owner:%s",
+        gerritPropertiesConfig.getRepository(), gerritPropertiesConfig.getUser());
+    if (Objects.nonNull(updatedSince)) {
+      query += "+after:" + QUERY_DATE_FORMATTER.format(updatedSince);
+    }
+    try {
+      var changeInfos = gerritApi.changes().query(query).withStart(start).withLimit(limit).get();
+      return ChangeInfoShortPageDto.builder()
+          .changes(changeInfos.stream()
+              .map(gerritMapper::toChangeInfoShortDto)
+              .collect(Collectors.toList()))
+          .moreChanges(hasMoreChanges(changeInfos))
+          .build();
+    } catch (HttpStatusException ex) {
+      if (ex.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+        throw new GerritChangeNotFoundException("Could not found candidates", ex);
+      } else {
+        throw new GerritCommunicationException("Something went wrong wile getting candidates", ex);
+      }
+    } catch (RestApiException ex) {
+      throw new GerritCommunicationException("Something went wrong wile getting candidates", ex);
+    }
+  }
+
   @Nullable
   @Override
   public ChangeInfoDto getLastMergedMR() {
@@ -124,7 +196,7 @@ public class GerritServiceImpl implements GerritService {
     String query = String.format("project:%s+status:closed+owner:%s",
         gerritPropertiesConfig.getRepository(), gerritPropertiesConfig.getUser());
     try {
-      return gerritApi.changes().query(query).get().stream()
+      return queryAllPages(query).stream()
           .map(change -> String.valueOf(change._number)).collect(Collectors.toList());
     } catch (HttpStatusException ex) {
       if (ex.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
@@ -139,12 +211,38 @@ public class GerritServiceImpl implements GerritService {
     }
   }
 
+  @Override
+  public String getHeadBranchRevision() {
+    var headBranch = gerritPropertiesConfig.getHeadBranch();
+    try {
+      return gerritApi.projects().name(gerritPropertiesConfig.getRepository())
+          .branch(headBranch).get().revision;
+    } catch (HttpStatusException ex) {
+      if (ex.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+        throw new GerritChangeNotFoundException("Could not found head branch " + headBranch, ex);
+      } else {
+        throw new GerritCommunicationException(
+            "Something went wrong wile getting head branch " + headBranch, ex);
+      }
+    } catch (RestApiException ex) {
+      throw new GerritCommunicationException(
+          "Something went wrong wile getting head branch " + headBranch, ex);
+    }
+  }
+
   @Override
   public ChangeInfoDto getMRByNumber(String number) {
+    return changeCache.getChangeByNumber(number, () -> loadMRByNumber(number));
+  }
+
+  private ChangeInfoDto loadMRByNumber(String number) {
     String query = String.format("project:%s+%s", gerritPropertiesConfig.getRepository(), number);
     Changes changes = gerritApi.changes();
 
     try {
+      if (ChangeLookupMode.SINGLE_QUERY.equals(gerritPropertiesConfig.getChangeLookupMode())) {
+        return queryMRByNumber(changes, query, number);
+      }
       var changeInfos = changes.query(query).get();
       if (changeInfos.isEmpty()) {
         throw new GerritChangeNotFoundException("Could not get change info for " + number + " MR");
@@ -171,8 +269,30 @@ public class GerritServiceImpl implements GerritService {
     }
   }
 
+  private ChangeInfoDto queryMRByNumber(Changes changes, String query, String number)
+      throws RestApiException {
+    var changeInfos = changes.query(query).withOptions(CHANGE_DETAILS_OPTIONS).get();
+    if (changeInfos.isEmpty()) {
+      throw new GerritChangeNotFoundException("Could not get change info for " + number + " MR");
+    }
+    var changeInfo = changeInfos.get(0);
+    var changeInfoDto = gerritMapper.toChangeInfoDto(changeInfo);
+    if (Objects.isNull(changeInfo.mergeable)) {
+      // Gerrit returns mergeability in query results only if it's computed on change reindex
+      changeInfoDto.setMergeable(
+          changes.id(changeInfo.changeId).current().mergeable().mergeable);
+    }
+    RevisionInfo revisionInfo = changeInfo.revisions.get(changeInfo.currentRevision);
+    changeInfoDto.setRefs(revisionInfo.ref);
+    return changeInfoDto;
+  }
+
   @Override
   public ChangeInfoDto getChangeInfo(String changeId) {
+    return changeCache.getChangeById(changeId, () -> loadChangeInfo(changeId));
+  }
+
+  private ChangeInfoDto loadChangeInfo(String changeId) {
     try {
       ChangeInfo changeInfo = gerritApi.changes().id(changeId).get();
       ChangeInfoDto changeInfoDto = gerritMapper.toChangeInfoDto(changeInfo);
@@ -196,6 +316,10 @@ public class GerritServiceImpl implements GerritService {
 
   @Override
   public Map<String, FileInfoDto> getListOfChangesInMR(String changeId) {
+    return changeCache.getFiles(changeId, () -> loadListOfChangesInMR(changeId));
+  }
+
+  private Map<String, FileInfoDto> loadListOfChangesInMR(String changeId) {
     try {
       return gerritMapper.toFileDto(gerritApi.changes().id(changeId).current().files());
     } catch (HttpStatusException e) {
@@ -214,8 +338,7 @@ public class GerritServiceImpl implements GerritService {
     try {
       if (changeId != null) {
         String currentRevision = gerritApi.changes().id(changeId).get().currentRevision;
-        String request = String.format("/changes/%s/revisions/%s/files/%s/content", changeId,
-            currentRevision, filePath.replace("/", "%2F"));
+        String request = fileContentRequest(changeId, currentRevision, filePath);
         JsonElement response = gerritApi.restClient().getRequest(request);
         return response.getAsString();
       }
@@ -235,6 +358,121 @@ public class GerritServiceImpl implements GerritService {
     return null;
   }
 
+  /**
+   * The calling thread downloads files as well, so a bulk request makes progress even when the
+   * file content executor has no free thread for it
+   */
+  @Override
+  public Map<String, String> getFilesContent(String changeId, Collection<String> filenames) {
+    if (Objects.isNull(changeId) || filenames.isEmpty()) {
+      return Map.of();
+    }
+    var currentRevision = getCurrentRevision(changeId);
+    var pendingFiles = new ConcurrentLinkedQueue<>(new LinkedHashSet<>(filenames));
+    var contents = new ConcurrentHashMap<String, String>();
+    Runnable download = () -> downloadFilesContent(changeId, currentRevision, pendingFiles,
+        contents);
+
+    var helpers = Math.min(pendingFiles.size(),
+        Math.max(1, gerritPropertiesConfig.getFileContent().getParallelism())) - 1;
+    var helperDownloads = new ArrayList<CompletableFuture<Void>>();
+    for (var i = 0; i < helpers; i++) {
+      try {
+        helperDownloads.add(CompletableFuture.runAsync(download, fileContentExecutor));
+      } catch (RejectedExecutionException ex) {
+        log.debug("No free thread to download files of change {}", changeId);
+        break;
+      }
+    }
+    download.run();
+    try {
+      CompletableFuture.allOf(helperDownloads.toArray(CompletableFuture[]::new)).join();
+    } catch (CompletionException ex) {
+      throw (RuntimeException) ex.getCause();
+    }
+    return contents;
+  }
+
+  /**
+   * Read all changes matching the query page by page, so none of them is cut off by the query
+   * limit of Gerrit
+   */
+  private List<ChangeInfo> queryAllPages(String query) throws RestApiException {
+    var pageSize = gerritPropertiesConfig.getChangeQuery().getPageSize();
+    var changeInfos = new ArrayList<ChangeInfo>();
+    List<ChangeInfo> page;
+    do {
+      page = gerritApi.changes().query(query)
+          .withStart(changeInfos.size())
+          .withLimit(pageSize)
+          .get();
+      changeInfos.addAll(page);
+    } while (hasMoreChanges(page));
+    return changeInfos;
+  }
+
+  private static boolean hasMoreChanges(List<ChangeInfo> page) {
+    return !page.isEmpty() && Boolean.TRUE.equals(page.get(page.size() - 1)._moreChanges);
+  }
+
+  private String getCurrentRevision(String changeId) {
+    try {
+      return gerritApi.changes().id(changeId).get().currentRevision;
+    } catch (HttpStatusException ex) {
+      if (ex.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+        throw new GerritChangeNotFoundException("Could not found candidate with id " + changeId,
+            ex);
+      }
+      throw new GerritCommunicationException(
+          "Something went wrong wile getting candidate with id " + changeId, ex);
+    } catch (RestApiException ex) {
+      throw new GerritCommunicationException(
+          "Something went wrong wile getting candidate with id " + changeId, ex);
+    }
+  }
+
+  private void downloadFilesContent(String changeId, String revision, Queue<String> pendingFiles,
+      Map<String, String> contents) {
+    String filename;
+    while ((filename = pendingFiles.poll()) != null) {
+      try {
+        var content = requestFileContent(changeId, revision, filename);
+        if (Objects.nonNull(content)) {
+          contents.put(filename, content);
+        }
+      } catch (RuntimeException ex) {
+        // the other downloads stop after their current file
+        pendingFiles.clear();
+        throw ex;
+      }
+    }
+  }
+
+  @Nullable
+  private String requestFileContent(String changeId, String revision, String filename) {
+    try {
+      return gerritApi.restClient()
+          .getRequest(fileContentRequest(changeId, revision, filename))
+          .getAsString();
+    } catch (HttpStatusException ex) {
+      if (ex.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+        log.debug("File {} doesn't exist in revision {} of change {}", filename, revision,
+            changeId);
+        return null;
+      }
+      throw new GerritCommunicationException(
+          "Something went wrong wile getting file content from candidate with id " + changeId, ex);
+    } catch (RestApiException ex) {
+      throw new GerritCommunicationException(
+          "Something went wrong wile getting file content from candidate with id " + changeId, ex);
+    }
+  }
+
+  private static String fileContentRequest(String changeId, String revision, String filePath) {
+    return String.format("/changes/%s/revisions/%s/files/%s/content", changeId, revision,
+        filePath.replace("/", "%2F"));
+  }
+
   @Override
   public void submitChanges(String changeId) {
     try {
@@ -254,6 +492,8 @@ public class GerritServiceImpl implements GerritService {
     } catch (RestApiException ex) {
       throw new GerritCommunicationException(
           "Something went wrong wile submitting candidate with id " + changeId, ex);
+    } finally {
+      changeCache.invalidate(changeId);
     }
   }
 
@@ -272,6 +512,8 @@ public class GerritServiceImpl implements GerritService {
     } catch (RestApiException ex) {
       throw new GerritCommunicationException(
           "Something went wrong wile deleting candidate with id " + changeId, ex);
+    } finally {
+      changeCache.invalidate(changeId);
     }
   }
 
@@ -328,6 +570,8 @@ public class GerritServiceImpl implements GerritService {
     } catch (RestApiException ex) {
       throw new GerritCommunicationException(
           "Something went wrong wile reviewing candidate with id " + changeId, ex);
+    } finally {
+      changeCache.invalidate(changeId);
     }
   }
 
@@ -346,6 +590,8 @@ public class GerritServiceImpl implements GerritService {
     } catch (RestApiException ex) {
       throw new GerritCommunicationException(
           "Something went wrong wile declining candidate with id " + changeId, ex);
+    } finally {
+      changeCache.invalidate(changeId);
     }
   }
 
@@ -355,8 +601,13 @@ public class GerritServiceImpl implements GerritService {
       String request = String.format("/changes/%s/rebase", changeId);
       Gson gson = new Gson();
       try {
-        gerritApi.restClient()
+        JsonElement response = gerritApi.restClient()
             .postRequest(request, gson.toJson(new RebaseInput(), RebaseInput.class));
+        // rebase created a new patch set, so votes of the previous one are not actual anymore
+        if (Objects.nonNull(response) && response.isJsonObject()) {
+          ChangeInfo rebasedChange = gson.fromJson(response, ChangeInfo.class);
+          labelsCache.invalidate(String.valueOf(rebasedChange._number));
+        }
       } catch (HttpStatusException ex) {
         if (ex.getStatusCode() != HttpStatus.CONFLICT.value()) {
           throw new GerritCommunicationException(
@@ -366,6 +617,8 @@ public class GerritServiceImpl implements GerritService {
       } catch (RestApiException ex) {
         throw new GerritCommunicationException(
             "Something went wrong while rebasing change on candidate with id " + changeId, ex);
+      } finally {
+        changeCache.invalidate(changeId);
       }
     }
   }
@@ -399,6 +652,8 @@ public class GerritServiceImpl implements GerritService {
     } catch (RestApiException ex) {
       throw new GerritCommunicationException(
           "Something went wrong while creating robot comment on candidate with id " + changeId, ex);
+    } finally {
+      changeCache.invalidate(changeId);
     }
   }
 
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gerritintegration.config;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.urswolfer.gerrit.client.rest.GerritApiImpl;
+import com.urswolfer.gerrit.client.rest.GerritAuthData;
+import com.urswolfer.gerrit.client.rest.GerritRestApiFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("GerritHttpConnectionPool")
+class GerritHttpConnectionPoolTest {
+
+  static final String POOL_CONNECTIONS_METRIC = "httpcomponents.httpclient.pool.total.connections";
+
+  WireMockServer gerritMockServer;
+  MeterRegistry meterRegistry;
+  GerritHttpConnectionPool connectionPool;
+  GerritApiImpl gerritApi;
+
+  @BeforeEach
+  void setUp() {
+    gerritMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+    gerritMockServer.start();
+    gerritMockServer.stubFor(get("/login/").willReturn(aResponse().withStatus(200)));
+    gerritMockServer.stubFor(post("/login/").willReturn(aResponse().withStatus(200)));
+    gerritMockServer.stubFor(get("/a/config/server/version")
+        .willReturn(aResponse().withStatus(200).withBody(")]}'\n\"3.3.2\"")));
+
+    var gerritPropertiesConfig = new GerritPropertiesConfig();
+    gerritPropertiesConfig.getHttpClient().setPooled(true);
+    gerritPropertiesConfig.getHttpClient().setMaxConnections(5);
+    meterRegistry = new SimpleMeterRegistry();
+    connectionPool = new GerritHttpConnectionPool(gerritPropertiesConfig, meterRegistry);
+    gerritApi = (GerritApiImpl) new GerritRestApiFactory().create(
+        new GerritAuthData.Basic(gerritMockServer.baseUrl(), "user", "pass"),
+        connectionPool.requestExecutor(), connectionPool);
+  }
+
+  @AfterEach
+  void tearDown() {
+    connectionPool.close();
+    gerritMockServer.stop();
+  }
+
+  @Test
+  @SneakyThrows
+  @DisplayName("should reuse pooled connection between requests")
+  void reuseConnectionTest() {
+    for (int i = 0; i < 5; i++) {
+      Assertions.assertThat(gerritApi.config().server().getVersion()).isEqualTo("3.3.2");
+    }
+
+    Assertions.assertThat(getPoolConnections("available")).isEqualTo(1);
+    Assertions.assertThat(getPoolConnections("leased")).isZero();
+    Assertions.assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+        .tag("httpclient", GerritHttpConnectionPool.POOL_NAME).gauge().value()).isEqualTo(5);
+  }
+
+  private double getPoolConnections(String state) {
+    return meterRegistry.get(POOL_CONNECTIONS_METRIC)
+        .tag("httpclient", GerritHttpConnectionPool.POOL_NAME)
+        .tag("state", state)
+        .gauge().value();
+  }
+}
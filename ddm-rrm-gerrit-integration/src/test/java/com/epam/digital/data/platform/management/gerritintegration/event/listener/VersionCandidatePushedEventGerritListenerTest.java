@@ -0,0 +1,52 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gerritintegration.event.listener;
+
+import com.epam.digital.data.platform.management.core.event.VersionCandidatePushedEvent;
+import com.epam.digital.data.platform.management.gerritintegration.service.ChangeLabelsCache;
+import com.epam.digital.data.platform.management.gerritintegration.service.GerritChangeCache;
+import org.assertj.core.internal.bytebuddy.utility.RandomString;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class VersionCandidatePushedEventGerritListenerTest {
+
+  @InjectMocks
+  VersionCandidatePushedEventGerritListener listener;
+
+  @Mock
+  GerritChangeCache changeCache;
+  @Mock
+  ChangeLabelsCache labelsCache;
+
+  @Test
+  void handleVersionCandidatePushedEvent() {
+    final var source = RandomString.make();
+    final var versionNumber = RandomString.make();
+    final var event = new VersionCandidatePushedEvent(source, versionNumber);
+
+    listener.handleVersionCandidatePushedEvent(event);
+
+    Mockito.verify(changeCache).invalidate(versionNumber);
+    Mockito.verify(labelsCache).invalidate(versionNumber);
+  }
+}
@@ -25,6 +25,7 @@ import com.urswolfer.gerrit.client.rest.GerritApiImpl;
 import com.urswolfer.gerrit.client.rest.http.GerritRestClient;
 import com.urswolfer.gerrit.client.rest.http.changes.ChangeApiRestClient;
 import com.urswolfer.gerrit.client.rest.http.changes.ChangesRestClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,6 +46,11 @@ abstract class AbstractGerritServiceTest {
   GerritApiImpl gerritApiImpl;
   @Spy
   GerritMapper mapper = Mappers.getMapper(GerritMapper.class);
+  @Spy
+  GerritChangeCache changeCache =
+      new GerritChangeCache(new GerritPropertiesConfig(), new SimpleMeterRegistry());
+  @Mock
+  ChangeLabelsCache labelsCache;
   @InjectMocks
   GerritServiceImpl gerritService;
   @Mock
@@ -65,6 +71,10 @@ abstract class AbstractGerritServiceTest {
     changeInfo._number = 5;
     changeInfos.add(changeInfo);
     Mockito.lenient().when(gerritApiImpl.changes()).thenReturn(changes);
+    Mockito.lenient().when(gerritPropertiesConfig.getChangeQuery())
+        .thenReturn(new GerritPropertiesConfig.ChangeQuery());
+    Mockito.lenient().when(request.withStart(Mockito.anyInt())).thenReturn(request);
+    Mockito.lenient().when(request.withLimit(Mockito.anyInt())).thenReturn(request);
   }
 
 }
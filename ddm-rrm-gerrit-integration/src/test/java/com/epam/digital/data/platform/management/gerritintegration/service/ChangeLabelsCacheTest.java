@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gerritintegration.service;
+
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ChangeLabelsCache")
+class ChangeLabelsCacheTest {
+
+  static final String NUMBER = "42";
+
+  SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  @DisplayName("should read labels from Gerrit every time if cache is disabled")
+  void disabledTest() {
+    var labelsCache = createLabelsCache(Duration.ZERO);
+
+    labelsCache.getLabels(NUMBER, () -> loadLabels(0));
+    var labels = labelsCache.getLabels(NUMBER, () -> loadLabels(1));
+
+    Assertions.assertThat(labels).containsEntry("Verified", 1);
+    Assertions.assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("should keep labels until they are updated or invalidated")
+  void updateAndInvalidateTest() {
+    var labelsCache = createLabelsCache(Duration.ofMinutes(1));
+
+    labelsCache.getLabels(NUMBER, () -> loadLabels(0));
+    var labels = labelsCache.getLabels(NUMBER, () -> loadLabels(1));
+    Assertions.assertThat(labels).containsEntry("Verified", 0);
+    Assertions.assertThat(loads).hasValue(1);
+
+    labelsCache.update(NUMBER, Map.of("Verified", 1));
+    labels = labelsCache.getLabels(NUMBER, () -> loadLabels(-1));
+    Assertions.assertThat(labels).containsEntry("Verified", 1);
+    Assertions.assertThat(loads).hasValue(1);
+
+    labelsCache.invalidate(NUMBER);
+    labels = labelsCache.getLabels(NUMBER, () -> loadLabels(-1));
+    Assertions.assertThat(labels).containsEntry("Verified", -1);
+    Assertions.assertThat(loads).hasValue(2);
+    Assertions.assertThat(meterRegistry.get(ChangeLabelsCache.CACHE_REQUESTS_METRIC)
+        .tag("result", "hit").counter().count()).isEqualTo(2);
+  }
+
+  private ChangeLabelsCache createLabelsCache(Duration timeToLive) {
+    var gerritPropertiesConfig = new GerritPropertiesConfig();
+    gerritPropertiesConfig.getLabelsCache().setTimeToLive(timeToLive);
+    return new ChangeLabelsCache(gerritPropertiesConfig, meterRegistry);
+  }
+
+  private Map<String, Integer> loadLabels(int verified) {
+    loads.incrementAndGet();
+    return Map.of("Verified", verified);
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gerritintegration.service;
+
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.gerritintegration.exception.GerritChangeNotFoundException;
+import com.epam.digital.data.platform.management.gerritintegration.exception.GerritCommunicationException;
+import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+@DisplayName("GerritAsyncService")
+class GerritAsyncServiceTest {
+
+  GerritService gerritService = Mockito.mock(GerritService.class);
+  GerritPropertiesConfig gerritPropertiesConfig = new GerritPropertiesConfig();
+  SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  CountDownLatch gerritResponds = new CountDownLatch(1);
+  ExecutorService executor = Executors.newCachedThreadPool();
+  GerritAsyncServiceImpl gerritAsyncService;
+
+  @BeforeEach
+  void setUp() {
+    var asyncClient = gerritPropertiesConfig.getAsyncClient();
+    asyncClient.setMaxConcurrentCalls(1);
+    asyncClient.setMaxQueuedCalls(0);
+    asyncClient.setTimeout(Duration.ofMillis(100));
+    asyncClient.setFailureThreshold(2);
+    asyncClient.setOpenDuration(Duration.ofMinutes(1));
+    gerritAsyncService = new GerritAsyncServiceImpl(gerritService, gerritPropertiesConfig,
+        meterRegistry, executor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    gerritResponds.countDown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("should complete with Gerrit response")
+  void successTest() {
+    var changeInfo = new ChangeInfoDto();
+    Mockito.doReturn(changeInfo).when(gerritService).getMRByNumber("1");
+
+    Assertions.assertThat(gerritAsyncService.getMRByNumber("1").join()).isSameAs(changeInfo);
+    Assertions.assertThat(getCallsCount("success")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should fail with timeout and reject calls over the bulkhead limit")
+  void timeoutAndBulkheadTest() {
+    mockSlowGerrit();
+
+    var slowCall = gerritAsyncService.getMRByNumber("1");
+    var rejectedCall = gerritAsyncService.getMRByNumber("2");
+
+    Assertions.assertThatThrownBy(rejectedCall::join)
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(GerritCommunicationException.class)
+        .hasMessageContaining("Too many concurrent Gerrit calls");
+    Assertions.assertThatThrownBy(slowCall::join)
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(GerritCommunicationException.class);
+    Assertions.assertThat(getCallsCount("rejected")).isEqualTo(1);
+    Assertions.assertThat(getCallsCount("timeout")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should not call Gerrit while circuit is open")
+  void circuitOpenTest() {
+    Mockito.doThrow(new GerritCommunicationException("Gerrit is down"))
+        .when(gerritService).getMRByNumber("1");
+
+    for (var i = 0; i < 3; i++) {
+      Assertions.assertThatThrownBy(gerritAsyncService.getMRByNumber("1")::join)
+          .hasCauseInstanceOf(GerritCommunicationException.class);
+    }
+
+    Mockito.verify(gerritService, Mockito.times(2)).getMRByNumber("1");
+    Assertions.assertThat(getCallsCount("failure")).isEqualTo(2);
+    Assertions.assertThat(getCallsCount("short_circuited")).isEqualTo(1);
+    Assertions.assertThat(meterRegistry.get(GerritAsyncServiceImpl.CIRCUIT_OPEN_METRIC)
+        .gauge().value()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should not count not found change as failure")
+  void notFoundTest() {
+    Mockito.doThrow(new GerritChangeNotFoundException("Not found"))
+        .when(gerritService).getMRByNumber("1");
+
+    for (var i = 0; i < 3; i++) {
+      Assertions.assertThatThrownBy(gerritAsyncService.getMRByNumber("1")::join)
+          .hasCauseInstanceOf(GerritChangeNotFoundException.class);
+    }
+
+    Mockito.verify(gerritService, Mockito.times(3)).getMRByNumber("1");
+    Assertions.assertThat(getCallsCount("not_found")).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("should queue calls over the concurrency limit")
+  void queuedCallTest() {
+    gerritPropertiesConfig.getAsyncClient().setMaxQueuedCalls(1);
+    gerritPropertiesConfig.getAsyncClient().setTimeout(Duration.ofSeconds(5));
+    meterRegistry = new SimpleMeterRegistry();
+    gerritAsyncService = new GerritAsyncServiceImpl(gerritService, gerritPropertiesConfig,
+        meterRegistry, executor);
+    mockSlowGerrit();
+    var changeInfo = new ChangeInfoDto();
+    Mockito.doReturn(changeInfo).when(gerritService).getMRByNumber("2");
+
+    var slowCall = gerritAsyncService.getMRByNumber("1");
+    var queuedCall = gerritAsyncService.getMRByNumber("2");
+
+    Assertions.assertThat(queuedCall).isNotDone();
+    Assertions.assertThat(meterRegistry.get(GerritAsyncServiceImpl.QUEUED_CALLS_METRIC)
+        .gauge().value()).isEqualTo(1);
+    gerritResponds.countDown();
+    Assertions.assertThat(queuedCall.join()).isSameAs(changeInfo);
+    Assertions.assertThat(slowCall.join()).isNotNull();
+    Assertions.assertThat(getCallsCount("success")).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("should fail right away and free the slot if executor rejects the call")
+  void executorRejectedTest() {
+    gerritAsyncService = new GerritAsyncServiceImpl(gerritService, gerritPropertiesConfig,
+        meterRegistry, task -> {
+          throw new RejectedExecutionException("Executor is shut down");
+        });
+
+    for (var i = 0; i < 2; i++) {
+      var call = gerritAsyncService.getMRByNumber("1");
+
+      Assertions.assertThat(call).isCompletedExceptionally();
+      Assertions.assertThatThrownBy(call::join)
+          .hasCauseInstanceOf(GerritCommunicationException.class)
+          .hasMessageContaining("rejected by the executor");
+    }
+    Mockito.verifyNoInteractions(gerritService);
+    Assertions.assertThat(getCallsCount("rejected")).isEqualTo(2);
+  }
+
+  private void mockSlowGerrit() {
+    Mockito.doAnswer(invocation -> {
+      gerritResponds.await(1, TimeUnit.SECONDS);
+      return new ChangeInfoDto();
+    }).when(gerritService).getMRByNumber("1");
+  }
+
+  private double getCallsCount(String result) {
+    return meterRegistry.get(GerritAsyncServiceImpl.CALLS_METRIC)
+        .tag("operation", GerritAsyncServiceImpl.GET_MR_BY_NUMBER)
+        .tag("result", result)
+        .counter().count();
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gerritintegration.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoDto;
+import com.epam.digital.data.platform.management.gerritintegration.model.FileInfoDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+@DisplayName("GerritChangeCache")
+class GerritChangeCacheTest {
+
+  static final String NUMBER = "42";
+  static final String CHANGE_ID = "I0123456789abcdef";
+
+  SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  AtomicInteger loads = new AtomicInteger();
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  @DisplayName("should read change info from Gerrit every time if cache is disabled")
+  void disabledTest() {
+    var changeCache = createChangeCache(Duration.ZERO);
+
+    startRequest();
+    changeCache.getChangeByNumber(NUMBER, () -> loadChange("refs/changes/42/42/1"));
+    var change = changeCache.getChangeByNumber(NUMBER, () -> loadChange("refs/changes/42/42/2"));
+
+    Assertions.assertThat(change.getRefs()).isEqualTo("refs/changes/42/42/2");
+    Assertions.assertThat(loads).hasValue(2);
+    Assertions.assertThat(meterRegistry.get(GerritChangeCache.CACHE_REQUESTS_METRIC)
+        .tag("result", "hit").counter().count()).isZero();
+  }
+
+  @Test
+  @DisplayName("should reuse change info within request even if it has expired")
+  void memoizeWithinRequestTest() {
+    var changeCache = createChangeCache(Duration.ofNanos(1));
+
+    startRequest();
+    changeCache.getChangeByNumber(NUMBER, () -> loadChange("refs/changes/42/42/1"));
+    var change = changeCache.getChangeByNumber(NUMBER, () -> loadChange("refs/changes/42/42/2"));
+
+    Assertions.assertThat(change.getRefs()).isEqualTo("refs/changes/42/42/1");
+    Assertions.assertThat(loads).hasValue(1);
+
+    startRequest();
+    change = changeCache.getChangeByNumber(NUMBER, () -> loadChange("refs/changes/42/42/2"));
+
+    Assertions.assertThat(change.getRefs()).isEqualTo("refs/changes/42/42/2");
+    Assertions.assertThat(loads).hasValue(2);
+    Assertions.assertThat(meterRegistry.get(GerritChangeCache.CACHE_REQUESTS_METRIC)
+        .tag("result", "hit").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should share change info between requests until it's invalidated by any alias")
+  void shareBetweenRequestsTest() {
+    var changeCache = createChangeCache(Duration.ofMinutes(1));
+
+    changeCache.getChangeByNumber(NUMBER, () -> loadChange("refs/changes/42/42/1"));
+    changeCache.getChangeById(CHANGE_ID, () -> loadChange("refs/changes/42/42/1"));
+    changeCache.getChangeByNumber(NUMBER, () -> loadChange("refs/changes/42/42/1"));
+    changeCache.getChangeById(CHANGE_ID, () -> loadChange("refs/changes/42/42/1"));
+
+    Assertions.assertThat(loads).hasValue(2);
+
+    changeCache.invalidate(CHANGE_ID);
+    var change = changeCache.getChangeByNumber(NUMBER, () -> loadChange("refs/changes/42/42/2"));
+
+    Assertions.assertThat(change.getRefs()).isEqualTo("refs/changes/42/42/2");
+    Assertions.assertThat(loads).hasValue(3);
+  }
+
+  @Test
+  @DisplayName("should drop memoized change info of current request on invalidation")
+  void invalidateMemoTest() {
+    var changeCache = createChangeCache(Duration.ofNanos(1));
+
+    startRequest();
+    changeCache.getChangeById(CHANGE_ID, () -> loadChange("refs/changes/42/42/1"));
+    changeCache.invalidate(NUMBER);
+    var change = changeCache.getChangeById(CHANGE_ID, () -> loadChange("refs/changes/42/42/2"));
+
+    Assertions.assertThat(change.getRefs()).isEqualTo("refs/changes/42/42/2");
+    Assertions.assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("should not share changes of cached change info and files between callers")
+  void defensiveCopyTest() {
+    var changeCache = createChangeCache(Duration.ofMinutes(1));
+    var loadedChange = loadChange("refs/changes/42/42/1");
+    loadedChange.setLabels(new HashMap<>(Map.of("Verified", 0)));
+    var loadedFile = new FileInfoDto();
+    loadedFile.setStatus("A");
+
+    changeCache.getChangeByNumber(NUMBER, () -> loadedChange);
+    changeCache.getFiles(NUMBER, () -> new HashMap<>(Map.of("forms/form.json", loadedFile)));
+    loadedChange.getLabels().put("Verified", -1);
+    loadedFile.setStatus("D");
+    var change = changeCache.getChangeByNumber(NUMBER, () -> loadChange("refs/changes/42/42/2"));
+    change.setRefs("refs/changes/42/42/3");
+    change.getLabels().put("Verified", 1);
+    var files = changeCache.getFiles(NUMBER, Map::of);
+    files.get("forms/form.json").setStatus("M");
+
+    var cachedChange = changeCache.getChangeByNumber(NUMBER,
+        () -> loadChange("refs/changes/42/42/2"));
+    Assertions.assertThat(cachedChange.getRefs()).isEqualTo("refs/changes/42/42/1");
+    Assertions.assertThat(cachedChange.getLabels()).containsEntry("Verified", 0);
+    Assertions.assertThat(changeCache.getFiles(NUMBER, Map::of).get("forms/form.json").getStatus())
+        .isEqualTo("A");
+  }
+
+  @Test
+  @DisplayName("should cache files by revision of cached change info")
+  void getFilesTest() {
+    var changeCache = createChangeCache(Duration.ofMinutes(1));
+    Map<String, FileInfoDto> files = Map.of("forms/form.json", new FileInfoDto());
+
+    changeCache.getFiles(CHANGE_ID, () -> loadFiles(files));
+    Assertions.assertThat(loads).hasValue(1);
+
+    changeCache.getChangeByNumber(NUMBER, () -> loadChange("refs/changes/42/42/1"));
+    changeCache.getFiles(CHANGE_ID, () -> loadFiles(files));
+    var cachedFiles = changeCache.getFiles(CHANGE_ID, () -> loadFiles(Map.of()));
+
+    Assertions.assertThat(cachedFiles).containsOnlyKeys("forms/form.json");
+    Assertions.assertThat(loads).hasValue(3);
+
+    changeCache.invalidate(NUMBER);
+    changeCache.getChangeByNumber(NUMBER, () -> loadChange("refs/changes/42/42/2"));
+    var newRevisionFiles = changeCache.getFiles(CHANGE_ID, () -> loadFiles(Map.of()));
+
+    Assertions.assertThat(newRevisionFiles).isEmpty();
+    Assertions.assertThat(loads).hasValue(5);
+  }
+
+  private GerritChangeCache createChangeCache(Duration timeToLive) {
+    var gerritPropertiesConfig = new GerritPropertiesConfig();
+    gerritPropertiesConfig.getChangeCache().setTimeToLive(timeToLive);
+    return new GerritChangeCache(gerritPropertiesConfig, meterRegistry);
+  }
+
+  private ChangeInfoDto loadChange(String refs) {
+    loads.incrementAndGet();
+    var change = new ChangeInfoDto();
+    change.setNumber(NUMBER);
+    change.setChangeId(CHANGE_ID);
+    change.setRefs(refs);
+    return change;
+  }
+
+  private Map<String, FileInfoDto> loadFiles(Map<String, FileInfoDto> files) {
+    loads.incrementAndGet();
+    return files;
+  }
+
+  private void startRequest() {
+    var attributes = new HashMap<String, Object>();
+    var requestAttributes = Mockito.mock(RequestAttributes.class);
+    Mockito.when(requestAttributes.getAttribute(anyString(), eq(RequestAttributes.SCOPE_REQUEST)))
+        .thenAnswer(invocation -> attributes.get(invocation.<String>getArgument(0)));
+    Mockito.doAnswer(invocation -> attributes.put(invocation.getArgument(0),
+            invocation.getArgument(1)))
+        .when(requestAttributes)
+        .setAttribute(anyString(), any(), eq(RequestAttributes.SCOPE_REQUEST));
+    RequestContextHolder.setRequestAttributes(requestAttributes);
+  }
+}
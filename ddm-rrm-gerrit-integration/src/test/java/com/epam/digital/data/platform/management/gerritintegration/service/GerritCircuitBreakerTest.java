@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gerritintegration.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("GerritCircuitBreaker")
+class GerritCircuitBreakerTest {
+
+  AtomicLong clock = new AtomicLong(1_000);
+  GerritCircuitBreaker circuitBreaker = new GerritCircuitBreaker(3, Duration.ofSeconds(10),
+      Duration.ofSeconds(30), clock::get);
+
+  @Test
+  @DisplayName("should open after threshold failures and close after open duration")
+  void openAndCloseTest() {
+    for (var i = 0; i < 3; i++) {
+      Assertions.assertThat(circuitBreaker.isCallPermitted()).isTrue();
+      circuitBreaker.onFailure();
+    }
+
+    Assertions.assertThat(circuitBreaker.isOpen()).isTrue();
+    Assertions.assertThat(circuitBreaker.isCallPermitted()).isFalse();
+
+    clock.addAndGet(Duration.ofSeconds(30).toMillis());
+
+    Assertions.assertThat(circuitBreaker.isCallPermitted()).isTrue();
+    Assertions.assertThat(circuitBreaker.isOpen()).isFalse();
+    circuitBreaker.onFailure();
+    Assertions.assertThat(circuitBreaker.isCallPermitted()).isTrue();
+  }
+
+  @Test
+  @DisplayName("should count only failures within the failure window")
+  void failureWindowTest() {
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+    clock.addAndGet(Duration.ofSeconds(11).toMillis());
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+
+    Assertions.assertThat(circuitBreaker.isCallPermitted()).isTrue();
+  }
+
+  @Test
+  @DisplayName("should count failures anew after a successful call")
+  void successTest() {
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+    circuitBreaker.onSuccess();
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+
+    Assertions.assertThat(circuitBreaker.isCallPermitted()).isTrue();
+  }
+
+  @Test
+  @DisplayName("should let through only calls that started before the circuit opened")
+  @SneakyThrows
+  void concurrentCallersTest() {
+    var callers = 16;
+    var executor = Executors.newFixedThreadPool(callers);
+    var start = new CountDownLatch(1);
+    var failedCalls = new AtomicInteger();
+    var futures = new ArrayList<Future<?>>();
+    try {
+      for (var i = 0; i < callers; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (var call = 0; call < 1_000; call++) {
+            if (circuitBreaker.isCallPermitted()) {
+              failedCalls.incrementAndGet();
+              circuitBreaker.onFailure();
+            }
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (var future : futures) {
+        future.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Assertions.assertThat(circuitBreaker.isOpen()).isTrue();
+    Assertions.assertThat(circuitBreaker.isCallPermitted()).isFalse();
+    // each caller may have passed the check before the circuit opened or have its failure left
+    // out of the count when the failure window started
+    Assertions.assertThat(failedCalls.get()).isBetween(3, 3 + 2 * callers);
+  }
+}
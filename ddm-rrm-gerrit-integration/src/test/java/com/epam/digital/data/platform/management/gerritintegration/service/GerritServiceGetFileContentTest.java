@@ -15,24 +15,46 @@
  */
 package com.epam.digital.data.platform.management.gerritintegration.service;
 
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
 import com.epam.digital.data.platform.management.gerritintegration.exception.GerritChangeNotFoundException;
 import com.epam.digital.data.platform.management.gerritintegration.exception.GerritCommunicationException;
 import com.google.gerrit.extensions.api.changes.ChangeApi;
 import com.google.gerrit.extensions.restapi.RestApiException;
 import com.google.gson.JsonElement;
 import com.urswolfer.gerrit.client.rest.http.HttpStatusException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.SneakyThrows;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.internal.bytebuddy.utility.RandomString;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.http.HttpStatus;
 
 @ExtendWith(SpringExtension.class)
 public class GerritServiceGetFileContentTest extends AbstractGerritServiceTest{
 
+  ExecutorService fileContentExecutor = Executors.newCachedThreadPool();
+
+  @BeforeEach
+  void setUpExecutor() {
+    ReflectionTestUtils.setField(gerritService, "fileContentExecutor", fileContentExecutor);
+  }
+
+  @AfterEach
+  void tearDownExecutor() {
+    fileContentExecutor.shutdownNow();
+  }
+
   @Test
   @SneakyThrows
   void getFileContentTest() {
@@ -107,4 +129,102 @@ public class GerritServiceGetFileContentTest extends AbstractGerritServiceTest{
     Assertions.assertThatCode(() -> gerritService.getFileContent(changeId, filePath))
         .isInstanceOf(GerritCommunicationException.class);
   }
+
+  @Test
+  @SneakyThrows
+  void getFilesContentTest() {
+    var changeId = RandomString.make();
+    changeInfo.currentRevision = RandomString.make();
+    var fileContent = new GerritPropertiesConfig.FileContent();
+    fileContent.setParallelism(2);
+    Mockito.when(gerritPropertiesConfig.getFileContent()).thenReturn(fileContent);
+
+    var changeApi = Mockito.mock(ChangeApi.class);
+    Mockito.when(changes.id(changeId)).thenReturn(changeApi);
+    Mockito.when(changeApi.get()).thenReturn(changeInfo);
+    Mockito.when(gerritApiImpl.restClient()).thenReturn(gerritRestClient);
+    mockFileContent(changeId, "forms/form.json", "form content");
+    mockFileContent(changeId, "bpmn/process.bpmn", "process content");
+    Mockito.when(gerritRestClient.getRequest(
+            String.format("/changes/%s/revisions/%s/files/%s/content", changeId,
+                changeInfo.currentRevision, "forms%2Fdeleted.json")))
+        .thenThrow(new HttpStatusException(HttpStatus.NOT_FOUND.value(), "", ""));
+
+    var filesContent = gerritService.getFilesContent(changeId,
+        List.of("forms/form.json", "bpmn/process.bpmn", "forms/deleted.json"));
+
+    Assertions.assertThat(filesContent).isEqualTo(Map.of(
+        "forms/form.json", "form content",
+        "bpmn/process.bpmn", "process content"));
+    Mockito.verify(changeApi).get();
+  }
+
+  @Test
+  @SneakyThrows
+  void getFilesContentNoFreeThreadTest() {
+    var changeId = RandomString.make();
+    changeInfo.currentRevision = RandomString.make();
+    var fileContent = new GerritPropertiesConfig.FileContent();
+    fileContent.setParallelism(2);
+    Mockito.when(gerritPropertiesConfig.getFileContent()).thenReturn(fileContent);
+    ReflectionTestUtils.setField(gerritService, "fileContentExecutor", (Executor) task -> {
+      throw new RejectedExecutionException();
+    });
+
+    var changeApi = Mockito.mock(ChangeApi.class);
+    Mockito.when(changes.id(changeId)).thenReturn(changeApi);
+    Mockito.when(changeApi.get()).thenReturn(changeInfo);
+    Mockito.when(gerritApiImpl.restClient()).thenReturn(gerritRestClient);
+    mockFileContent(changeId, "forms/form.json", "form content");
+    mockFileContent(changeId, "bpmn/process.bpmn", "process content");
+
+    var filesContent = gerritService.getFilesContent(changeId,
+        List.of("forms/form.json", "bpmn/process.bpmn"));
+
+    Assertions.assertThat(filesContent).isEqualTo(Map.of(
+        "forms/form.json", "form content",
+        "bpmn/process.bpmn", "process content"));
+  }
+
+  @Test
+  @SneakyThrows
+  void getFilesContentNotFoundExceptionTest() {
+    var changeId = RandomString.make();
+    Mockito.when(changes.id(changeId)).thenThrow(
+        new HttpStatusException(HttpStatus.NOT_FOUND.value(), "", ""));
+
+    Assertions.assertThatCode(
+            () -> gerritService.getFilesContent(changeId, List.of("forms/form.json")))
+        .isInstanceOf(GerritChangeNotFoundException.class);
+  }
+
+  @Test
+  @SneakyThrows
+  void getFilesContentRestApiExceptionTest() {
+    var changeId = RandomString.make();
+    changeInfo.currentRevision = RandomString.make();
+    var fileContent = new GerritPropertiesConfig.FileContent();
+    fileContent.setParallelism(2);
+    Mockito.when(gerritPropertiesConfig.getFileContent()).thenReturn(fileContent);
+
+    var changeApi = Mockito.mock(ChangeApi.class);
+    Mockito.when(changes.id(changeId)).thenReturn(changeApi);
+    Mockito.when(changeApi.get()).thenReturn(changeInfo);
+    Mockito.when(gerritApiImpl.restClient()).thenReturn(gerritRestClient);
+    Mockito.when(gerritRestClient.getRequest(Mockito.anyString()))
+        .thenThrow(RestApiException.class);
+
+    Assertions.assertThatCode(() -> gerritService.getFilesContent(changeId,
+            List.of("forms/form.json", "bpmn/process.bpmn")))
+        .isInstanceOf(GerritCommunicationException.class);
+  }
+
+  @SneakyThrows
+  private void mockFileContent(String changeId, String filePath, String content) {
+    var jsonElement = Mockito.mock(JsonElement.class);
+    Mockito.when(jsonElement.getAsString()).thenReturn(content);
+    Mockito.when(gerritRestClient.getRequest(
+        String.format("/changes/%s/revisions/%s/files/%s/content", changeId,
+            changeInfo.currentRevision, filePath.replace("/", "%2F")))).thenReturn(jsonElement);
+  }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gerritintegration.service;
+
+import com.epam.digital.data.platform.management.gerritintegration.exception.GerritChangeNotFoundException;
+import com.epam.digital.data.platform.management.gerritintegration.exception.GerritCommunicationException;
+import com.google.gerrit.extensions.api.projects.BranchInfo;
+import com.google.gerrit.extensions.restapi.RestApiException;
+import com.urswolfer.gerrit.client.rest.http.HttpStatusException;
+import com.urswolfer.gerrit.client.rest.http.projects.BranchApiRestClient;
+import com.urswolfer.gerrit.client.rest.http.projects.ProjectApiRestClient;
+import com.urswolfer.gerrit.client.rest.http.projects.ProjectsRestClient;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.internal.bytebuddy.utility.RandomString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+public class GerritServiceHeadBranchTest extends AbstractGerritServiceTest {
+
+  @Mock
+  ProjectsRestClient projects;
+  @Mock
+  ProjectApiRestClient projectApi;
+  @Mock
+  BranchApiRestClient branchApi;
+
+  @BeforeEach
+  @SneakyThrows
+  void mockBranch() {
+    var repo = RandomString.make();
+    var headBranch = RandomString.make();
+    Mockito.when(gerritPropertiesConfig.getRepository()).thenReturn(repo);
+    Mockito.when(gerritPropertiesConfig.getHeadBranch()).thenReturn(headBranch);
+    Mockito.when(gerritApiImpl.projects()).thenReturn(projects);
+    Mockito.when(projects.name(repo)).thenReturn(projectApi);
+    Mockito.when(projectApi.branch(headBranch)).thenReturn(branchApi);
+  }
+
+  @Test
+  @SneakyThrows
+  void getHeadBranchRevisionTest() {
+    var branchInfo = new BranchInfo();
+    branchInfo.revision = RandomString.make();
+    Mockito.when(branchApi.get()).thenReturn(branchInfo);
+
+    Assertions.assertThat(gerritService.getHeadBranchRevision()).isEqualTo(branchInfo.revision);
+  }
+
+  @Test
+  @SneakyThrows
+  void getHeadBranchRevisionNotFoundTest() {
+    Mockito.when(branchApi.get()).thenThrow(
+        new HttpStatusException(HttpStatus.NOT_FOUND.value(), "", ""));
+
+    Assertions.assertThatCode(() -> gerritService.getHeadBranchRevision())
+        .isInstanceOf(GerritChangeNotFoundException.class);
+  }
+
+  @Test
+  @SneakyThrows
+  void getHeadBranchRevisionRestApiExceptionTest() {
+    Mockito.when(branchApi.get()).thenThrow(RestApiException.class);
+
+    Assertions.assertThatCode(() -> gerritService.getHeadBranchRevision())
+        .isInstanceOf(GerritCommunicationException.class);
+  }
+}
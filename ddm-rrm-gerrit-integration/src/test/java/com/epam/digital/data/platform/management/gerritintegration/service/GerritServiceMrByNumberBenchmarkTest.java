@@ -0,0 +1,183 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gerritintegration.service;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig.ChangeLookupMode;
+import com.epam.digital.data.platform.management.gerritintegration.mapper.GerritMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.urswolfer.gerrit.client.rest.GerritApiImpl;
+import com.urswolfer.gerrit.client.rest.GerritAuthData;
+import com.urswolfer.gerrit.client.rest.GerritRestApiFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Compares change lookup modes against WireMock Gerrit stand-in that answers every request with
+ * fixed latency, so the number of round trips of a lookup defines its duration. Only round trips
+ * are asserted, measured durations are logged for information as they depend on the build machine
+ */
+@Slf4j
+@DisplayName("GerritService#getMRByNumber round trips benchmark")
+class GerritServiceMrByNumberBenchmarkTest {
+
+  static final int LATENCY_MILLIS = 20;
+  static final int WARMUP_LOOKUPS = 5;
+  static final int MEASURED_LOOKUPS = 20;
+  static final String REPOSITORY = "repository";
+  static final String NUMBER = "42";
+  static final String CHANGE_ID = "I0123456789abcdef0123456789abcdef01234567";
+  static final String CURRENT_REVISION = "0123456789abcdef0123456789abcdef01234567";
+  static final String CHANGES_URL_REGEX = "/a/changes/.*";
+
+  WireMockServer gerritMockServer;
+  GerritPropertiesConfig gerritPropertiesConfig;
+  GerritServiceImpl gerritService;
+
+  @BeforeEach
+  @SneakyThrows
+  void setUp() {
+    gerritMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+    gerritMockServer.start();
+    stubGerrit();
+
+    gerritPropertiesConfig = new GerritPropertiesConfig();
+    gerritPropertiesConfig.setUrl(gerritMockServer.baseUrl());
+    gerritPropertiesConfig.setUser("user");
+    gerritPropertiesConfig.setPassword("pass");
+    gerritPropertiesConfig.setRepository(REPOSITORY);
+
+    var gerritApi = (GerritApiImpl) new GerritRestApiFactory().create(
+        new GerritAuthData.Basic(gerritPropertiesConfig.getUrl(), gerritPropertiesConfig.getUser(),
+            gerritPropertiesConfig.getPassword()));
+    gerritService = new GerritServiceImpl();
+    ReflectionTestUtils.setField(gerritService, "gerritPropertiesConfig", gerritPropertiesConfig);
+    ReflectionTestUtils.setField(gerritService, "gerritMapper",
+        Mappers.getMapper(GerritMapper.class));
+    ReflectionTestUtils.setField(gerritService, "gerritApi", gerritApi);
+    ReflectionTestUtils.setField(gerritService, "changeCache",
+        new GerritChangeCache(gerritPropertiesConfig, new SimpleMeterRegistry()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    gerritMockServer.stop();
+  }
+
+  @Test
+  @DisplayName("single query lookup should need one round trip instead of three")
+  void lookupRoundTripsTest() {
+    var separateRequests = measure(ChangeLookupMode.SEPARATE_REQUESTS);
+    var singleQuery = measure(ChangeLookupMode.SINGLE_QUERY);
+
+    log.info("Change lookup by number, {} ms latency: separate requests - {} round trips "
+            + "and {} ms per lookup, single query - {} round trips and {} ms per lookup",
+        LATENCY_MILLIS, separateRequests.roundTrips, separateRequests.millisPerLookup,
+        singleQuery.roundTrips, singleQuery.millisPerLookup);
+
+    Assertions.assertThat(separateRequests.roundTrips).isEqualTo(3);
+    Assertions.assertThat(singleQuery.roundTrips).isEqualTo(1);
+  }
+
+  private LookupMeasurement measure(ChangeLookupMode mode) {
+    gerritPropertiesConfig.setChangeLookupMode(mode);
+    for (int i = 0; i < WARMUP_LOOKUPS; i++) {
+      assertLookup();
+    }
+    gerritMockServer.resetRequests();
+
+    var start = System.nanoTime();
+    for (int i = 0; i < MEASURED_LOOKUPS; i++) {
+      assertLookup();
+    }
+    var elapsedMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+    var requests = gerritMockServer.findAll(getRequestedFor(urlMatching(CHANGES_URL_REGEX)));
+    return new LookupMeasurement((double) requests.size() / MEASURED_LOOKUPS,
+        elapsedMillis / MEASURED_LOOKUPS);
+  }
+
+  private void assertLookup() {
+    var changeInfoDto = gerritService.getMRByNumber(NUMBER);
+    Assertions.assertThat(changeInfoDto.getChangeId()).isEqualTo(CHANGE_ID);
+    Assertions.assertThat(changeInfoDto.getRefs()).isEqualTo("refs/changes/42/42/1");
+    Assertions.assertThat(changeInfoDto.getMergeable()).isTrue();
+  }
+
+  @SneakyThrows
+  private void stubGerrit() {
+    var objectMapper = new ObjectMapper();
+    var change = new HashMap<String, Object>(Map.of(
+        "id", REPOSITORY + "~master~" + CHANGE_ID,
+        "change_id", CHANGE_ID,
+        "_number", Integer.parseInt(NUMBER),
+        "owner", Map.of("username", "user"),
+        "current_revision", CURRENT_REVISION,
+        "revisions", Map.of(CURRENT_REVISION, Map.of("ref", "refs/changes/42/42/1"))));
+    var changeWithMergeable = new HashMap<>(change);
+    changeWithMergeable.put("mergeable", true);
+
+    gerritMockServer.stubFor(get("/login/").willReturn(aResponse().withStatus(200)));
+    gerritMockServer.stubFor(post("/login/").willReturn(aResponse().withStatus(200)));
+    gerritMockServer.stubFor(get("/a/config/server/version")
+        .willReturn(aResponse().withStatus(200).withBody("3.3.2")));
+    gerritMockServer.stubFor(get(urlMatching(
+            Pattern.quote(String.format("/a/changes/?q=project:%s+%s", REPOSITORY, NUMBER))
+                + "(&o=[A-Z_]+)*"))
+        .willReturn(aResponse().withStatus(200).withFixedDelay(LATENCY_MILLIS)
+            .withBody(objectMapper.writeValueAsString(List.of(changeWithMergeable)))));
+    gerritMockServer.stubFor(get(urlPathEqualTo("/a/changes/" + CHANGE_ID))
+        .willReturn(aResponse().withStatus(200).withFixedDelay(LATENCY_MILLIS)
+            .withBody(objectMapper.writeValueAsString(change))));
+    gerritMockServer.stubFor(
+        get(urlPathEqualTo("/a/changes/" + CHANGE_ID + "/revisions/current/mergeable"))
+            .willReturn(aResponse().withStatus(200).withFixedDelay(LATENCY_MILLIS)
+                .withBody("{\"mergeable\":true}")));
+  }
+
+  private static class LookupMeasurement {
+
+    private final double roundTrips;
+    private final double millisPerLookup;
+
+    private LookupMeasurement(double roundTrips, double millisPerLookup) {
+      this.roundTrips = roundTrips;
+      this.millisPerLookup = millisPerLookup;
+    }
+  }
+}
@@ -17,17 +17,21 @@ package com.epam.digital.data.platform.management.gerritintegration.service;
 
 import static org.mockito.ArgumentMatchers.eq;
 
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig.ChangeLookupMode;
 import com.epam.digital.data.platform.management.gerritintegration.exception.GerritChangeNotFoundException;
 import com.epam.digital.data.platform.management.gerritintegration.exception.GerritCommunicationException;
 import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoDto;
 import com.google.gerrit.extensions.api.changes.ChangeApi;
+import com.google.gerrit.extensions.client.ListChangesOption;
 import com.google.gerrit.extensions.common.ChangeInfo;
 import com.google.gerrit.extensions.common.MergeableInfo;
 import com.google.gerrit.extensions.common.RevisionInfo;
 import com.google.gerrit.extensions.restapi.RestApiException;
 import com.urswolfer.gerrit.client.rest.http.HttpStatusException;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 import lombok.SneakyThrows;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.internal.bytebuddy.utility.RandomString;
@@ -91,6 +95,91 @@ public class GerritServiceMrByNumberTest extends AbstractGerritServiceTest {
     Assertions.assertThat(result.getNumber()).isEqualTo(String.valueOf(info._number));
   }
 
+  @Test
+  @SneakyThrows
+  void getMRByNumberSingleQueryTest() {
+    var versionNumber = "10";
+    var testVersion = "project:+" + versionNumber;
+    var refs = RandomString.make();
+    var info = new ChangeInfo();
+    info._number = 10;
+    info.mergeable = false;
+    info.changeId = RandomString.make();
+    info.currentRevision = RandomString.make();
+    var revisionInfo = new RevisionInfo();
+    revisionInfo.ref = refs;
+    info.revisions = new HashMap<>();
+    info.revisions.put(info.currentRevision, revisionInfo);
+
+    Mockito.when(gerritPropertiesConfig.getRepository()).thenReturn("");
+    Mockito.when(gerritPropertiesConfig.getChangeLookupMode())
+        .thenReturn(ChangeLookupMode.SINGLE_QUERY);
+    Mockito.when(changes.query(eq(testVersion))).thenReturn(request);
+    Mockito.when(request.withOptions(Mockito.<EnumSet<ListChangesOption>>any()))
+        .thenReturn(request);
+    Mockito.when(request.get()).thenReturn(List.of(info));
+
+    ChangeInfoDto result = gerritService.getMRByNumber(versionNumber);
+
+    Assertions.assertThat(result.getMergeable()).isFalse();
+    Assertions.assertThat(result.getRefs()).isEqualTo(refs);
+    Assertions.assertThat(result.getNumber()).isEqualTo(String.valueOf(info._number));
+    Mockito.verify(request).withOptions(EnumSet.of(ListChangesOption.CURRENT_REVISION,
+        ListChangesOption.DETAILED_ACCOUNTS, ListChangesOption.LABELS,
+        ListChangesOption.MESSAGES));
+    Mockito.verify(changes, Mockito.never()).id(Mockito.anyString());
+  }
+
+  @Test
+  @SneakyThrows
+  void getMRByNumberSingleQueryTest_noMergeableInQueryResult() {
+    var versionNumber = "10";
+    var testVersion = "project:+" + versionNumber;
+    var info = new ChangeInfo();
+    info._number = 10;
+    info.changeId = RandomString.make();
+    info.currentRevision = RandomString.make();
+    info.revisions = new HashMap<>();
+    info.revisions.put(info.currentRevision, new RevisionInfo());
+
+    Mockito.when(gerritPropertiesConfig.getRepository()).thenReturn("");
+    Mockito.when(gerritPropertiesConfig.getChangeLookupMode())
+        .thenReturn(ChangeLookupMode.SINGLE_QUERY);
+    Mockito.when(changes.query(eq(testVersion))).thenReturn(request);
+    Mockito.when(request.withOptions(Mockito.<EnumSet<ListChangesOption>>any()))
+        .thenReturn(request);
+    Mockito.when(request.get()).thenReturn(List.of(info));
+    ChangeApi changeApi = Mockito.mock(ChangeApi.class);
+    MergeableInfo mergeableInfo = new MergeableInfo();
+    mergeableInfo.mergeable = true;
+    Mockito.when(changes.id(info.changeId)).thenReturn(changeApi);
+    Mockito.when(changeApi.current()).thenReturn(revisionApi);
+    Mockito.when(revisionApi.mergeable()).thenReturn(mergeableInfo);
+
+    ChangeInfoDto result = gerritService.getMRByNumber(versionNumber);
+
+    Assertions.assertThat(result.getMergeable()).isTrue();
+    Mockito.verify(changeApi, Mockito.never()).get();
+  }
+
+  @Test
+  @SneakyThrows
+  void getMRByNumberSingleQueryTest_notFound() {
+    var versionNumber = "10";
+    var testVersion = "project:+" + versionNumber;
+
+    Mockito.when(gerritPropertiesConfig.getRepository()).thenReturn("");
+    Mockito.when(gerritPropertiesConfig.getChangeLookupMode())
+        .thenReturn(ChangeLookupMode.SINGLE_QUERY);
+    Mockito.when(changes.query(eq(testVersion))).thenReturn(request);
+    Mockito.when(request.withOptions(Mockito.<EnumSet<ListChangesOption>>any()))
+        .thenReturn(request);
+    Mockito.when(request.get()).thenReturn(new ArrayList<>());
+
+    Assertions.assertThatCode(() -> gerritService.getMRByNumber(versionNumber))
+        .isInstanceOf(GerritChangeNotFoundException.class);
+  }
+
   @Test
   @SneakyThrows
   void mrByNumberNotFoundTest() {
@@ -19,10 +19,14 @@ package com.epam.digital.data.platform.management.gerritintegration.service;
 import com.epam.digital.data.platform.management.gerritintegration.exception.GerritChangeNotFoundException;
 import com.epam.digital.data.platform.management.gerritintegration.exception.GerritCommunicationException;
 import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoDto;
+import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoShortDto;
+import com.google.gerrit.extensions.common.ChangeInfo;
 import com.google.gerrit.extensions.common.MergeableInfo;
 import com.google.gerrit.extensions.restapi.RestApiException;
 import com.urswolfer.gerrit.client.rest.http.HttpStatusException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import lombok.SneakyThrows;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.internal.bytebuddy.utility.RandomString;
@@ -129,4 +133,67 @@ public class GerritServiceMrListTest extends AbstractGerritServiceTest {
         .isInstanceOf(GerritCommunicationException.class);
   }
 
+  @Test
+  @SneakyThrows
+  void getMrListAllPagesTest() {
+    var repo = RandomString.make();
+    var user = RandomString.make();
+    String query = String.format("project:%s+status:open+owner:%s", repo, user);
+    changeInfo._moreChanges = true;
+    var nextChangeInfo = new ChangeInfo();
+    nextChangeInfo._number = 6;
+
+    Mockito.when(gerritPropertiesConfig.getRepository()).thenReturn(repo);
+    Mockito.when(gerritPropertiesConfig.getUser()).thenReturn(user);
+    Mockito.when(changes.query(query)).thenReturn(request);
+    Mockito.when(request.get()).thenReturn(changeInfos, List.of(nextChangeInfo));
+
+    var mrList = gerritService.getMRList();
+
+    Assertions.assertThat(mrList).extracting(ChangeInfoShortDto::getNumber)
+        .containsExactly("5", "6");
+    Mockito.verify(request).withStart(0);
+    Mockito.verify(request).withStart(1);
+    Mockito.verify(request, Mockito.times(2)).withLimit(500);
+  }
+
+  @Test
+  @SneakyThrows
+  void getMrPageTest() {
+    var repo = RandomString.make();
+    var user = RandomString.make();
+    String query = String.format(
+        "project:%s+status:open+owner:%s+after:%%222022-10-28%%2015:12:00%%22", repo, user);
+    changeInfo._moreChanges = true;
+
+    Mockito.when(gerritPropertiesConfig.getRepository()).thenReturn(repo);
+    Mockito.when(gerritPropertiesConfig.getUser()).thenReturn(user);
+    Mockito.when(changes.query(query)).thenReturn(request);
+    Mockito.when(request.get()).thenReturn(changeInfos);
+
+    var page = gerritService.getMRPage(20, 10, LocalDateTime.of(2022, 10, 28, 15, 12));
+
+    Assertions.assertThat(page.getChanges()).extracting(ChangeInfoShortDto::getNumber)
+        .containsExactly("5");
+    Assertions.assertThat(page.isMoreChanges()).isTrue();
+    Mockito.verify(request).withStart(20);
+    Mockito.verify(request).withLimit(10);
+  }
+
+  @Test
+  @SneakyThrows
+  void getMrPageNotFoundTest() {
+    var repo = RandomString.make();
+    var user = RandomString.make();
+    String query = String.format("project:%s+status:open+owner:%s", repo, user);
+
+    Mockito.when(gerritPropertiesConfig.getRepository()).thenReturn(repo);
+    Mockito.when(gerritPropertiesConfig.getUser()).thenReturn(user);
+    Mockito.when(changes.query(query)).thenReturn(request);
+    Mockito.when(request.get()).thenThrow(
+        new HttpStatusException(HttpStatus.NOT_FOUND.value(), "", ""));
+
+    Assertions.assertThatCode(() -> gerritService.getMRPage(0, 10, null))
+        .isInstanceOf(GerritChangeNotFoundException.class);
+  }
 }
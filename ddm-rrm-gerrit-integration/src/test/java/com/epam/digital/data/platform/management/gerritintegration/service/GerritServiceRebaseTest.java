@@ -22,6 +22,7 @@ import com.epam.digital.data.platform.management.gerritintegration.exception.Ger
 import com.google.gerrit.extensions.api.changes.RebaseInput;
 import com.google.gerrit.extensions.restapi.RestApiException;
 import com.google.gson.Gson;
+import com.google.gson.JsonObject;
 import com.urswolfer.gerrit.client.rest.http.HttpStatusException;
 import lombok.SneakyThrows;
 import org.assertj.core.api.Assertions;
@@ -42,12 +43,17 @@ public class GerritServiceRebaseTest extends AbstractGerritServiceTest {
     var request = String.format("/changes/%s/rebase", changeId);
     Mockito.when(gerritApiImpl.restClient()).thenReturn(gerritRestClient);
     var requestBody = new Gson().toJson(new RebaseInput(), RebaseInput.class);
-    Mockito.when(gerritRestClient.postRequest(request, requestBody)).thenReturn(null);
+    var rebasedChange = new JsonObject();
+    rebasedChange.addProperty("change_id", changeId);
+    rebasedChange.addProperty("_number", 5);
+    Mockito.when(gerritRestClient.postRequest(request, requestBody)).thenReturn(rebasedChange);
 
     Assertions.assertThatCode(() -> gerritService.rebase(changeId))
         .doesNotThrowAnyException();
 
     Mockito.verify(gerritRestClient).postRequest(request, requestBody);
+    Mockito.verify(changeCache).invalidate(changeId);
+    Mockito.verify(labelsCache).invalidate("5");
   }
 
   @Test
@@ -64,6 +70,7 @@ public class GerritServiceRebaseTest extends AbstractGerritServiceTest {
         .doesNotThrowAnyException();
 
     Mockito.verify(gerritRestClient).postRequest(request, requestBody);
+    Mockito.verifyNoInteractions(labelsCache);
   }
 
   @Test
@@ -42,6 +42,7 @@ public class GerritServiceSubmitTest extends AbstractGerritServiceTest {
         .doesNotThrowAnyException();
 
     Mockito.verify(revisionApi, Mockito.times(1)).submit();
+    Mockito.verify(changeCache).invalidate(changeId);
   }
 
   @Test
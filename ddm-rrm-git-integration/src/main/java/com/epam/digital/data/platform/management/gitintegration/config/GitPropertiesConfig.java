@@ -0,0 +1,174 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gitintegration.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tuning properties of the local git repositories handling
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "registry-regulation-management.git")
+public class GitPropertiesConfig {
+
+  private Locking locking = new Locking();
+  private Reading reading = new Reading();
+  private RepositoryCache repositoryCache = new RepositoryCache();
+  private DatesIndex datesIndex = new DatesIndex();
+  private DatesCache datesCache = new DatesCache();
+  private CandidateRepository candidateRepository = new CandidateRepository();
+  private Cloning cloning = new Cloning();
+  private Pushing pushing = new Pushing();
+
+  @Getter
+  @Setter
+  public static class Locking {
+
+    /**
+     * Defines how repository operations are synchronized. {@link LockingMode#READ_WRITE} lets
+     * read-only operations of the same repository run concurrently
+     */
+    private LockingMode mode = LockingMode.READ_WRITE;
+  }
+
+  @Getter
+  @Setter
+  public static class Reading {
+
+    /**
+     * Defines where file content is read from. {@link ReadingMode#OBJECT_DATABASE} reads blobs
+     * from the HEAD commit tree, so it doesn't depend on working tree state. Reading is still done
+     * under the repository read lock, so the repository isn't deleted while it's read
+     */
+    private ReadingMode mode = ReadingMode.WORKING_TREE;
+  }
+
+  @Getter
+  @Setter
+  public static class RepositoryCache {
+
+    /**
+     * Keeps opened repositories between git operations instead of opening them on every call
+     */
+    private boolean enabled = false;
+  }
+
+  @Getter
+  @Setter
+  public static class DatesIndex {
+
+    /**
+     * Builds created and updated dates of all repository files with a single history walk instead
+     * of walking file history for every requested file
+     */
+    private boolean enabled = false;
+
+    /**
+     * Stores indexed dates inside the git directory of the repository, so they aren't rebuilt
+     * after restart
+     */
+    private boolean persistent = false;
+  }
+
+  @Getter
+  @Setter
+  public static class DatesCache {
+
+    /**
+     * Maximum number of cached file dates of all versions. Least used versions are evicted when
+     * it's exceeded
+     */
+    private long maximumEntries = 100_000;
+
+    /**
+     * Period after the last access when dates of the version are evicted
+     */
+    private Duration expireAfterAccess = Duration.ofDays(1);
+  }
+
+  @Getter
+  @Setter
+  public static class CandidateRepository {
+
+    /**
+     * Defines how version candidate repositories are created.
+     * {@link CandidateRepositoryMode#SHARED_OBJECTS} reads objects of the head-branch repository
+     * through git alternates, so creating a candidate costs only a checkout. Candidates then
+     * depend on the head-branch object database: automatic gc and pruning are disabled in the
+     * head-branch repository, and it mustn't be pruned by external tools while candidates exist
+     */
+    private CandidateRepositoryMode mode = CandidateRepositoryMode.COPY;
+  }
+
+  @Getter
+  @Setter
+  public static class Cloning {
+
+    /**
+     * Clones only the head-branch instead of all remote branches
+     */
+    private boolean singleBranch = false;
+
+    /**
+     * Number of latest commits to clone, {@code 0} clones the whole history. History is deepened on
+     * demand when file dates or rollback need older commits
+     */
+    private int depth = 0;
+  }
+
+  @Getter
+  @Setter
+  public static class Pushing {
+
+    /**
+     * Defines when amended version candidate commits are pushed. {@link PushingMode#DEFERRED}
+     * commits locally right away and pushes all commits made within the window at once
+     */
+    private PushingMode mode = PushingMode.IMMEDIATE;
+
+    /**
+     * Period between the first not pushed commit of the version candidate and its push
+     */
+    private Duration window = Duration.ofSeconds(5);
+  }
+
+  public enum LockingMode {
+    EXCLUSIVE,
+    READ_WRITE
+  }
+
+  public enum CandidateRepositoryMode {
+    COPY,
+    SHARED_OBJECTS
+  }
+
+  public enum PushingMode {
+    IMMEDIATE,
+    DEFERRED
+  }
+
+  public enum ReadingMode {
+    WORKING_TREE,
+    OBJECT_DATABASE
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gitintegration.model;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Outcome of the last deferred push of the repository
+ */
+@Builder
+@Getter
+@ToString
+@EqualsAndHashCode
+public class PushStatusDto {
+  PushStatus status;
+  LocalDateTime updated;
+  String message;
+
+  public enum PushStatus {
+    PENDING,
+    PUSHED,
+    FAILED
+  }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gitintegration.service;
+
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig;
+import com.epam.digital.data.platform.management.gitintegration.exception.GitCommandException;
+import com.epam.digital.data.platform.management.gitintegration.model.CommitDatesDto;
+import com.epam.digital.data.platform.management.gitintegration.model.FileDatesDto;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.errors.MissingObjectException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.EmptyTreeIterator;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds created and updated dates of every file in repository with a single history walk and
+ * stores them to {@link DatesCacheService}.
+ * <p>
+ * The commit that the index was built on is remembered per repository, so after fetching new
+ * commits only commits that were added on top of it are walked. Dates of the HEAD parent are
+ * remembered as well, so after the version candidate commit is amended only the amended commit is
+ * walked on top of them. The index is rebuilt from scratch only if neither of those commits is an
+ * ancestor of the current HEAD.
+ * <p>
+ * If persistence is enabled, indexed dates are also saved with {@link CommitDatesStore} and loaded
+ * back on the first update after restart, so the history isn't walked again.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommitDatesIndexer {
+
+  private final DatesCacheService datesCacheService;
+  private final CommitDatesStore commitDatesStore;
+  private final GitPropertiesConfig gitPropertiesConfig;
+
+  private final ConcurrentMap<String, ObjectId> indexedCommits = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, CommitDatesDto> parentIndexes = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, ObjectId> uncachedCommits = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Object> indexMonitors = new ConcurrentHashMap<>();
+
+  /**
+   * Brings file dates of the repository up to date with its HEAD commit
+   *
+   * @param repositoryName name of the repository that is used as dates cache key
+   * @param repository     opened repository
+   * @throws GitCommandException in case of repository reading errors
+   */
+  public void updateIndex(@NonNull String repositoryName, @NonNull Repository repository) {
+    synchronized (indexMonitors.computeIfAbsent(repositoryName, name -> new Object())) {
+      try {
+        doUpdateIndex(repositoryName, repository);
+      } catch (IOException e) {
+        throw new GitCommandException(
+            String.format("Exception occurred during indexing commit dates of repository %s: %s",
+                repositoryName, e.getMessage()), e);
+      }
+    }
+  }
+
+  /**
+   * Forgets the commit that the repository index was built on, so the next
+   * {@link #updateIndex(String, Repository) update} rebuilds it from scratch
+   *
+   * @param repositoryName name of the repository
+   */
+  public void evict(@NonNull String repositoryName) {
+    indexedCommits.remove(repositoryName);
+    parentIndexes.remove(repositoryName);
+    uncachedCommits.remove(repositoryName);
+  }
+
+  private void doUpdateIndex(String repositoryName, Repository repository) throws IOException {
+    var headId = repository.resolve(Constants.HEAD);
+    if (Objects.isNull(headId)) {
+      return;
+    }
+    if (headId.equals(uncachedCommits.get(repositoryName))) {
+      // dates are too many to be cached, so indexing them again wouldn't help
+      return;
+    }
+    var isCached = datesCacheService.hasDatesCache(repositoryName);
+    if (isCached && headId.equals(indexedCommits.get(repositoryName))) {
+      return;
+    }
+    var indexed = getIndexedDates(repositoryName, repository, isCached);
+    if (Objects.nonNull(indexed) && headId.equals(indexed.getCommitId())) {
+      log.debug("Stored commit dates of repository {} are actual for commit {}", repositoryName,
+          headId.name());
+      cacheIndexedDates(repositoryName, headId, indexed.getDates());
+      return;
+    }
+
+    try (var revWalk = new RevWalk(repository)) {
+      var head = revWalk.parseCommit(headId);
+      var parent = head.getParentCount() > 0 ? revWalk.parseCommit(head.getParent(0)) : null;
+      var start = getStartIndex(revWalk, head, indexed, parentIndexes.get(repositoryName));
+
+      Map<String, FileDatesDto> dates;
+      RevCommit startCommit;
+      if (Objects.nonNull(start)) {
+        startCommit = revWalk.parseCommit(start.getCommitId());
+        log.debug("Indexing commit dates of repository {} from commit {}", repositoryName,
+            startCommit.name());
+        dates = new HashMap<>(start.getDates());
+      } else {
+        log.debug("Indexing commit dates of repository {} from scratch", repositoryName);
+        startCommit = null;
+        dates = new HashMap<>();
+      }
+
+      if (Objects.nonNull(parent)
+          && (Objects.isNull(startCommit) || isAncestor(revWalk, startCommit, parent))) {
+        // dates of the parent are kept, so the next amend of HEAD walks only the amended commit
+        indexCommits(revWalk, parent, startCommit, dates);
+        rememberParentIndex(repositoryName, parent, dates);
+        indexCommits(revWalk, head, parent, dates);
+      } else {
+        parentIndexes.remove(repositoryName);
+        indexCommits(revWalk, head, startCommit, dates);
+      }
+
+      cacheIndexedDates(repositoryName, headId, dates);
+      if (gitPropertiesConfig.getDatesIndex().isPersistent()) {
+        commitDatesStore.save(repository,
+            CommitDatesDto.builder().commitId(headId.copy()).dates(dates).build());
+      }
+      log.debug("Commit dates of repository {} indexed on commit {}", repositoryName,
+          headId.name());
+    }
+  }
+
+  private void cacheIndexedDates(String repositoryName, ObjectId headId,
+      Map<String, FileDatesDto> dates) {
+    indexedCommits.put(repositoryName, headId.copy());
+    if (datesCacheService.setDatesCache(repositoryName, dates)) {
+      uncachedCommits.remove(repositoryName);
+    } else {
+      uncachedCommits.put(repositoryName, headId.copy());
+    }
+  }
+
+  /**
+   * Returns the first of indexed dates which commit is an ancestor of HEAD
+   */
+  private CommitDatesDto getStartIndex(RevWalk revWalk, RevCommit head,
+      CommitDatesDto... candidates) throws IOException {
+    for (var candidate : candidates) {
+      if (Objects.nonNull(candidate) && Objects.nonNull(candidate.getCommitId())
+          && isAncestor(revWalk, candidate.getCommitId(), head)) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Keeps a copy of the parent dates unless it would take more than the whole dates cache
+   */
+  private void rememberParentIndex(String repositoryName, RevCommit parent,
+      Map<String, FileDatesDto> dates) {
+    if (dates.size() > gitPropertiesConfig.getDatesCache().getMaximumEntries()) {
+      parentIndexes.remove(repositoryName);
+      return;
+    }
+    parentIndexes.put(repositoryName,
+        CommitDatesDto.builder().commitId(parent.copy()).dates(new HashMap<>(dates)).build());
+  }
+
+  /**
+   * Returns dates indexed in memory if they are still cached, otherwise tries to load the dates
+   * stored to disk
+   */
+  private CommitDatesDto getIndexedDates(String repositoryName, Repository repository,
+      boolean isCached) {
+    var indexedId = indexedCommits.get(repositoryName);
+    if (Objects.nonNull(indexedId) && isCached) {
+      return CommitDatesDto.builder()
+          .commitId(indexedId)
+          .dates(datesCacheService.getDatesCache(repositoryName))
+          .build();
+    }
+    if (gitPropertiesConfig.getDatesIndex().isPersistent()) {
+      log.trace("Loading stored commit dates of repository {}", repositoryName);
+      return commitDatesStore.load(repository);
+    }
+    return null;
+  }
+
+  private boolean isAncestor(RevWalk revWalk, ObjectId commitId, RevCommit head)
+      throws IOException {
+    try {
+      var isAncestor = revWalk.isMergedInto(revWalk.parseCommit(commitId), head);
+      revWalk.reset();
+      return isAncestor;
+    } catch (MissingObjectException e) {
+      revWalk.reset();
+      return false;
+    }
+  }
+
+  /**
+   * Walks commits that are reachable from the tip but not from the indexed commit
+   */
+  private void indexCommits(RevWalk revWalk, RevCommit tip, RevCommit indexedCommit,
+      Map<String, FileDatesDto> dates) throws IOException {
+    revWalk.reset();
+    revWalk.markStart(tip);
+    if (Objects.nonNull(indexedCommit)) {
+      revWalk.markUninteresting(indexedCommit);
+    }
+    indexCommits(revWalk, dates);
+  }
+
+  /**
+   * Walks commits from the newest to the oldest. The first commit that touches a path defines its
+   * updated date, the last one defines its created date. Created date of paths that were indexed
+   * before is kept as is.
+   */
+  private void indexCommits(RevWalk revWalk, Map<String, FileDatesDto> dates) throws IOException {
+    Set<String> updatedPaths = new HashSet<>();
+    Set<String> newPaths = new HashSet<>();
+    for (var commit : revWalk) {
+      var commitTime = getCommitDateTime(commit);
+      for (var path : getChangedPaths(revWalk, commit)) {
+        if (updatedPaths.add(path)) {
+          var indexed = dates.get(path);
+          if (Objects.isNull(indexed)) {
+            newPaths.add(path);
+          }
+          var created = Objects.isNull(indexed) ? commitTime : indexed.getCreate();
+          dates.put(path, FileDatesDto.builder().create(created).update(commitTime).build());
+        } else if (newPaths.contains(path)) {
+          var indexed = dates.get(path);
+          dates.put(path,
+              FileDatesDto.builder().create(commitTime).update(indexed.getUpdate()).build());
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns paths that differ from every parent of the commit, so paths that were just merged from
+   * another parent aren't treated as changed by the merge commit
+   */
+  private List<String> getChangedPaths(RevWalk revWalk, RevCommit commit) throws IOException {
+    var paths = new ArrayList<String>();
+    try (var treeWalk = new TreeWalk(revWalk.getObjectReader())) {
+      treeWalk.setRecursive(true);
+      treeWalk.setFilter(TreeFilter.ANY_DIFF);
+      treeWalk.addTree(commit.getTree());
+      if (commit.getParentCount() == 0) {
+        treeWalk.addTree(new EmptyTreeIterator());
+      }
+      for (var parent : commit.getParents()) {
+        treeWalk.addTree(revWalk.parseCommit(parent).getTree());
+      }
+      while (treeWalk.next()) {
+        if (differsFromAllParents(treeWalk)) {
+          paths.add(treeWalk.getPathString());
+        }
+      }
+    }
+    return paths;
+  }
+
+  private static boolean differsFromAllParents(TreeWalk treeWalk) {
+    for (var i = 1; i < treeWalk.getTreeCount(); i++) {
+      if (treeWalk.idEqual(0, i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static LocalDateTime getCommitDateTime(RevCommit commit) {
+    return LocalDateTime.ofEpochSecond(commit.getCommitTime(), 0, ZoneOffset.UTC);
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gitintegration.service;
+
+import com.epam.digital.data.platform.management.gitintegration.model.CommitDatesDto;
+import com.epam.digital.data.platform.management.gitintegration.model.FileDatesDto;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Persists indexed file dates to a compact binary file inside the git directory of the
+ * repository, so the index survives application restarts and is deleted together with the
+ * repository.
+ * <p>
+ * The stored dates are keyed by the commit they were built on, so the caller decides whether they
+ * are still actual by comparing that commit with the repository HEAD. Store failures are never
+ * propagated, the index is just rebuilt from the history in that case.
+ */
+@Slf4j
+@Component
+public class CommitDatesStore {
+
+  static final String DATES_FILE_NAME = "rrm-file-dates";
+  private static final int FORMAT_VERSION = 1;
+
+  /**
+   * Read the dates that were stored for the repository
+   *
+   * @param repository opened repository
+   * @return stored dates or {@code null} if there are no stored dates or they couldn't be read
+   */
+  @Nullable
+  public CommitDatesDto load(@NonNull Repository repository) {
+    var file = getDatesFile(repository);
+    if (!file.exists()) {
+      return null;
+    }
+    try (var input = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+      if (input.readInt() != FORMAT_VERSION) {
+        log.debug("Stored file dates {} have unsupported format", file);
+        return null;
+      }
+      var commitIdBytes = new byte[Constants.OBJECT_ID_LENGTH];
+      input.readFully(commitIdBytes);
+      var size = input.readInt();
+      var dates = new HashMap<String, FileDatesDto>(size * 4 / 3 + 1);
+      for (var i = 0; i < size; i++) {
+        var path = input.readUTF();
+        var created = toDateTime(input.readLong());
+        var updated = toDateTime(input.readLong());
+        dates.put(path, FileDatesDto.builder().create(created).update(updated).build());
+      }
+      return CommitDatesDto.builder()
+          .commitId(ObjectId.fromRaw(commitIdBytes))
+          .dates(dates)
+          .build();
+    } catch (IOException e) {
+      log.warn("Couldn't read stored file dates {}: {}", file, e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * Replace stored dates of the repository. The file is written to a temporary file first and then
+   * moved, so concurrent readers never see it partially written.
+   *
+   * @param repository  opened repository
+   * @param commitDates dates with the commit they were built on
+   */
+  public void save(@NonNull Repository repository, @NonNull CommitDatesDto commitDates) {
+    var file = getDatesFile(repository);
+    var tempFile = new File(file.getParentFile(), DATES_FILE_NAME + ".tmp");
+    try {
+      try (var output = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(tempFile.toPath())))) {
+        output.writeInt(FORMAT_VERSION);
+        commitDates.getCommitId().copyRawTo(output);
+        output.writeInt(commitDates.getDates().size());
+        for (var entry : commitDates.getDates().entrySet()) {
+          output.writeUTF(entry.getKey());
+          output.writeLong(toEpochSecond(entry.getValue().getCreate()));
+          output.writeLong(toEpochSecond(entry.getValue().getUpdate()));
+        }
+      }
+      Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      log.debug("File dates of commit {} stored to {}", commitDates.getCommitId().name(), file);
+    } catch (IOException e) {
+      log.warn("Couldn't store file dates {}: {}", file, e.getMessage());
+    }
+  }
+
+  private static File getDatesFile(Repository repository) {
+    return new File(repository.getDirectory(), DATES_FILE_NAME);
+  }
+
+  private static LocalDateTime toDateTime(long epochSecond) {
+    return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+  }
+
+  private static long toEpochSecond(LocalDateTime dateTime) {
+    return dateTime.toEpochSecond(ZoneOffset.UTC);
+  }
+}
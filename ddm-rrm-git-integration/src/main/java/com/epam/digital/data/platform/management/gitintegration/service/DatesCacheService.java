@@ -16,56 +16,155 @@
 
 package com.epam.digital.data.platform.management.gitintegration.service;
 
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig;
 import com.epam.digital.data.platform.management.gitintegration.model.FileDatesDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import lombok.RequiredArgsConstructor;
-import org.springframework.cache.CacheManager;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+/**
+ * Keeps created and updated dates of repository files per version.
+ * <p>
+ * Dates are stored in a bounded cache, its weight is the number of file dates of all versions.
+ * When the weight exceeds {@code registry-regulation-management.git.dates-cache.maximum-entries}
+ * the least used versions are evicted. A version that has more file dates than the whole cache
+ * can hold is not cached at all, instead of being evicted right after it's put. Dates of the
+ * version have to be {@link #invalidate(String) invalidated} when its HEAD is moved by fetch,
+ * rebase or amend or its repository is deleted.
+ * <p>
+ * Published metrics: {@value #CACHE_ENTRIES_METRIC} and {@value #CACHE_VERSIONS_METRIC} gauges,
+ * {@value #CACHE_REQUESTS_METRIC} counter of file dates lookups tagged by result,
+ * {@value #CACHE_HIT_RATIO_METRIC} gauge and {@value #CACHE_EVICTIONS_METRIC} counter of versions
+ * evicted by size or expiration.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class DatesCacheService {
 
-  public static final String DATE_CACHE_NAME = "dates";
+  public static final String CACHE_ENTRIES_METRIC = "rrm.git.dates.cache.entries";
+  public static final String CACHE_VERSIONS_METRIC = "rrm.git.dates.cache.versions";
+  public static final String CACHE_REQUESTS_METRIC = "rrm.git.dates.cache.requests";
+  public static final String CACHE_HIT_RATIO_METRIC = "rrm.git.dates.cache.hit.ratio";
+  public static final String CACHE_EVICTIONS_METRIC = "rrm.git.dates.cache.evictions";
+
+  private final Cache<String, Map<String, FileDatesDto>> cache;
+  private final long maximumEntries;
+  private final Counter hitCounter;
+  private final Counter missCounter;
+  private final Counter evictionCounter;
 
-  private final CacheManager cacheManager;
+  public DatesCacheService(GitPropertiesConfig gitPropertiesConfig, MeterRegistry meterRegistry) {
+    var datesCacheProperties = gitPropertiesConfig.getDatesCache();
+    this.maximumEntries = datesCacheProperties.getMaximumEntries();
+    this.hitCounter = Counter.builder(CACHE_REQUESTS_METRIC)
+        .tag("result", "hit")
+        .register(meterRegistry);
+    this.missCounter = Counter.builder(CACHE_REQUESTS_METRIC)
+        .tag("result", "miss")
+        .register(meterRegistry);
+    this.evictionCounter = Counter.builder(CACHE_EVICTIONS_METRIC)
+        .register(meterRegistry);
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(maximumEntries)
+        .<String, Map<String, FileDatesDto>>weigher((versionId, dates) -> dates.size())
+        .expireAfterAccess(datesCacheProperties.getExpireAfterAccess())
+        // eviction is cheap, so it's done by the calling thread instead of the common pool
+        .executor(Runnable::run)
+        .removalListener((versionId, dates, cause) -> {
+          if (cause.wasEvicted()) {
+            log.debug("Dates of version {} evicted from cache: {}", versionId, cause);
+            evictionCounter.increment();
+          }
+        })
+        .build();
+
+    Gauge.builder(CACHE_ENTRIES_METRIC, cache, DatesCacheService::getWeightedSize)
+        .register(meterRegistry);
+    Gauge.builder(CACHE_VERSIONS_METRIC, cache, Cache::estimatedSize)
+        .register(meterRegistry);
+    Gauge.builder(CACHE_HIT_RATIO_METRIC, this, DatesCacheService::getHitRatio)
+        .register(meterRegistry);
+  }
 
   public FileDatesDto getDates(String versionId, String filePath) {
-    var cache = cacheManager.getCache(DATE_CACHE_NAME);
-    Map<String, FileDatesDto> cachedMap = cache.get(versionId, Map.class);
-    if (Objects.isNull(cachedMap)) {
-      return null;
+    var cachedMap = cache.getIfPresent(versionId);
+    var dates = Objects.isNull(cachedMap) ? null : cachedMap.get(filePath);
+    if (Objects.isNull(dates)) {
+      missCounter.increment();
+    } else {
+      hitCounter.increment();
     }
-    return cachedMap.get(filePath);
+    return dates;
+  }
+
+  public boolean hasDatesCache(String versionId) {
+    return Objects.nonNull(cache.getIfPresent(versionId));
   }
 
-  @SuppressWarnings("unchecked")
   public Map<String, FileDatesDto> getDatesCache(String versionId) {
-    var cache = cacheManager.getCache(DATE_CACHE_NAME);
-    var cachedMap = cache.get(versionId, Map.class);
+    var cachedMap = cache.getIfPresent(versionId);
     if (Objects.isNull(cachedMap)) {
       return new HashMap<>();
     }
-    return new HashMap<String, FileDatesDto>(cachedMap);
+    return new HashMap<>(cachedMap);
   }
 
-  public void setDatesCache(String versionId, Map<String, FileDatesDto> datesDtoMap) {
-    var cache = cacheManager.getCache(DATE_CACHE_NAME);
-    cache.evictIfPresent(versionId);
-    cache.put(versionId, new HashMap<>(datesDtoMap));
+  /**
+   * Replace cached dates of the version
+   *
+   * @param versionId   version which dates are cached
+   * @param datesDtoMap dates of all version files
+   * @return false if the version has too many file dates to be cached
+   */
+  public boolean setDatesCache(String versionId, Map<String, FileDatesDto> datesDtoMap) {
+    if (datesDtoMap.size() > maximumEntries) {
+      log.debug("Dates of version {} exceed the cache size, they aren't cached", versionId);
+      cache.invalidate(versionId);
+      return false;
+    }
+    cache.put(versionId, new ConcurrentHashMap<>(datesDtoMap));
+    return true;
   }
 
-  @SuppressWarnings("unchecked")
   public void setDatesToCache(String versionId, String filePath, FileDatesDto fileDatesDto) {
-    var cache = cacheManager.getCache(DATE_CACHE_NAME);
-    Map<String, FileDatesDto> cachedMap = cache.get(versionId, Map.class);
-    if (Objects.isNull(cachedMap)) {
-      cachedMap = new HashMap<>();
-      cache.put(versionId, cachedMap);
-    }
+    var cachedMap = cache.get(versionId, key -> new ConcurrentHashMap<>());
     cachedMap.put(filePath, fileDatesDto);
+    if (cachedMap.size() > maximumEntries) {
+      log.debug("Dates of version {} exceed the cache size, they aren't cached", versionId);
+      cache.asMap().remove(versionId, cachedMap);
+      return;
+    }
+    // re-put the same map so its weight is recalculated, unless it was invalidated meanwhile
+    cache.asMap().replace(versionId, cachedMap, cachedMap);
+  }
+
+  /**
+   * Drop cached dates of the version
+   *
+   * @param versionId version which dates are outdated
+   */
+  public void invalidate(String versionId) {
+    log.debug("Invalidating dates cache of version {}", versionId);
+    cache.invalidate(versionId);
+  }
+
+  private double getHitRatio() {
+    var hits = hitCounter.count();
+    var total = hits + missCounter.count();
+    return total == 0 ? 0 : hits / total;
   }
 
+  private static long getWeightedSize(Cache<String, Map<String, FileDatesDto>> cache) {
+    return cache.policy().eviction()
+        .map(eviction -> eviction.weightedSize().orElse(0))
+        .orElse(0L);
+  }
 }
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gitintegration.service;
+
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig;
+import com.epam.digital.data.platform.management.gitintegration.model.PushStatusDto;
+import com.epam.digital.data.platform.management.gitintegration.model.PushStatusDto.PushStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps track of repositories with locally committed but not pushed changes and schedules their
+ * pushes, so all commits of the repository made within
+ * {@code registry-regulation-management.git.pushing.window} are pushed at once.
+ * <p>
+ * Pending flag of the repository must be {@link #markPending(String, Runnable) set} and
+ * {@link #takePending(String) taken} under the repository write lock only. Then every commit is
+ * either pushed by the push that is currently running or schedules a new one. Pushes are run by
+ * the application {@link TaskScheduler}.
+ * <p>
+ * Published metrics: {@value #PUSH_METRIC} counter of deferred pushes tagged by result and
+ * {@value #COALESCED_METRIC} counter of commits that were pushed together with previous ones,
+ * {@value #STATUS_METRIC} gauges of the last push outcome of every repository tagged by repository
+ * and status, the gauge of the current status is 1 and the others are 0.
+ */
+@Slf4j
+@Component
+public class DeferredPushScheduler {
+
+  public static final String PUSH_METRIC = "rrm.git.deferred.push";
+  public static final String COALESCED_METRIC = "rrm.git.deferred.push.coalesced";
+  public static final String STATUS_METRIC = "rrm.git.deferred.push.status";
+
+  private final Set<String> pendingRepositories = ConcurrentHashMap.newKeySet();
+  private final Map<String, ScheduledFuture<?>> scheduledPushes = new ConcurrentHashMap<>();
+  private final Map<String, PushStatusDto> lastStatuses = new ConcurrentHashMap<>();
+  private final Map<String, List<Meter>> statusGauges = new ConcurrentHashMap<>();
+
+  private final GitPropertiesConfig gitPropertiesConfig;
+  private final TaskScheduler taskScheduler;
+  private final MeterRegistry meterRegistry;
+  private final Counter pushedCounter;
+  private final Counter failedCounter;
+  private final Counter coalescedCounter;
+
+  public DeferredPushScheduler(GitPropertiesConfig gitPropertiesConfig,
+      TaskScheduler taskScheduler, MeterRegistry meterRegistry) {
+    this.gitPropertiesConfig = gitPropertiesConfig;
+    this.taskScheduler = taskScheduler;
+    this.meterRegistry = meterRegistry;
+    this.pushedCounter = Counter.builder(PUSH_METRIC)
+        .tag("result", "pushed")
+        .register(meterRegistry);
+    this.failedCounter = Counter.builder(PUSH_METRIC)
+        .tag("result", "failed")
+        .register(meterRegistry);
+    this.coalescedCounter = Counter.builder(COALESCED_METRIC)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Mark the repository as having not pushed commit and schedule its push if there is no
+   * scheduled push yet
+   *
+   * @param repositoryName name of the repository
+   * @param push           pushes pending commits of the repository
+   */
+  public void markPending(@NonNull String repositoryName, @NonNull Runnable push) {
+    if (!pendingRepositories.add(repositoryName)) {
+      coalescedCounter.increment();
+    }
+    updateStatus(repositoryName, PushStatus.PENDING, null);
+    scheduledPushes.computeIfAbsent(repositoryName, name -> taskScheduler.schedule(
+        () -> runScheduledPush(name, push),
+        Instant.now().plus(gitPropertiesConfig.getPushing().getWindow())));
+  }
+
+  /**
+   * Check if the repository has commits that aren't pushed yet
+   */
+  public boolean isPending(@NonNull String repositoryName) {
+    return pendingRepositories.contains(repositoryName);
+  }
+
+  /**
+   * Reset pending flag of the repository before its commits are pushed
+   *
+   * @return true if the repository had commits to push
+   */
+  public boolean takePending(@NonNull String repositoryName) {
+    cancelScheduledPush(repositoryName);
+    return pendingRepositories.remove(repositoryName);
+  }
+
+  public void pushSucceeded(@NonNull String repositoryName) {
+    log.debug("Pending commits of repository {} pushed", repositoryName);
+    pushedCounter.increment();
+    updateStatus(repositoryName, PushStatus.PUSHED, null);
+  }
+
+  /**
+   * Keep commits of the repository pending, so they are pushed with the next commit or flush
+   */
+  public void pushFailed(@NonNull String repositoryName, @NonNull Exception exception) {
+    log.warn("Push of pending commits of repository {} failed: {}", repositoryName,
+        exception.getMessage());
+    failedCounter.increment();
+    pendingRepositories.add(repositoryName);
+    updateStatus(repositoryName, PushStatus.FAILED, exception.getMessage());
+  }
+
+  @Nullable
+  public PushStatusDto getLastStatus(@NonNull String repositoryName) {
+    return lastStatuses.get(repositoryName);
+  }
+
+  @NonNull
+  public Set<String> getPendingRepositories() {
+    return Set.copyOf(pendingRepositories);
+  }
+
+  /**
+   * Forget pending commits of the repository, e.g. if the repository is deleted
+   */
+  public void remove(@NonNull String repositoryName) {
+    cancelScheduledPush(repositoryName);
+    pendingRepositories.remove(repositoryName);
+    lastStatuses.remove(repositoryName);
+    var gauges = statusGauges.remove(repositoryName);
+    if (gauges != null) {
+      gauges.forEach(meterRegistry::remove);
+    }
+  }
+
+  private void runScheduledPush(String repositoryName, Runnable push) {
+    scheduledPushes.remove(repositoryName);
+    try {
+      push.run();
+    } catch (RuntimeException e) {
+      log.warn("Scheduled push of repository {} failed: {}", repositoryName, e.getMessage());
+    }
+  }
+
+  private void cancelScheduledPush(String repositoryName) {
+    var scheduledPush = scheduledPushes.remove(repositoryName);
+    if (scheduledPush != null) {
+      scheduledPush.cancel(false);
+    }
+  }
+
+  private void updateStatus(String repositoryName, PushStatus status, String message) {
+    lastStatuses.put(repositoryName, PushStatusDto.builder()
+        .status(status)
+        .updated(LocalDateTime.now())
+        .message(message)
+        .build());
+    statusGauges.computeIfAbsent(repositoryName, this::registerStatusGauges);
+  }
+
+  private List<Meter> registerStatusGauges(String repositoryName) {
+    return Arrays.stream(PushStatus.values())
+        .map(status -> Gauge.builder(STATUS_METRIC, () -> isLastStatus(repositoryName, status))
+            .tag("repository", repositoryName)
+            .tag("status", status.name().toLowerCase())
+            .register(meterRegistry))
+        .collect(Collectors.toList());
+  }
+
+  private int isLastStatus(String repositoryName, PushStatus status) {
+    var lastStatus = lastStatuses.get(repositoryName);
+    return lastStatus != null && lastStatus.getStatus() == status ? 1 : 0;
+  }
+}
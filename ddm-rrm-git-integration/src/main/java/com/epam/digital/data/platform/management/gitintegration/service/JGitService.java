@@ -16,14 +16,17 @@
 
 package com.epam.digital.data.platform.management.gitintegration.service;
 
+import com.epam.digital.data.platform.management.gitintegration.exception.ETagValidationException;
 import com.epam.digital.data.platform.management.gitintegration.exception.GitFileNotFoundException;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 
 import com.epam.digital.data.platform.management.gitintegration.exception.GitCommandException;
 import com.epam.digital.data.platform.management.gitintegration.exception.RepositoryNotFoundException;
+import com.epam.digital.data.platform.management.gitintegration.model.FileChangeDto;
 import com.epam.digital.data.platform.management.gitintegration.model.FileDatesDto;
 
 /**
@@ -49,12 +52,15 @@ public interface JGitService {
   void resetHeadBranchToRemote();
 
   /**
-   * Fetches and checkouts repository for specified version to remote state
+   * Fetches and checkouts repository for specified version to remote state. If the repository has
+   * commits waiting for deferred push, they are moved onto the base of the fetched patch set and
+   * pushed instead of the checkout
    *
    * @param repositoryName name of the specified repository
    * @param refs           ref info
    * @throws GitCommandException         in case if it couldn't open repo or fetch or checkout git
-   *                                     command failures
+   *                                     command failures or if pending commits conflict with the
+   *                                     fetched patch set
    * @throws RepositoryNotFoundException in case if repository doesn't exist
    */
   void fetch(@NonNull String repositoryName, @NonNull String refs);
@@ -97,11 +103,12 @@ public interface JGitService {
   FileDatesDto getDates(@NonNull String repositoryName, @NonNull String filePath);
 
   /**
-   * Returns file content by path from repository
+   * Returns file content by path from repository. Depending on configured reading mode the content
+   * is read either from the working tree or from the HEAD commit tree
    *
    * @param repositoryName name of the specified repository
    * @param filePath       file location
-   * @return {@link String} content of file
+   * @return {@link String} content of file or null if file doesn't exist
    *
    * @throws RepositoryNotFoundException if repository not exists
    * @throws GitCommandException         in case if it couldn't open repo or facing IOException
@@ -109,6 +116,35 @@ public interface JGitService {
   @Nullable
   String getFileContent(@NonNull String repositoryName, @NonNull String filePath);
 
+  /**
+   * Returns ids of content blobs of the files by path in the HEAD commit tree. Blob id changes
+   * only when file content changes, so it may be used as a key of data derived from the content
+   *
+   * @param repositoryName name of the specified repository
+   * @param path           non-empty directory location
+   * @return {@link Map} of repository relative file paths to their blob ids, empty if path isn't
+   * found
+   *
+   * @throws GitCommandException         in case if it couldn't open repo or facing IOException
+   * @throws RepositoryNotFoundException in case if repository doesn't exist
+   */
+  @NonNull
+  Map<String, String> getFileBlobIds(@NonNull String repositoryName, @NonNull String path);
+
+  /**
+   * Returns content of the blob from repository object database
+   *
+   * @param repositoryName name of the specified repository
+   * @param blobId         id of the blob, e.g. returned by
+   *                       {@link #getFileBlobIds(String, String)}
+   * @return {@link String} content of the blob or null if there is no such blob
+   *
+   * @throws GitCommandException         in case if it couldn't open repo or facing IOException
+   * @throws RepositoryNotFoundException in case if repository doesn't exist
+   */
+  @Nullable
+  String getBlobContent(@NonNull String repositoryName, @NonNull String blobId);
+
   /**
    * Amend commit with file and push to refs for head-branch. It requires that repository already is
    * checkout on FETCH_HEAD for successful push to repo
@@ -136,6 +172,32 @@ public interface JGitService {
    */
   void amend(@NonNull String repositoryName, @NonNull String filePath, @NonNull String fileContent, String eTag);
 
+  /**
+   * Apply all file changes, amend commit with them and push to refs for head-branch once. ETags of
+   * all files are validated before any file is changed, and if some change couldn't be applied, then
+   * all files are restored. It requires that repository already is checkout on FETCH_HEAD for
+   * successful push to repo
+   *
+   * @param repositoryName name of the specified repository
+   * @param changes        file changes, file is deleted if change has no content
+   * @throws RepositoryNotFoundException if repository not exists
+   * @throws ETagValidationException     if eTag of some file doesn't match its content
+   * @throws GitCommandException         in case if it couldn't open repo or add, rm, log, commit,
+   *                                     remote add or push git command failures
+   */
+  void amendAll(@NonNull String repositoryName, @NonNull List<FileChangeDto> changes);
+
+  /**
+   * Push commits of the repository that are waiting for deferred push. It has to be called before
+   * reading version candidate state from Gerrit, so the state includes all saved changes. Does
+   * nothing if there are no pending commits
+   *
+   * @param repositoryName name of the specified repository
+   * @throws RepositoryNotFoundException if repository not exists
+   * @throws GitCommandException         in case if it couldn't open repo or push failures
+   */
+  void flushPush(@NonNull String repositoryName);
+
   /**
    * Delete file and push to refs for head-branch. It requires that repository already is checkout
    * on FETCH_HEAD for successful push to repo
@@ -149,10 +211,11 @@ public interface JGitService {
   void delete(@NonNull String repositoryName, @NonNull String filePath, String eTag);
 
   /**
-   * Delete repository from FileSystem
+   * Delete repository from FileSystem. Commits waiting for deferred push are pushed first
    *
    * @param repositoryName name of the specified repository
-   * @throws GitCommandException in case of repository deletion errors
+   * @throws GitCommandException in case of repository deletion errors or if pending commits
+   *                             couldn't be pushed, the repository is kept then
    */
   void deleteRepo(String repositoryName);
 
@@ -17,13 +17,19 @@
 package com.epam.digital.data.platform.management.gitintegration.service;
 
 import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.core.event.publisher.RegistryRegulationManagementEventPublisher;
 import com.epam.digital.data.platform.management.core.utils.ETagUtils;
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig;
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig.CandidateRepositoryMode;
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig.PushingMode;
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig.ReadingMode;
 import com.epam.digital.data.platform.management.gitintegration.exception.ETagValidationException;
 import com.epam.digital.data.platform.management.gitintegration.exception.FileAlreadyExistsException;
 import com.epam.digital.data.platform.management.gitintegration.exception.GitCommandException;
 import com.epam.digital.data.platform.management.gitintegration.exception.GitFileNotFoundException;
 import com.epam.digital.data.platform.management.gitintegration.exception.MergeConflictException;
 import com.epam.digital.data.platform.management.gitintegration.exception.RepositoryNotFoundException;
+import com.epam.digital.data.platform.management.gitintegration.model.FileChangeDto;
 import com.epam.digital.data.platform.management.gitintegration.model.FileDatesDto;
 import java.io.File;
 import java.io.IOException;
@@ -32,20 +38,19 @@ import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
+import javax.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FilenameUtils;
+import org.eclipse.jgit.api.FetchCommand;
 import org.eclipse.jgit.api.Git;
-import org.eclipse.jgit.api.MergeCommand;
 import org.eclipse.jgit.api.PushCommand;
 import org.eclipse.jgit.api.ResetCommand.ResetType;
 import org.eclipse.jgit.api.Status;
@@ -64,6 +69,7 @@ import org.eclipse.jgit.api.errors.UnmergedPathsException;
 import org.eclipse.jgit.api.errors.WrongRepositoryStateException;
 import org.eclipse.jgit.errors.NoWorkTreeException;
 import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.transport.PushResult;
 import org.eclipse.jgit.transport.RefSpec;
@@ -88,8 +94,12 @@ public class JGitServiceImpl implements JGitService {
   private final JGitWrapper jGitWrapper;
   private final GitRetryable retryable;
   private final DatesCacheService datesCacheService;
-
-  private final ConcurrentMap<String, Lock> lockMap = new ConcurrentHashMap<>();
+  private final RepositoryLockManager lockManager;
+  private final GitPropertiesConfig gitPropertiesConfig;
+  private final RepositoryHandleCache repositoryHandleCache;
+  private final CommitDatesIndexer commitDatesIndexer;
+  private final DeferredPushScheduler deferredPushScheduler;
+  private final RegistryRegulationManagementEventPublisher eventPublisher;
 
   @Override
   public void cloneRepoIfNotExist(@NonNull String repositoryName) {
@@ -100,16 +110,23 @@ public class JGitServiceImpl implements JGitService {
       return;
     }
     log.trace("Synchronizing repo {}", repositoryName);
-    var lock = getLock(repositoryName);
+    var lock = lockManager.getWriteLock(repositoryName);
     lock.lock();
-    copyFolderFromHeadBranch(directory);
-    if (directory.exists()) {
-      // copying from headBranch repo went successful
-      return;
-    }
+    try {
+      if (CandidateRepositoryMode.SHARED_OBJECTS.equals(
+          gitPropertiesConfig.getCandidateRepository().getMode())) {
+        createRepoSharingHeadBranchObjects(directory);
+      } else {
+        copyFolderFromHeadBranch(directory);
+      }
+      if (directory.exists()) {
+        // copying from headBranch repo went successful
+        return;
+      }
 
-    try (var ignored = cloneRepo(directory)) {
-      log.debug("Repository {} was successfully cloned.", repositoryName);
+      try (var ignored = cloneRepo(directory)) {
+        log.debug("Repository {} was successfully cloned.", repositoryName);
+      }
     } finally {
       lock.unlock();
       log.trace("Repo {} lock released", repositoryName);
@@ -122,15 +139,17 @@ public class JGitServiceImpl implements JGitService {
     log.debug("Trying to reset repository {} to remote state", repositoryName);
     var repositoryDirectory = getExistedRepository(repositoryName);
     log.trace("Synchronizing repo {}", repositoryName);
-    var lock = getLock(repositoryName);
+    var lock = lockManager.getWriteLock(repositoryName);
     lock.lock();
     try (var git = openRepo(repositoryDirectory)) {
+      var previousHead = resolveHead(git);
       log.trace("Fetching repo {}", repositoryName);
       fetchAll(git);
 
       log.trace(
           "Hard reset {} on {}/{}", repositoryName, Constants.DEFAULT_REMOTE_NAME, repositoryName);
       hardResetOnOriginHeadBranch(git);
+      invalidateDatesIfHeadMoved(repositoryName, git, previousHead);
     } finally {
       lock.unlock();
       log.trace("Repo {} lock released", repositoryName);
@@ -143,14 +162,21 @@ public class JGitServiceImpl implements JGitService {
     log.debug("Trying to fetch and checkout repository {} to ref {}", repositoryName, refs);
     var repositoryDirectory = getExistedRepository(repositoryName);
     log.trace("Synchronizing repo {}", repositoryName);
-    var lock = getLock(repositoryName);
+    var lock = lockManager.getWriteLock(repositoryName);
     lock.lock();
     try (var git = openRepo(repositoryDirectory)) {
+      var previousHead = resolveHead(git);
       log.trace("Fetching repo {} on ref specs {}", repositoryName, refs);
       fetch(git, refs);
 
-      log.trace("Checkout repo {} on {}", repositoryName, Constants.FETCH_HEAD);
-      checkoutFetchHead(git);
+      if (deferredPushScheduler.isPending(repositoryName)) {
+        // checkout on fetched refs would drop local commits that aren't pushed yet
+        pushPendingOnFetchHead(repositoryName, git, previousHead);
+      } else {
+        log.trace("Checkout repo {} on {}", repositoryName, Constants.FETCH_HEAD);
+        checkoutFetchHead(git);
+      }
+      invalidateDatesIfHeadMoved(repositoryName, git, previousHead);
     } finally {
       lock.unlock();
       log.trace("Repo {} lock released", repositoryName);
@@ -165,12 +191,11 @@ public class JGitServiceImpl implements JGitService {
     log.debug("Retrieving file list in repository {} at path {}", repositoryName, path);
     var repositoryDirectory = getExistedRepository(repositoryName);
     log.trace("Synchronizing repo {}", repositoryName);
-    var lock = getLock(repositoryName);
+    var lock = lockManager.getReadLock(repositoryName);
     lock.lock();
     log.trace("Opening repo {}", repositoryName);
     try (var git = openRepo(repositoryDirectory);
-        var repository = git.getRepository();
-        var treeWalk = jGitWrapper.getTreeWalk(repository, path)) {
+        var treeWalk = jGitWrapper.getTreeWalk(git.getRepository(), path)) {
       log.trace("Retrieving files from {} at path {}", repositoryName, path);
       List<String> result = Objects.nonNull(treeWalk) ? getFiles(treeWalk) : List.of();
       log.debug("Found {} files in repository {} at path {}", result.size(), result, path);
@@ -186,9 +211,12 @@ public class JGitServiceImpl implements JGitService {
   public List<String> getConflicts(@NonNull String repositoryName) {
     log.debug("Retrieving conflicts in repository {}", repositoryName);
     var repositoryDirectory = getExistedRepository(repositoryName);
+    // merge base has to be reachable, otherwise every changed file looks like a conflict
+    deepenHistoryIfShallow(repositoryName, repositoryDirectory);
+
     log.trace("Synchronizing repo {}", repositoryName);
-    var lock = getLock(repositoryName);
-    lock.lock();
+    var writeLock = lockManager.getWriteLock(repositoryName);
+    writeLock.lock();
     log.trace("Opening repo {}", repositoryName);
     try (var git = openRepo(repositoryDirectory)) {
       fetch(
@@ -200,32 +228,37 @@ public class JGitServiceImpl implements JGitService {
               + Constants.DEFAULT_REMOTE_NAME
               + "/"
               + gerritPropertiesConfig.getHeadBranch());
+    } finally {
+      writeLock.unlock();
+      log.trace("Repo {} lock released", repositoryName);
+    }
+
+    // the merge is done in memory and only reads objects, so it doesn't block other readers
+    var readLock = lockManager.getReadLock(repositoryName);
+    readLock.lock();
+    try (var git = openRepo(repositoryDirectory)) {
+      var repository = git.getRepository();
+      var headId = repository.resolve(Constants.HEAD);
       var originMasterId =
-          git.getRepository()
-              .resolve(
-                  Constants.DEFAULT_REMOTE_NAME + "/" + gerritPropertiesConfig.getHeadBranch());
-      var mergeResult =
-          git.merge()
-              .include(originMasterId)
-              .setCommit(false)
-              .setFastForward(MergeCommand.FastForwardMode.NO_FF)
-              .call();
-      Map<String, int[][]> conflicts = mergeResult.getConflicts();
-      log.info("Conflicts: {}", conflicts);
-      git.reset().setMode(ResetType.HARD).call();
-      if (conflicts != null && conflicts.size() > 0) {
-        return conflicts.keySet().stream().collect(Collectors.toList());
-      } else {
-        return Collections.emptyList();
+          repository.resolve(
+              Constants.DEFAULT_REMOTE_NAME + "/" + gerritPropertiesConfig.getHeadBranch());
+      if (Objects.isNull(headId) || Objects.isNull(originMasterId)) {
+        throw new GitCommandException(
+            String.format(
+                "Exception occurred during getting conflicts for repository %s: "
+                    + "HEAD or head-branch commit not found", repositoryDirectory.getName()));
       }
-    } catch (IOException | GitAPIException e) {
+      var conflicts = jGitWrapper.getMergeConflicts(repository, headId, originMasterId);
+      log.info("Conflicts: {}", conflicts);
+      return conflicts;
+    } catch (IOException e) {
       throw new GitCommandException(
           String.format(
               "Exception occurred during getting conflicts for repository %s: %s",
               repositoryDirectory.getName(), e.getMessage()),
           e);
     } finally {
-      lock.unlock();
+      readLock.unlock();
       log.trace("Repo {} lock released", repositoryName);
     }
   }
@@ -242,11 +275,25 @@ public class JGitServiceImpl implements JGitService {
     log.debug("Retrieving git commit dates in repository {} for path {}", repositoryName,
         normalizedFilePath);
     var repositoryDirectory = getExistedRepository(repositoryName);
+    deepenHistoryIfShallow(repositoryName, repositoryDirectory);
 
     log.trace("Synchronizing repo {}", repositoryName);
-    var lock = getLock(repositoryName);
+    var lock = lockManager.getReadLock(repositoryName);
     lock.lock();
     try (var git = openRepo(repositoryDirectory)) {
+      var isIndexed = gitPropertiesConfig.getDatesIndex().isEnabled();
+      if (isIndexed) {
+        log.trace("Updating commit dates index of repository {}", repositoryName);
+        commitDatesIndexer.updateIndex(repositoryName, git.getRepository());
+        if (datesCacheService.hasDatesCache(repositoryName)) {
+          var indexedDates = datesCacheService.getDates(repositoryName, normalizedFilePath);
+          log.debug("Git commit dates in repository {} for path {} {}", repositoryName,
+              normalizedFilePath, Objects.nonNull(indexedDates) ? "retrieved" : "wasn't found");
+          return indexedDates;
+        }
+        log.debug("Commit dates of repository {} are too many to be cached", repositoryName);
+      }
+
       log.trace("Retrieving commit stack for file {}", normalizedFilePath);
       var revCommitList = getRevCommitList(normalizedFilePath, git);
 
@@ -265,7 +312,10 @@ public class JGitServiceImpl implements JGitService {
           "Git commit dates in repository {} for path {} retrieved", repositoryName,
           normalizedFilePath);
       var dates = FileDatesDto.builder().create(createdTime).update(updatedTime).build();
-      datesCacheService.setDatesToCache(repositoryName, normalizedFilePath, dates);
+      if (!isIndexed) {
+        // partially cached dates would be taken for the whole index
+        datesCacheService.setDatesToCache(repositoryName, normalizedFilePath, dates);
+      }
       return dates;
     } finally {
       lock.unlock();
@@ -280,9 +330,13 @@ public class JGitServiceImpl implements JGitService {
     var repositoryDirectory = getExistedRepository(repositoryName);
 
     log.trace("Synchronizing repo {}", repositoryName);
-    var lock = getLock(repositoryName);
+    var lock = lockManager.getReadLock(repositoryName);
     lock.lock();
     try {
+      if (ReadingMode.OBJECT_DATABASE.equals(gitPropertiesConfig.getReading().getMode())) {
+        log.trace("Reading file content from HEAD commit tree");
+        return getHeadFileContent(repositoryDirectory, filePath);
+      }
       log.trace("Reading file content");
       return getFileContent(repositoryDirectory, filePath);
     } finally {
@@ -291,6 +345,49 @@ public class JGitServiceImpl implements JGitService {
     }
   }
 
+  @Override
+  @NonNull
+  public Map<String, String> getFileBlobIds(@NonNull String repositoryName,
+      @NonNull String path) {
+    log.debug("Retrieving file blob ids in repository {} at path {}", repositoryName, path);
+    var repositoryDirectory = getExistedRepository(repositoryName);
+    log.trace("Synchronizing repo {}", repositoryName);
+    var lock = lockManager.getReadLock(repositoryName);
+    lock.lock();
+    try (var git = openRepo(repositoryDirectory);
+        var treeWalk = jGitWrapper.getTreeWalk(git.getRepository(), path)) {
+      Map<String, String> result =
+          Objects.nonNull(treeWalk) ? getFileBlobIds(treeWalk) : Map.of();
+      log.debug("Found {} file blob ids in repository {} at path {}", result.size(),
+          repositoryName, path);
+      return result;
+    } finally {
+      lock.unlock();
+      log.trace("Repo {} lock released", repositoryName);
+    }
+  }
+
+  @Override
+  @Nullable
+  public String getBlobContent(@NonNull String repositoryName, @NonNull String blobId) {
+    log.debug("Retrieving blob {} content from repository {}", blobId, repositoryName);
+    var repositoryDirectory = getExistedRepository(repositoryName);
+    // objects are immutable, but the repository handle is closed when the repository is deleted
+    log.trace("Synchronizing repo {}", repositoryName);
+    var lock = lockManager.getReadLock(repositoryName);
+    lock.lock();
+    try (var git = openRepo(repositoryDirectory)) {
+      return jGitWrapper.readBlobContent(git.getRepository(), ObjectId.fromString(blobId));
+    } catch (IOException e) {
+      throw new GitCommandException(
+          String.format("Exception occurred during reading blob %s content: %s", blobId,
+              e.getMessage()), e);
+    } finally {
+      lock.unlock();
+      log.trace("Repo {} lock released", repositoryName);
+    }
+  }
+
   @Override
   public void amend(
       @NonNull String repositoryName, @NonNull String filePath, @NonNull String fileContent) {
@@ -306,7 +403,7 @@ public class JGitServiceImpl implements JGitService {
     var repositoryDirectory = getExistedRepository(repositoryName);
 
     log.trace("Synchronizing repo {}", repositoryName);
-    var lock = getLock(repositoryName);
+    var lock = lockManager.getWriteLock(repositoryName);
     lock.lock();
     try (var git = openRepo(repositoryDirectory)) {
 
@@ -315,7 +412,7 @@ public class JGitServiceImpl implements JGitService {
       log.trace("Updating file at path {}", filePath);
       var file = gitFileService.writeFile(repositoryName, fileContent, filePath);
       log.trace("Commit file {} in repo {} with amend", filePath, repositoryName);
-      doAmend(repositoryDirectory, file, git);
+      doAmend(repositoryDirectory, List.of(file), git);
       log.debug("File {} updated in repo {}", filePath, repositoryName);
     } finally {
       lock.unlock();
@@ -323,6 +420,71 @@ public class JGitServiceImpl implements JGitService {
     }
   }
 
+  @Override
+  public void amendAll(@NonNull String repositoryName, @NonNull List<FileChangeDto> changes) {
+    log.debug("Trying to apply {} file changes in repository {}", changes.size(), repositoryName);
+    var repositoryDirectory = getExistedRepository(repositoryName);
+
+    log.trace("Synchronizing repo {}", repositoryName);
+    var lock = lockManager.getWriteLock(repositoryName);
+    lock.lock();
+    try (var git = openRepo(repositoryDirectory)) {
+      changes.forEach(
+          change -> validateETag(repositoryDirectory, change.getPath(), change.getETag()));
+
+      log.trace("Applying file changes in repo {}", repositoryName);
+      var files = new ArrayList<File>();
+      try {
+        for (var change : changes) {
+          applyFileChange(repositoryName, repositoryDirectory, change).ifPresent(files::add);
+        }
+      } catch (RuntimeException e) {
+        discardFileChanges(git, changes);
+        throw e;
+      }
+      log.trace("Commit {} files in repo {} with amend", files.size(), repositoryName);
+      doAmend(repositoryDirectory, files, git);
+      log.debug("{} files changed in repo {}", files.size(), repositoryName);
+    } finally {
+      lock.unlock();
+      log.trace("Repo {} lock released", repositoryName);
+    }
+  }
+
+  @Override
+  public void flushPush(@NonNull String repositoryName) {
+    log.trace("Synchronizing repo {}", repositoryName);
+    var lock = lockManager.getWriteLock(repositoryName);
+    lock.lock();
+    try {
+      if (!deferredPushScheduler.isPending(repositoryName)) {
+        return;
+      }
+      log.debug("Trying to push pending commits of repository {}", repositoryName);
+      try (var git = openRepo(getExistedRepository(repositoryName))) {
+        pushPending(repositoryName, git);
+      }
+    } finally {
+      lock.unlock();
+      log.trace("Repo {} lock released", repositoryName);
+    }
+  }
+
+  /**
+   * Pushes commits that are waiting for the deferred push, so they aren't lost on shutdown
+   */
+  @PreDestroy
+  public void flushPendingPushes() {
+    for (var repositoryName : deferredPushScheduler.getPendingRepositories()) {
+      try {
+        flushPush(repositoryName);
+      } catch (RuntimeException e) {
+        log.warn("Pending commits of repo {} weren't pushed: {}", repositoryName,
+            e.getMessage());
+      }
+    }
+  }
+
   @Override
   public void commitAndSubmit(@NonNull String repositoryName, @NonNull String filePath,
       @NonNull String fileContent, String eTag) {
@@ -331,7 +493,7 @@ public class JGitServiceImpl implements JGitService {
     var repositoryDirectory = getExistedRepository(repositoryName);
 
     log.trace("Synchronizing repo {}", repositoryName);
-    var lock = getLock(repositoryName);
+    var lock = lockManager.getWriteLock(repositoryName);
     lock.lock();
     try (var git = openRepo(repositoryDirectory)) {
       if (!getFilesInPath(repositoryName, filePath).isEmpty()) {
@@ -360,7 +522,7 @@ public class JGitServiceImpl implements JGitService {
     var repositoryDirectory = getExistedRepository(repositoryName);
 
     log.trace("Synchronizing repo {}", repositoryName);
-    var lock = getLock(repositoryName);
+    var lock = lockManager.getWriteLock(repositoryName);
     lock.lock();
     try (var git = openRepo(repositoryDirectory)) {
       log.trace("Deleting file at path {}", filePath);
@@ -368,7 +530,7 @@ public class JGitServiceImpl implements JGitService {
       var fileToDelete = new File(repositoryDirectory, FilenameUtils.normalize(filePath));
       if (fileToDelete.delete()) {
         log.trace("Commit file {} in repo {} with amend", filePath, repositoryName);
-        doAmend(repositoryDirectory, fileToDelete, git);
+        doAmend(repositoryDirectory, List.of(fileToDelete), git);
         log.debug("File {} deleted from repo {}", filePath, repositoryName);
       }
     } finally {
@@ -380,7 +542,26 @@ public class JGitServiceImpl implements JGitService {
   @Override
   public void deleteRepo(String repoName) {
     var repositoryFile = getRepositoryDir(repoName);
-    deleteFolder(repositoryFile);
+    var lock = lockManager.getWriteLock(repoName);
+    lock.lock();
+    try {
+      if (deferredPushScheduler.isPending(repositoryFile.getName())) {
+        // the repository is the only place where pending commits exist, so it's kept if they
+        // couldn't be pushed
+        log.debug("Pushing pending commits of repo {} before its deletion", repoName);
+        try (var git = openRepo(repositoryFile)) {
+          pushPending(repositoryFile.getName(), git);
+        }
+      }
+      deferredPushScheduler.remove(repositoryFile.getName());
+      repositoryHandleCache.evict(repositoryFile.getName());
+      commitDatesIndexer.evict(repositoryFile.getName());
+      datesCacheService.invalidate(repositoryFile.getName());
+      deleteFolder(repositoryFile);
+    } finally {
+      lock.unlock();
+      log.trace("Repo {} lock released", repoName);
+    }
   }
 
   private static void deleteFolder(File repositoryFile) {
@@ -406,14 +587,14 @@ public class JGitServiceImpl implements JGitService {
     log.debug("Trying to rollback file from repository {} at path {}", repositoryName, filePath);
     var repositoryDirectory = getExistedRepository(repositoryName);
     log.trace("Synchronizing repo {}", repositoryName);
-    var lock = getLock(repositoryName);
+    var lock = lockManager.getWriteLock(repositoryName);
     lock.lock();
     try (var git = openRepo(repositoryDirectory)) {
       log.trace("Rolling back file at path {}", filePath);
       doRollback(git, filePath, repositoryDirectory);
       log.trace("Commit file {} in repo {} with amend", filePath, repositoryName);
       var file = new File(repositoryDirectory, FilenameUtils.normalize(filePath));
-      doAmend(repositoryDirectory, file, git);
+      doAmend(repositoryDirectory, List.of(file), git);
       log.debug("File {} rolled back in repo {}", filePath, repositoryName);
     } finally {
       lock.unlock();
@@ -429,7 +610,7 @@ public class JGitServiceImpl implements JGitService {
     var repositoryDirectory = getExistedRepository(repositoryName);
 
     log.trace("Synchronizing repo {}", repositoryName);
-    var lock = getLock(repositoryName);
+    var lock = lockManager.getWriteLock(repositoryName);
     lock.lock();
     try (var git = openRepo(repositoryDirectory)) {
       log.trace("Deleting file at path {}", filePath);
@@ -447,6 +628,39 @@ public class JGitServiceImpl implements JGitService {
     }
   }
 
+  /**
+   * Writes or deletes the file
+   *
+   * @return changed file or empty if file to delete doesn't exist
+   */
+  @SuppressWarnings("findsecbugs:PATH_TRAVERSAL_IN")
+  private Optional<File> applyFileChange(String repositoryName, File repositoryDirectory,
+      FileChangeDto change) {
+    var filePath = change.getPath();
+    if (Objects.nonNull(change.getContent())) {
+      log.trace("Updating file at path {}", filePath);
+      return Optional.of(gitFileService.writeFile(repositoryName, change.getContent(), filePath));
+    }
+    log.trace("Deleting file at path {}", filePath);
+    var fileToDelete = new File(repositoryDirectory, FilenameUtils.normalize(filePath));
+    return fileToDelete.delete() ? Optional.of(fileToDelete) : Optional.empty();
+  }
+
+  /**
+   * Restores files of the batch that was applied partially, so no change is left uncommitted
+   */
+  private void discardFileChanges(Git git, List<FileChangeDto> changes) {
+    var paths = changes.stream()
+        .map(change -> FilenameUtils.normalize(change.getPath(), true))
+        .collect(Collectors.toSet());
+    try {
+      git.checkout().setStartPoint(Constants.HEAD).addPaths(List.copyOf(paths)).call();
+      git.clean().setPaths(paths).call();
+    } catch (GitAPIException e) {
+      log.warn("Couldn't discard file changes {}: {}", paths, e.getMessage());
+    }
+  }
+
   private void validateETag(File repositoryDirectory, String filePath, String eTag) {
     boolean isValidETag;
     var content = getFileContent(repositoryDirectory, filePath);
@@ -467,6 +681,11 @@ public class JGitServiceImpl implements JGitService {
   private void doRollback(Git git, String filePath, File repositoryDirectory) {
     try {
       var lastCommit = git.log().call().iterator().next();
+      if (lastCommit.getParentCount() == 0 && isShallow(git)) {
+        log.debug("Parent commit wasn't cloned, fetching full history");
+        deepenHistory(repositoryDirectory, git);
+        lastCommit = git.log().call().iterator().next();
+      }
       var parentCommit = lastCommit.getParent(0);
       var isFileExistsInLastCommit = checkFileExistsInCommit(git, filePath, lastCommit);
       var isFileExistsInParentCommit = checkFileExistsInCommit(git, filePath, parentCommit);
@@ -509,7 +728,7 @@ public class JGitServiceImpl implements JGitService {
     var headBranchRepoName = gerritPropertiesConfig.getHeadBranch();
 
     if (repoExists(headBranchRepoName)) {
-      var lock = getLock(headBranchRepoName);
+      var lock = lockManager.getReadLock(headBranchRepoName);
       lock.lock();
       try {
         FileCopyUtils.copy(getRepositoryDir(headBranchRepoName), repositoryDirectory);
@@ -524,15 +743,77 @@ public class JGitServiceImpl implements JGitService {
     }
   }
 
+  /**
+   * Creates repository that reads objects of the head-branch repository through git alternates
+   * and checks out head-branch HEAD commit, so neither objects are copied nor remote is cloned.
+   * Pruning is disabled in the head-branch repository first, so gc doesn't delete objects that
+   * the new repository depends on.
+   */
+  private void createRepoSharingHeadBranchObjects(@NonNull File repositoryDirectory) {
+    var headBranchRepoName = gerritPropertiesConfig.getHeadBranch();
+    if (headBranchRepoName.equals(repositoryDirectory.getName())
+        || !repoExists(headBranchRepoName) || !disablePruning(headBranchRepoName)) {
+      return;
+    }
+
+    var lock = lockManager.getReadLock(headBranchRepoName);
+    lock.lock();
+    try (var headGit = openRepo(getRepositoryDir(headBranchRepoName))) {
+      var headRepository = headGit.getRepository();
+      var headId = headRepository.resolve(Constants.HEAD);
+      if (Objects.isNull(headId)) {
+        return;
+      }
+      jGitWrapper.initRepositorySharingObjects(repositoryDirectory, headRepository,
+          headBranchRepoName, headId, getRepositoryUrl());
+      log.debug("Repository {} was successfully created on head-branch objects.",
+          repositoryDirectory);
+    } catch (IOException | GitAPIException e) {
+      log.warn("Exception occurred during creating repository on head-branch objects: {}",
+          e.getMessage());
+      deleteFolder(repositoryDirectory);
+    } finally {
+      lock.unlock();
+      log.trace("Repo {} lock released", headBranchRepoName);
+    }
+  }
+
+  /**
+   * @return false if pruning couldn't be disabled, so objects of the repository mustn't be shared
+   */
+  private boolean disablePruning(@NonNull String repositoryName) {
+    var lock = lockManager.getWriteLock(repositoryName);
+    lock.lock();
+    try (var git = openRepo(getRepositoryDir(repositoryName))) {
+      jGitWrapper.disablePruning(git.getRepository());
+      return true;
+    } catch (IOException e) {
+      log.warn("Exception occurred during disabling pruning of repository {}: {}", repositoryName,
+          e.getMessage());
+      return false;
+    } finally {
+      lock.unlock();
+      log.trace("Repo {} lock released", repositoryName);
+    }
+  }
+
   @NonNull
   private Git cloneRepo(@NonNull File repositoryDirectory) {
+    var cloning = gitPropertiesConfig.getCloning();
     var cloneCommand =
         jGitWrapper
             .cloneRepository()
             .setURI(getRepositoryUrl())
             .setCredentialsProvider(getCredentialsProvider())
-            .setCloneAllBranches(true)
+            .setCloneAllBranches(!cloning.isSingleBranch())
             .setDirectory(repositoryDirectory);
+    if (cloning.isSingleBranch()) {
+      var headBranchRef = Constants.R_HEADS + gerritPropertiesConfig.getHeadBranch();
+      cloneCommand.setBranchesToClone(List.of(headBranchRef)).setBranch(headBranchRef);
+    }
+    if (cloning.getDepth() > 0) {
+      cloneCommand.setDepth(cloning.getDepth());
+    }
     try {
       return Objects.requireNonNull(
           retryable.call(cloneCommand), "CloneCommand#call cannot be null");
@@ -551,6 +832,11 @@ public class JGitServiceImpl implements JGitService {
   }
 
   private Git openRepo(File repositoryDirectory) {
+    if (gitPropertiesConfig.getRepositoryCache().isEnabled()) {
+      var repository =
+          repositoryHandleCache.get(repositoryDirectory.getName(), repositoryDirectory);
+      return jGitWrapper.wrap(repository);
+    }
     try {
       return jGitWrapper.open(repositoryDirectory);
     } catch (IOException e) {
@@ -574,6 +860,10 @@ public class JGitServiceImpl implements JGitService {
     if (Objects.nonNull(refs)) {
       fetchCommand.setRefSpecs(refs);
     }
+    fetch(fetchCommand);
+  }
+
+  private void fetch(@NonNull FetchCommand fetchCommand) {
     try {
       retryable.call(fetchCommand);
     } catch (InvalidRemoteException e) {
@@ -584,6 +874,73 @@ public class JGitServiceImpl implements JGitService {
     }
   }
 
+  /**
+   * Shallow clone doesn't contain commits that created files, so the whole history is fetched
+   * before it's walked. Repository isn't locked while it's checked, as shallow file is only removed
+   * by deepening and that is done under write lock
+   */
+  @SuppressWarnings("findsecbugs:PATH_TRAVERSAL_IN")
+  private void deepenHistoryIfShallow(@NonNull String repositoryName,
+      @NonNull File repositoryDirectory) {
+    var shallowFile = new File(new File(repositoryDirectory, Constants.DOT_GIT), Constants.SHALLOW);
+    if (!shallowFile.exists()) {
+      return;
+    }
+    log.trace("Synchronizing repo {}", repositoryName);
+    var lock = lockManager.getWriteLock(repositoryName);
+    lock.lock();
+    try (var git = openRepo(repositoryDirectory)) {
+      if (isShallow(git)) {
+        log.debug("Fetching full history of shallow repository {}", repositoryName);
+        deepenHistory(repositoryDirectory, git);
+      }
+    } finally {
+      lock.unlock();
+      log.trace("Repo {} lock released", repositoryName);
+    }
+  }
+
+  private static boolean isShallow(@NonNull Git git) {
+    try {
+      return !git.getRepository().getObjectDatabase().getShallowCommits().isEmpty();
+    } catch (IOException e) {
+      throw new GitCommandException(
+          String.format("Exception occurred during reading shallow commits: %s", e.getMessage()),
+          e);
+    }
+  }
+
+  /**
+   * Fetches the whole history of the repository. Repository that reads head-branch objects through
+   * git alternates takes the history of the deepened head-branch repository instead, so no objects
+   * are fetched to its own object database. Must be called under repository write lock
+   */
+  @SuppressWarnings("findsecbugs:PATH_TRAVERSAL_IN")
+  private void deepenHistory(@NonNull File repositoryDirectory, @NonNull Git git) {
+    var headBranchRepoName = gerritPropertiesConfig.getHeadBranch();
+    var alternates = new File(new File(repositoryDirectory, Constants.DOT_GIT),
+        Constants.OBJECTS + "/" + Constants.INFO_ALTERNATES);
+    if (headBranchRepoName.equals(repositoryDirectory.getName()) || !alternates.exists()) {
+      fetch(git.fetch().setCredentialsProvider(getCredentialsProvider()).setUnshallow(true));
+      return;
+    }
+
+    var headBranchDirectory = getExistedRepository(headBranchRepoName);
+    deepenHistoryIfShallow(headBranchRepoName, headBranchDirectory);
+    var lock = lockManager.getReadLock(headBranchRepoName);
+    lock.lock();
+    try (var headGit = openRepo(headBranchDirectory)) {
+      jGitWrapper.copyShallowCommits(headGit.getRepository(), git.getRepository());
+    } catch (IOException e) {
+      throw new GitCommandException(
+          String.format("Exception occurred during updating shallow commits: %s", e.getMessage()),
+          e);
+    } finally {
+      lock.unlock();
+      log.trace("Repo {} lock released", headBranchRepoName);
+    }
+  }
+
   private void checkoutFetchHead(@NonNull Git git) {
     var checkoutCommand = git.checkout().setName(Constants.FETCH_HEAD);
     try {
@@ -604,6 +961,27 @@ public class JGitServiceImpl implements JGitService {
     }
   }
 
+  @Nullable
+  private static ObjectId resolveHead(@NonNull Git git) {
+    try {
+      return git.getRepository().resolve(Constants.HEAD);
+    } catch (IOException e) {
+      throw new GitCommandException(
+          String.format("Exception occurred during resolving HEAD: %s", e.getMessage()), e);
+    }
+  }
+
+  /**
+   * Cached file dates become outdated if fetch or rebase moved HEAD of the repository
+   */
+  private void invalidateDatesIfHeadMoved(@NonNull String repositoryName, @NonNull Git git,
+      @Nullable ObjectId previousHead) {
+    if (!Objects.equals(previousHead, resolveHead(git))) {
+      log.trace("HEAD of repo {} moved, invalidating its file dates", repositoryName);
+      datesCacheService.invalidate(repositoryName);
+    }
+  }
+
   private void hardResetOnOriginHeadBranch(@NonNull Git git) {
     var resetCommand =
         git.reset()
@@ -640,6 +1018,23 @@ public class JGitServiceImpl implements JGitService {
     return files;
   }
 
+  private static Map<String, String> getFileBlobIds(TreeWalk treeWalk) {
+    var blobIds = new HashMap<String, String>();
+    try {
+      treeWalk.enterSubtree();
+      while (treeWalk.next()) {
+        if (!treeWalk.isSubtree()) {
+          blobIds.put(treeWalk.getPathString(), treeWalk.getObjectId(0).name());
+        }
+      }
+    } catch (IOException e) {
+      throw new GitCommandException(
+          String.format("Exception occurred during reading file blob ids by path: %s",
+              e.getMessage()), e);
+    }
+    return blobIds;
+  }
+
   @NonNull
   private static LocalDateTime getCommitDateTime(@NonNull RevCommit commit) {
     return LocalDateTime.ofEpochSecond(commit.getCommitTime(), 0, ZoneOffset.UTC);
@@ -665,17 +1060,114 @@ public class JGitServiceImpl implements JGitService {
     }
   }
 
-  private void doAmend(File repoDirectory, File file, Git git) {
-    addFileToGit(repoDirectory, file, git);
+  @Nullable
+  private String getHeadFileContent(@NonNull File repositoryDirectory, @NonNull String filePath) {
+    if (StringUtils.isEmptyOrNull(filePath)) {
+      throw new IllegalArgumentException("Empty path not permitted.");
+    }
+
+    try (var git = openRepo(repositoryDirectory)) {
+      var repository = git.getRepository();
+      var headId = repository.resolve(Constants.HEAD);
+      if (Objects.isNull(headId)) {
+        return null;
+      }
+      return jGitWrapper.readFileContent(repository, headId,
+          FilenameUtils.normalizeNoEndSeparator(filePath, true));
+    } catch (IOException e) {
+      throw new GitCommandException(
+          String.format(
+              "Exception occurred during reading file content by path: %s", e.getMessage()),
+          e);
+    }
+  }
+
+  private void doAmend(File repoDirectory, List<File> files, Git git) {
+    files.forEach(file -> addFileToGit(repoDirectory, file, git));
     var gitStatus = status(git);
     if (!gitStatus.isClean()) {
       commitAmend(git);
+      datesCacheService.invalidate(repoDirectory.getName());
 
-      var push = git.push()
-          .setCredentialsProvider(getCredentialsProvider())
-          .setRemote(Constants.DEFAULT_REMOTE_NAME)
-          .setRefSpecs(new RefSpec("HEAD:refs/for/" + gerritPropertiesConfig.getHeadBranch()));
-      pushChanges(git, push);
+      if (PushingMode.DEFERRED.equals(gitPropertiesConfig.getPushing().getMode())) {
+        var repositoryName = repoDirectory.getName();
+        log.trace("Deferring push of repo {}", repositoryName);
+        deferredPushScheduler.markPending(repositoryName, () -> flushPush(repositoryName));
+      } else {
+        pushAmend(repoDirectory.getName(), git);
+      }
+    }
+  }
+
+  private void pushAmend(String repositoryName, Git git) {
+    var push = git.push()
+        .setCredentialsProvider(getCredentialsProvider())
+        .setRemote(Constants.DEFAULT_REMOTE_NAME)
+        .setRefSpecs(new RefSpec("HEAD:refs/for/" + gerritPropertiesConfig.getHeadBranch()));
+    pushChanges(git, push);
+    eventPublisher.publishVersionCandidatePushedEvent(repositoryName);
+  }
+
+  /**
+   * Pushes commits of the repository that are waiting for deferred push. Must be called under
+   * repository write lock
+   */
+  private void pushPending(String repositoryName, Git git) {
+    if (!deferredPushScheduler.takePending(repositoryName)) {
+      return;
+    }
+    log.trace("Pushing pending commits of repo {}", repositoryName);
+    try {
+      pushAmend(repositoryName, git);
+      deferredPushScheduler.pushSucceeded(repositoryName);
+    } catch (RuntimeException e) {
+      deferredPushScheduler.pushFailed(repositoryName, e);
+      throw e;
+    }
+  }
+
+  /**
+   * Pushes pending commits of the repository on top of the just fetched patch set instead of
+   * checking it out. If the fetched patch set has another parent than the pending commit (e.g. the
+   * change was rebased in Gerrit after the last push), the pending commit is rebased onto the
+   * fetched patch set first, so the push doesn't revert the rebase. If the pending commit conflicts
+   * with the fetched patch set the push is refused and the commit stays pending. Must be called
+   * under repository write lock
+   */
+  private void pushPendingOnFetchHead(String repositoryName, Git git, ObjectId pendingCommitId) {
+    var repository = git.getRepository();
+    try {
+      var fetchHeadId = repository.resolve(Constants.FETCH_HEAD);
+      var rebasedCommitId = jGitWrapper.rebaseAmendedCommit(repository, pendingCommitId,
+          fetchHeadId);
+      if (Objects.isNull(rebasedCommitId)) {
+        var exception = new GitCommandException(String.format(
+            "Pending commit of repo %s conflicts with the fetched patch set %s and wasn't pushed",
+            repositoryName, fetchHeadId.name()));
+        deferredPushScheduler.takePending(repositoryName);
+        deferredPushScheduler.pushFailed(repositoryName, exception);
+        throw exception;
+      }
+      if (!rebasedCommitId.equals(pendingCommitId)) {
+        log.debug("Patch set of repo {} moved, pending commit rebased onto {}", repositoryName,
+            fetchHeadId.name());
+        hardReset(git, rebasedCommitId);
+      }
+    } catch (IOException e) {
+      throw new GitCommandException(
+          String.format("Exception occurred during rebasing pending commit: %s", e.getMessage()),
+          e);
+    }
+    pushPending(repositoryName, git);
+  }
+
+  private void hardReset(@NonNull Git git, @NonNull ObjectId commitId) {
+    try {
+      git.reset().setMode(ResetType.HARD).setRef(commitId.name()).call();
+    } catch (GitAPIException e) {
+      throw new GitCommandException(
+          String.format("Exception occurred during hard reset on %s: %s", commitId.name(),
+              e.getMessage()), e);
     }
   }
 
@@ -684,6 +1176,7 @@ public class JGitServiceImpl implements JGitService {
     var gitStatus = status(git);
     if (!gitStatus.isClean()) {
       commit(git, commitMessage);
+      datesCacheService.invalidate(repoDirectory.getName());
 
       var push = git.push()
           .setCredentialsProvider(getCredentialsProvider())
@@ -758,10 +1251,6 @@ public class JGitServiceImpl implements JGitService {
     return repo;
   }
 
-  private Lock getLock(String repositoryName) {
-    return lockMap.computeIfAbsent(repositoryName, s -> new ReentrantLock());
-  }
-
   private List<RevCommit> getRevCommitList(String filePath, Git git) {
     var log = git.log();
     log.addPath(filePath);
@@ -19,15 +19,29 @@ package com.epam.digital.data.platform.management.gitintegration.service;
 import com.epam.digital.data.platform.management.gitintegration.exception.GitCommandException;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 import org.eclipse.jgit.api.CloneCommand;
 import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.ResetCommand.ResetType;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.CommitBuilder;
+import org.eclipse.jgit.lib.ConfigConstants;
+import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.RefUpdate;
 import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.RepositoryCache.FileKey;
+import org.eclipse.jgit.merge.MergeStrategy;
+import org.eclipse.jgit.merge.ResolveMerger;
 import org.eclipse.jgit.revwalk.RevTree;
 import org.eclipse.jgit.revwalk.RevWalk;
 import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.util.FS;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
@@ -35,21 +49,136 @@ import org.springframework.stereotype.Component;
 @Component
 public class JGitWrapper {
 
+  private static final String PRUNE_NEVER = "never";
+
   @NonNull
   public Git open(@NonNull File repositoryDirectory) throws IOException {
     return Git.open(repositoryDirectory);
   }
 
+  /**
+   * Opens a new {@link Repository} instance that isn't shared with JGit repository cache, so its
+   * lifecycle is fully controlled by the caller
+   *
+   * @param repositoryDirectory repository working tree or git directory
+   * @return opened repository
+   * @throws IOException if the directory doesn't contain a repository or it couldn't be opened
+   */
+  @NonNull
+  public Repository openRepository(@NonNull File repositoryDirectory) throws IOException {
+    return FileKey.lenient(repositoryDirectory, FS.DETECTED).open(true);
+  }
+
+  /**
+   * Wraps already opened repository. Closing of the returned {@link Git} doesn't close the
+   * repository
+   */
+  @NonNull
+  public Git wrap(@NonNull Repository repository) {
+    return Git.wrap(repository);
+  }
+
   @NonNull
   public CloneCommand cloneRepository() {
     return Git.cloneRepository();
   }
 
+  /**
+   * Disables automatic gc and pruning of unreachable objects in the repository, so objects that
+   * other repositories read through git alternates are never deleted from it
+   *
+   * @param repository repository which objects are shared
+   * @throws IOException in case the repository config couldn't be saved
+   */
+  public void disablePruning(@NonNull Repository repository) throws IOException {
+    var config = repository.getConfig();
+    if (config.getInt(ConfigConstants.CONFIG_GC_SECTION, ConfigConstants.CONFIG_KEY_AUTO, -1) == 0
+        && PRUNE_NEVER.equals(config.getString(ConfigConstants.CONFIG_GC_SECTION, null,
+        ConfigConstants.CONFIG_KEY_PRUNEEXPIRE))) {
+      return;
+    }
+    config.setInt(ConfigConstants.CONFIG_GC_SECTION, null, ConfigConstants.CONFIG_KEY_AUTO, 0);
+    config.setString(ConfigConstants.CONFIG_GC_SECTION, null,
+        ConfigConstants.CONFIG_KEY_PRUNEEXPIRE, PRUNE_NEVER);
+    config.save();
+  }
+
+  /**
+   * Creates repository that reads objects of the source repository through git alternates, so no
+   * objects are copied. The branch is created on the specified commit of the source repository
+   * and checked out to the working tree.
+   *
+   * @param repositoryDirectory directory of the new repository
+   * @param sourceRepository    repository which objects are shared
+   * @param branch              name of the branch to create and check out
+   * @param commitId            commit of the source repository to create the branch on
+   * @param remoteUrl           url of the "origin" remote
+   * @throws IOException     in case of file system errors
+   * @throws GitAPIException in case of checkout errors
+   */
+  public void initRepositorySharingObjects(@NonNull File repositoryDirectory,
+      @NonNull Repository sourceRepository, @NonNull String branch, @NonNull ObjectId commitId,
+      @NonNull String remoteUrl) throws IOException, GitAPIException {
+    Git.init().setDirectory(repositoryDirectory).setInitialBranch(branch).call().close();
+
+    var gitDirectory = new File(repositoryDirectory, Constants.DOT_GIT);
+    var alternates = new File(gitDirectory, Constants.OBJECTS + "/" + Constants.INFO_ALTERNATES);
+    var sourceObjects = new File(sourceRepository.getDirectory(), Constants.OBJECTS);
+    Files.createDirectories(alternates.getParentFile().toPath());
+    Files.writeString(alternates.toPath(), sourceObjects.getAbsolutePath() + "\n");
+
+    try (var git = Git.open(repositoryDirectory)) {
+      var repository = git.getRepository();
+      // source history can be shallow, its boundary has to be known to the new repository too,
+      // otherwise walking history fails on parent commits that were never cloned
+      copyShallowCommits(sourceRepository, repository);
+      var config = repository.getConfig();
+      config.setString("remote", Constants.DEFAULT_REMOTE_NAME, "url", remoteUrl);
+      config.setString("remote", Constants.DEFAULT_REMOTE_NAME, "fetch",
+          "+" + Constants.R_HEADS + "*:" + Constants.R_REMOTES + Constants.DEFAULT_REMOTE_NAME
+              + "/*");
+      config.save();
+
+      updateRef(repository, Constants.R_REMOTES + Constants.DEFAULT_REMOTE_NAME + "/" + branch,
+          commitId);
+      updateRef(repository, Constants.R_HEADS + branch, commitId);
+      git.reset().setMode(ResetType.HARD).setRef(commitId.name()).call();
+    }
+  }
+
+  /**
+   * Replaces shallow commits of the target repository with the shallow commits of the source one.
+   * Used for repositories that read objects of the source repository through git alternates, so
+   * their history boundary follows the source repository when it's deepened
+   *
+   * @param sourceRepository repository which shallow commits are copied
+   * @param targetRepository repository which shallow commits are replaced
+   * @throws IOException in case of shallow file reading or writing errors
+   */
+  public void copyShallowCommits(@NonNull Repository sourceRepository,
+      @NonNull Repository targetRepository) throws IOException {
+    targetRepository.getObjectDatabase()
+        .setShallowCommits(sourceRepository.getObjectDatabase().getShallowCommits());
+  }
+
+  private static void updateRef(Repository repository, String refName, ObjectId objectId)
+      throws IOException {
+    var refUpdate = repository.updateRef(refName);
+    refUpdate.setNewObjectId(objectId);
+    refUpdate.setForceUpdate(true);
+    var result = refUpdate.update();
+    if (result != RefUpdate.Result.NEW && result != RefUpdate.Result.FORCED
+        && result != RefUpdate.Result.NO_CHANGE) {
+      throw new IOException(String.format("Couldn't update ref %s: %s", refName, result));
+    }
+  }
+
   @NonNull
   protected RevTree getRevTree(@NonNull Repository repository) throws IOException {
     ObjectId lastCommitId = repository.resolve("HEAD");
-    RevWalk revWalk = new RevWalk(repository);
-    return revWalk.parseCommit(lastCommitId).getTree();
+    try (RevWalk revWalk = new RevWalk(repository)) {
+      return revWalk.parseCommit(lastCommitId).getTree();
+    }
   }
 
   @Nullable
@@ -78,4 +207,116 @@ public class JGitWrapper {
   public String readFileContent(Path path) throws IOException {
     return Files.readString(path);
   }
+
+  /**
+   * Reads file content from the tree of specified commit using repository object database, so the
+   * result doesn't depend on the working tree state
+   *
+   * @param repository opened repository
+   * @param commitId   id of the commit to read the file from
+   * @param path       repository relative file path with '/' separators
+   * @return file content or null if there is no such file in the commit tree
+   * @throws IOException in case of object database reading errors
+   */
+  @Nullable
+  public String readFileContent(@NonNull Repository repository, @NonNull AnyObjectId commitId,
+      @NonNull String path) throws IOException {
+    try (var revWalk = new RevWalk(repository)) {
+      var reader = revWalk.getObjectReader();
+      var revTree = revWalk.parseCommit(commitId).getTree();
+      try (var treeWalk = TreeWalk.forPath(reader, path, revTree)) {
+        if (treeWalk == null || treeWalk.isSubtree()) {
+          return null;
+        }
+        var blob = reader.open(treeWalk.getObjectId(0), Constants.OBJ_BLOB);
+        return new String(blob.getCachedBytes(), StandardCharsets.UTF_8);
+      }
+    }
+  }
+
+  /**
+   * Reads content of the blob from repository object database
+   *
+   * @param repository opened repository
+   * @param blobId     id of the blob to read
+   * @return blob content or null if there is no such blob in the repository
+   * @throws IOException in case of object database reading errors
+   */
+  @Nullable
+  public String readBlobContent(@NonNull Repository repository, @NonNull AnyObjectId blobId)
+      throws IOException {
+    try (var reader = repository.newObjectReader()) {
+      if (!reader.has(blobId, Constants.OBJ_BLOB)) {
+        return null;
+      }
+      var blob = reader.open(blobId, Constants.OBJ_BLOB);
+      return new String(blob.getCachedBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  /**
+   * Merges the commits in memory using the same strategy as merge command does. Neither working
+   * tree nor index nor refs of the repository are changed, the merge only reads the object
+   * database
+   *
+   * @param repository opened repository
+   * @param ours       commit to merge into
+   * @param theirs     commit to merge
+   * @return repository relative paths of conflicting files, empty if the commits merge cleanly
+   * @throws IOException in case of object database reading errors
+   */
+  @NonNull
+  public List<String> getMergeConflicts(@NonNull Repository repository, @NonNull AnyObjectId ours,
+      @NonNull AnyObjectId theirs) throws IOException {
+    var merger = (ResolveMerger) MergeStrategy.RECURSIVE.newMerger(repository, true);
+    if (merger.merge(ours, theirs)) {
+      return List.of();
+    }
+    return List.copyOf(merger.getUnmergedPaths());
+  }
+
+  /**
+   * Moves amended commit onto the base of the patch set it's going to replace. Commits with the
+   * same parents are returned as is. Otherwise, changes of the amended commit relative to its
+   * parent are merged in memory into the patch set and the merge result is committed with the
+   * parents of the patch set and the author, committer and message of the amended commit. Neither
+   * working tree nor index nor refs of the repository are changed
+   *
+   * @param repository      opened repository
+   * @param amendedCommitId commit to move
+   * @param patchSetId      patch set which base the commit is moved onto
+   * @return id of the moved commit or null if its changes conflict with the patch set
+   * @throws IOException in case of object database reading or writing errors
+   */
+  @Nullable
+  public ObjectId rebaseAmendedCommit(@NonNull Repository repository,
+      @NonNull AnyObjectId amendedCommitId, @NonNull AnyObjectId patchSetId) throws IOException {
+    try (var revWalk = new RevWalk(repository)) {
+      var amendedCommit = revWalk.parseCommit(amendedCommitId);
+      var patchSet = revWalk.parseCommit(patchSetId);
+      if (Arrays.equals(amendedCommit.getParents(), patchSet.getParents())) {
+        return amendedCommit.getId();
+      }
+
+      var merger = (ResolveMerger) MergeStrategy.RECURSIVE.newMerger(repository, true);
+      if (amendedCommit.getParentCount() > 0) {
+        merger.setBase(amendedCommit.getParent(0));
+      }
+      if (!merger.merge(patchSet, amendedCommit)) {
+        return null;
+      }
+
+      var commitBuilder = new CommitBuilder();
+      commitBuilder.setTreeId(merger.getResultTreeId());
+      commitBuilder.setParentIds(patchSet.getParents());
+      commitBuilder.setAuthor(amendedCommit.getAuthorIdent());
+      commitBuilder.setCommitter(amendedCommit.getCommitterIdent());
+      commitBuilder.setMessage(amendedCommit.getFullMessage());
+      try (var inserter = repository.newObjectInserter()) {
+        var commitId = inserter.insert(commitBuilder);
+        inserter.flush();
+        return commitId;
+      }
+    }
+  }
 }
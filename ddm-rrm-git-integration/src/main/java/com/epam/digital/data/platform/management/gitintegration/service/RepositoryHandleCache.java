@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gitintegration.service;
+
+import com.epam.digital.data.platform.management.gitintegration.exception.GitCommandException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.lib.Repository;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps opened {@link Repository} instances of the local repositories, so the repository config,
+ * refs and pack indexes aren't re-read on every git operation.
+ * <p>
+ * Handles are keyed by the repository name (version id) and have to be
+ * {@link #evict(String) evicted} before the repository is deleted from the file system. Eviction
+ * closes the handle, so it's done under the repository write lock and cached handles may only be
+ * used under the repository read or write lock. Cached handles must never be closed by the
+ * callers.
+ * <p>
+ * Cache hits and misses are published as {@value #CACHE_REQUESTS_METRIC} counter and the number of
+ * opened handles as {@value #CACHE_SIZE_METRIC} gauge.
+ */
+@Slf4j
+@Component
+public class RepositoryHandleCache {
+
+  public static final String CACHE_REQUESTS_METRIC = "rrm.git.repository.cache.requests";
+  public static final String CACHE_SIZE_METRIC = "rrm.git.repository.cache.size";
+
+  private final Map<String, Repository> repositories = new ConcurrentHashMap<>();
+
+  private final JGitWrapper jGitWrapper;
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public RepositoryHandleCache(JGitWrapper jGitWrapper, MeterRegistry meterRegistry) {
+    this.jGitWrapper = jGitWrapper;
+    this.hitCounter = Counter.builder(CACHE_REQUESTS_METRIC)
+        .tag("result", "hit")
+        .register(meterRegistry);
+    this.missCounter = Counter.builder(CACHE_REQUESTS_METRIC)
+        .tag("result", "miss")
+        .register(meterRegistry);
+    Gauge.builder(CACHE_SIZE_METRIC, repositories, Map::size)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Get cached repository handle or open a new one if there is no handle for the repository yet
+   * or its directory has been deleted without eviction
+   *
+   * @param repositoryName      name of the repository
+   * @param repositoryDirectory directory of the repository
+   * @return opened {@link Repository} that must not be closed by the caller
+   * @throws GitCommandException in case if it couldn't open the repository
+   */
+  @NonNull
+  public Repository get(@NonNull String repositoryName, @NonNull File repositoryDirectory) {
+    var cached = repositories.get(repositoryName);
+    if (cached != null) {
+      if (cached.getDirectory().exists()) {
+        hitCounter.increment();
+        return cached;
+      }
+      // the stale handle is dropped before opening, so it's not kept if opening fails
+      if (repositories.remove(repositoryName, cached)) {
+        log.debug("Closing stale handle of repository {}", repositoryName);
+        cached.close();
+      }
+    }
+    missCounter.increment();
+    return repositories.computeIfAbsent(repositoryName, name -> {
+      log.debug("Opening long-lived handle of repository {}", name);
+      return openRepository(repositoryDirectory);
+    });
+  }
+
+  /**
+   * Close and remove repository handle from the cache
+   *
+   * @param repositoryName name of the repository
+   */
+  public void evict(@NonNull String repositoryName) {
+    var removed = repositories.remove(repositoryName);
+    if (removed != null) {
+      log.debug("Closing handle of repository {}", repositoryName);
+      removed.close();
+    }
+  }
+
+  @PreDestroy
+  public void evictAll() {
+    repositories.keySet().forEach(this::evict);
+  }
+
+  private Repository openRepository(File repositoryDirectory) {
+    try {
+      return jGitWrapper.openRepository(repositoryDirectory);
+    } catch (IOException e) {
+      throw new GitCommandException(
+          String.format("Exception occurred during repository opening: %s", e.getMessage()), e);
+    }
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gitintegration.service;
+
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig;
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig.LockingMode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds per-repository locks that are used for synchronizing operations on local repositories.
+ * <p>
+ * Read-only operations take {@link #getReadLock(String) read lock} and operations that change
+ * repository state or working tree take {@link #getWriteLock(String) write lock}. In
+ * {@link LockingMode#EXCLUSIVE exclusive} mode both of them are the same exclusive lock.
+ * <p>
+ * Time spent on waiting for a lock and holding it is published as {@value #LOCK_WAIT_METRIC} and
+ * {@value #LOCK_HOLD_METRIC} timers tagged by lock mode.
+ */
+@Component
+public class RepositoryLockManager {
+
+  public static final String LOCK_WAIT_METRIC = "rrm.git.repository.lock.wait";
+  public static final String LOCK_HOLD_METRIC = "rrm.git.repository.lock.hold";
+
+  private static final String READ_MODE = "read";
+  private static final String WRITE_MODE = "write";
+
+  private final ConcurrentMap<String, ReadWriteLock> lockMap = new ConcurrentHashMap<>();
+
+  private final GitPropertiesConfig gitPropertiesConfig;
+  private final MeterRegistry meterRegistry;
+  private final Timer readWaitTimer;
+  private final Timer readHoldTimer;
+  private final Timer writeWaitTimer;
+  private final Timer writeHoldTimer;
+
+  public RepositoryLockManager(GitPropertiesConfig gitPropertiesConfig,
+      MeterRegistry meterRegistry) {
+    this.gitPropertiesConfig = gitPropertiesConfig;
+    this.meterRegistry = meterRegistry;
+    this.readWaitTimer = createTimer(LOCK_WAIT_METRIC, READ_MODE);
+    this.readHoldTimer = createTimer(LOCK_HOLD_METRIC, READ_MODE);
+    this.writeWaitTimer = createTimer(LOCK_WAIT_METRIC, WRITE_MODE);
+    this.writeHoldTimer = createTimer(LOCK_HOLD_METRIC, WRITE_MODE);
+  }
+
+  /**
+   * Get lock for read-only repository operation
+   *
+   * @param repositoryName name of the repository to lock
+   * @return not acquired {@link RepositoryLock}
+   */
+  @NonNull
+  public RepositoryLock getReadLock(@NonNull String repositoryName) {
+    var readWriteLock = getReadWriteLock(repositoryName);
+    if (LockingMode.EXCLUSIVE.equals(gitPropertiesConfig.getLocking().getMode())) {
+      return new RepositoryLock(readWriteLock.writeLock(), writeWaitTimer, writeHoldTimer);
+    }
+    return new RepositoryLock(readWriteLock.readLock(), readWaitTimer, readHoldTimer);
+  }
+
+  /**
+   * Get lock for repository operation that changes repository state or its working tree
+   *
+   * @param repositoryName name of the repository to lock
+   * @return not acquired {@link RepositoryLock}
+   */
+  @NonNull
+  public RepositoryLock getWriteLock(@NonNull String repositoryName) {
+    var readWriteLock = getReadWriteLock(repositoryName);
+    return new RepositoryLock(readWriteLock.writeLock(), writeWaitTimer, writeHoldTimer);
+  }
+
+  private ReadWriteLock getReadWriteLock(String repositoryName) {
+    return lockMap.computeIfAbsent(repositoryName, s -> new ReentrantReadWriteLock());
+  }
+
+  private Timer createTimer(String name, String mode) {
+    return Timer.builder(name)
+        .tag("mode", mode)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Single-use handle of repository lock that measures time of waiting for the lock and holding
+   * it. It's expected to be locked and unlocked once by the same thread.
+   */
+  public class RepositoryLock {
+
+    private final Lock delegate;
+    private final Timer waitTimer;
+    private final Timer holdTimer;
+    private Timer.Sample holdSample;
+
+    private RepositoryLock(Lock delegate, Timer waitTimer, Timer holdTimer) {
+      this.delegate = delegate;
+      this.waitTimer = waitTimer;
+      this.holdTimer = holdTimer;
+    }
+
+    public void lock() {
+      var waitSample = Timer.start(meterRegistry);
+      delegate.lock();
+      waitSample.stop(waitTimer);
+      holdSample = Timer.start(meterRegistry);
+    }
+
+    public void unlock() {
+      delegate.unlock();
+      if (holdSample != null) {
+        holdSample.stop(holdTimer);
+        holdSample = null;
+      }
+    }
+  }
+}
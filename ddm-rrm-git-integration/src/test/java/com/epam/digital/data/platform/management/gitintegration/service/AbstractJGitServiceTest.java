@@ -19,6 +19,9 @@ package com.epam.digital.data.platform.management.gitintegration.service;
 import com.epam.digital.data.platform.management.core.config.CacheConfig;
 import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
 import com.epam.digital.data.platform.management.core.config.RetryConfig;
+import com.epam.digital.data.platform.management.core.event.publisher.RegistryRegulationManagementEventPublisher;
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,6 +30,7 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -37,7 +41,15 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
     GitRetryable.class,
     JGitServiceImpl.class,
     GitFileService.class,
-    DatesCacheService.class})
+    DatesCacheService.class,
+    GitPropertiesConfig.class,
+    RepositoryLockManager.class,
+    RepositoryHandleCache.class,
+    CommitDatesIndexer.class,
+    CommitDatesStore.class,
+    DeferredPushScheduler.class,
+    ThreadPoolTaskScheduler.class,
+    SimpleMeterRegistry.class})
 abstract class AbstractJGitServiceTest {
 
   @TempDir
@@ -50,6 +62,8 @@ abstract class AbstractJGitServiceTest {
   JGitWrapper jGitWrapper;
   @MockBean
   GerritPropertiesConfig gerritPropertiesConfig;
+  @MockBean
+  RegistryRegulationManagementEventPublisher eventPublisher;
 
   @BeforeEach
   void setUp() {
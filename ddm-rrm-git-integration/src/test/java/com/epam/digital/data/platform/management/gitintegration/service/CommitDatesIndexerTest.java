@@ -0,0 +1,248 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gitintegration.service;
+
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig;
+import com.epam.digital.data.platform.management.gitintegration.model.FileDatesDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.TimeZone;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+@DisplayName("CommitDatesIndexer")
+class CommitDatesIndexerTest {
+
+  static final String REPOSITORY_NAME = "repo";
+  static final LocalDateTime FIRST_COMMIT_TIME = LocalDateTime.of(2023, 1, 1, 10, 0);
+  static final LocalDateTime SECOND_COMMIT_TIME = LocalDateTime.of(2023, 1, 2, 10, 0);
+  static final LocalDateTime THIRD_COMMIT_TIME = LocalDateTime.of(2023, 1, 3, 10, 0);
+  static final LocalDateTime FOURTH_COMMIT_TIME = LocalDateTime.of(2023, 1, 4, 10, 0);
+
+  @TempDir
+  File tempDir;
+
+  Git git;
+  RevCommit firstCommit;
+  DatesCacheService datesCacheService;
+  CommitDatesStore commitDatesStore;
+  GitPropertiesConfig gitPropertiesConfig;
+  CommitDatesIndexer commitDatesIndexer;
+
+  @BeforeEach
+  @SneakyThrows
+  void setUp() {
+    git = Git.init().setDirectory(tempDir).call();
+    gitPropertiesConfig = new GitPropertiesConfig();
+    datesCacheService = new DatesCacheService(gitPropertiesConfig, new SimpleMeterRegistry());
+    commitDatesStore = Mockito.spy(new CommitDatesStore());
+    commitDatesIndexer =
+        new CommitDatesIndexer(datesCacheService, commitDatesStore, gitPropertiesConfig);
+
+    writeFile("forms/form.json", "first");
+    writeFile("bpmn/process.bpmn", "first");
+    firstCommit = commit(FIRST_COMMIT_TIME, false);
+    writeFile("forms/form.json", "second");
+    commit(SECOND_COMMIT_TIME, false);
+  }
+
+  @AfterEach
+  void tearDown() {
+    git.close();
+  }
+
+  @Test
+  @DisplayName("should index dates of all files with a single walk")
+  void updateIndexTest() {
+    commitDatesIndexer.updateIndex(REPOSITORY_NAME, git.getRepository());
+
+    Assertions.assertThat(datesCacheService.getDatesCache(REPOSITORY_NAME))
+        .hasSize(2)
+        .containsEntry("forms/form.json", dates(FIRST_COMMIT_TIME, SECOND_COMMIT_TIME))
+        .containsEntry("bpmn/process.bpmn", dates(FIRST_COMMIT_TIME, FIRST_COMMIT_TIME));
+  }
+
+  @Test
+  @DisplayName("should index only new commits after HEAD moved forward")
+  @SneakyThrows
+  void updateIndexTest_incremental() {
+    commitDatesIndexer.updateIndex(REPOSITORY_NAME, git.getRepository());
+
+    writeFile("bpmn/process.bpmn", "second");
+    writeFile("forms/new-form.json", "first");
+    commit(THIRD_COMMIT_TIME, false);
+    commitDatesIndexer.updateIndex(REPOSITORY_NAME, git.getRepository());
+
+    Assertions.assertThat(datesCacheService.getDatesCache(REPOSITORY_NAME))
+        .hasSize(3)
+        .containsEntry("forms/form.json", dates(FIRST_COMMIT_TIME, SECOND_COMMIT_TIME))
+        .containsEntry("bpmn/process.bpmn", dates(FIRST_COMMIT_TIME, THIRD_COMMIT_TIME))
+        .containsEntry("forms/new-form.json", dates(THIRD_COMMIT_TIME, THIRD_COMMIT_TIME));
+  }
+
+  @Test
+  @DisplayName("should drop dates of amended commit")
+  @SneakyThrows
+  void updateIndexTest_amended() {
+    writeFile("forms/removed-form.json", "first");
+    commit(SECOND_COMMIT_TIME, true);
+    commitDatesIndexer.updateIndex(REPOSITORY_NAME, git.getRepository());
+    Assertions.assertThat(datesCacheService.getDates(REPOSITORY_NAME, "forms/removed-form.json"))
+        .isNotNull();
+
+    git.rm().addFilepattern("forms/removed-form.json").call();
+    commit(THIRD_COMMIT_TIME, true);
+    commitDatesIndexer.updateIndex(REPOSITORY_NAME, git.getRepository());
+
+    Assertions.assertThat(datesCacheService.getDatesCache(REPOSITORY_NAME))
+        .hasSize(2)
+        .containsEntry("forms/form.json", dates(FIRST_COMMIT_TIME, THIRD_COMMIT_TIME))
+        .containsEntry("bpmn/process.bpmn", dates(FIRST_COMMIT_TIME, FIRST_COMMIT_TIME));
+  }
+
+  @Test
+  @DisplayName("should index only amended commit on top of dates of its parent")
+  @SneakyThrows
+  void updateIndexTest_amendedIncremental() {
+    writeFile("forms/new-form.json", "first");
+    commit(THIRD_COMMIT_TIME, false);
+    commitDatesIndexer.updateIndex(REPOSITORY_NAME, git.getRepository());
+    // history before the parent of the amended commit can't be walked anymore
+    deleteLooseObject(firstCommit.getTree());
+    datesCacheService.invalidate(REPOSITORY_NAME);
+
+    writeFile("forms/new-form.json", "second");
+    commit(FOURTH_COMMIT_TIME, true);
+    commitDatesIndexer.updateIndex(REPOSITORY_NAME, git.getRepository());
+
+    Assertions.assertThat(datesCacheService.getDatesCache(REPOSITORY_NAME))
+        .hasSize(3)
+        .containsEntry("forms/form.json", dates(FIRST_COMMIT_TIME, SECOND_COMMIT_TIME))
+        .containsEntry("bpmn/process.bpmn", dates(FIRST_COMMIT_TIME, FIRST_COMMIT_TIME))
+        .containsEntry("forms/new-form.json", dates(FOURTH_COMMIT_TIME, FOURTH_COMMIT_TIME));
+  }
+
+  @Test
+  @DisplayName("should leave dates uncached if there are more of them than the cache can hold")
+  void updateIndexTest_oversized() {
+    gitPropertiesConfig.getDatesCache().setMaximumEntries(1);
+    datesCacheService = new DatesCacheService(gitPropertiesConfig, new SimpleMeterRegistry());
+    commitDatesIndexer =
+        new CommitDatesIndexer(datesCacheService, commitDatesStore, gitPropertiesConfig);
+
+    commitDatesIndexer.updateIndex(REPOSITORY_NAME, git.getRepository());
+
+    Assertions.assertThat(datesCacheService.hasDatesCache(REPOSITORY_NAME)).isFalse();
+  }
+
+  @Test
+  @DisplayName("should rebuild index if dates cache was invalidated")
+  void updateIndexTest_cacheInvalidated() {
+    commitDatesIndexer.updateIndex(REPOSITORY_NAME, git.getRepository());
+    datesCacheService.invalidate(REPOSITORY_NAME);
+
+    commitDatesIndexer.updateIndex(REPOSITORY_NAME, git.getRepository());
+
+    Assertions.assertThat(datesCacheService.getDatesCache(REPOSITORY_NAME)).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("should load stored dates instead of walking history after restart")
+  @SneakyThrows
+  void updateIndexTest_persistent() {
+    gitPropertiesConfig.getDatesIndex().setPersistent(true);
+    commitDatesIndexer.updateIndex(REPOSITORY_NAME, git.getRepository());
+    var indexedDates = datesCacheService.getDatesCache(REPOSITORY_NAME);
+    Mockito.verify(commitDatesStore).save(Mockito.eq(git.getRepository()), Mockito.any());
+    Mockito.clearInvocations(commitDatesStore);
+
+    var restartedCacheService =
+        new DatesCacheService(gitPropertiesConfig, new SimpleMeterRegistry());
+    var restartedIndexer =
+        new CommitDatesIndexer(restartedCacheService, commitDatesStore, gitPropertiesConfig);
+    restartedIndexer.updateIndex(REPOSITORY_NAME, git.getRepository());
+
+    Assertions.assertThat(restartedCacheService.getDatesCache(REPOSITORY_NAME))
+        .isEqualTo(indexedDates);
+    Mockito.verify(commitDatesStore).load(git.getRepository());
+    Mockito.verify(commitDatesStore, Mockito.never()).save(Mockito.any(), Mockito.any());
+  }
+
+  @Test
+  @DisplayName("should index only new commits on top of stored dates")
+  @SneakyThrows
+  void updateIndexTest_persistentOutdated() {
+    gitPropertiesConfig.getDatesIndex().setPersistent(true);
+    commitDatesIndexer.updateIndex(REPOSITORY_NAME, git.getRepository());
+    writeFile("forms/new-form.json", "first");
+    commit(THIRD_COMMIT_TIME, false);
+
+    var restartedCacheService =
+        new DatesCacheService(gitPropertiesConfig, new SimpleMeterRegistry());
+    var restartedIndexer =
+        new CommitDatesIndexer(restartedCacheService, commitDatesStore, gitPropertiesConfig);
+    restartedIndexer.updateIndex(REPOSITORY_NAME, git.getRepository());
+
+    Assertions.assertThat(restartedCacheService.getDatesCache(REPOSITORY_NAME))
+        .hasSize(3)
+        .containsEntry("forms/form.json", dates(FIRST_COMMIT_TIME, SECOND_COMMIT_TIME))
+        .containsEntry("forms/new-form.json", dates(THIRD_COMMIT_TIME, THIRD_COMMIT_TIME));
+    Assertions.assertThat(commitDatesStore.load(git.getRepository()).getCommitId())
+        .isEqualTo(git.getRepository().resolve("HEAD"));
+  }
+
+  @SneakyThrows
+  void writeFile(String path, String content) {
+    var file = new File(tempDir, path);
+    Files.createDirectories(file.getParentFile().toPath());
+    Files.writeString(file.toPath(), content);
+    git.add().addFilepattern(path).call();
+  }
+
+  @SneakyThrows
+  RevCommit commit(LocalDateTime time, boolean amend) {
+    var date = Date.from(time.toInstant(ZoneOffset.UTC));
+    var ident = new PersonIdent("user", "user@epam.com", date, TimeZone.getTimeZone("UTC"));
+    return git.commit().setMessage("commit").setAuthor(ident).setCommitter(ident)
+        .setAmend(amend).call();
+  }
+
+  void deleteLooseObject(AnyObjectId objectId) {
+    var name = objectId.name();
+    var objectFile = new File(git.getRepository().getDirectory(),
+        "objects/" + name.substring(0, 2) + "/" + name.substring(2));
+    Assertions.assertThat(objectFile.delete()).isTrue();
+  }
+
+  static FileDatesDto dates(LocalDateTime created, LocalDateTime updated) {
+    return FileDatesDto.builder().create(created).update(updated).build();
+  }
+}
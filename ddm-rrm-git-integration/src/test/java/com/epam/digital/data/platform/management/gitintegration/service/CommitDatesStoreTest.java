@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gitintegration.service;
+
+import com.epam.digital.data.platform.management.gitintegration.model.CommitDatesDto;
+import com.epam.digital.data.platform.management.gitintegration.model.FileDatesDto;
+import java.io.File;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("CommitDatesStore")
+class CommitDatesStoreTest {
+
+  @TempDir
+  File tempDir;
+
+  Git git;
+  CommitDatesStore commitDatesStore = new CommitDatesStore();
+
+  @BeforeEach
+  @SneakyThrows
+  void setUp() {
+    git = Git.init().setDirectory(tempDir).call();
+  }
+
+  @AfterEach
+  void tearDown() {
+    git.close();
+  }
+
+  @Test
+  @DisplayName("should load the same dates that were saved")
+  void saveAndLoadTest() {
+    var commitDates = CommitDatesDto.builder()
+        .commitId(ObjectId.fromString("0123456789abcdef0123456789abcdef01234567"))
+        .dates(Map.of(
+            "forms/form.json", FileDatesDto.builder()
+                .create(LocalDateTime.of(2023, 1, 1, 10, 0))
+                .update(LocalDateTime.of(2023, 1, 2, 11, 30, 15))
+                .build(),
+            "bpmn/process.bpmn", FileDatesDto.builder()
+                .create(LocalDateTime.of(2022, 12, 31, 23, 59))
+                .update(LocalDateTime.of(2022, 12, 31, 23, 59))
+                .build()))
+        .build();
+
+    commitDatesStore.save(git.getRepository(), commitDates);
+
+    Assertions.assertThat(commitDatesStore.load(git.getRepository())).isEqualTo(commitDates);
+    Assertions.assertThat(
+            new File(git.getRepository().getDirectory(), CommitDatesStore.DATES_FILE_NAME))
+        .exists();
+  }
+
+  @Test
+  @DisplayName("should return null if there are no stored dates")
+  void loadTest_noFile() {
+    Assertions.assertThat(commitDatesStore.load(git.getRepository())).isNull();
+  }
+
+  @Test
+  @DisplayName("should return null if stored dates are corrupted")
+  @SneakyThrows
+  void loadTest_corruptedFile() {
+    var file = new File(git.getRepository().getDirectory(), CommitDatesStore.DATES_FILE_NAME);
+    Files.write(file.toPath(), new byte[]{0, 0, 0, 1, 42});
+
+    Assertions.assertThat(commitDatesStore.load(git.getRepository())).isNull();
+  }
+}
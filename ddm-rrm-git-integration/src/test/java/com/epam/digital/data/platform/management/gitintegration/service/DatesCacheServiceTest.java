@@ -0,0 +1,148 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gitintegration.service;
+
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig;
+import com.epam.digital.data.platform.management.gitintegration.model.FileDatesDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DatesCacheService")
+class DatesCacheServiceTest {
+
+  static final FileDatesDto DATES = FileDatesDto.builder()
+      .create(LocalDateTime.of(2023, 1, 1, 10, 0))
+      .update(LocalDateTime.of(2023, 1, 2, 10, 0))
+      .build();
+
+  GitPropertiesConfig gitPropertiesConfig;
+  SimpleMeterRegistry meterRegistry;
+  DatesCacheService datesCacheService;
+
+  @BeforeEach
+  void setUp() {
+    gitPropertiesConfig = new GitPropertiesConfig();
+    gitPropertiesConfig.getDatesCache().setMaximumEntries(10);
+    meterRegistry = new SimpleMeterRegistry();
+    datesCacheService = new DatesCacheService(gitPropertiesConfig, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("should return cached dates and count hits and misses")
+  void getDatesTest() {
+    datesCacheService.setDatesToCache("version", "forms/form.json", DATES);
+
+    Assertions.assertThat(datesCacheService.getDates("version", "forms/form.json"))
+        .isSameAs(DATES);
+    Assertions.assertThat(datesCacheService.getDates("version", "forms/other.json")).isNull();
+    Assertions.assertThat(datesCacheService.getDates("other-version", "forms/form.json"))
+        .isNull();
+
+    Assertions.assertThat(meterRegistry.get(DatesCacheService.CACHE_REQUESTS_METRIC)
+        .tag("result", "hit").counter().count()).isEqualTo(1);
+    Assertions.assertThat(meterRegistry.get(DatesCacheService.CACHE_REQUESTS_METRIC)
+        .tag("result", "miss").counter().count()).isEqualTo(2);
+    Assertions.assertThat(meterRegistry.get(DatesCacheService.CACHE_HIT_RATIO_METRIC)
+        .gauge().value()).isEqualTo(1.0 / 3);
+  }
+
+  @Test
+  @DisplayName("should keep all dates that were cached concurrently")
+  @SneakyThrows
+  void setDatesToCacheTest_concurrent() {
+    gitPropertiesConfig.getDatesCache().setMaximumEntries(1000);
+    // gauges of the registry are bound to the cache of the service created first
+    meterRegistry = new SimpleMeterRegistry();
+    datesCacheService = new DatesCacheService(gitPropertiesConfig, meterRegistry);
+
+    var executor = Executors.newFixedThreadPool(8);
+    IntStream.range(0, 200).forEach(i -> executor.submit(
+        () -> datesCacheService.setDatesToCache("version", "file" + i, DATES)));
+    executor.shutdown();
+    Assertions.assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+    Assertions.assertThat(datesCacheService.getDatesCache("version")).hasSize(200);
+    Assertions.assertThat(meterRegistry.get(DatesCacheService.CACHE_ENTRIES_METRIC)
+        .gauge().value()).isEqualTo(200);
+  }
+
+  @Test
+  @DisplayName("should evict versions when number of cached dates exceeds the maximum")
+  void setDatesCacheTest_eviction() {
+    datesCacheService.setDatesCache("first", datesOf(6));
+    datesCacheService.setDatesCache("second", datesOf(6));
+
+    Assertions.assertThat(datesCacheService.hasDatesCache("first")
+        && datesCacheService.hasDatesCache("second")).isFalse();
+    Assertions.assertThat(meterRegistry.get(DatesCacheService.CACHE_EVICTIONS_METRIC)
+        .counter().count()).isEqualTo(1);
+    Assertions.assertThat(meterRegistry.get(DatesCacheService.CACHE_VERSIONS_METRIC)
+        .gauge().value()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should not cache version that has more dates than the maximum")
+  void setDatesCacheTest_oversized() {
+    datesCacheService.setDatesCache("first", datesOf(2));
+
+    Assertions.assertThat(datesCacheService.setDatesCache("oversized", datesOf(11))).isFalse();
+
+    Assertions.assertThat(datesCacheService.hasDatesCache("oversized")).isFalse();
+    Assertions.assertThat(datesCacheService.getDatesCache("first")).hasSize(2);
+    Assertions.assertThat(meterRegistry.get(DatesCacheService.CACHE_EVICTIONS_METRIC)
+        .counter().count()).isZero();
+  }
+
+  @Test
+  @DisplayName("should drop version which cached dates grew over the maximum")
+  void setDatesToCacheTest_oversized() {
+    IntStream.range(0, 11).forEach(
+        i -> datesCacheService.setDatesToCache("oversized", "file" + i, DATES));
+
+    Assertions.assertThat(datesCacheService.hasDatesCache("oversized")).isFalse();
+  }
+
+  @Test
+  @DisplayName("should drop dates of the invalidated version only")
+  void invalidateTest() {
+    datesCacheService.setDatesCache("first", datesOf(2));
+    datesCacheService.setDatesCache("second", datesOf(2));
+
+    datesCacheService.invalidate("first");
+
+    Assertions.assertThat(datesCacheService.hasDatesCache("first")).isFalse();
+    Assertions.assertThat(datesCacheService.getDatesCache("second")).hasSize(2);
+    Assertions.assertThat(meterRegistry.get(DatesCacheService.CACHE_EVICTIONS_METRIC)
+        .counter().count()).isZero();
+  }
+
+  static Map<String, FileDatesDto> datesOf(int size) {
+    return IntStream.range(0, size)
+        .boxed()
+        .collect(Collectors.toMap(i -> "file" + i, i -> DATES));
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gitintegration.service;
+
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig;
+import com.epam.digital.data.platform.management.gitintegration.model.PushStatusDto;
+import com.epam.digital.data.platform.management.gitintegration.model.PushStatusDto.PushStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.scheduling.TaskScheduler;
+
+@DisplayName("DeferredPushScheduler")
+class DeferredPushSchedulerTest {
+
+  static final String REPOSITORY_NAME = "repo";
+
+  TaskScheduler taskScheduler;
+  ScheduledFuture<?> scheduledPush;
+  GitPropertiesConfig gitPropertiesConfig;
+  SimpleMeterRegistry meterRegistry;
+  DeferredPushScheduler deferredPushScheduler;
+
+  @BeforeEach
+  void setUp() {
+    taskScheduler = Mockito.mock(TaskScheduler.class);
+    scheduledPush = Mockito.mock(ScheduledFuture.class);
+    gitPropertiesConfig = new GitPropertiesConfig();
+    gitPropertiesConfig.getPushing().setWindow(Duration.ofMinutes(1));
+    meterRegistry = new SimpleMeterRegistry();
+    deferredPushScheduler = new DeferredPushScheduler(gitPropertiesConfig, taskScheduler,
+        meterRegistry);
+  }
+
+  @Test
+  @DisplayName("should run single push for all commits made within the window")
+  void markPendingTest() {
+    Mockito.doReturn(scheduledPush).when(taskScheduler)
+        .schedule(Mockito.any(Runnable.class), Mockito.any(Instant.class));
+    var pushes = new AtomicInteger();
+    Runnable push = () -> {
+      if (deferredPushScheduler.takePending(REPOSITORY_NAME)) {
+        pushes.incrementAndGet();
+        deferredPushScheduler.pushSucceeded(REPOSITORY_NAME);
+      }
+    };
+    var before = Instant.now();
+
+    deferredPushScheduler.markPending(REPOSITORY_NAME, push);
+    deferredPushScheduler.markPending(REPOSITORY_NAME, push);
+    deferredPushScheduler.markPending(REPOSITORY_NAME, push);
+
+    Assertions.assertThat(deferredPushScheduler.isPending(REPOSITORY_NAME)).isTrue();
+    Assertions.assertThat(deferredPushScheduler.getLastStatus(REPOSITORY_NAME))
+        .extracting(PushStatusDto::getStatus)
+        .isEqualTo(PushStatus.PENDING);
+    var scheduledTask = ArgumentCaptor.forClass(Runnable.class);
+    var startTime = ArgumentCaptor.forClass(Instant.class);
+    Mockito.verify(taskScheduler).schedule(scheduledTask.capture(), startTime.capture());
+    Assertions.assertThat(startTime.getValue())
+        .isAfterOrEqualTo(before.plus(gitPropertiesConfig.getPushing().getWindow()));
+
+    scheduledTask.getValue().run();
+
+    Assertions.assertThat(pushes).hasValue(1);
+    Assertions.assertThat(deferredPushScheduler.isPending(REPOSITORY_NAME)).isFalse();
+    Assertions.assertThat(deferredPushScheduler.getLastStatus(REPOSITORY_NAME))
+        .extracting(PushStatusDto::getStatus)
+        .isEqualTo(PushStatus.PUSHED);
+    Assertions.assertThat(meterRegistry.get(DeferredPushScheduler.COALESCED_METRIC)
+        .counter().count()).isEqualTo(2);
+    Assertions.assertThat(meterRegistry.get(DeferredPushScheduler.PUSH_METRIC)
+        .tag("result", "pushed").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should cancel scheduled push if pending commits are taken by flush")
+  void takePendingTest() {
+    Mockito.doReturn(scheduledPush).when(taskScheduler)
+        .schedule(Mockito.any(Runnable.class), Mockito.any(Instant.class));
+    deferredPushScheduler.markPending(REPOSITORY_NAME, () -> {
+    });
+
+    Assertions.assertThat(deferredPushScheduler.takePending(REPOSITORY_NAME)).isTrue();
+    Assertions.assertThat(deferredPushScheduler.takePending(REPOSITORY_NAME)).isFalse();
+
+    Mockito.verify(scheduledPush).cancel(false);
+  }
+
+  @Test
+  @DisplayName("should keep commits pending and report failure if push failed")
+  void pushFailedTest() {
+    deferredPushScheduler.markPending(REPOSITORY_NAME, () -> {
+    });
+    deferredPushScheduler.takePending(REPOSITORY_NAME);
+
+    deferredPushScheduler.pushFailed(REPOSITORY_NAME, new IllegalStateException("rejected"));
+
+    Assertions.assertThat(deferredPushScheduler.isPending(REPOSITORY_NAME)).isTrue();
+    Assertions.assertThat(deferredPushScheduler.getLastStatus(REPOSITORY_NAME))
+        .extracting(PushStatusDto::getStatus, PushStatusDto::getMessage)
+        .containsExactly(PushStatus.FAILED, "rejected");
+    Assertions.assertThat(meterRegistry.get(DeferredPushScheduler.PUSH_METRIC)
+        .tag("result", "failed").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should publish last push status of the repository until it is removed")
+  void statusGaugeTest() {
+    deferredPushScheduler.markPending(REPOSITORY_NAME, () -> {
+    });
+    Assertions.assertThat(getStatusGauge("pending")).isEqualTo(1);
+    Assertions.assertThat(getStatusGauge("failed")).isZero();
+
+    deferredPushScheduler.takePending(REPOSITORY_NAME);
+    deferredPushScheduler.pushFailed(REPOSITORY_NAME, new IllegalStateException("rejected"));
+    Assertions.assertThat(getStatusGauge("pending")).isZero();
+    Assertions.assertThat(getStatusGauge("failed")).isEqualTo(1);
+
+    deferredPushScheduler.takePending(REPOSITORY_NAME);
+    deferredPushScheduler.pushSucceeded(REPOSITORY_NAME);
+    Assertions.assertThat(getStatusGauge("failed")).isZero();
+    Assertions.assertThat(getStatusGauge("pushed")).isEqualTo(1);
+
+    deferredPushScheduler.remove(REPOSITORY_NAME);
+    Assertions.assertThat(meterRegistry.find(DeferredPushScheduler.STATUS_METRIC).gauges())
+        .isEmpty();
+  }
+
+  private double getStatusGauge(String status) {
+    return meterRegistry.get(DeferredPushScheduler.STATUS_METRIC)
+        .tag("repository", REPOSITORY_NAME)
+        .tag("status", status)
+        .gauge().value();
+  }
+}
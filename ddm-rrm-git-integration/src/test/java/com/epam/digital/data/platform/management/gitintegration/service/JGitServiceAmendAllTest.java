@@ -0,0 +1,189 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gitintegration.service;
+
+import com.epam.digital.data.platform.management.gitintegration.exception.ETagValidationException;
+import com.epam.digital.data.platform.management.gitintegration.model.FileChangeDto;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.internal.bytebuddy.utility.RandomString;
+import org.eclipse.jgit.api.AddCommand;
+import org.eclipse.jgit.api.CommitCommand;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.LogCommand;
+import org.eclipse.jgit.api.PushCommand;
+import org.eclipse.jgit.api.RemoteAddCommand;
+import org.eclipse.jgit.api.RmCommand;
+import org.eclipse.jgit.api.Status;
+import org.eclipse.jgit.api.StatusCommand;
+import org.eclipse.jgit.lib.CommitBuilder;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.transport.RefSpec;
+import org.eclipse.jgit.transport.URIish;
+import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+@DisplayName("JGitService#amendAll")
+class JGitServiceAmendAllTest extends AbstractJGitServiceTest {
+
+  static final String REPO_NAME = RandomString.make();
+  static final String FIRST_FILE_PATH = RandomString.make();
+  static final String SECOND_FILE_PATH = RandomString.make();
+  static final String DELETED_FILE_PATH = RandomString.make();
+  static final String FILE_CONTENT = RandomString.make();
+
+  static final String REPO_URL = RandomString.make();
+  static final String USER = RandomString.make();
+  static final String PASS = RandomString.make();
+  static final String HEAD_BRANCH = RandomString.make();
+  static final String COMMIT_MESSAGE = RandomString.make();
+
+  File repoDir;
+
+  @Mock
+  Git git;
+  @Mock
+  AddCommand addCommand;
+  @Mock
+  RmCommand rmCommand;
+  @Mock
+  StatusCommand statusCommand;
+  @Mock
+  Status status;
+  @Mock
+  LogCommand logCommand;
+  @Mock
+  CommitCommand commitCommand;
+  @Mock
+  RemoteAddCommand remoteAddCommand;
+  @Mock
+  PushCommand pushCommand;
+
+  @Override
+  @BeforeEach
+  @SneakyThrows
+  void setUp() {
+    super.setUp();
+
+    Mockito.doReturn(REPO_URL).when(gerritPropertiesConfig).getUrl();
+    Mockito.doReturn(REPO_NAME).when(gerritPropertiesConfig).getRepository();
+    Mockito.doReturn(USER).when(gerritPropertiesConfig).getUser();
+    Mockito.doReturn(PASS).when(gerritPropertiesConfig).getPassword();
+    Mockito.doReturn(HEAD_BRANCH).when(gerritPropertiesConfig).getHeadBranch();
+
+    repoDir = new File(tempDir, REPO_NAME);
+    Assertions.assertThat(repoDir.mkdirs()).isTrue();
+    Mockito.doReturn(git).when(jGitWrapper).open(repoDir);
+
+    Mockito.doReturn(addCommand).when(git).add();
+    Mockito.doReturn(addCommand).when(addCommand).addFilepattern(Mockito.anyString());
+    Mockito.doReturn(rmCommand).when(git).rm();
+    Mockito.doReturn(rmCommand).when(rmCommand).addFilepattern(Mockito.anyString());
+
+    Mockito.doReturn(statusCommand).when(git).status();
+    Mockito.doReturn(false).when(status).isClean();
+    Mockito.doReturn(status).when(statusCommand).call();
+
+    Mockito.doReturn(logCommand).when(git).log();
+    final var lastCommitBuilder = new CommitBuilder();
+    lastCommitBuilder.setMessage(COMMIT_MESSAGE);
+    lastCommitBuilder.setTreeId(new ObjectId(1, 2, 3, 4, 5));
+    lastCommitBuilder.setAuthor(new PersonIdent("committer", "committer@epam.com",
+        LocalDateTime.of(2022, 11, 10, 13, 40).toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    lastCommitBuilder.setCommitter(lastCommitBuilder.getAuthor());
+    Mockito.doReturn(List.of(RevCommit.parse(lastCommitBuilder.build()))).when(logCommand)
+        .call();
+
+    Mockito.doReturn(commitCommand).when(git).commit();
+    Mockito.doReturn(commitCommand).when(commitCommand).setAmend(true);
+    Mockito.doReturn(commitCommand).when(commitCommand).setMessage(COMMIT_MESSAGE);
+
+    Mockito.doReturn(remoteAddCommand).when(git).remoteAdd();
+    Mockito.doReturn(remoteAddCommand).when(remoteAddCommand)
+        .setName(Constants.DEFAULT_REMOTE_NAME);
+    Mockito.doReturn(remoteAddCommand).when(remoteAddCommand)
+        .setUri(new URIish(REPO_URL + "/" + REPO_NAME).setPass(PASS).setUser(USER));
+
+    Mockito.doReturn(pushCommand).when(git).push();
+    Mockito.doReturn(pushCommand).when(pushCommand)
+        .setCredentialsProvider(Mockito.refEq(new UsernamePasswordCredentialsProvider(USER, PASS)));
+    Mockito.doReturn(pushCommand).when(pushCommand).setRemote(Constants.DEFAULT_REMOTE_NAME);
+    Mockito.doReturn(pushCommand).when(pushCommand)
+        .setRefSpecs(Mockito.refEq(new RefSpec("HEAD:refs/for/" + HEAD_BRANCH)));
+  }
+
+  @Test
+  @DisplayName("should write and delete all files, then commit with amend and push once")
+  @SneakyThrows
+  void testAmendAll() {
+    final var deletedFile = Path.of(repoDir.getPath(), DELETED_FILE_PATH);
+    Files.writeString(deletedFile, FILE_CONTENT);
+
+    jGitService.amendAll(REPO_NAME, List.of(
+        FileChangeDto.builder().path(FIRST_FILE_PATH).content(FILE_CONTENT).build(),
+        FileChangeDto.builder().path(SECOND_FILE_PATH).content(FILE_CONTENT).build(),
+        FileChangeDto.builder().path(DELETED_FILE_PATH).build()));
+
+    Assertions.assertThat(Path.of(repoDir.getPath(), FIRST_FILE_PATH)).hasContent(FILE_CONTENT);
+    Assertions.assertThat(Path.of(repoDir.getPath(), SECOND_FILE_PATH)).hasContent(FILE_CONTENT);
+    Assertions.assertThat(deletedFile).doesNotExist();
+
+    Mockito.verify(addCommand).addFilepattern(FIRST_FILE_PATH);
+    Mockito.verify(addCommand).addFilepattern(SECOND_FILE_PATH);
+    Mockito.verify(addCommand, Mockito.times(2)).call();
+    Mockito.verify(rmCommand).addFilepattern(DELETED_FILE_PATH);
+    Mockito.verify(rmCommand).call();
+
+    Mockito.verify(commitCommand).setAmend(true);
+    Mockito.verify(commitCommand).call();
+    Mockito.verify(pushCommand).call();
+  }
+
+  @Test
+  @DisplayName("should change nothing if eTag of some file is invalid")
+  @SneakyThrows
+  void testAmendAll_invalidETag() {
+    final var secondFile = Path.of(repoDir.getPath(), SECOND_FILE_PATH);
+    Files.writeString(secondFile, FILE_CONTENT);
+    Mockito.doReturn(FILE_CONTENT).when(jGitWrapper).readFileContent(secondFile);
+
+    Assertions.assertThatThrownBy(() -> jGitService.amendAll(REPO_NAME, List.of(
+            FileChangeDto.builder().path(FIRST_FILE_PATH).content(FILE_CONTENT).build(),
+            FileChangeDto.builder().path(SECOND_FILE_PATH).content(RandomString.make())
+                .eTag(RandomString.make()).build())))
+        .isInstanceOf(ETagValidationException.class);
+
+    Assertions.assertThat(Path.of(repoDir.getPath(), FIRST_FILE_PATH)).doesNotExist();
+    Assertions.assertThat(secondFile).hasContent(FILE_CONTENT);
+    Mockito.verify(git, Mockito.never()).add();
+    Mockito.verify(git, Mockito.never()).commit();
+    Mockito.verify(git, Mockito.never()).push();
+  }
+}
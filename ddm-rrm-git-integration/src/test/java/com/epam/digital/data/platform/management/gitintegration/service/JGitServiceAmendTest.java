@@ -16,11 +16,17 @@
 
 package com.epam.digital.data.platform.management.gitintegration.service;
 
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig;
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig.PushingMode;
 import com.epam.digital.data.platform.management.gitintegration.exception.GitCommandException;
 import com.epam.digital.data.platform.management.gitintegration.exception.RepositoryNotFoundException;
+import com.epam.digital.data.platform.management.gitintegration.model.FileDatesDto;
+import com.epam.digital.data.platform.management.gitintegration.model.PushStatusDto;
+import com.epam.digital.data.platform.management.gitintegration.model.PushStatusDto.PushStatus;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
@@ -29,10 +35,13 @@ import org.assertj.core.api.Assertions;
 import org.assertj.core.internal.bytebuddy.utility.RandomString;
 import org.eclipse.jgit.api.AddCommand;
 import org.eclipse.jgit.api.CommitCommand;
+import org.eclipse.jgit.api.FetchCommand;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.LogCommand;
 import org.eclipse.jgit.api.PushCommand;
 import org.eclipse.jgit.api.RemoteAddCommand;
+import org.eclipse.jgit.api.ResetCommand;
+import org.eclipse.jgit.api.ResetCommand.ResetType;
 import org.eclipse.jgit.api.Status;
 import org.eclipse.jgit.api.StatusCommand;
 import org.eclipse.jgit.api.errors.AbortedByHookException;
@@ -50,10 +59,12 @@ import org.eclipse.jgit.lib.CommitBuilder;
 import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.transport.RefSpec;
 import org.eclipse.jgit.transport.URIish;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -61,6 +72,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
 
 @DisplayName("JGitService#amend")
 class JGitServiceAmendTest extends AbstractJGitServiceTest {
@@ -77,6 +89,13 @@ class JGitServiceAmendTest extends AbstractJGitServiceTest {
 
   File repoDir;
 
+  @Autowired
+  GitPropertiesConfig gitPropertiesConfig;
+  @Autowired
+  DeferredPushScheduler deferredPushScheduler;
+  @Autowired
+  DatesCacheService datesCacheService;
+
   @Mock
   Git git;
   @Mock
@@ -95,6 +114,12 @@ class JGitServiceAmendTest extends AbstractJGitServiceTest {
   @Mock
   PushCommand pushCommand;
 
+  @AfterEach
+  void tearDown() {
+    gitPropertiesConfig.getPushing().setMode(PushingMode.IMMEDIATE);
+    deferredPushScheduler.remove(REPO_NAME);
+  }
+
   @Override
   @BeforeEach
   @SneakyThrows
@@ -186,6 +211,178 @@ class JGitServiceAmendTest extends AbstractJGitServiceTest {
     Mockito.verify(pushCommand)
         .setRefSpecs(Mockito.refEq(new RefSpec("HEAD:refs/for/" + HEAD_BRANCH)));
     Mockito.verify(pushCommand).call();
+    Mockito.verify(eventPublisher).publishVersionCandidatePushedEvent(REPO_NAME);
+  }
+
+  @Test
+  @DisplayName("should invalidate cached dates of the amended version")
+  void testAmend_invalidateDates() {
+    datesCacheService.setDatesToCache(REPO_NAME, FILE_PATH, FileDatesDto.builder()
+        .create(LocalDateTime.of(2022, 11, 10, 13, 40))
+        .update(LocalDateTime.of(2022, 11, 10, 13, 40))
+        .build());
+
+    jGitService.amend(REPO_NAME, FILE_PATH, FILE_CONTENT);
+
+    Assertions.assertThat(datesCacheService.hasDatesCache(REPO_NAME)).isFalse();
+  }
+
+  @Test
+  @DisplayName("should commit locally and push on flush if push is deferred")
+  @SneakyThrows
+  void testAmendDeferredPush() {
+    gitPropertiesConfig.getPushing().setMode(PushingMode.DEFERRED);
+    gitPropertiesConfig.getPushing().setWindow(Duration.ofHours(1));
+
+    jGitService.amend(REPO_NAME, FILE_PATH, FILE_CONTENT);
+    jGitService.amend(REPO_NAME, FILE_PATH, RandomString.make());
+
+    Mockito.verify(commitCommand, Mockito.times(2)).call();
+    Mockito.verify(pushCommand, Mockito.never()).call();
+    Mockito.verifyNoInteractions(eventPublisher);
+    Assertions.assertThat(deferredPushScheduler.getLastStatus(REPO_NAME))
+        .extracting(PushStatusDto::getStatus)
+        .isEqualTo(PushStatus.PENDING);
+
+    jGitService.flushPush(REPO_NAME);
+    jGitService.flushPush(REPO_NAME);
+
+    Mockito.verify(pushCommand).call();
+    Mockito.verify(eventPublisher).publishVersionCandidatePushedEvent(REPO_NAME);
+    Assertions.assertThat(deferredPushScheduler.getLastStatus(REPO_NAME))
+        .extracting(PushStatusDto::getStatus)
+        .isEqualTo(PushStatus.PUSHED);
+  }
+
+  @Test
+  @DisplayName("should keep commits pending if deferred push failed")
+  @SneakyThrows
+  void testAmendDeferredPushFailed() {
+    gitPropertiesConfig.getPushing().setMode(PushingMode.DEFERRED);
+    gitPropertiesConfig.getPushing().setWindow(Duration.ofHours(1));
+    Mockito.doThrow(new GitAPIException("gerrit is unavailable") {
+    }).when(pushCommand).call();
+
+    jGitService.amend(REPO_NAME, FILE_PATH, FILE_CONTENT);
+
+    Assertions.assertThatThrownBy(() -> jGitService.flushPush(REPO_NAME))
+        .isInstanceOf(GitCommandException.class);
+    Assertions.assertThat(deferredPushScheduler.getLastStatus(REPO_NAME))
+        .extracting(PushStatusDto::getStatus, PushStatusDto::getMessage)
+        .containsExactly(PushStatus.FAILED,
+            "Could not execute add-remote/push command: gerrit is unavailable");
+
+    Mockito.doReturn(List.of()).when(pushCommand).call();
+    jGitService.flushPush(REPO_NAME);
+
+    Assertions.assertThat(deferredPushScheduler.getLastStatus(REPO_NAME))
+        .extracting(PushStatusDto::getStatus)
+        .isEqualTo(PushStatus.PUSHED);
+  }
+
+  @Test
+  @DisplayName("should rebase pending commit onto fetched patch set and push it instead of checkout")
+  @SneakyThrows
+  void testAmendDeferredPush_fetchMovedPatchSet() {
+    gitPropertiesConfig.getPushing().setMode(PushingMode.DEFERRED);
+    gitPropertiesConfig.getPushing().setWindow(Duration.ofHours(1));
+    jGitService.amend(REPO_NAME, FILE_PATH, FILE_CONTENT);
+
+    final var refs = RandomString.make();
+    final var pendingCommit = new ObjectId(1, 1, 1, 1, 1);
+    final var fetchedPatchSet = new ObjectId(2, 2, 2, 2, 2);
+    final var rebasedCommit = new ObjectId(3, 3, 3, 3, 3);
+    final var repository = Mockito.mock(Repository.class);
+    final var fetchCommand = Mockito.mock(FetchCommand.class);
+    final var resetCommand = Mockito.mock(ResetCommand.class);
+    Mockito.doReturn(repository).when(git).getRepository();
+    Mockito.doReturn(pendingCommit, rebasedCommit).when(repository).resolve(Constants.HEAD);
+    Mockito.doReturn(fetchedPatchSet).when(repository).resolve(Constants.FETCH_HEAD);
+    Mockito.doReturn(fetchCommand).when(git).fetch();
+    Mockito.doReturn(fetchCommand).when(fetchCommand).setCredentialsProvider(Mockito.any());
+    Mockito.doReturn(fetchCommand).when(fetchCommand).setRefSpecs(refs);
+    Mockito.doReturn(rebasedCommit).when(jGitWrapper)
+        .rebaseAmendedCommit(repository, pendingCommit, fetchedPatchSet);
+    Mockito.doReturn(resetCommand).when(git).reset();
+    Mockito.doReturn(resetCommand).when(resetCommand).setMode(ResetType.HARD);
+    Mockito.doReturn(resetCommand).when(resetCommand).setRef(rebasedCommit.name());
+
+    jGitService.fetch(REPO_NAME, refs);
+
+    final var inOrder = Mockito.inOrder(fetchCommand, resetCommand, pushCommand);
+    inOrder.verify(fetchCommand).call();
+    inOrder.verify(resetCommand).call();
+    inOrder.verify(pushCommand).call();
+    Mockito.verify(git, Mockito.never()).checkout();
+    Assertions.assertThat(deferredPushScheduler.getLastStatus(REPO_NAME))
+        .extracting(PushStatusDto::getStatus)
+        .isEqualTo(PushStatus.PUSHED);
+  }
+
+  @Test
+  @DisplayName("should refuse to push pending commit that conflicts with fetched patch set")
+  @SneakyThrows
+  void testAmendDeferredPush_fetchConflictingPatchSet() {
+    gitPropertiesConfig.getPushing().setMode(PushingMode.DEFERRED);
+    gitPropertiesConfig.getPushing().setWindow(Duration.ofHours(1));
+    jGitService.amend(REPO_NAME, FILE_PATH, FILE_CONTENT);
+
+    final var refs = RandomString.make();
+    final var pendingCommit = new ObjectId(1, 1, 1, 1, 1);
+    final var fetchedPatchSet = new ObjectId(2, 2, 2, 2, 2);
+    final var repository = Mockito.mock(Repository.class);
+    final var fetchCommand = Mockito.mock(FetchCommand.class);
+    Mockito.doReturn(repository).when(git).getRepository();
+    Mockito.doReturn(pendingCommit).when(repository).resolve(Constants.HEAD);
+    Mockito.doReturn(fetchedPatchSet).when(repository).resolve(Constants.FETCH_HEAD);
+    Mockito.doReturn(fetchCommand).when(git).fetch();
+    Mockito.doReturn(fetchCommand).when(fetchCommand).setCredentialsProvider(Mockito.any());
+    Mockito.doReturn(fetchCommand).when(fetchCommand).setRefSpecs(refs);
+
+    Assertions.assertThatThrownBy(() -> jGitService.fetch(REPO_NAME, refs))
+        .isInstanceOf(GitCommandException.class)
+        .hasMessage("Pending commit of repo %s conflicts with the fetched patch set %s and "
+            + "wasn't pushed", REPO_NAME, fetchedPatchSet.name());
+
+    Mockito.verify(pushCommand, Mockito.never()).call();
+    Mockito.verify(git, Mockito.never()).checkout();
+    Mockito.verify(git, Mockito.never()).reset();
+    Assertions.assertThat(deferredPushScheduler.isPending(REPO_NAME)).isTrue();
+    Assertions.assertThat(deferredPushScheduler.getLastStatus(REPO_NAME))
+        .extracting(PushStatusDto::getStatus)
+        .isEqualTo(PushStatus.FAILED);
+  }
+
+  @Test
+  @DisplayName("should push pending commits before repository deletion")
+  @SneakyThrows
+  void testAmendDeferredPush_deleteRepo() {
+    gitPropertiesConfig.getPushing().setMode(PushingMode.DEFERRED);
+    gitPropertiesConfig.getPushing().setWindow(Duration.ofHours(1));
+    jGitService.amend(REPO_NAME, FILE_PATH, FILE_CONTENT);
+
+    jGitService.deleteRepo(REPO_NAME);
+
+    Mockito.verify(pushCommand).call();
+    Assertions.assertThat(repoDir).doesNotExist();
+    Assertions.assertThat(deferredPushScheduler.isPending(REPO_NAME)).isFalse();
+  }
+
+  @Test
+  @DisplayName("should keep repository if its pending commits couldn't be pushed before deletion")
+  @SneakyThrows
+  void testAmendDeferredPush_deleteRepoPushFailed() {
+    gitPropertiesConfig.getPushing().setMode(PushingMode.DEFERRED);
+    gitPropertiesConfig.getPushing().setWindow(Duration.ofHours(1));
+    Mockito.doThrow(new GitAPIException("change is closed") {
+    }).when(pushCommand).call();
+    jGitService.amend(REPO_NAME, FILE_PATH, FILE_CONTENT);
+
+    Assertions.assertThatThrownBy(() -> jGitService.deleteRepo(REPO_NAME))
+        .isInstanceOf(GitCommandException.class);
+
+    Assertions.assertThat(repoDir).exists();
+    Assertions.assertThat(deferredPushScheduler.isPending(REPO_NAME)).isTrue();
   }
 
   @Test
@@ -16,8 +16,12 @@
 
 package com.epam.digital.data.platform.management.gitintegration.service;
 
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig;
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig.CandidateRepositoryMode;
 import com.epam.digital.data.platform.management.gitintegration.exception.GitCommandException;
 import java.io.File;
+import java.io.IOException;
+import java.util.List;
 import lombok.SneakyThrows;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.internal.bytebuddy.utility.RandomString;
@@ -26,12 +30,17 @@ import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.api.errors.InvalidRemoteException;
 import org.eclipse.jgit.api.errors.TransportException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
 
 @DisplayName("JGitService#clone")
 class JGitServiceCloneTest extends AbstractJGitServiceTest {
@@ -45,6 +54,16 @@ class JGitServiceCloneTest extends AbstractJGitServiceTest {
   @Mock
   CloneCommand cloneCommand;
 
+  @Autowired
+  GitPropertiesConfig gitPropertiesConfig;
+
+  @AfterEach
+  void tearDown() {
+    gitPropertiesConfig.getCandidateRepository().setMode(CandidateRepositoryMode.COPY);
+    gitPropertiesConfig.getCloning().setSingleBranch(false);
+    gitPropertiesConfig.getCloning().setDepth(0);
+  }
+
   @BeforeEach
   @Override
   void setUp() {
@@ -87,6 +106,108 @@ class JGitServiceCloneTest extends AbstractJGitServiceTest {
 
     jGitService.cloneRepoIfNotExist(REPO_NAME);
 
+    verifyMockInvocations();
+    Mockito.verify(cloneCommand, Mockito.never()).setDepth(Mockito.anyInt());
+    Mockito.verify(git).close();
+  }
+
+  @Test
+  @DisplayName("should clone only head-branch with limited depth if it's configured")
+  @SneakyThrows
+  void testCloneRepository_singleBranchShallow() {
+    gitPropertiesConfig.getCloning().setSingleBranch(true);
+    gitPropertiesConfig.getCloning().setDepth(1);
+    final var git = Mockito.mock(Git.class);
+    Mockito.doReturn(cloneCommand).when(cloneCommand).setCloneAllBranches(false);
+    Mockito.doReturn(cloneCommand).when(cloneCommand)
+        .setBranchesToClone(List.of("refs/heads/master"));
+    Mockito.doReturn(cloneCommand).when(cloneCommand).setBranch("refs/heads/master");
+    Mockito.doReturn(cloneCommand).when(cloneCommand).setDepth(1);
+    Mockito.doReturn(git).when(cloneCommand).call();
+
+    jGitService.cloneRepoIfNotExist(REPO_NAME);
+
+    Mockito.verify(cloneCommand).setCloneAllBranches(false);
+    Mockito.verify(cloneCommand).setBranchesToClone(List.of("refs/heads/master"));
+    Mockito.verify(cloneCommand).setBranch("refs/heads/master");
+    Mockito.verify(cloneCommand).setDepth(1);
+    Mockito.verify(cloneCommand).call();
+    Mockito.verify(git).close();
+  }
+
+  @Test
+  @DisplayName("should create repo on head-branch objects if shared objects mode is enabled")
+  @SneakyThrows
+  void testCloneRepository_sharedObjects() {
+    gitPropertiesConfig.getCandidateRepository().setMode(CandidateRepositoryMode.SHARED_OBJECTS);
+    final var headDirectory = new File(tempDir, "master");
+    Assertions.assertThat(headDirectory.mkdirs()).isTrue();
+    final var headGit = Mockito.mock(Git.class);
+    final var headRepository = Mockito.mock(Repository.class);
+    final var headId = ObjectId.fromString("0123456789abcdef0123456789abcdef01234567");
+    Mockito.doReturn(headGit).when(jGitWrapper).open(headDirectory);
+    Mockito.doReturn(headRepository).when(headGit).getRepository();
+    Mockito.doReturn(headId).when(headRepository).resolve(Constants.HEAD);
+    Mockito.doAnswer(invocation -> directory.mkdirs()).when(jGitWrapper)
+        .initRepositorySharingObjects(directory, headRepository, "master", headId,
+            REPO_URL + "/" + REPO_NAME);
+
+    jGitService.cloneRepoIfNotExist(REPO_NAME);
+
+    Assertions.assertThat(directory).exists();
+    Mockito.verify(jGitWrapper).disablePruning(headRepository);
+    Mockito.verify(jGitWrapper).initRepositorySharingObjects(directory, headRepository, "master",
+        headId, REPO_URL + "/" + REPO_NAME);
+    Mockito.verify(jGitWrapper, Mockito.never()).cloneRepository();
+    Mockito.verify(headGit, Mockito.times(2)).close();
+  }
+
+  @Test
+  @DisplayName("should clone repo if pruning of head-branch repo couldn't be disabled")
+  @SneakyThrows
+  void testCloneRepository_sharedObjectsPruningNotDisabled() {
+    gitPropertiesConfig.getCandidateRepository().setMode(CandidateRepositoryMode.SHARED_OBJECTS);
+    final var headDirectory = new File(tempDir, "master");
+    Assertions.assertThat(headDirectory.mkdirs()).isTrue();
+    final var headGit = Mockito.mock(Git.class);
+    final var headRepository = Mockito.mock(Repository.class);
+    Mockito.doReturn(headGit).when(jGitWrapper).open(headDirectory);
+    Mockito.doReturn(headRepository).when(headGit).getRepository();
+    Mockito.doThrow(new IOException("config is locked")).when(jGitWrapper)
+        .disablePruning(headRepository);
+    final var git = Mockito.mock(Git.class);
+    Mockito.doReturn(git).when(cloneCommand).call();
+
+    jGitService.cloneRepoIfNotExist(REPO_NAME);
+
+    verifyMockInvocations();
+    Mockito.verify(jGitWrapper, Mockito.never())
+        .initRepositorySharingObjects(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(),
+            Mockito.any());
+    Mockito.verify(git).close();
+  }
+
+  @Test
+  @DisplayName("should clone repo if it couldn't be created on head-branch objects")
+  @SneakyThrows
+  void testCloneRepository_sharedObjectsFailed() {
+    gitPropertiesConfig.getCandidateRepository().setMode(CandidateRepositoryMode.SHARED_OBJECTS);
+    final var headDirectory = new File(tempDir, "master");
+    Assertions.assertThat(headDirectory.mkdirs()).isTrue();
+    final var headGit = Mockito.mock(Git.class);
+    final var headRepository = Mockito.mock(Repository.class);
+    final var headId = ObjectId.fromString("0123456789abcdef0123456789abcdef01234567");
+    Mockito.doReturn(headGit).when(jGitWrapper).open(headDirectory);
+    Mockito.doReturn(headRepository).when(headGit).getRepository();
+    Mockito.doReturn(headId).when(headRepository).resolve(Constants.HEAD);
+    Mockito.doThrow(new IOException("disk is full")).when(jGitWrapper)
+        .initRepositorySharingObjects(directory, headRepository, "master", headId,
+            REPO_URL + "/" + REPO_NAME);
+    final var git = Mockito.mock(Git.class);
+    Mockito.doReturn(git).when(cloneCommand).call();
+
+    jGitService.cloneRepoIfNotExist(REPO_NAME);
+
     verifyMockInvocations();
     Mockito.verify(git).close();
   }
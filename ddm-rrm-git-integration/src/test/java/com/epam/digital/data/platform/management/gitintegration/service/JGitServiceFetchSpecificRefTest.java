@@ -21,8 +21,10 @@ import static org.mockito.Mockito.never;
 
 import com.epam.digital.data.platform.management.gitintegration.exception.GitCommandException;
 import com.epam.digital.data.platform.management.gitintegration.exception.RepositoryNotFoundException;
+import com.epam.digital.data.platform.management.gitintegration.model.FileDatesDto;
 import java.io.File;
 import java.io.IOException;
+import java.util.Map;
 import lombok.SneakyThrows;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.internal.bytebuddy.utility.RandomString;
@@ -37,6 +39,8 @@ import org.eclipse.jgit.api.errors.RefAlreadyExistsException;
 import org.eclipse.jgit.api.errors.RefNotFoundException;
 import org.eclipse.jgit.api.errors.TransportException;
 import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -45,6 +49,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
 
 @DisplayName("JGitService#fetch")
 class JGitServiceFetchSpecificRefTest extends AbstractJGitServiceTest {
@@ -54,11 +59,16 @@ class JGitServiceFetchSpecificRefTest extends AbstractJGitServiceTest {
   static final String PASSWORD = RandomString.make();
   static final String REFS = RandomString.make();
 
+  @Autowired
+  DatesCacheService datesCacheService;
+
   File directory;
 
   @Mock
   Git git;
   @Mock
+  Repository repository;
+  @Mock
   FetchCommand fetchCommand;
   @Mock
   CheckoutCommand checkoutCommand;
@@ -74,6 +84,7 @@ class JGitServiceFetchSpecificRefTest extends AbstractJGitServiceTest {
 
     Assertions.assertThat(directory.mkdirs()).isTrue();
     Mockito.doReturn(git).when(jGitWrapper).open(directory);
+    Mockito.doReturn(repository).when(git).getRepository();
     Mockito.doReturn(USER).when(gerritPropertiesConfig).getUser();
     Mockito.doReturn(PASSWORD).when(gerritPropertiesConfig).getPassword();
 
@@ -98,6 +109,33 @@ class JGitServiceFetchSpecificRefTest extends AbstractJGitServiceTest {
     Mockito.verify(checkoutCommand).call();
   }
 
+  @Test
+  @DisplayName("should invalidate cached file dates if HEAD has been moved")
+  @SneakyThrows
+  void testFetch_headMoved() {
+    datesCacheService.setDatesCache(REPO_NAME, Map.of("file", FileDatesDto.builder().build()));
+    Mockito.doReturn(ObjectId.fromString("0123456789abcdef0123456789abcdef01234567"),
+            ObjectId.fromString("76543210fedcba9876543210fedcba9876543210"))
+        .when(repository).resolve(Constants.HEAD);
+
+    jGitService.fetch(REPO_NAME, REFS);
+
+    Assertions.assertThat(datesCacheService.hasDatesCache(REPO_NAME)).isFalse();
+  }
+
+  @Test
+  @DisplayName("should keep cached file dates if HEAD hasn't been moved")
+  @SneakyThrows
+  void testFetch_headNotMoved() {
+    datesCacheService.setDatesCache(REPO_NAME, Map.of("file", FileDatesDto.builder().build()));
+    Mockito.doReturn(ObjectId.fromString("0123456789abcdef0123456789abcdef01234567"))
+        .when(repository).resolve(Constants.HEAD);
+
+    jGitService.fetch(REPO_NAME, REFS);
+
+    Assertions.assertThat(datesCacheService.hasDatesCache(REPO_NAME)).isTrue();
+  }
+
   @Test
   @DisplayName("should throw IllegalStateException if there is invalid remote")
   @SneakyThrows
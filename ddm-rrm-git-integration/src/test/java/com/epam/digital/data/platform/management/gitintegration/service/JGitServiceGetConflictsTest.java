@@ -18,19 +18,15 @@ package com.epam.digital.data.platform.management.gitintegration.service;
 
 import static org.mockito.ArgumentMatchers.anyString;
 
+import com.epam.digital.data.platform.management.gitintegration.exception.GitCommandException;
 import java.io.File;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
-
+import java.io.IOException;
+import java.util.List;
+import lombok.SneakyThrows;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.internal.bytebuddy.utility.RandomString;
 import org.eclipse.jgit.api.FetchCommand;
 import org.eclipse.jgit.api.Git;
-import org.eclipse.jgit.api.MergeCommand;
-import org.eclipse.jgit.api.MergeResult;
-import org.eclipse.jgit.api.ResetCommand;
-import org.eclipse.jgit.api.errors.NoHeadException;
 import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
@@ -40,10 +36,6 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
-import com.epam.digital.data.platform.management.gitintegration.exception.GitCommandException;
-
-import lombok.SneakyThrows;
-
 @DisplayName("JGitService#getConflicts")
 class JGitServiceGetConflictsTest extends AbstractJGitServiceTest {
 
@@ -56,9 +48,6 @@ class JGitServiceGetConflictsTest extends AbstractJGitServiceTest {
   @Mock Git git;
   @Mock Repository repository;
   @Mock ObjectId objectId;
-  @Mock MergeCommand mergeCommand;
-  @Mock MergeResult mergeResult;
-  @Mock ResetCommand resetCommand;
   @Mock
   FetchCommand fetchCommand;
 
@@ -73,15 +62,6 @@ class JGitServiceGetConflictsTest extends AbstractJGitServiceTest {
     Mockito.doReturn(git).when(jGitWrapper).open(repo);
     Mockito.doReturn(repository).when(git).getRepository();
     Mockito.doReturn(objectId).when(repository).resolve(anyString());
-    Mockito.doReturn(mergeCommand).when(git).merge();
-    Mockito.doReturn(mergeCommand).when(mergeCommand).include(objectId);
-    Mockito.doReturn(mergeCommand).when(mergeCommand).setCommit(false);
-    Mockito.doReturn(mergeCommand)
-        .when(mergeCommand)
-        .setFastForward(MergeCommand.FastForwardMode.NO_FF);
-    Mockito.doReturn(mergeResult).when(mergeCommand).call();
-    Mockito.doReturn(resetCommand).when(git).reset();
-    Mockito.doReturn(resetCommand).when(resetCommand).setMode(ResetCommand.ResetType.HARD);
 
     Mockito.doReturn(USER).when(gerritPropertiesConfig).getUser();
     Mockito.doReturn(PASSWORD).when(gerritPropertiesConfig).getPassword();
@@ -95,44 +75,63 @@ class JGitServiceGetConflictsTest extends AbstractJGitServiceTest {
 
   @Test
   @DisplayName("should return conflict file names")
+  @SneakyThrows
   void getConflictsTest() {
-    Map<String, int[][]> conflictMap = new HashMap<>();
-    String key = "aa/bb";
-    conflictMap.put(key, null);
-    Mockito.when(mergeResult.getConflicts()).thenReturn(conflictMap);
+    var key = "aa/bb";
+    Mockito.doReturn(List.of(key))
+        .when(jGitWrapper).getMergeConflicts(repository, objectId, objectId);
 
     var actualFileContent = jGitService.getConflicts(REPO_NAME);
-    Assertions.assertThat(actualFileContent.get(0)).isEqualTo(key);
+    Assertions.assertThat(actualFileContent).containsExactly(key);
 
     verifyMockInvocations();
   }
 
   @Test
   @DisplayName("should return empty list")
-  void getConflictsTest_conflictsNull() {
-    Mockito.when(mergeResult.getConflicts()).thenReturn(null);
+  @SneakyThrows
+  void getConflictsTest_noConflicts() {
+    Mockito.doReturn(List.of())
+        .when(jGitWrapper).getMergeConflicts(repository, objectId, objectId);
 
     var actualFileContent = jGitService.getConflicts(REPO_NAME);
-    Assertions.assertThat(actualFileContent).isEqualTo(Collections.emptyList());
+    Assertions.assertThat(actualFileContent).isEmpty();
 
     verifyMockInvocations();
   }
 
   @Test
-  @DisplayName("should throw GitCommandException if GitAPIException occurred")
+  @DisplayName("should throw GitCommandException if IOException occurred")
   @SneakyThrows
-  void getConflictsTest_GitAPIException() {
-    Mockito.doThrow(NoHeadException.class).when(mergeCommand).call();
+  void getConflictsTest_IOException() {
+    Mockito.doThrow(IOException.class)
+        .when(jGitWrapper).getMergeConflicts(repository, objectId, objectId);
 
     Assertions.assertThatThrownBy(() -> jGitService.getConflicts(REPO_NAME))
         .isInstanceOf(GitCommandException.class)
         .hasMessageContaining("Exception occurred during getting conflicts")
-        .hasCauseInstanceOf(NoHeadException.class);
+        .hasCauseInstanceOf(IOException.class);
+  }
+
+  @Test
+  @DisplayName("should throw GitCommandException if head-branch isn't fetched")
+  @SneakyThrows
+  void getConflictsTest_noHeadBranch() {
+    Mockito.doReturn(null).when(repository).resolve(anyString());
+
+    Assertions.assertThatThrownBy(() -> jGitService.getConflicts(REPO_NAME))
+        .isInstanceOf(GitCommandException.class)
+        .hasMessageContaining("Exception occurred during getting conflicts");
+
+    Mockito.verify(jGitWrapper, Mockito.never())
+        .getMergeConflicts(Mockito.any(), Mockito.any(), Mockito.any());
   }
 
   @SneakyThrows
   void verifyMockInvocations() {
-    Mockito.verify(mergeCommand).call();
-    Mockito.verify(resetCommand).call();
+    Mockito.verify(fetchCommand).call();
+    Mockito.verify(jGitWrapper).getMergeConflicts(repository, objectId, objectId);
+    Mockito.verify(git, Mockito.never()).merge();
+    Mockito.verify(git, Mockito.never()).reset();
   }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gitintegration.service;
+
+import com.epam.digital.data.platform.management.gitintegration.exception.RepositoryNotFoundException;
+import java.io.File;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.internal.bytebuddy.utility.RandomString;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+@DisplayName("JGitService#getFileBlobIds")
+class JGitServiceGetFileBlobIdsTest extends AbstractJGitServiceTest {
+
+  static final String REPO_NAME = RandomString.make();
+  static final String FILE_PATH = "forms";
+  static final String FIRST_BLOB_ID = "0123456789abcdef0123456789abcdef01234567";
+  static final String SECOND_BLOB_ID = "89abcdef0123456789abcdef0123456789abcdef";
+
+  File directory;
+  @Mock
+  Git git;
+  @Mock
+  Repository repository;
+
+  @BeforeEach
+  @SneakyThrows
+  @Override
+  void setUp() {
+    super.setUp();
+
+    directory = new File(tempDir, REPO_NAME);
+
+    Assertions.assertThat(directory.mkdirs()).isTrue();
+    Mockito.doReturn(git).when(jGitWrapper).open(directory);
+    Mockito.doReturn(repository).when(git).getRepository();
+  }
+
+  @Test
+  @DisplayName("should return blob ids of all found files")
+  @SneakyThrows
+  void getFileBlobIdsTest() {
+    var treeWalk = Mockito.mock(TreeWalk.class);
+    Mockito.doReturn(true, true, true, false).when(treeWalk).next();
+    Mockito.doReturn(false, true, false).when(treeWalk).isSubtree();
+    Mockito.doReturn("forms/form1.json", "forms/form2.json").when(treeWalk).getPathString();
+    Mockito.doReturn(ObjectId.fromString(FIRST_BLOB_ID), ObjectId.fromString(SECOND_BLOB_ID))
+        .when(treeWalk).getObjectId(0);
+    Mockito.doReturn(treeWalk).when(jGitWrapper).getTreeWalk(repository, FILE_PATH);
+
+    var actualBlobIds = jGitService.getFileBlobIds(REPO_NAME, FILE_PATH);
+
+    Assertions.assertThat(actualBlobIds)
+        .containsOnly(Assertions.entry("forms/form1.json", FIRST_BLOB_ID),
+            Assertions.entry("forms/form2.json", SECOND_BLOB_ID));
+    Mockito.verify(treeWalk).enterSubtree();
+  }
+
+  @Test
+  @DisplayName("should return empty map if path isn't found in repository")
+  @SneakyThrows
+  void getFileBlobIdsTest_treeWalkNull() {
+    Mockito.doReturn(null).when(jGitWrapper).getTreeWalk(repository, FILE_PATH);
+
+    Assertions.assertThat(jGitService.getFileBlobIds(REPO_NAME, FILE_PATH)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should read blob content from object database")
+  @SneakyThrows
+  void getBlobContentTest() {
+    Mockito.doReturn("content").when(jGitWrapper)
+        .readBlobContent(repository, ObjectId.fromString(FIRST_BLOB_ID));
+
+    Assertions.assertThat(jGitService.getBlobContent(REPO_NAME, FIRST_BLOB_ID))
+        .isEqualTo("content");
+  }
+
+  @Test
+  @DisplayName("should throw RepositoryNotFoundException if repository doesn't exist")
+  void getFileBlobIdsTest_repositoryNotFound() {
+    var repoName = RandomString.make();
+
+    Assertions.assertThatThrownBy(() -> jGitService.getFileBlobIds(repoName, FILE_PATH))
+        .isInstanceOf(RepositoryNotFoundException.class)
+        .hasMessage("Repository %s doesn't exists", repoName);
+  }
+}
@@ -19,6 +19,8 @@ package com.epam.digital.data.platform.management.gitintegration.service;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig;
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig.ReadingMode;
 import com.epam.digital.data.platform.management.gitintegration.exception.GitCommandException;
 import com.epam.digital.data.platform.management.gitintegration.exception.RepositoryNotFoundException;
 import java.io.File;
@@ -26,10 +28,17 @@ import java.io.IOException;
 import lombok.SneakyThrows;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.internal.bytebuddy.utility.RandomString;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
 
 @DisplayName("JGitService#getFileContent")
 class JGitServiceGetFileContentTest extends AbstractJGitServiceTest {
@@ -37,6 +46,10 @@ class JGitServiceGetFileContentTest extends AbstractJGitServiceTest {
   static final String REPO_NAME = RandomString.make();
   static final String FILE_PATH = RandomString.make();
 
+  @Autowired
+  GitPropertiesConfig gitPropertiesConfig;
+
+  File directory;
   File file;
 
   @BeforeEach
@@ -45,7 +58,7 @@ class JGitServiceGetFileContentTest extends AbstractJGitServiceTest {
   void setUp() {
     super.setUp();
 
-    File directory = new File(tempDir, REPO_NAME);
+    directory = new File(tempDir, REPO_NAME);
     Assertions.assertThat(directory.mkdirs()).isTrue();
 
     file = new File(directory, FILE_PATH);
@@ -122,4 +135,67 @@ class JGitServiceGetFileContentTest extends AbstractJGitServiceTest {
   void verifyMockInvocations() {
     Mockito.verify(jGitWrapper).readFileContent(file.toPath());
   }
-}
\ No newline at end of file
+
+  @Nested
+  @DisplayName("in object database reading mode")
+  class ObjectDatabaseReadingMode {
+
+    final Git git = Mockito.mock(Git.class);
+    final Repository repository = Mockito.mock(Repository.class);
+
+    final ObjectId headId = ObjectId.fromString("0123456789abcdef0123456789abcdef01234567");
+
+    @BeforeEach
+    @SneakyThrows
+    void setUp() {
+      gitPropertiesConfig.getReading().setMode(ReadingMode.OBJECT_DATABASE);
+      Mockito.doReturn(git).when(jGitWrapper).open(directory);
+      Mockito.doReturn(repository).when(git).getRepository();
+      Mockito.doReturn(headId).when(repository).resolve(Constants.HEAD);
+    }
+
+    @AfterEach
+    void tearDown() {
+      gitPropertiesConfig.getReading().setMode(ReadingMode.WORKING_TREE);
+    }
+
+    @Test
+    @DisplayName("should return file content from HEAD commit tree")
+    @SneakyThrows
+    void getFileContentTest() {
+      var expectedFileContent = RandomString.make();
+      Mockito.doReturn(expectedFileContent).when(jGitWrapper)
+          .readFileContent(repository, headId, FILE_PATH);
+
+      var actualFileContent = jGitService.getFileContent(REPO_NAME, FILE_PATH);
+      Assertions.assertThat(actualFileContent).isEqualTo(expectedFileContent);
+
+      Mockito.verify(jGitWrapper).readFileContent(repository, headId, FILE_PATH);
+      Mockito.verify(jGitWrapper, never()).readFileContent(file.toPath());
+      Mockito.verify(git).close();
+    }
+
+    @Test
+    @DisplayName("should return null if there is no HEAD in repository")
+    @SneakyThrows
+    void getFileContentTest_noHead() {
+      Mockito.doReturn(null).when(repository).resolve(Constants.HEAD);
+
+      var actualFileContent = jGitService.getFileContent(REPO_NAME, FILE_PATH);
+      Assertions.assertThat(actualFileContent).isNull();
+    }
+
+    @Test
+    @DisplayName("should throw GitCommandException if IOException occurred")
+    @SneakyThrows
+    void getFileContentTest_ioException() {
+      Mockito.doThrow(IOException.class).when(jGitWrapper)
+          .readFileContent(repository, headId, FILE_PATH);
+
+      Assertions.assertThatThrownBy(() -> jGitService.getFileContent(REPO_NAME, FILE_PATH))
+          .isInstanceOf(GitCommandException.class)
+          .hasMessageContaining("Exception occurred during reading file content by path: ")
+          .hasCauseInstanceOf(IOException.class);
+    }
+  }
+}
@@ -26,16 +26,20 @@ import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import lombok.SneakyThrows;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.internal.bytebuddy.utility.RandomString;
+import org.eclipse.jgit.api.FetchCommand;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.LogCommand;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.api.errors.NoHeadException;
 import org.eclipse.jgit.lib.CommitBuilder;
 import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.internal.storage.file.ObjectDirectory;
 import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -55,6 +59,8 @@ class JGitServiceGetFilesDatesTest extends AbstractJGitServiceTest {
 
   @Autowired
   CacheManager cacheManager;
+  @Autowired
+  DatesCacheService datesCacheService;
 
   File repo;
   @Mock
@@ -77,6 +83,7 @@ class JGitServiceGetFilesDatesTest extends AbstractJGitServiceTest {
 
   @AfterEach
   void tearDown() {
+    datesCacheService.invalidate(REPOSITORY_NAME);
     cacheManager.getCacheNames()
         .stream()
         .map(cacheManager::getCache)
@@ -118,6 +125,50 @@ class JGitServiceGetFilesDatesTest extends AbstractJGitServiceTest {
     verifyMockInvocations();
   }
 
+  @Test
+  @DisplayName("should deepen head-branch repository and take its history for shared candidate")
+  @SneakyThrows
+  void getFormDatesTest_shallowSharedCandidate() {
+    final var headBranch = RandomString.make();
+    Mockito.doReturn(headBranch).when(gerritPropertiesConfig).getHeadBranch();
+    Mockito.doReturn("user").when(gerritPropertiesConfig).getUser();
+    Mockito.doReturn("password").when(gerritPropertiesConfig).getPassword();
+    final var headRepo = new File(tempDir, headBranch);
+    Assertions.assertThat(new File(headRepo, ".git").mkdirs()).isTrue();
+    Assertions.assertThat(new File(headRepo, ".git/shallow").createNewFile()).isTrue();
+    Assertions.assertThat(new File(repo, ".git/objects/info").mkdirs()).isTrue();
+    Assertions.assertThat(new File(repo, ".git/shallow").createNewFile()).isTrue();
+    Assertions.assertThat(new File(repo, ".git/objects/info/alternates").createNewFile())
+        .isTrue();
+
+    final var shallowCommits = Set.of(new ObjectId(1, 2, 3, 4, 5));
+    final var repository = Mockito.mock(Repository.class);
+    final var objectDatabase = Mockito.mock(ObjectDirectory.class);
+    Mockito.doReturn(repository).when(git).getRepository();
+    Mockito.doReturn(objectDatabase).when(repository).getObjectDatabase();
+    Mockito.doReturn(shallowCommits).when(objectDatabase).getShallowCommits();
+
+    final var headGit = Mockito.mock(Git.class);
+    final var headRepository = Mockito.mock(Repository.class);
+    final var headObjectDatabase = Mockito.mock(ObjectDirectory.class);
+    final var fetchCommand = Mockito.mock(FetchCommand.class);
+    Mockito.doReturn(headGit).when(jGitWrapper).open(headRepo);
+    Mockito.doReturn(headRepository).when(headGit).getRepository();
+    Mockito.doReturn(headObjectDatabase).when(headRepository).getObjectDatabase();
+    Mockito.doReturn(shallowCommits).when(headObjectDatabase).getShallowCommits();
+    Mockito.doReturn(fetchCommand).when(headGit).fetch();
+    Mockito.doReturn(fetchCommand).when(fetchCommand).setCredentialsProvider(Mockito.any());
+    Mockito.doReturn(fetchCommand).when(fetchCommand).setUnshallow(true);
+    Mockito.doReturn(List.of()).when(logCommand).call();
+
+    jGitService.getDates(REPOSITORY_NAME, FILE_PATH);
+
+    Mockito.verify(fetchCommand).setUnshallow(true);
+    Mockito.verify(fetchCommand).call();
+    Mockito.verify(jGitWrapper).copyShallowCommits(headRepository, repository);
+    Mockito.verify(git, never()).fetch();
+  }
+
   @Test
   @DisplayName("should return null for file if it doesn't exist")
   @SneakyThrows
@@ -34,6 +34,7 @@ import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.api.errors.InvalidRemoteException;
 import org.eclipse.jgit.api.errors.TransportException;
 import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -53,6 +54,8 @@ class JGitServiceResetHeadBranchToRemoteTest extends AbstractJGitServiceTest {
   @Mock
   Git git;
   @Mock
+  Repository repository;
+  @Mock
   FetchCommand fetchCommand;
   @Mock
   ResetCommand resetCommand;
@@ -67,6 +70,7 @@ class JGitServiceResetHeadBranchToRemoteTest extends AbstractJGitServiceTest {
 
     Assertions.assertThat(directory.mkdirs()).isTrue();
     Mockito.doReturn(git).when(jGitWrapper).open(directory);
+    Mockito.doReturn(repository).when(git).getRepository();
     Mockito.doReturn(REPO_NAME).when(gerritPropertiesConfig).getHeadBranch();
     Mockito.doReturn(USER).when(gerritPropertiesConfig).getUser();
     Mockito.doReturn(PASSWORD).when(gerritPropertiesConfig).getPassword();
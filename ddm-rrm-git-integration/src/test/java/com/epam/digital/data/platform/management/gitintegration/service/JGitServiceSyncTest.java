@@ -22,13 +22,20 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
 import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.core.event.publisher.RegistryRegulationManagementEventPublisher;
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig;
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig.LockingMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.assertj.core.api.Assertions;
@@ -61,9 +68,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 @Slf4j
@@ -73,7 +80,6 @@ class JGitServiceSyncTest {
   @TempDir
   private File tempDir;
 
-  @InjectMocks
   private JGitServiceImpl jGitService;
 
   @Mock
@@ -89,6 +95,9 @@ class JGitServiceSyncTest {
   @Mock
   private GitFileService gitFileService;
 
+  private GitPropertiesConfig gitPropertiesConfig;
+  private RepositoryLockManager lockManager;
+
   @Captor
   private ArgumentCaptor<URIish> captor;
 
@@ -97,6 +106,18 @@ class JGitServiceSyncTest {
   public void setUp() {
     Mockito.when(gerritPropertiesConfig.getRepositoryDirectory()).thenReturn(tempDir.getPath());
     Mockito.doCallRealMethod().when(gitRetryable).call(any(GitCommand.class));
+    Mockito.when(git.getRepository()).thenReturn(repository);
+
+    gitPropertiesConfig = new GitPropertiesConfig();
+    var meterRegistry = new SimpleMeterRegistry();
+    lockManager = new RepositoryLockManager(gitPropertiesConfig, meterRegistry);
+    var repositoryHandleCache = new RepositoryHandleCache(jGitWrapper, meterRegistry);
+    var datesCacheService = new DatesCacheService(gitPropertiesConfig, meterRegistry);
+    jGitService = new JGitServiceImpl(gerritPropertiesConfig, gitFileService, jGitWrapper,
+        gitRetryable, datesCacheService, lockManager, gitPropertiesConfig, repositoryHandleCache,
+        new CommitDatesIndexer(datesCacheService, new CommitDatesStore(), gitPropertiesConfig),
+        new DeferredPushScheduler(gitPropertiesConfig, mock(TaskScheduler.class), meterRegistry),
+        mock(RegistryRegulationManagementEventPublisher.class));
   }
 
   @Test
@@ -174,6 +195,7 @@ class JGitServiceSyncTest {
   @Test
   @SneakyThrows
   void getFilesInPathSyncTest() {
+    gitPropertiesConfig.getLocking().setMode(LockingMode.EXCLUSIVE);
     String version = "version";
 
     var file = new File(tempDir, version);
@@ -237,6 +259,7 @@ class JGitServiceSyncTest {
   @Test
   @SneakyThrows
   void getFileContentSyncTest() {
+    gitPropertiesConfig.getLocking().setMode(LockingMode.EXCLUSIVE);
     String version = "version";
 
     var file = new File(tempDir, version);
@@ -280,6 +303,74 @@ class JGitServiceSyncTest {
     }
   }
 
+  @Test
+  @SneakyThrows
+  void getFileContentConcurrentReadTest() {
+    gitPropertiesConfig.getLocking().setMode(LockingMode.READ_WRITE);
+    String version = "version";
+
+    var file = new File(tempDir, version);
+    Assertions.assertThat(file.mkdirs()).isTrue();
+
+    String path = "forms";
+    File readFile = new File(file, path);
+    Assertions.assertThat(readFile.createNewFile()).isTrue();
+
+    int numberOfThreads = 5;
+    CountDownLatch readersInside = new CountDownLatch(numberOfThreads);
+
+    when(jGitWrapper.readFileContent(readFile.toPath())).thenAnswer(invocation -> {
+      readersInside.countDown();
+      // every reader waits until all the others are inside the lock as well
+      Assertions.assertThat(readersInside.await(5, TimeUnit.SECONDS)).isTrue();
+      return "content";
+    });
+
+    ExecutorService service = Executors.newFixedThreadPool(numberOfThreads);
+    List<Future<String>> results = new ArrayList<>();
+    for (int i = 0; i < numberOfThreads; i++) {
+      results.add(service.submit(() -> jGitService.getFileContent(version, path)));
+    }
+
+    for (var result : results) {
+      Assertions.assertThat(result.get()).isEqualTo("content");
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void getBlobContentWaitsForWriteLockTest() {
+    gitPropertiesConfig.getRepositoryCache().setEnabled(true);
+    var repositoryName = RandomString.make();
+    var blobId = ObjectId.fromString("0123456789abcdef0123456789abcdef01234567");
+
+    var file = new File(tempDir, repositoryName);
+    Assertions.assertThat(file.mkdirs()).isTrue();
+    when(jGitWrapper.openRepository(file)).thenReturn(repository);
+    when(repository.getDirectory()).thenReturn(file);
+    when(jGitWrapper.wrap(repository)).thenReturn(git);
+
+    var readStarted = new CountDownLatch(1);
+    when(jGitWrapper.readBlobContent(repository, blobId)).thenAnswer(invocation -> {
+      readStarted.countDown();
+      return "content";
+    });
+
+    // deleteRepo closes the cached handle under the write lock
+    var writeLock = lockManager.getWriteLock(repositoryName);
+    writeLock.lock();
+    Future<String> result;
+    try {
+      result = Executors.newSingleThreadExecutor()
+          .submit(() -> jGitService.getBlobContent(repositoryName, blobId.name()));
+      Assertions.assertThat(readStarted.await(200, TimeUnit.MILLISECONDS)).isFalse();
+    } finally {
+      writeLock.unlock();
+    }
+
+    Assertions.assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("content");
+  }
+
   @Test
   @SneakyThrows
   void amendSyncTest() {
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gitintegration.service;
+
+import java.io.File;
+import java.nio.file.Files;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.ResetCommand.ResetType;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("JGitWrapper")
+class JGitWrapperTest {
+
+  @TempDir
+  File tempDir;
+
+  JGitWrapper jGitWrapper = new JGitWrapper();
+
+  Git git;
+  RevCommit firstCommit;
+  RevCommit secondCommit;
+
+  @BeforeEach
+  @SneakyThrows
+  void setUp() {
+    git = Git.init().setDirectory(tempDir).call();
+    var formsDir = new File(tempDir, "forms");
+    Files.createDirectories(formsDir.toPath());
+    var form = new File(formsDir, "form.json");
+
+    Files.writeString(form.toPath(), "first version");
+    git.add().addFilepattern("forms/form.json").call();
+    firstCommit = git.commit().setMessage("first").call();
+
+    Files.writeString(form.toPath(), "second version");
+    git.add().addFilepattern("forms/form.json").call();
+    secondCommit = git.commit().setMessage("second").call();
+
+    Files.writeString(form.toPath(), "not committed version");
+  }
+
+  @AfterEach
+  void tearDown() {
+    git.close();
+  }
+
+  @Test
+  @DisplayName("should create repository that reads objects of the source repository")
+  @SneakyThrows
+  void initRepositorySharingObjectsTest() {
+    var sourceRepository = git.getRepository();
+    var targetDirectory = new File(tempDir, "target");
+
+    jGitWrapper.initRepositorySharingObjects(targetDirectory, sourceRepository, "master",
+        firstCommit, "http://gerrit/repository");
+
+    try (var target = Git.open(targetDirectory)) {
+      var repository = target.getRepository();
+      Assertions.assertThat(repository.resolve("HEAD")).isEqualTo(firstCommit);
+      Assertions.assertThat(repository.getBranch()).isEqualTo("master");
+      Assertions.assertThat(repository.resolve("origin/master")).isEqualTo(firstCommit);
+      Assertions.assertThat(repository.getConfig().getString("remote", "origin", "url"))
+          .isEqualTo("http://gerrit/repository");
+      Assertions.assertThat(target.status().call().isClean()).isTrue();
+    }
+    Assertions.assertThat(new File(targetDirectory, "forms/form.json")).hasContent("first version");
+    Assertions.assertThat(new File(targetDirectory, ".git/objects/pack").list()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should disable automatic gc and pruning of the repository")
+  @SneakyThrows
+  void disablePruningTest() {
+    var repository = git.getRepository();
+
+    jGitWrapper.disablePruning(repository);
+
+    try (var reopened = Git.open(tempDir)) {
+      var config = reopened.getRepository().getConfig();
+      Assertions.assertThat(config.getInt("gc", "auto", -1)).isZero();
+      Assertions.assertThat(config.getString("gc", null, "pruneexpire")).isEqualTo("never");
+    }
+  }
+
+  @Test
+  @DisplayName("should share shallow boundary of the source repository")
+  @SneakyThrows
+  void initRepositorySharingObjectsTest_shallowSource() {
+    var sourceRepository = git.getRepository();
+    Files.writeString(new File(sourceRepository.getDirectory(), "shallow").toPath(),
+        secondCommit.name() + "\n");
+    var targetDirectory = new File(tempDir, "target");
+
+    jGitWrapper.initRepositorySharingObjects(targetDirectory, sourceRepository, "master",
+        secondCommit, "http://gerrit/repository");
+
+    try (var target = Git.open(targetDirectory)) {
+      Assertions.assertThat(target.getRepository().getObjectDatabase().getShallowCommits())
+          .containsExactly(secondCommit);
+      Assertions.assertThat(target.log().call()).containsExactly(secondCommit);
+    }
+  }
+
+  @Test
+  @DisplayName("should replace shallow boundary with the one of the deepened source repository")
+  @SneakyThrows
+  void copyShallowCommitsTest() {
+    var sourceRepository = git.getRepository();
+    var sourceShallow = new File(sourceRepository.getDirectory(), "shallow");
+    Files.writeString(sourceShallow.toPath(), secondCommit.name() + "\n");
+    var targetDirectory = new File(tempDir, "target");
+    jGitWrapper.initRepositorySharingObjects(targetDirectory, sourceRepository, "master",
+        secondCommit, "http://gerrit/repository");
+    Files.delete(sourceShallow.toPath());
+
+    try (var target = Git.open(targetDirectory)) {
+      jGitWrapper.copyShallowCommits(sourceRepository, target.getRepository());
+
+      Assertions.assertThat(target.getRepository().getObjectDatabase().getShallowCommits())
+          .isEmpty();
+      Assertions.assertThat(target.log().call()).hasSize(2);
+    }
+  }
+
+  @Test
+  @DisplayName("should read file content as it is in specified commit")
+  @SneakyThrows
+  void readFileContentTest() {
+    var repository = git.getRepository();
+
+    Assertions.assertThat(jGitWrapper.readFileContent(repository, secondCommit, "forms/form.json"))
+        .isEqualTo("second version");
+    Assertions.assertThat(jGitWrapper.readFileContent(repository, firstCommit, "forms/form.json"))
+        .isEqualTo("first version");
+  }
+
+  @Test
+  @DisplayName("should return null if there is no file at path in commit")
+  @SneakyThrows
+  void readFileContentTest_noFile() {
+    var repository = git.getRepository();
+
+    Assertions.assertThat(jGitWrapper.readFileContent(repository, secondCommit, "forms/none.json"))
+        .isNull();
+    Assertions.assertThat(jGitWrapper.readFileContent(repository, secondCommit, "forms"))
+        .isNull();
+  }
+
+  @Test
+  @DisplayName("should read blob content by its id")
+  @SneakyThrows
+  void readBlobContentTest() {
+    var repository = git.getRepository();
+    var blobId = repository.resolve(secondCommit.name() + ":forms/form.json");
+
+    Assertions.assertThat(jGitWrapper.readBlobContent(repository, blobId))
+        .isEqualTo("second version");
+    Assertions.assertThat(jGitWrapper.readBlobContent(repository, ObjectId.zeroId())).isNull();
+  }
+
+  @Test
+  @DisplayName("should return conflicting files without touching working tree")
+  @SneakyThrows
+  void getMergeConflictsTest() {
+    var form = new File(tempDir, "forms/form.json");
+    Files.writeString(form.toPath(), "conflicting version");
+    git.add().addFilepattern("forms/form.json").call();
+    var conflictingCommit = git.commit().setAmend(true).setMessage("conflicting").call();
+    Files.writeString(form.toPath(), "not committed version");
+    var repository = git.getRepository();
+
+    Assertions.assertThat(
+            jGitWrapper.getMergeConflicts(repository, conflictingCommit, secondCommit))
+        .containsExactly("forms/form.json");
+    Assertions.assertThat(form).hasContent("not committed version");
+    Assertions.assertThat(repository.resolve("HEAD")).isEqualTo(conflictingCommit);
+  }
+
+  @Test
+  @DisplayName("should return empty list if commits are merged cleanly")
+  @SneakyThrows
+  void getMergeConflictsTest_noConflicts() {
+    var repository = git.getRepository();
+
+    Assertions.assertThat(jGitWrapper.getMergeConflicts(repository, secondCommit, firstCommit))
+        .isEmpty();
+    Assertions.assertThat(jGitWrapper.getMergeConflicts(repository, firstCommit, secondCommit))
+        .isEmpty();
+  }
+
+  @Test
+  @DisplayName("should keep amended commit that has the same parent as the patch set")
+  @SneakyThrows
+  void rebaseAmendedCommitTest_sameParent() {
+    git.reset().setMode(ResetType.HARD).call();
+    var patchSet = commitOnto(firstCommit, "forms/other.json", "pushed");
+    var amendedCommit = commitOnto(firstCommit, "forms/other.json", "pending");
+
+    Assertions.assertThat(
+            jGitWrapper.rebaseAmendedCommit(git.getRepository(), amendedCommit, patchSet))
+        .isEqualTo(amendedCommit);
+  }
+
+  @Test
+  @DisplayName("should move amended commit onto the base of rebased patch set")
+  @SneakyThrows
+  void rebaseAmendedCommitTest_rebasedPatchSet() {
+    git.reset().setMode(ResetType.HARD).call();
+    var pushedPatchSet = commitOnto(firstCommit, "forms/other.json", "pushed");
+    var amendedCommit = commitOnto(pushedPatchSet, "forms/new.json", "pending");
+    var headCommit = commitOnto(firstCommit, "forms/head.json", "head");
+    var rebasedPatchSet = commitOnto(headCommit, "forms/other.json", "pushed");
+    var repository = git.getRepository();
+
+    var rebasedCommitId = jGitWrapper.rebaseAmendedCommit(repository, amendedCommit,
+        rebasedPatchSet);
+
+    Assertions.assertThat(rebasedCommitId).isNotNull();
+    var rebasedCommit = repository.parseCommit(rebasedCommitId);
+    Assertions.assertThat(rebasedCommit.getParents()).containsExactly(headCommit);
+    Assertions.assertThat(rebasedCommit.getFullMessage())
+        .isEqualTo(amendedCommit.getFullMessage());
+    Assertions.assertThat(jGitWrapper.readFileContent(repository, rebasedCommit, "forms/head.json"))
+        .isEqualTo("head");
+    Assertions.assertThat(
+            jGitWrapper.readFileContent(repository, rebasedCommit, "forms/other.json"))
+        .isEqualTo("pushed");
+    Assertions.assertThat(jGitWrapper.readFileContent(repository, rebasedCommit, "forms/new.json"))
+        .isEqualTo("pending");
+  }
+
+  @Test
+  @DisplayName("should not move amended commit that conflicts with rebased patch set")
+  @SneakyThrows
+  void rebaseAmendedCommitTest_conflict() {
+    git.reset().setMode(ResetType.HARD).call();
+    var amendedCommit = commitOnto(firstCommit, "forms/form.json", "pending version");
+    var headCommit = commitOnto(firstCommit, "forms/form.json", "head version");
+    var rebasedPatchSet = commitOnto(headCommit, "forms/other.json", "pushed");
+
+    Assertions.assertThat(
+            jGitWrapper.rebaseAmendedCommit(git.getRepository(), amendedCommit, rebasedPatchSet))
+        .isNull();
+  }
+
+  @SneakyThrows
+  private RevCommit commitOnto(RevCommit parent, String path, String content) {
+    git.checkout().setName(parent.name()).call();
+    Files.writeString(new File(tempDir, path).toPath(), content);
+    git.add().addFilepattern(path).call();
+    return git.commit().setMessage("change " + path).call();
+  }
+}
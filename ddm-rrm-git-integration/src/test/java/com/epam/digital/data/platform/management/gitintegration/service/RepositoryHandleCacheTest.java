@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gitintegration.service;
+
+import com.epam.digital.data.platform.management.gitintegration.exception.GitCommandException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import lombok.SneakyThrows;
+import org.apache.commons.io.FileUtils;
+import org.assertj.core.api.Assertions;
+import org.eclipse.jgit.api.Git;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+@DisplayName("RepositoryHandleCache")
+class RepositoryHandleCacheTest {
+
+  static final String REPOSITORY_NAME = "repo";
+
+  @TempDir
+  File tempDir;
+
+  File repositoryDirectory;
+  JGitWrapper jGitWrapper;
+  SimpleMeterRegistry meterRegistry;
+  RepositoryHandleCache repositoryHandleCache;
+
+  @BeforeEach
+  @SneakyThrows
+  void setUp() {
+    repositoryDirectory = new File(tempDir, REPOSITORY_NAME);
+    Git.init().setDirectory(repositoryDirectory).call().close();
+
+    jGitWrapper = Mockito.spy(new JGitWrapper());
+    meterRegistry = new SimpleMeterRegistry();
+    repositoryHandleCache = new RepositoryHandleCache(jGitWrapper, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    repositoryHandleCache.evictAll();
+  }
+
+  @Test
+  @DisplayName("should open repository once and return the same handle afterwards")
+  @SneakyThrows
+  void getTest() {
+    var first = repositoryHandleCache.get(REPOSITORY_NAME, repositoryDirectory);
+    var second = repositoryHandleCache.get(REPOSITORY_NAME, repositoryDirectory);
+
+    Assertions.assertThat(second).isSameAs(first);
+    Mockito.verify(jGitWrapper).openRepository(repositoryDirectory);
+
+    Assertions.assertThat(meterRegistry.get(RepositoryHandleCache.CACHE_REQUESTS_METRIC)
+        .tag("result", "hit").counter().count()).isEqualTo(1);
+    Assertions.assertThat(meterRegistry.get(RepositoryHandleCache.CACHE_REQUESTS_METRIC)
+        .tag("result", "miss").counter().count()).isEqualTo(1);
+    Assertions.assertThat(meterRegistry.get(RepositoryHandleCache.CACHE_SIZE_METRIC)
+        .gauge().value()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should open new handle after eviction")
+  @SneakyThrows
+  void evictTest() {
+    var first = repositoryHandleCache.get(REPOSITORY_NAME, repositoryDirectory);
+    repositoryHandleCache.evict(REPOSITORY_NAME);
+
+    Assertions.assertThat(meterRegistry.get(RepositoryHandleCache.CACHE_SIZE_METRIC)
+        .gauge().value()).isZero();
+
+    var second = repositoryHandleCache.get(REPOSITORY_NAME, repositoryDirectory);
+    Assertions.assertThat(second).isNotSameAs(first);
+    Mockito.verify(jGitWrapper, Mockito.times(2)).openRepository(repositoryDirectory);
+  }
+
+  @Test
+  @DisplayName("should drop handle of repository which directory has been deleted")
+  @SneakyThrows
+  void getTest_repositoryRecreated() {
+    var first = repositoryHandleCache.get(REPOSITORY_NAME, repositoryDirectory);
+
+    FileUtils.deleteDirectory(repositoryDirectory);
+    Assertions.assertThatThrownBy(
+            () -> repositoryHandleCache.get(REPOSITORY_NAME, repositoryDirectory))
+        .isInstanceOf(GitCommandException.class);
+    Git.init().setDirectory(repositoryDirectory).call().close();
+
+    var second = repositoryHandleCache.get(REPOSITORY_NAME, repositoryDirectory);
+    Assertions.assertThat(second).isNotSameAs(first);
+  }
+
+  @Test
+  @DisplayName("should throw GitCommandException if repository couldn't be opened")
+  void getTest_noRepository() {
+    var notRepository = new File(tempDir, "not-repo");
+
+    Assertions.assertThatThrownBy(() -> repositoryHandleCache.get("not-repo", notRepository))
+        .isInstanceOf(GitCommandException.class)
+        .hasMessageContaining("Exception occurred during repository opening: ");
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.gitintegration.service;
+
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig;
+import com.epam.digital.data.platform.management.gitintegration.config.GitPropertiesConfig.LockingMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RepositoryLockManager")
+class RepositoryLockManagerTest {
+
+  static final String REPOSITORY_NAME = "repo";
+
+  GitPropertiesConfig gitPropertiesConfig;
+  SimpleMeterRegistry meterRegistry;
+  RepositoryLockManager lockManager;
+
+  @BeforeEach
+  void setUp() {
+    gitPropertiesConfig = new GitPropertiesConfig();
+    meterRegistry = new SimpleMeterRegistry();
+    lockManager = new RepositoryLockManager(gitPropertiesConfig, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("should let read locks be held concurrently in read-write mode")
+  @SneakyThrows
+  void readLocksAreSharedTest() {
+    var firstReadLock = lockManager.getReadLock(REPOSITORY_NAME);
+    firstReadLock.lock();
+    try {
+      var secondRead = CompletableFuture.runAsync(() -> {
+        var secondReadLock = lockManager.getReadLock(REPOSITORY_NAME);
+        secondReadLock.lock();
+        secondReadLock.unlock();
+      });
+      secondRead.get(5, TimeUnit.SECONDS);
+    } finally {
+      firstReadLock.unlock();
+    }
+  }
+
+  @Test
+  @DisplayName("should make read locks exclusive in exclusive mode")
+  @SneakyThrows
+  void readLocksAreExclusiveTest() {
+    gitPropertiesConfig.getLocking().setMode(LockingMode.EXCLUSIVE);
+
+    var firstReadLock = lockManager.getReadLock(REPOSITORY_NAME);
+    firstReadLock.lock();
+    CompletableFuture<Void> secondRead;
+    try {
+      secondRead = CompletableFuture.runAsync(() -> {
+        var secondReadLock = lockManager.getReadLock(REPOSITORY_NAME);
+        secondReadLock.lock();
+        secondReadLock.unlock();
+      });
+      Thread.sleep(100);
+      Assertions.assertThat(secondRead).isNotDone();
+    } finally {
+      firstReadLock.unlock();
+    }
+    secondRead.get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  @DisplayName("should block write lock while read lock is held")
+  @SneakyThrows
+  void writeLockWaitsForReadersTest() {
+    var readLock = lockManager.getReadLock(REPOSITORY_NAME);
+    readLock.lock();
+    CompletableFuture<Void> write;
+    try {
+      write = CompletableFuture.runAsync(() -> {
+        var writeLock = lockManager.getWriteLock(REPOSITORY_NAME);
+        writeLock.lock();
+        writeLock.unlock();
+      });
+      Thread.sleep(100);
+      Assertions.assertThat(write).isNotDone();
+    } finally {
+      readLock.unlock();
+    }
+    write.get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  @DisplayName("should record lock wait and hold times")
+  void metricsTest() {
+    var readLock = lockManager.getReadLock(REPOSITORY_NAME);
+    readLock.lock();
+    readLock.unlock();
+    var writeLock = lockManager.getWriteLock(REPOSITORY_NAME);
+    writeLock.lock();
+    writeLock.unlock();
+
+    Assertions.assertThat(meterRegistry.get(RepositoryLockManager.LOCK_WAIT_METRIC)
+        .tag("mode", "read").timer().count()).isEqualTo(1);
+    Assertions.assertThat(meterRegistry.get(RepositoryLockManager.LOCK_HOLD_METRIC)
+        .tag("mode", "read").timer().count()).isEqualTo(1);
+    Assertions.assertThat(meterRegistry.get(RepositoryLockManager.LOCK_WAIT_METRIC)
+        .tag("mode", "write").timer().count()).isEqualTo(1);
+    Assertions.assertThat(meterRegistry.get(RepositoryLockManager.LOCK_HOLD_METRIC)
+        .tag("mode", "write").timer().count()).isEqualTo(1);
+  }
+}
@@ -16,21 +16,28 @@
 package com.epam.digital.data.platform.management.restapi.controller;
 
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Positive;
 
 import com.epam.digital.data.platform.management.restapi.model.BuildType;
 import com.epam.digital.data.platform.management.restapi.model.ResultValues;
 import com.epam.digital.data.platform.management.restapi.service.BuildStatusService;
-import com.epam.digital.data.platform.management.versionmanagement.model.VersionInfoDto;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.epam.digital.data.platform.management.gerritintegration.model.CreateChangeInputDto;
@@ -40,6 +47,7 @@ import com.epam.digital.data.platform.management.restapi.model.DetailedErrorResp
 import com.epam.digital.data.platform.management.restapi.model.VersionChangesInfo;
 import com.epam.digital.data.platform.management.restapi.model.VersionInfo;
 import com.epam.digital.data.platform.management.restapi.model.VersionInfoDetailed;
+import com.epam.digital.data.platform.management.versionmanagement.model.VersionInfoShortDto;
 import com.epam.digital.data.platform.management.versionmanagement.service.VersionManagementService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -55,26 +63,49 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Tag(name = "Registry regulations version-candidate management Rest API")
+@Validated
 @RestController
 @RequestMapping("/versions/candidates")
 @RequiredArgsConstructor
 public class CandidateVersionController {
 
+  public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
   private final VersionManagementService versionManagementService;
   private final ControllerMapper controllerMapper;
   private final BuildStatusService buildStatusService;
 
-  @Operation(description = "Get list of existing opened version-candidates",
-      parameters = @Parameter(in = ParameterIn.HEADER,
-          name = "X-Access-Token",
-          description = "Token used for endpoint security",
-          required = true,
-          schema = @Schema(type = "string")),
+  @Operation(description = "Get list of existing opened version-candidates, most recently updated first. "
+      + "If limit is set, at most limit version-candidates are returned and the cursor of the next page is "
+      + "returned in the X-Next-Cursor header, otherwise all version-candidates are returned.",
+      parameters = {
+          @Parameter(in = ParameterIn.HEADER,
+              name = "X-Access-Token",
+              description = "Token used for endpoint security",
+              required = true,
+              schema = @Schema(type = "string")),
+          @Parameter(in = ParameterIn.QUERY,
+              name = "cursor",
+              description = "Cursor of the page returned in X-Next-Cursor header of the previous page. Used together with limit",
+              schema = @Schema(type = "integer", defaultValue = "0", minimum = "0")),
+          @Parameter(in = ParameterIn.QUERY,
+              name = "limit",
+              description = "Maximum number of version-candidates in the page. All version-candidates are returned if it's not set",
+              schema = @Schema(type = "integer", minimum = "1")),
+          @Parameter(in = ParameterIn.QUERY,
+              name = "updatedSince",
+              description = "Return only version-candidates updated since the date",
+              schema = @Schema(type = "string", format = "date-time"))
+      },
       responses = {
           @ApiResponse(responseCode = "200",
               description = "OK",
               content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                   array = @ArraySchema(schema = @Schema(implementation = VersionInfo.class)))),
+          @ApiResponse(responseCode = "400",
+              description = "Bad Request",
+              content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                  schema = @Schema(implementation = DetailedErrorResponse.class))),
           @ApiResponse(responseCode = "401",
               description = "Unauthorized",
               content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
@@ -87,17 +118,32 @@ public class CandidateVersionController {
                   schema = @Schema(implementation = DetailedErrorResponse.class))),
       })
   @GetMapping
-  public ResponseEntity<List<VersionInfo>> getVersionsList() {
+  public ResponseEntity<List<VersionInfo>> getVersionsList(
+      @RequestParam(defaultValue = "0") @Min(0) int cursor,
+      @RequestParam(required = false) @Positive Integer limit,
+      @RequestParam(required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince) {
     log.info("Started getting versions list");
-    var response = versionManagementService.getVersionsList()
-        .stream().map(c -> VersionInfo.builder()
+    var response = ResponseEntity.ok();
+    List<VersionInfoShortDto> versions;
+    if (Objects.isNull(limit)) {
+      versions = versionManagementService.getVersionsList(updatedSince);
+    } else {
+      var page = versionManagementService.getVersionsPage(cursor, limit, updatedSince);
+      versions = page.getVersions();
+      if (Objects.nonNull(page.getNextCursor())) {
+        response.header(NEXT_CURSOR_HEADER, String.valueOf(page.getNextCursor()));
+      }
+    }
+    var versionInfos = versions.stream()
+        .map(c -> VersionInfo.builder()
             .id(String.valueOf(c.getNumber()))
             .name(c.getSubject())
             .description(c.getDescription())
             .build())
         .collect(Collectors.toList());
-    log.info("Found {} version candidates", response.size());
-    return ResponseEntity.ok(response);
+    log.info("Found {} version candidates", versionInfos.size());
+    return response.body(versionInfos);
   }
 
   @Operation(description = "Abandon the existing opened version-candidate. After this operation the version-candidate won't take any changes anymore.",
@@ -242,16 +288,18 @@ public class CandidateVersionController {
                   schema = @Schema(implementation = DetailedErrorResponse.class)))
       })
   @GetMapping("/{versionCandidateId}")
-  public ResponseEntity<VersionInfoDetailed> getVersionDetails(
+  public CompletableFuture<ResponseEntity<VersionInfoDetailed>> getVersionDetails(
       @PathVariable @Parameter(description = "Version-candidate identifier", required = true) String versionCandidateId) {
     log.info("Started getting detailed info about {} version candidate", versionCandidateId);
-    VersionInfoDto versionDetails = versionManagementService.getVersionDetails(versionCandidateId);
-    String statusVersionBuild = buildStatusService.getStatusVersionBuild(versionDetails, BuildType.CANDIDATE);
-    var response = controllerMapper.toVersionInfoDetailed(
-        versionDetails);
-    response.getValidations().get(0).setResult(ResultValues.valueOf(statusVersionBuild));
-    log.info("Finished getting detailed info about {} version candidate", versionCandidateId);
-    return ResponseEntity.ok().body(response);
+    return versionManagementService.getVersionDetailsAsync(versionCandidateId)
+        .thenApply(versionDetails -> {
+          String statusVersionBuild = buildStatusService.getStatusVersionBuild(versionDetails, BuildType.CANDIDATE);
+          var response = controllerMapper.toVersionInfoDetailed(
+              versionDetails);
+          response.getValidations().get(0).setResult(ResultValues.valueOf(statusVersionBuild));
+          log.info("Finished getting detailed info about {} version candidate", versionCandidateId);
+          return ResponseEntity.ok().body(response);
+        });
   }
 
   @Operation(description = "Get version changes by version-candidate id",
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.restapi.controller;
+
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.restapi.model.DetailedErrorResponse;
+import com.epam.digital.data.platform.management.versionmanagement.model.GerritEventDto;
+import com.epam.digital.data.platform.management.versionmanagement.service.GerritEventService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@Tag(name = "Gerrit events Rest API")
+@RestController
+@RequestMapping("/gerrit-events")
+@RequiredArgsConstructor
+public class GerritEventController {
+
+  public static final String EVENT_TOKEN_HEADER = "X-Gerrit-Event-Token";
+
+  private final GerritEventService gerritEventService;
+  private final GerritPropertiesConfig gerritPropertiesConfig;
+
+  @Operation(description = "Refresh repository and caches of the version affected by gerrit event. "
+      + "Called by gerrit webhooks plugin on ref-updated, patchset-created and change-merged events. "
+      + "Authenticated with the shared secret instead of access token, revisions to fetch are "
+      + "resolved from gerrit. Repository is refreshed after the event is accepted",
+      parameters = @Parameter(in = ParameterIn.HEADER,
+          name = EVENT_TOKEN_HEADER,
+          description = "Shared secret of gerrit webhooks",
+          required = true,
+          schema = @Schema(type = "string")),
+      responses = {
+          @ApiResponse(responseCode = "202",
+              description = "Accepted",
+              content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)),
+          @ApiResponse(responseCode = "403",
+              description = "Forbidden",
+              content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                  schema = @Schema(implementation = DetailedErrorResponse.class))),
+          @ApiResponse(responseCode = "500",
+              description = "Internal server error",
+              content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                  schema = @Schema(implementation = DetailedErrorResponse.class)))
+      })
+  @PostMapping
+  public ResponseEntity<Void> handleEvent(
+      @RequestHeader(name = EVENT_TOKEN_HEADER, required = false) String token,
+      @RequestBody GerritEventDto event) {
+    if (!isValidToken(token)) {
+      throw new AccessDeniedException("Gerrit event token is missing or invalid");
+    }
+    log.info("Gerrit event {} received", event.getType());
+    gerritEventService.handleEvent(event);
+    log.info("Gerrit event {} accepted", event.getType());
+    return ResponseEntity.accepted().build();
+  }
+
+  /**
+   * Tokens are compared in constant time, so the secret can't be guessed by response time
+   */
+  private boolean isValidToken(String token) {
+    var secret = gerritPropertiesConfig.getEvents().getSecret();
+    if (!StringUtils.hasText(secret) || Objects.isNull(token)) {
+      return false;
+    }
+    return MessageDigest.isEqual(secret.getBytes(StandardCharsets.UTF_8),
+        token.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -36,6 +36,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Tag(name = "Registry regulations master version management Rest API")
@@ -70,24 +71,25 @@ public class MasterVersionController {
                   schema = @Schema(implementation = DetailedErrorResponse.class)))
       })
   @GetMapping
-  public ResponseEntity<MasterVersionInfoDetailed> getMasterVersionInfo() {
+  public CompletableFuture<ResponseEntity<MasterVersionInfoDetailed>> getMasterVersionInfo() {
     log.info("Started getting master detailed info");
-    var masterInfo = versionManagementService.getMasterInfo();
-    if (Objects.isNull(masterInfo)) {
-      log.info("Master info is null, returning empty info");
-      return ResponseEntity.ok()
-          .body(MasterVersionInfoDetailed.builder().build());
-    }
-    var response = MasterVersionInfoDetailed.builder()
-        .id(String.valueOf(masterInfo.getNumber()))
-        .author(masterInfo.getOwner())
-        .description(masterInfo.getDescription())
-        .name(masterInfo.getSubject())
-        .latestUpdate(masterInfo.getSubmitted())
-        .status(buildStatusService.getStatusVersionBuild(masterInfo, BuildType.MASTER))
-        .build();
-    log.info("Finished getting detailed info about master");
-    return ResponseEntity.ok().body(response);
+    return versionManagementService.getMasterInfoAsync().thenApply(masterInfo -> {
+      if (Objects.isNull(masterInfo)) {
+        log.info("Master info is null, returning empty info");
+        return ResponseEntity.ok()
+            .body(MasterVersionInfoDetailed.builder().build());
+      }
+      var response = MasterVersionInfoDetailed.builder()
+          .id(String.valueOf(masterInfo.getNumber()))
+          .author(masterInfo.getOwner())
+          .description(masterInfo.getDescription())
+          .name(masterInfo.getSubject())
+          .latestUpdate(masterInfo.getSubmitted())
+          .status(buildStatusService.getStatusVersionBuild(masterInfo, BuildType.MASTER))
+          .build();
+      log.info("Finished getting detailed info about master");
+      return ResponseEntity.ok().body(response);
+    });
   }
 
 }
@@ -58,6 +58,8 @@ import com.epam.digital.data.platform.starter.localization.MessageResolver;
 import java.lang.annotation.Annotation;
 import java.util.Objects;
 import javax.validation.ConstraintViolationException;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
@@ -312,7 +314,8 @@ public class ApplicationExceptionHandler extends ResponseEntityExceptionHandler
       return ResponseEntity.status(HttpStatus.NOT_FOUND)
           .body(newDetailedResponse(CHANGE_NOT_FOUND, exception));
     }
-    if (annotation instanceof TableName) {
+    if (annotation instanceof TableName || annotation instanceof Min
+        || annotation instanceof Positive) {
       return ResponseEntity.status(HttpStatus.BAD_REQUEST)
           .body(newDetailedResponse(HttpStatus.BAD_REQUEST.getReasonPhrase(), exception));
     }
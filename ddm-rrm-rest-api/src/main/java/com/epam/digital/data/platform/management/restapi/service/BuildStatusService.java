@@ -16,6 +16,7 @@
 
 package com.epam.digital.data.platform.management.restapi.service;
 
+import com.epam.digital.data.platform.management.gerritintegration.service.ChangeLabelsCache;
 import com.epam.digital.data.platform.management.restapi.mapper.ControllerMapper;
 import com.epam.digital.data.platform.management.restapi.model.BuildType;
 import com.epam.digital.data.platform.management.restapi.model.ResultValues;
@@ -34,9 +35,11 @@ import java.util.Objects;
 public class BuildStatusService {
   private final VersionManagementService versionManagementService;
   private final ControllerMapper mapper;
+  private final ChangeLabelsCache labelsCache;
+
   public boolean isSuccessCandidateVersionBuild(String versionId) {
-    VersionInfoDto versionDetails = versionManagementService.getVersionDetails(versionId);
-    Map<String, Integer> labels = versionDetails.getLabels();
+    Map<String, Integer> labels = labelsCache.getLabels(versionId,
+        () -> versionManagementService.getVersionDetails(versionId).getLabels());
     Validation validation = mapper.toValidations(labels).get(0);
     return Objects.equals(validation.getResult(), ResultValues.SUCCESS);
   }
@@ -23,11 +23,13 @@ import static org.hamcrest.Matchers.nullValue;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.epam.digital.data.platform.management.gerritintegration.model.CreateChangeInputDto;
@@ -43,11 +45,13 @@ import com.epam.digital.data.platform.management.versionmanagement.model.EntityC
 import com.epam.digital.data.platform.management.versionmanagement.model.VersionChangesDto;
 import com.epam.digital.data.platform.management.versionmanagement.model.VersionInfoDto;
 import com.epam.digital.data.platform.management.versionmanagement.model.VersionInfoShortDto;
+import com.epam.digital.data.platform.management.versionmanagement.model.VersionInfoShortPageDto;
 import com.epam.digital.data.platform.management.versionmanagement.service.VersionManagementServiceImpl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -88,21 +92,64 @@ class CandidateVersionControllerTest {
         .subject("JohnDoe's version candidate")
         .description("Version candidate to change form")
         .build();
+    final var nextChangeInfoResponse = VersionInfoShortDto.builder()
+        .number(2)
+        .subject("JaneDoe's version candidate")
+        .description("Version candidate to change process")
+        .build();
 
-    Mockito.doReturn(List.of(expectedChangeInfoResponse))
-        .when(versionManagementService).getVersionsList();
+    Mockito.doReturn(List.of(expectedChangeInfoResponse, nextChangeInfoResponse))
+        .when(versionManagementService).getVersionsList(null);
 
     mockMvc.perform(
         get("/versions/candidates")
     ).andExpectAll(
         status().isOk(),
         content().contentType(MediaType.APPLICATION_JSON),
+        header().doesNotExist(CandidateVersionController.NEXT_CURSOR_HEADER),
+        jsonPath("$", hasSize(2)),
         jsonPath("$.[0].id", is("1")),
         jsonPath("$.[0].name", is("JohnDoe's version candidate")),
-        jsonPath("$.[0].description", is("Version candidate to change form"))
+        jsonPath("$.[0].description", is("Version candidate to change form")),
+        jsonPath("$.[1].id", is("2"))
     ).andDo(document("versions/candidates/GET"));
 
-    Mockito.verify(versionManagementService).getVersionsList();
+    Mockito.verify(versionManagementService).getVersionsList(null);
+    Mockito.verifyNoMoreInteractions(versionManagementService);
+  }
+
+  @Test
+  @DisplayName("GET /versions/candidates with limit should return 200 with page of versions and next cursor")
+  @SneakyThrows
+  void getVersionListPageTest() {
+    final var expectedChangeInfoResponse = VersionInfoShortDto.builder()
+        .number(1)
+        .subject("JohnDoe's version candidate")
+        .description("Version candidate to change form")
+        .build();
+    final var updatedSince = LocalDateTime.of(2022, 8, 10, 11, 30);
+
+    Mockito.doReturn(VersionInfoShortPageDto.builder()
+            .versions(List.of(expectedChangeInfoResponse))
+            .nextCursor(11)
+            .build())
+        .when(versionManagementService).getVersionsPage(10, 1, updatedSince);
+
+    var mvcResult = mockMvc.perform(
+        get("/versions/candidates")
+            .param("cursor", "10")
+            .param("limit", "1")
+            .param("updatedSince", "2022-08-10T11:30:00")
+    ).andExpectAll(
+        status().isOk(),
+        content().contentType(MediaType.APPLICATION_JSON),
+        header().string(CandidateVersionController.NEXT_CURSOR_HEADER, "11"),
+        jsonPath("$", hasSize(1)),
+        jsonPath("$.[0].id", is("1"))
+    );
+
+    Mockito.verify(versionManagementService).getVersionsPage(10, 1, updatedSince);
+    Mockito.verifyNoMoreInteractions(versionManagementService);
   }
 
   @Test
@@ -164,13 +211,15 @@ class CandidateVersionControllerTest {
         .mergeable(true)
         .labels(Map.of("Verified", 1))
         .build();
-    Mockito.doReturn(expectedVersionDetails)
-        .when(versionManagementService).getVersionDetails("1");
+    Mockito.doReturn(CompletableFuture.completedFuture(expectedVersionDetails))
+        .when(versionManagementService).getVersionDetailsAsync("1");
     Mockito.doReturn(ResultValues.SUCCESS.name()).when(buildStatusService).getStatusVersionBuild(expectedVersionDetails, BuildType.CANDIDATE);
 
-    mockMvc.perform(
+    var mvcResult = mockMvc.perform(
         get("/versions/candidates/{versionCandidateId}", "1")
-    ).andExpectAll(
+    ).andExpect(request().asyncStarted()).andReturn();
+
+    mockMvc.perform(asyncDispatch(mvcResult)).andExpectAll(
         status().isOk(),
         content().contentType(MediaType.APPLICATION_JSON),
         jsonPath("$.id", is("1")),
@@ -184,7 +233,7 @@ class CandidateVersionControllerTest {
         jsonPath("$.validations[0].result", is("SUCCESS"))
     ).andDo(document("versions/candidates/{versionCandidateId}/GET"));
 
-    Mockito.verify(versionManagementService).getVersionDetails("1");
+    Mockito.verify(versionManagementService).getVersionDetailsAsync("1");
   }
 
   @Test
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.restapi.controller;
+
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.restapi.exception.ApplicationExceptionHandler;
+import com.epam.digital.data.platform.management.versionmanagement.model.GerritEventDto;
+import com.epam.digital.data.platform.management.versionmanagement.service.GerritEventService;
+import lombok.SneakyThrows;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.RestDocumentationContextProvider;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@ControllerTest({GerritEventController.class, ApplicationExceptionHandler.class})
+@DisplayName("Gerrit event controller tests")
+class GerritEventControllerTest {
+
+  static final String SECRET = "gerrit-events-secret";
+
+  MockMvc mockMvc;
+  @MockBean
+  GerritEventService gerritEventService;
+  @MockBean
+  GerritPropertiesConfig gerritPropertiesConfig;
+
+  @BeforeEach
+  void setUp(WebApplicationContext webApplicationContext,
+      RestDocumentationContextProvider restDocumentation) {
+    var events = new GerritPropertiesConfig.Events();
+    events.setSecret(SECRET);
+    Mockito.doReturn(events).when(gerritPropertiesConfig).getEvents();
+    this.mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+        .apply(documentationConfiguration(restDocumentation))
+        .build();
+  }
+
+  @Test
+  @DisplayName("POST /gerrit-events should pass patchset-created event to the service and return 202")
+  @SneakyThrows
+  void handlePatchSetCreatedEventTest() {
+    var event = "{\"type\":\"patchset-created\","
+        + "\"change\":{\"project\":\"registry\",\"branch\":\"master\",\"number\":42,"
+        + "\"id\":\"I0123456789abcdef\",\"owner\":{\"username\":\"admin\"}},"
+        + "\"patchSet\":{\"number\":3,\"ref\":\"refs/changes/42/42/3\"},"
+        + "\"eventCreatedOn\":1689000000}";
+
+    mockMvc.perform(
+        post("/gerrit-events")
+            .header(GerritEventController.EVENT_TOKEN_HEADER, SECRET)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(event)
+    ).andExpect(
+        status().isAccepted()
+    ).andDo(document("gerrit-events/POST"));
+
+    var captor = ArgumentCaptor.forClass(GerritEventDto.class);
+    Mockito.verify(gerritEventService).handleEvent(captor.capture());
+    var handledEvent = captor.getValue();
+    Assertions.assertThat(handledEvent.getType()).isEqualTo("patchset-created");
+    Assertions.assertThat(handledEvent.getChange().getProject()).isEqualTo("registry");
+    Assertions.assertThat(handledEvent.getChange().getNumber()).isEqualTo("42");
+  }
+
+  @Test
+  @DisplayName("POST /gerrit-events should pass ref-updated event to the service and return 202")
+  @SneakyThrows
+  void handleRefUpdatedEventTest() {
+    var event = "{\"type\":\"ref-updated\",\"refUpdate\":{\"project\":\"registry\","
+        + "\"refName\":\"refs/heads/master\",\"oldRev\":\"a1\",\"newRev\":\"b2\"}}";
+
+    mockMvc.perform(
+        post("/gerrit-events")
+            .header(GerritEventController.EVENT_TOKEN_HEADER, SECRET)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(event)
+    ).andExpect(
+        status().isAccepted()
+    );
+
+    var captor = ArgumentCaptor.forClass(GerritEventDto.class);
+    Mockito.verify(gerritEventService).handleEvent(captor.capture());
+    Assertions.assertThat(captor.getValue().getRefUpdate().getRefName())
+        .isEqualTo("refs/heads/master");
+    Assertions.assertThat(captor.getValue().getRefUpdate().getNewRev()).isEqualTo("b2");
+  }
+
+  @Test
+  @DisplayName("POST /gerrit-events should return 403 if event token is invalid")
+  @SneakyThrows
+  void handleEventInvalidTokenTest() {
+    mockMvc.perform(
+        post("/gerrit-events")
+            .header(GerritEventController.EVENT_TOKEN_HEADER, "wrong-secret")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"type\":\"change-merged\"}")
+    ).andExpect(
+        status().isForbidden()
+    );
+
+    Mockito.verifyNoInteractions(gerritEventService);
+  }
+
+  @Test
+  @DisplayName("POST /gerrit-events should return 403 if event secret isn't configured")
+  @SneakyThrows
+  void handleEventSecretNotConfiguredTest() {
+    gerritPropertiesConfig.getEvents().setSecret(null);
+
+    mockMvc.perform(
+        post("/gerrit-events")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"type\":\"change-merged\"}")
+    ).andExpect(
+        status().isForbidden()
+    );
+
+    Mockito.verifyNoInteractions(gerritEventService);
+  }
+}
@@ -40,6 +40,7 @@ import org.springframework.web.context.WebApplicationContext;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import static org.hamcrest.Matchers.is;
@@ -47,9 +48,11 @@ import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ControllerTest(MasterVersionController.class)
@@ -87,13 +90,15 @@ class MasterVersionControllerTest {
         .messages(List.of(changeMessageInfo))
         .build();
 
-    Mockito.doReturn(expectedChangeInfo)
-        .when(versionManagementService).getMasterInfo();
+    Mockito.doReturn(CompletableFuture.completedFuture(expectedChangeInfo))
+        .when(versionManagementService).getMasterInfoAsync();
     Mockito.doReturn(status).when(buildStatusService).getStatusVersionBuild(expectedChangeInfo, BuildType.MASTER);
 
-    mockMvc.perform(
+    var mvcResult = mockMvc.perform(
         get("/versions/master")
-    ).andExpectAll(
+    ).andExpect(request().asyncStarted()).andReturn();
+
+    mockMvc.perform(asyncDispatch(mvcResult)).andExpectAll(
         status().isOk(),
         content().contentType(MediaType.APPLICATION_JSON),
         jsonPath("$.id", is("1")),
@@ -107,19 +112,21 @@ class MasterVersionControllerTest {
         jsonPath("$.validations", nullValue())
     ).andDo(document("versions/master/GET"));
 
-    Mockito.verify(versionManagementService).getMasterInfo();
+    Mockito.verify(versionManagementService).getMasterInfoAsync();
   }
 
   @Test
   @DisplayName("GET /versions/master should return 200 with empty object if there is no last merged change")
   @SneakyThrows
   void getMasterNoLastVersions() {
-    Mockito.doReturn(null)
-        .when(versionManagementService).getMasterInfo();
+    Mockito.doReturn(CompletableFuture.completedFuture(null))
+        .when(versionManagementService).getMasterInfoAsync();
 
-    mockMvc.perform(
+    var mvcResult = mockMvc.perform(
         get("/versions/master")
-    ).andExpectAll(
+    ).andExpect(request().asyncStarted()).andReturn();
+
+    mockMvc.perform(asyncDispatch(mvcResult)).andExpectAll(
         status().isOk(),
         content().contentType(MediaType.APPLICATION_JSON),
         jsonPath("$.id", nullValue()),
@@ -132,7 +139,7 @@ class MasterVersionControllerTest {
         jsonPath("$.validations", nullValue())
     ).andDo(document("versions/master/GET"));
 
-    Mockito.verify(versionManagementService).getMasterInfo();
+    Mockito.verify(versionManagementService).getMasterInfoAsync();
   }
 
   static Stream<Arguments> provideBuildStatuses() {
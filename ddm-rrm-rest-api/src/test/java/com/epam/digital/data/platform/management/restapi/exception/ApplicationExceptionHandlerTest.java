@@ -401,6 +401,20 @@ class ApplicationExceptionHandlerTest {
             jsonPath("$.localizedMessage").doesNotExist());
   }
 
+  @Test
+  @SneakyThrows
+  void shouldReturnBadRequestOnInvalidVersionsPage() {
+    mockMvc.perform(get("/versions/candidates")
+            .param("cursor", "-1")
+            .param("limit", "0")
+            .accept(MediaType.APPLICATION_JSON_VALUE))
+        .andExpectAll(
+            status().isBadRequest(),
+            jsonPath("$.code").value("Bad Request"));
+
+    Mockito.verifyNoInteractions(versionManagementService);
+  }
+
   @Test
   @SneakyThrows
   void shouldThrowsGroupsParsingException() {
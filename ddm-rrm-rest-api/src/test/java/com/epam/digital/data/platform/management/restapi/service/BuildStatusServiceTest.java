@@ -16,6 +16,8 @@
 
 package com.epam.digital.data.platform.management.restapi.service;
 
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.gerritintegration.service.ChangeLabelsCache;
 import com.epam.digital.data.platform.management.restapi.mapper.ControllerMapper;
 import com.epam.digital.data.platform.management.restapi.model.BuildType;
 import com.epam.digital.data.platform.management.restapi.model.ResultValues;
@@ -23,6 +25,8 @@ import com.epam.digital.data.platform.management.restapi.model.Validation;
 import com.epam.digital.data.platform.management.versionmanagement.model.VersionInfoDto;
 import com.epam.digital.data.platform.management.versionmanagement.service.VersionManagementService;
 import com.google.gerrit.extensions.common.ChangeMessageInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -31,6 +35,7 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.sql.Timestamp;
@@ -44,6 +49,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -57,6 +63,9 @@ class BuildStatusServiceTest {
   VersionManagementService versionManagementService;
   @Mock
   ControllerMapper mapper;
+  @Spy
+  ChangeLabelsCache labelsCache =
+      new ChangeLabelsCache(gerritPropertiesConfig(), new SimpleMeterRegistry());
 
   @InjectMocks
   BuildStatusService buildStatusService;
@@ -81,6 +90,20 @@ class BuildStatusServiceTest {
     }
   }
 
+  @Test
+  void isSuccessCandidateVersionBuild_shouldUseCachedLabels() {
+    Map<String, Integer> labels = Map.of("Verified", 1);
+    labelsCache.update("someId", labels);
+    Validation validation = mock(Validation.class);
+    when(mapper.toValidations(labels)).thenReturn(List.of(validation));
+    when(validation.getResult()).thenReturn(ResultValues.SUCCESS);
+
+    boolean isSuccess = buildStatusService.isSuccessCandidateVersionBuild("someId");
+
+    assertTrue(isSuccess);
+    verifyNoInteractions(versionManagementService);
+  }
+
   @ParameterizedTest
   @MethodSource("provideBuildStatuses")
   void isSuccessMasterVersionBuild(String message) {
@@ -130,4 +153,10 @@ class BuildStatusServiceTest {
         arguments(BUILD_SUCCESSFUL_MASTER_CODE_REVIEW, ResultValues.PENDING.name())
     );
   }
-}
\ No newline at end of file
+
+  private static GerritPropertiesConfig gerritPropertiesConfig() {
+    var gerritPropertiesConfig = new GerritPropertiesConfig();
+    gerritPropertiesConfig.getLabelsCache().setTimeToLive(Duration.ofMinutes(1));
+    return gerritPropertiesConfig;
+  }
+}
@@ -53,13 +53,21 @@ public class CleanObsoleteVersionContextScheduler {
                 .map(ChangeInfoShortDto::getNumber)
                 .noneMatch(path::endsWith))
             .map(path -> path.getFileName().toString())
-            .forEach(repo -> {
-              versionContextComponentManager.destroyContext(repo);
-              jGitService.deleteRepo(repo);
-            });
+            .forEach(this::deleteObsoleteVersion);
       }
     } catch (Exception e) {
       log.warn("Error during deleting obsolete repositories: {}", e.getMessage());
     }
   }
+
+  private void deleteObsoleteVersion(String repo) {
+    try {
+      versionContextComponentManager.destroyContext(repo);
+      jGitService.deleteRepo(repo);
+    } catch (Exception e) {
+      // e.g. pending commits of the repository couldn't be pushed, other repositories are still
+      // cleaned
+      log.warn("Error during deleting obsolete repository {}: {}", repo, e.getMessage());
+    }
+  }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.scheduled;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers head-branch commit and change revision every version candidate was last refreshed
+ * against, so Gerrit rebase, fetch and conflicts computation are skipped while neither of them
+ * changes.
+ * <p>
+ * Published metrics: {@value #SAVED_METRIC} counter of skipped operations tagged by operation -
+ * {@code rebase}, {@code fetch} or {@code conflicts}.
+ */
+@Slf4j
+@Component
+public class RefreshFingerprintTracker {
+
+  public static final String SAVED_METRIC = "rrm.version.candidate.refresh.saved";
+
+  private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+
+  private final Counter savedRebaseCounter;
+  private final Counter savedFetchCounter;
+  private final Counter savedConflictsCounter;
+
+  public RefreshFingerprintTracker(MeterRegistry meterRegistry) {
+    this.savedRebaseCounter = Counter.builder(SAVED_METRIC)
+        .tag("operation", "rebase")
+        .register(meterRegistry);
+    this.savedFetchCounter = Counter.builder(SAVED_METRIC)
+        .tag("operation", "fetch")
+        .register(meterRegistry);
+    this.savedConflictsCounter = Counter.builder(SAVED_METRIC)
+        .tag("operation", "conflicts")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Check if the version candidate was last refreshed against the same head-branch commit and
+   * change revision and count the skipped operations if so
+   *
+   * @param versionId      version candidate number
+   * @param headRevision   current head-branch commit, {@code null} if unknown
+   * @param changeRevision current change revision refs, {@code null} if unknown
+   * @return true if the refresh can be skipped
+   */
+  public boolean skipIfUnchanged(@NonNull String versionId, @Nullable String headRevision,
+      @Nullable String changeRevision) {
+    var fingerprint = toFingerprint(headRevision, changeRevision);
+    if (Objects.isNull(fingerprint) || !fingerprint.equals(fingerprints.get(versionId))) {
+      return false;
+    }
+    log.trace("Version candidate {} is unchanged since last refresh, skipping", versionId);
+    savedRebaseCounter.increment();
+    savedFetchCounter.increment();
+    savedConflictsCounter.increment();
+    return true;
+  }
+
+  /**
+   * Remember the head-branch commit and change revision the version candidate is refreshed
+   * against
+   */
+  public void remember(@NonNull String versionId, @Nullable String headRevision,
+      @Nullable String changeRevision) {
+    var fingerprint = toFingerprint(headRevision, changeRevision);
+    if (Objects.isNull(fingerprint)) {
+      fingerprints.remove(versionId);
+    } else {
+      fingerprints.put(versionId, fingerprint);
+    }
+  }
+
+  /**
+   * Forget fingerprints of all version candidates except the given ones, e.g. closed candidates
+   */
+  public void retain(@NonNull Collection<String> versionIds) {
+    fingerprints.keySet().retainAll(versionIds);
+  }
+
+  @Nullable
+  private static String toFingerprint(String headRevision, String changeRevision) {
+    if (Objects.isNull(headRevision) || Objects.isNull(changeRevision)) {
+      return null;
+    }
+    return headRevision + ':' + changeRevision;
+  }
+}
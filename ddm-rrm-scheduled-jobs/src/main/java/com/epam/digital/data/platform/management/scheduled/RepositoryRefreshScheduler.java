@@ -17,61 +17,121 @@
 package com.epam.digital.data.platform.management.scheduled;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoShortDto;
+import com.epam.digital.data.platform.management.gerritintegration.service.ChangeLabelsCache;
 import com.epam.digital.data.platform.management.gerritintegration.service.GerritService;
 import com.epam.digital.data.platform.management.gitintegration.service.JGitService;
+import com.epam.digital.data.platform.management.scheduled.config.VersionCandidateRefreshExecutorConfig;
+import com.epam.digital.data.platform.management.scheduled.config.VersionCandidateRefreshPropertiesConfig;
+import com.epam.digital.data.platform.management.scheduled.config.VersionCandidateRefreshPropertiesConfig.RefreshMode;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Keeps repositories of version candidates rebased on the head branch and the head-branch
+ * repository in sync with remote.
+ * <p>
+ * Published metrics: {@value #REFRESH_DURATION_METRIC} timer of version candidates refresh runs and
+ * {@value #REFRESH_CANDIDATES_METRIC} counter of candidates tagged by result - {@code refreshed},
+ * {@code skipped} (already mergeable), {@code unchanged} (neither head branch nor candidate changed
+ * since its last refresh) or {@code failed}.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class RepositoryRefreshScheduler {
 
+  public static final String REFRESH_DURATION_METRIC = "rrm.version.candidate.refresh.duration";
+  public static final String REFRESH_CANDIDATES_METRIC = "rrm.version.candidate.refresh.candidates";
+
   private static final String CONFLICTS_CACHE_NAME = "conflicts";
   private static final String LATEST_REBASE_CACHE_NAME = "latestRebase";
+  private static final int REFRESH_RUNNING = 0;
+  private static final int REFRESH_COMMITTED = 1;
+  private static final int REFRESH_ABANDONED = 2;
+
   private final GerritService gerritService;
   private final JGitService jGitService;
   private final CacheManager cacheManager;
+  private final VersionCandidateRefreshPropertiesConfig refreshPropertiesConfig;
+  private final RefreshFingerprintTracker fingerprintTracker;
+  private final ChangeLabelsCache labelsCache;
+  private final Timer refreshTimer;
+  private final Map<RefreshResult, Counter> resultCounters = new EnumMap<>(RefreshResult.class);
+  private final AsyncTaskExecutor refreshExecutor;
+  private final Semaphore refreshWorkers;
+
+  public RepositoryRefreshScheduler(GerritService gerritService, JGitService jGitService,
+      CacheManager cacheManager, VersionCandidateRefreshPropertiesConfig refreshPropertiesConfig,
+      RefreshFingerprintTracker fingerprintTracker, ChangeLabelsCache labelsCache,
+      MeterRegistry meterRegistry,
+      @Qualifier(VersionCandidateRefreshExecutorConfig.REFRESH_EXECUTOR_BEAN_NAME)
+      AsyncTaskExecutor refreshExecutor) {
+    this.gerritService = gerritService;
+    this.jGitService = jGitService;
+    this.cacheManager = cacheManager;
+    this.refreshPropertiesConfig = refreshPropertiesConfig;
+    this.fingerprintTracker = fingerprintTracker;
+    this.labelsCache = labelsCache;
+    this.refreshTimer = Timer.builder(REFRESH_DURATION_METRIC).register(meterRegistry);
+    for (var result : RefreshResult.values()) {
+      resultCounters.put(result, Counter.builder(REFRESH_CANDIDATES_METRIC)
+          .tag("result", result.name().toLowerCase())
+          .register(meterRegistry));
+    }
+    if (RefreshMode.PARALLEL.equals(refreshPropertiesConfig.getMode())) {
+      this.refreshExecutor = refreshExecutor;
+      this.refreshWorkers = new Semaphore(refreshPropertiesConfig.getWorkers());
+    } else {
+      this.refreshExecutor = null;
+      this.refreshWorkers = null;
+    }
+  }
 
   @Scheduled(cron = "${registry-regulation-management.scheduled.version-candidate-repo-refresh.cron}",
       zone = "${registry-regulation-management.scheduled.version-candidate-repo-refresh.timezone}")
   public void refreshVersionCandidates() {
     log.debug("Refreshing version-candidates' repositories started");
+    var sample = Timer.start();
     var mrList = gerritService.getMRList();
+    var headRevision = getHeadBranchRevision();
 
-    for (var changeInfo : mrList) {
-      try {
-        var change = gerritService.getMRByNumber(changeInfo.getNumber());
-        if (change.getMergeable()) {
-          continue;
-        }
-        var changeId = change.getChangeId();
-        var versionId = change.getNumber();
-        log.debug("Refreshing repository {}", change.getNumber());
-        gerritService.rebase(changeId);
-        jGitService.cloneRepoIfNotExist(versionId);
-        jGitService.fetch(versionId, change.getRefs());
-
-        Cache conflictCache = cacheManager.getCache(CONFLICTS_CACHE_NAME);
-        conflictCache.evictIfPresent(versionId);
-        conflictCache.put(versionId, jGitService.getConflicts(versionId));
-
-        Cache rebaseCache = cacheManager.getCache(LATEST_REBASE_CACHE_NAME);
-        rebaseCache.evictIfPresent(versionId);
-        rebaseCache.put(versionId, LocalDateTime.now());
-      } catch (Exception e) {
-        log.warn("Error during repository refresh: {}", e.getMessage(), e);
-      }
-    }
+    var results = refreshExecutor == null ? refreshSequentially(mrList, headRevision)
+        : refreshInParallel(mrList, headRevision);
+    fingerprintTracker.retain(mrList.stream()
+        .map(ChangeInfoShortDto::getNumber)
+        .collect(Collectors.toSet()));
 
-    log.debug("Refreshing version-candidates' repositories finished");
+    var duration = sample.stop(refreshTimer);
+    var resultCounts = new EnumMap<RefreshResult, Integer>(RefreshResult.class);
+    for (var result : results) {
+      resultCounters.get(result).increment();
+      resultCounts.merge(result, 1, Integer::sum);
+    }
+    log.debug("Refreshing version-candidates' repositories finished in {} ms: {}",
+        TimeUnit.NANOSECONDS.toMillis(duration), resultCounts);
   }
 
   @Scheduled(cron = "${registry-regulation-management.scheduled.master-repo-refresh.cron}",
@@ -86,4 +146,152 @@ public class RepositoryRefreshScheduler {
 
     log.debug("Refreshing head branch repository finished");
   }
+
+  /**
+   * Head-branch commit the candidates are refreshed against, {@code null} disables skipping of
+   * unchanged candidates for the current run
+   */
+  private String getHeadBranchRevision() {
+    try {
+      return gerritService.getHeadBranchRevision();
+    } catch (Exception e) {
+      log.warn("Head branch revision retrieving failed: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  private List<RefreshResult> refreshSequentially(List<ChangeInfoShortDto> mrList,
+      String headRevision) {
+    var results = new ArrayList<RefreshResult>();
+    for (var changeInfo : mrList) {
+      results.add(
+          refreshVersionCandidateSafely(changeInfo.getNumber(), headRevision, () -> true));
+    }
+    return results;
+  }
+
+  /**
+   * Refresh up to configured number of candidates at once. A candidate is submitted only when a
+   * worker is free, so its timeout isn't spent in the queue, and it's counted as failed if no
+   * worker gets free within the timeout
+   */
+  private List<RefreshResult> refreshInParallel(List<ChangeInfoShortDto> mrList,
+      String headRevision) {
+    var timeout = refreshPropertiesConfig.getCandidateTimeout().toMillis();
+    var futures = new ArrayList<CompletableFuture<RefreshResult>>();
+    for (var changeInfo : mrList) {
+      var versionId = changeInfo.getNumber();
+      try {
+        if (!refreshWorkers.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+          log.warn("No free worker to refresh repository {} in {} ms", versionId, timeout);
+          futures.add(CompletableFuture.completedFuture(RefreshResult.FAILED));
+          continue;
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        log.warn("Refreshing version-candidates' repositories interrupted");
+        break;
+      }
+      futures.add(submitRefresh(versionId, headRevision, timeout));
+    }
+    var results = new ArrayList<RefreshResult>();
+    for (var future : futures) {
+      results.add(future.join());
+    }
+    return results;
+  }
+
+  /**
+   * Runs the refresh on a worker acquired by the caller. Timed out refresh is counted as failed but
+   * isn't interrupted, because it may be in the middle of a JGit operation or of a Gerrit call. It
+   * keeps its worker until it ends and drops its results instead of writing them
+   */
+  private CompletableFuture<RefreshResult> submitRefresh(String versionId, String headRevision,
+      long timeout) {
+    var state = new AtomicInteger(REFRESH_RUNNING);
+    BooleanSupplier commit = () -> state.compareAndSet(REFRESH_RUNNING, REFRESH_COMMITTED)
+        || state.get() == REFRESH_COMMITTED;
+    var result = new CompletableFuture<RefreshResult>();
+    try {
+      refreshExecutor.execute(() -> {
+        try {
+          var refreshResult = refreshVersionCandidateSafely(versionId, headRevision, commit);
+          if (commit.getAsBoolean()) {
+            result.complete(refreshResult);
+          }
+        } finally {
+          refreshWorkers.release();
+        }
+      });
+    } catch (TaskRejectedException e) {
+      refreshWorkers.release();
+      log.warn("Refresh of repository {} wasn't accepted: {}", versionId, e.getMessage());
+      return CompletableFuture.completedFuture(RefreshResult.FAILED);
+    }
+    CompletableFuture.delayedExecutor(timeout, TimeUnit.MILLISECONDS).execute(() -> {
+      if (state.compareAndSet(REFRESH_RUNNING, REFRESH_ABANDONED)) {
+        log.warn("Refresh of repository {} didn't finish in {} ms", versionId, timeout);
+        result.complete(RefreshResult.FAILED);
+      }
+    });
+    return result;
+  }
+
+  private RefreshResult refreshVersionCandidateSafely(String versionId, String headRevision,
+      BooleanSupplier commit) {
+    try {
+      return refreshVersionCandidate(versionId, headRevision, commit);
+    } catch (Exception e) {
+      log.warn("Error during repository refresh: {}", e.getMessage(), e);
+      return RefreshResult.FAILED;
+    }
+  }
+
+  /**
+   * @param commit checked before the refresh results are written, false if they must be dropped
+   */
+  private RefreshResult refreshVersionCandidate(String number, String headRevision,
+      BooleanSupplier commit) {
+    jGitService.flushPush(number);
+    var change = gerritService.getMRByNumber(number);
+    labelsCache.update(number, change.getLabels());
+    if (change.getMergeable()) {
+      return RefreshResult.SKIPPED;
+    }
+    var changeId = change.getChangeId();
+    var versionId = change.getNumber();
+    Cache conflictCache = cacheManager.getCache(CONFLICTS_CACHE_NAME);
+    if (Objects.nonNull(conflictCache.get(versionId))
+        && fingerprintTracker.skipIfUnchanged(versionId, headRevision, change.getRefs())) {
+      return RefreshResult.UNCHANGED;
+    }
+    log.debug("Refreshing repository {}", change.getNumber());
+    gerritService.rebase(changeId);
+    // successful rebase creates a new patch set, so its revision is read again to be fetched and
+    // remembered, otherwise the next run wouldn't recognize the candidate as unchanged
+    var refs = gerritService.getMRByNumber(number).getRefs();
+    jGitService.cloneRepoIfNotExist(versionId);
+    jGitService.fetch(versionId, refs);
+    var conflicts = jGitService.getConflicts(versionId);
+
+    if (!commit.getAsBoolean()) {
+      log.warn("Results of timed out refresh of repository {} are dropped", versionId);
+      return RefreshResult.FAILED;
+    }
+    conflictCache.evictIfPresent(versionId);
+    conflictCache.put(versionId, conflicts);
+
+    Cache rebaseCache = cacheManager.getCache(LATEST_REBASE_CACHE_NAME);
+    rebaseCache.evictIfPresent(versionId);
+    rebaseCache.put(versionId, LocalDateTime.now());
+    fingerprintTracker.remember(versionId, headRevision, refs);
+    return RefreshResult.REFRESHED;
+  }
+
+  private enum RefreshResult {
+    REFRESHED,
+    SKIPPED,
+    UNCHANGED,
+    FAILED
+  }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.scheduled.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class VersionCandidateRefreshExecutorConfig {
+
+  public static final String REFRESH_EXECUTOR_BEAN_NAME = "versionCandidateRefreshExecutor";
+
+  /**
+   * Workers of the version candidates refresh in
+   * {@link VersionCandidateRefreshPropertiesConfig.RefreshMode#PARALLEL} mode, kept apart from the
+   * application executor so long refreshes don't hold back asynchronous requests.
+   * <p>
+   * The scheduler submits a refresh only when it holds one of {@code workers} permits, so nothing
+   * has to wait in a queue and a task beyond them is rejected. A refresh gives its permit back just
+   * before its thread returns to the pool, so there are twice as many threads as workers for such a
+   * moment. The permits still bound the number of concurrent refreshes
+   */
+  @Bean(name = REFRESH_EXECUTOR_BEAN_NAME)
+  public ThreadPoolTaskExecutor versionCandidateRefreshExecutor(
+      VersionCandidateRefreshPropertiesConfig refreshPropertiesConfig) {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(refreshPropertiesConfig.getWorkers());
+    executor.setMaxPoolSize(2 * refreshPropertiesConfig.getWorkers());
+    executor.setQueueCapacity(0);
+    executor.setThreadNamePrefix("version-candidate-refresh-");
+    executor.setDaemon(true);
+    return executor;
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.scheduled.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tuning properties of the scheduled version candidates repositories refresh
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "registry-regulation-management.scheduled.version-candidate-repo-refresh")
+public class VersionCandidateRefreshPropertiesConfig {
+
+  /**
+   * Defines how version candidates are refreshed. {@link RefreshMode#PARALLEL} refreshes up to
+   * {@link #workers} candidates at once, every candidate is still guarded by its repository lock
+   */
+  private RefreshMode mode = RefreshMode.SEQUENTIAL;
+
+  /**
+   * Number of candidates refreshed at once in {@link RefreshMode#PARALLEL} mode
+   */
+  private int workers = 4;
+
+  /**
+   * Period after which the run stops waiting for a candidate refresh in
+   * {@link RefreshMode#PARALLEL} mode and counts it as failed. The refresh isn't interrupted, it
+   * keeps its worker until it ends and drops its results. It's also the longest wait for a free
+   * worker
+   */
+  private Duration candidateTimeout = Duration.ofMinutes(2);
+
+  public enum RefreshMode {
+    SEQUENTIAL,
+    PARALLEL
+  }
+}
@@ -123,4 +123,20 @@ public class CleanObsoleteVersionContextSchedulerTest {
     Assertions.assertThatCode(() -> scheduler.cleanObsoleteVersionContexts())
         .doesNotThrowAnyException();
   }
+
+  @Test
+  @SneakyThrows
+  void cleanObsoleteVersionContexts_otherReposDeletedIfOneFailed() {
+    var failedRepo = RandomString.make();
+    var repo = RandomString.make();
+    Files.createDirectory(Path.of(tempDir.getAbsolutePath(), failedRepo));
+    Files.createDirectory(Path.of(tempDir.getAbsolutePath(), repo));
+    Mockito.when(gerritService.getMRList()).thenReturn(List.of());
+    Mockito.doThrow(GitCommandException.class).when(jGitService).deleteRepo(failedRepo);
+
+    scheduler.cleanObsoleteVersionContexts();
+
+    Mockito.verify(jGitService).deleteRepo(failedRepo);
+    Mockito.verify(jGitService).deleteRepo(repo);
+  }
 }
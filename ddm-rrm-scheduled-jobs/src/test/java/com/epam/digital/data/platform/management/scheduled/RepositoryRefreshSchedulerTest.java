@@ -23,21 +23,35 @@ import static org.mockito.Mockito.never;
 import com.epam.digital.data.platform.management.gerritintegration.exception.GerritCommunicationException;
 import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoDto;
 import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoShortDto;
+import com.epam.digital.data.platform.management.gerritintegration.service.ChangeLabelsCache;
 import com.epam.digital.data.platform.management.gerritintegration.service.GerritServiceImpl;
 import com.epam.digital.data.platform.management.gitintegration.service.JGitServiceImpl;
+import com.epam.digital.data.platform.management.scheduled.config.VersionCandidateRefreshExecutorConfig;
+import com.epam.digital.data.platform.management.scheduled.config.VersionCandidateRefreshPropertiesConfig;
+import com.epam.digital.data.platform.management.scheduled.config.VersionCandidateRefreshPropertiesConfig.RefreshMode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.SneakyThrows;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 @ExtendWith(SpringExtension.class)
@@ -49,13 +63,25 @@ public class RepositoryRefreshSchedulerTest {
   private GerritServiceImpl gerritService;
   @Mock
   private CacheManager cacheManager;
+  @Mock
+  private ChangeLabelsCache labelsCache;
+
+  private final VersionCandidateRefreshPropertiesConfig refreshPropertiesConfig =
+      new VersionCandidateRefreshPropertiesConfig();
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final RefreshFingerprintTracker fingerprintTracker =
+      new RefreshFingerprintTracker(meterRegistry);
 
-  @InjectMocks
+  private ThreadPoolTaskExecutor refreshExecutor;
   private RepositoryRefreshScheduler repositoryRefreshScheduler;
 
   @BeforeEach
   @SneakyThrows
   void mockMethods() {
+    refreshExecutor = createRefreshExecutor();
+    repositoryRefreshScheduler = new RepositoryRefreshScheduler(gerritService, jGitService,
+        cacheManager, refreshPropertiesConfig, fingerprintTracker, labelsCache, meterRegistry,
+        refreshExecutor);
     var changeInfo = new ChangeInfoShortDto();
     changeInfo.setNumber("1");
     changeInfo.setSubject("changeInfoSubject");
@@ -79,6 +105,8 @@ public class RepositoryRefreshSchedulerTest {
 
     repositoryRefreshScheduler.refreshVersionCandidates();
     Mockito.verify(gerritService).rebase(changeInfoDto.getChangeId());
+    Mockito.verify(jGitService).flushPush(changeInfoDto.getNumber());
+    Mockito.verify(labelsCache).update(changeInfoDto.getNumber(), changeInfoDto.getLabels());
     Mockito.verify(jGitService).cloneRepoIfNotExist(changeInfoDto.getNumber());
     Mockito.verify(jGitService).fetch(changeInfoDto.getNumber(), changeInfoDto.getRefs());
     Mockito.verify(jGitService).getConflicts(changeInfoDto.getNumber());
@@ -86,6 +114,163 @@ public class RepositoryRefreshSchedulerTest {
     Mockito.verify(cache).put(eq(changeInfoDto.getNumber()), any());
     Mockito.verify(conflictCache).evictIfPresent(changeInfoDto.getNumber());
     Mockito.verify(conflictCache).put(eq(changeInfoDto.getNumber()), any());
+    Assertions.assertThat(getCandidatesCount("refreshed")).isEqualTo(1);
+    Assertions.assertThat(meterRegistry.get(RepositoryRefreshScheduler.REFRESH_DURATION_METRIC)
+        .timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  @SneakyThrows
+  void refreshVersionCandidatesUnchangedTest() {
+    ChangeInfoDto changeInfoDto = getChangeInfo();
+    changeInfoDto.setRefs("refs/changes/01/1/1");
+    Mockito.when(gerritService.getMRByNumber(changeInfoDto.getNumber()))
+        .thenReturn(changeInfoDto);
+    Mockito.when(gerritService.getHeadBranchRevision()).thenReturn("head1");
+    Cache conflictCache = Mockito.mock(Cache.class);
+    Mockito.when(cacheManager.getCache("conflicts")).thenReturn(conflictCache);
+    Mockito.when(cacheManager.getCache("latestRebase")).thenReturn(Mockito.mock(Cache.class));
+
+    repositoryRefreshScheduler.refreshVersionCandidates();
+    Mockito.when(conflictCache.get(changeInfoDto.getNumber()))
+        .thenReturn(new SimpleValueWrapper(List.of()));
+    repositoryRefreshScheduler.refreshVersionCandidates();
+
+    Mockito.verify(gerritService).rebase(changeInfoDto.getChangeId());
+    Mockito.verify(jGitService).fetch(changeInfoDto.getNumber(), changeInfoDto.getRefs());
+    Mockito.verify(jGitService).getConflicts(changeInfoDto.getNumber());
+    Assertions.assertThat(getCandidatesCount("refreshed")).isEqualTo(1);
+    Assertions.assertThat(getCandidatesCount("unchanged")).isEqualTo(1);
+    Assertions.assertThat(meterRegistry.get(RefreshFingerprintTracker.SAVED_METRIC)
+        .tag("operation", "rebase").counter().count()).isEqualTo(1);
+
+    Mockito.when(gerritService.getHeadBranchRevision()).thenReturn("head2");
+    repositoryRefreshScheduler.refreshVersionCandidates();
+
+    Mockito.verify(gerritService, Mockito.times(2)).rebase(changeInfoDto.getChangeId());
+    Assertions.assertThat(getCandidatesCount("refreshed")).isEqualTo(2);
+  }
+
+  @Test
+  @SneakyThrows
+  void refreshVersionCandidatesRebasedTest() {
+    ChangeInfoDto changeInfoDto = getChangeInfo();
+    changeInfoDto.setRefs("refs/changes/01/1/1");
+    ChangeInfoDto rebasedChangeInfoDto = getChangeInfo();
+    rebasedChangeInfoDto.setRefs("refs/changes/01/1/2");
+    Mockito.when(gerritService.getMRByNumber(changeInfoDto.getNumber()))
+        .thenReturn(changeInfoDto, rebasedChangeInfoDto);
+    Mockito.when(gerritService.getHeadBranchRevision()).thenReturn("head1");
+    Cache conflictCache = Mockito.mock(Cache.class);
+    Mockito.when(cacheManager.getCache("conflicts")).thenReturn(conflictCache);
+    Mockito.when(cacheManager.getCache("latestRebase")).thenReturn(Mockito.mock(Cache.class));
+
+    repositoryRefreshScheduler.refreshVersionCandidates();
+    Mockito.when(conflictCache.get(changeInfoDto.getNumber()))
+        .thenReturn(new SimpleValueWrapper(List.of()));
+    repositoryRefreshScheduler.refreshVersionCandidates();
+
+    Mockito.verify(gerritService).rebase(changeInfoDto.getChangeId());
+    Mockito.verify(jGitService).fetch(changeInfoDto.getNumber(), "refs/changes/01/1/2");
+    Assertions.assertThat(getCandidatesCount("refreshed")).isEqualTo(1);
+    Assertions.assertThat(getCandidatesCount("unchanged")).isEqualTo(1);
+  }
+
+  @Test
+  @SneakyThrows
+  void refreshVersionCandidatesInParallelTest() {
+    refreshPropertiesConfig.setMode(RefreshMode.PARALLEL);
+    refreshPropertiesConfig.setWorkers(2);
+    refreshExecutor = createRefreshExecutor();
+    repositoryRefreshScheduler = new RepositoryRefreshScheduler(gerritService, jGitService,
+        cacheManager, refreshPropertiesConfig, fingerprintTracker, labelsCache, meterRegistry,
+        refreshExecutor);
+    var mrList = new ArrayList<ChangeInfoShortDto>();
+    for (var number = 1; number <= 4; number++) {
+      var changeInfo = new ChangeInfoShortDto();
+      changeInfo.setNumber(String.valueOf(number));
+      mrList.add(changeInfo);
+      var changeInfoDto = getChangeInfo();
+      changeInfoDto.setNumber(String.valueOf(number));
+      changeInfoDto.setChangeId("changeId" + number);
+      changeInfoDto.setMergeable(number == 4);
+      Mockito.when(gerritService.getMRByNumber(String.valueOf(number)))
+          .thenReturn(changeInfoDto);
+    }
+    Mockito.when(gerritService.getMRList()).thenReturn(mrList);
+    Mockito.doThrow(GerritCommunicationException.class).when(gerritService).rebase("changeId3");
+    var runningFetches = new CountDownLatch(2);
+    var concurrentFetches = new AtomicInteger();
+    Mockito.doAnswer(invocation -> {
+      runningFetches.countDown();
+      if (runningFetches.await(1, TimeUnit.SECONDS)) {
+        concurrentFetches.incrementAndGet();
+      }
+      return null;
+    }).when(jGitService).fetch(any(), any());
+    Mockito.when(cacheManager.getCache(any())).thenReturn(Mockito.mock(Cache.class));
+
+    repositoryRefreshScheduler.refreshVersionCandidates();
+
+    Mockito.verify(jGitService).fetch("1", null);
+    Mockito.verify(jGitService).fetch("2", null);
+    Mockito.verify(jGitService, never()).fetch(eq("3"), any());
+    Mockito.verify(jGitService, never()).fetch(eq("4"), any());
+    Assertions.assertThat(concurrentFetches.get()).isEqualTo(2);
+    Assertions.assertThat(getCandidatesCount("refreshed")).isEqualTo(2);
+    Assertions.assertThat(getCandidatesCount("skipped")).isEqualTo(1);
+    Assertions.assertThat(getCandidatesCount("failed")).isEqualTo(1);
+  }
+
+  @Test
+  @SneakyThrows
+  void refreshVersionCandidatesInParallelTimeoutTest() {
+    refreshPropertiesConfig.setMode(RefreshMode.PARALLEL);
+    refreshPropertiesConfig.setWorkers(1);
+    refreshPropertiesConfig.setCandidateTimeout(Duration.ofSeconds(1));
+    refreshExecutor = createRefreshExecutor();
+    repositoryRefreshScheduler = new RepositoryRefreshScheduler(gerritService, jGitService,
+        cacheManager, refreshPropertiesConfig, fingerprintTracker, labelsCache, meterRegistry,
+        refreshExecutor);
+    var mrList = new ArrayList<ChangeInfoShortDto>();
+    for (var number = 1; number <= 2; number++) {
+      var changeInfo = new ChangeInfoShortDto();
+      changeInfo.setNumber(String.valueOf(number));
+      mrList.add(changeInfo);
+      var changeInfoDto = getChangeInfo();
+      changeInfoDto.setNumber(String.valueOf(number));
+      Mockito.when(gerritService.getMRByNumber(String.valueOf(number)))
+          .thenReturn(changeInfoDto);
+    }
+    Mockito.when(gerritService.getMRList()).thenReturn(mrList);
+    Cache conflictCache = Mockito.mock(Cache.class);
+    Mockito.when(cacheManager.getCache("conflicts")).thenReturn(conflictCache);
+    Mockito.when(cacheManager.getCache("latestRebase")).thenReturn(Mockito.mock(Cache.class));
+    var released = new CountDownLatch(1);
+    var interrupted = new AtomicBoolean();
+    Mockito.doAnswer(invocation -> {
+      try {
+        released.await();
+      } catch (InterruptedException e) {
+        interrupted.set(true);
+        throw e;
+      }
+      return null;
+    }).when(jGitService).fetch(eq("1"), any());
+
+    repositoryRefreshScheduler.refreshVersionCandidates();
+
+    Mockito.verify(jGitService, never()).fetch(eq("2"), any());
+    Assertions.assertThat(getCandidatesCount("failed")).isEqualTo(2);
+
+    released.countDown();
+    var refreshThreadPool = refreshExecutor.getThreadPoolExecutor();
+    refreshThreadPool.shutdown();
+    Assertions.assertThat(refreshThreadPool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    Assertions.assertThat(interrupted).isFalse();
+    Mockito.verify(jGitService).getConflicts("1");
+    Mockito.verify(conflictCache, never()).put(any(), any());
+    Assertions.assertThat(getCandidatesCount("refreshed")).isZero();
   }
 
   @Test
@@ -120,6 +305,27 @@ public class RepositoryRefreshSchedulerTest {
   }
 
 
+  @AfterEach
+  void shutdownRefreshExecutor() {
+    refreshExecutor.shutdown();
+  }
+
+  private ThreadPoolTaskExecutor createRefreshExecutor() {
+    if (refreshExecutor != null) {
+      refreshExecutor.shutdown();
+    }
+    var executor = new VersionCandidateRefreshExecutorConfig()
+        .versionCandidateRefreshExecutor(refreshPropertiesConfig);
+    executor.initialize();
+    return executor;
+  }
+
+  private double getCandidatesCount(String result) {
+    return meterRegistry.get(RepositoryRefreshScheduler.REFRESH_CANDIDATES_METRIC)
+        .tag("result", result)
+        .counter().count();
+  }
+
   private ChangeInfoDto getChangeInfo() {
     var changeInfo = new ChangeInfoDto();
     changeInfo.setId("changeInfoId");
@@ -16,6 +16,7 @@
 package com.epam.digital.data.platform.management.settings.service;
 
 import com.epam.digital.data.platform.management.core.context.VersionContextComponentManager;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileChangeDto;
 import com.epam.digital.data.platform.management.filemanagement.service.VersionedFileRepository;
 import com.epam.digital.data.platform.management.settings.exception.SettingsParsingException;
 import com.epam.digital.data.platform.management.settings.model.CamundaGlobalSystemVarsFileRepresentationDto;
@@ -29,6 +30,7 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -66,8 +68,11 @@ public class SettingServiceImpl implements SettingService {
     SettingsFileRepresentationDto settingDto = new SettingsFileRepresentationDto(
         settings.getTitleFull(),
         settings.getTitle()/*, settings.getBlacklistedDomains()*/); // TODO uncomment after validator-cli update
-    writeSettingsContent(repo, mapper, settingDto);
-    writeGlobalVarsContent(repo, mapper, camundaDto);
+    log.debug("Writing settings and global vars to files");
+    repo.applyChanges(List.of(
+        toSettingsChange(mapper, settingDto),
+        toGlobalVarsChange(mapper, camundaDto)));
+    log.debug("Finished writing settings and global vars");
   }
 
   private static SettingsInfoDto parseSettingsFiles(String camundaGlobalVarsContent,
@@ -97,23 +102,25 @@ public class SettingServiceImpl implements SettingService {
     }
   }
 
-  private void writeSettingsContent(VersionedFileRepository repo, ObjectMapper mapper,
+  private static VersionedFileChangeDto toSettingsChange(ObjectMapper mapper,
       SettingsFileRepresentationDto settings) {
     try {
-      log.debug("Writing settings to file");
-      repo.writeFile(VERSION_SETTINGS_PATH, mapper.writeValueAsString(settings));
-      log.debug("Finished writing settings");
+      return VersionedFileChangeDto.builder()
+          .path(VERSION_SETTINGS_PATH)
+          .content(mapper.writeValueAsString(settings))
+          .build();
     } catch (JsonProcessingException e) {
       throw new SettingsParsingException("Could not process settings file", e);
     }
   }
 
-  private void writeGlobalVarsContent(VersionedFileRepository repo, ObjectMapper mapper,
+  private static VersionedFileChangeDto toGlobalVarsChange(ObjectMapper mapper,
       CamundaGlobalSystemVarsFileRepresentationDto globalVars) {
     try {
-      log.debug("Writing global vars to file");
-      repo.writeFile(GLOBAL_SETTINGS_PATH, mapper.writeValueAsString(globalVars));
-      log.debug("Finished writing global vars");
+      return VersionedFileChangeDto.builder()
+          .path(GLOBAL_SETTINGS_PATH)
+          .content(mapper.writeValueAsString(globalVars))
+          .build();
     } catch (JsonProcessingException e) {
       throw new SettingsParsingException("Could not process global vars file", e);
     }
@@ -18,12 +18,14 @@ package com.epam.digital.data.platform.management.settings.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyString;
 
 import com.epam.digital.data.platform.management.core.context.VersionContextComponentManager;
+import com.epam.digital.data.platform.management.filemanagement.model.VersionedFileChangeDto;
 import com.epam.digital.data.platform.management.filemanagement.service.VersionedFileRepository;
 import com.epam.digital.data.platform.management.settings.exception.SettingsParsingException;
 import com.epam.digital.data.platform.management.settings.model.SettingsInfoDto;
+import java.util.List;
 import lombok.SneakyThrows;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,7 +46,7 @@ class SettingServiceTest {
   private static final String SETTINGS_PATH = "settings/settings.yml";
 
   @Captor
-  private ArgumentCaptor<String> captor;
+  private ArgumentCaptor<List<VersionedFileChangeDto>> captor;
 
   @Mock
   private VersionContextComponentManager versionContextComponentManager;
@@ -106,14 +108,15 @@ class SettingServiceTest {
     var settings = SettingsInfoDto.builder().build();
     Assertions.assertThatCode(() -> settingServiceImpl.updateSettings(VERSION_ID, settings))
         .doesNotThrowAnyException();
-    Mockito.verify(repository)
-        .writeFile(eq("settings/settings.yml"), captor.capture());
-    String settingsContent = captor.getValue();
-    Mockito.verify(repository)
-        .writeFile(eq("global-vars/camunda-global-system-vars.yml"), captor.capture());
-    String globalVars = captor.getValue();
-    Assertions.assertThat(settingsContent).isEqualTo(SETTINGS_EMPTY_CONTENT);
-    Assertions.assertThat(globalVars).isEqualTo(GLOBAL_SETTINGS_EMPTY_VALUE);
+    Mockito.verify(repository).applyChanges(captor.capture());
+    Mockito.verify(repository, Mockito.never()).writeFile(anyString(), anyString());
+    var changes = captor.getValue();
+    Assertions.assertThat(changes).hasSize(2);
+    Assertions.assertThat(changes.get(0).getPath()).isEqualTo("settings/settings.yml");
+    Assertions.assertThat(changes.get(0).getContent()).isEqualTo(SETTINGS_EMPTY_CONTENT);
+    Assertions.assertThat(changes.get(1).getPath())
+        .isEqualTo("global-vars/camunda-global-system-vars.yml");
+    Assertions.assertThat(changes.get(1).getContent()).isEqualTo(GLOBAL_SETTINGS_EMPTY_VALUE);
     //check if there is no error, but not real value
   }
 
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.versionmanagement.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class GerritEventExecutorConfig {
+
+  public static final String EVENT_EXECUTOR_BEAN_NAME = "gerritEventExecutor";
+
+  /**
+   * Maximum number of accepted gerrit events waiting to be applied. Events over the limit are
+   * dropped, affected versions are refreshed by schedule then
+   */
+  private static final int MAX_QUEUED_EVENTS = 100;
+
+  /**
+   * Applies accepted gerrit events one by one in the order they came, so webhook requests don't
+   * wait for repository fetch or reset
+   */
+  @Bean(name = EVENT_EXECUTOR_BEAN_NAME)
+  public ThreadPoolTaskExecutor gerritEventExecutor() {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(MAX_QUEUED_EVENTS);
+    executor.setThreadNamePrefix("gerrit-event-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    return executor;
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.versionmanagement.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Gerrit stream event as it's sent by the webhooks plugin. Only fields that are needed to find the
+ * affected version are mapped, revisions to fetch are resolved from gerrit
+ */
+@Getter
+@Setter
+@ToString
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GerritEventDto {
+
+  private String type;
+  private ChangeDto change;
+  private RefUpdateDto refUpdate;
+
+  @Getter
+  @Setter
+  @ToString
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static class ChangeDto {
+
+    private String project;
+    private String branch;
+    private String number;
+  }
+
+  @Getter
+  @Setter
+  @ToString
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static class RefUpdateDto {
+
+    private String project;
+    private String refName;
+    private String newRev;
+  }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.versionmanagement.service;
+
+import com.epam.digital.data.platform.management.versionmanagement.model.GerritEventDto;
+
+/**
+ * Provides methods to keep local repositories and caches in sync with Gerrit events
+ */
+public interface GerritEventService {
+
+  /**
+   * Invalidate caches of the version affected by the gerrit event and fetch its repository in
+   * background. Events of other projects and types that don't affect any version are ignored
+   *
+   * @param event gerrit event
+   */
+  void handleEvent(GerritEventDto event);
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.versionmanagement.service;
+
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.core.service.CacheService;
+import com.epam.digital.data.platform.management.filemanagement.service.FetchedRevisionTracker;
+import com.epam.digital.data.platform.management.gerritintegration.exception.GerritChangeNotFoundException;
+import com.epam.digital.data.platform.management.gerritintegration.service.ChangeLabelsCache;
+import com.epam.digital.data.platform.management.gerritintegration.service.GerritChangeCache;
+import com.epam.digital.data.platform.management.gerritintegration.service.GerritService;
+import com.epam.digital.data.platform.management.gitintegration.service.JGitService;
+import com.epam.digital.data.platform.management.versionmanagement.config.GerritEventExecutorConfig;
+import com.epam.digital.data.platform.management.versionmanagement.model.GerritEventDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BooleanSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refreshes only the version affected by a gerrit event: head-branch repository on
+ * {@value #REF_UPDATED} of the head branch and {@value #CHANGE_MERGED}, version candidate
+ * repository on {@value #PATCHSET_CREATED}, cached build status of the change on
+ * {@value #COMMENT_ADDED}. Scheduled repositories refresh stays as a fallback for missed events.
+ * <p>
+ * Cached info of the change is dropped right away, while repositories are fetched on the event
+ * executor after the event is accepted. Event is only used as a hint of what version has changed:
+ * revision to fetch is always resolved from gerrit, never taken from the event payload.
+ * <p>
+ * Published metrics: {@value #EVENTS_METRIC} counter of received events tagged by type and
+ * result - {@code handled}, {@code ignored}, {@code dropped} if there are too many events waiting
+ * or {@code failed}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GerritEventServiceImpl implements GerritEventService {
+
+  public static final String EVENTS_METRIC = "rrm.gerrit.events";
+
+  static final String REF_UPDATED = "ref-updated";
+  static final String PATCHSET_CREATED = "patchset-created";
+  static final String CHANGE_MERGED = "change-merged";
+  static final String COMMENT_ADDED = "comment-added";
+  private static final String HEADS_PREFIX = "refs/heads/";
+  private static final Set<String> KNOWN_TYPES = Set.of(REF_UPDATED, PATCHSET_CREATED,
+      CHANGE_MERGED, COMMENT_ADDED);
+
+  private static final String HANDLED = "handled";
+  private static final String IGNORED = "ignored";
+  private static final String DROPPED = "dropped";
+  private static final String FAILED = "failed";
+
+  private final GerritPropertiesConfig gerritPropertiesConfig;
+  private final JGitService jGitService;
+  private final GerritService gerritService;
+  private final CacheService cacheService;
+  private final GerritChangeCache changeCache;
+  private final ChangeLabelsCache labelsCache;
+  private final FetchedRevisionTracker fetchedRevisionTracker;
+  private final MeterRegistry meterRegistry;
+  @Qualifier(GerritEventExecutorConfig.EVENT_EXECUTOR_BEAN_NAME)
+  private final Executor eventExecutor;
+
+  @Override
+  public void handleEvent(@NonNull GerritEventDto event) {
+    var refresh = isOwnProject(event) ? applyEvent(event) : null;
+    if (Objects.isNull(refresh)) {
+      log.debug("Gerrit event {} doesn't affect any version, ignoring", event);
+      countEvent(event, IGNORED);
+      return;
+    }
+    try {
+      eventExecutor.execute(() -> runRefresh(event, refresh));
+    } catch (RejectedExecutionException e) {
+      log.warn("Gerrit event {} is dropped as too many events are waiting", event.getType());
+      countEvent(event, DROPPED);
+    }
+  }
+
+  /**
+   * Drops cached info of the change the event is about
+   *
+   * @return refresh of the affected repository that tells whether the event is handled or
+   * {@code null} if the event doesn't affect any version
+   */
+  @Nullable
+  private BooleanSupplier applyEvent(GerritEventDto event) {
+    var versionId = Objects.nonNull(event.getChange()) ? event.getChange().getNumber() : null;
+    if (Objects.nonNull(versionId)) {
+      changeCache.invalidate(versionId);
+      labelsCache.invalidate(versionId);
+    }
+    switch (String.valueOf(event.getType())) {
+      case REF_UPDATED:
+        if (Objects.isNull(event.getRefUpdate())
+            || !isHeadBranch(event.getRefUpdate().getRefName())) {
+          return null;
+        }
+        return this::refreshHeadBranch;
+      case CHANGE_MERGED:
+        return this::refreshHeadBranch;
+      case PATCHSET_CREATED:
+        return Objects.nonNull(versionId) ? () -> refreshVersionCandidate(versionId) : null;
+      case COMMENT_ADDED:
+        // build votes come as comments, cached labels of the change are already dropped
+        return Objects.nonNull(versionId) ? () -> true : null;
+      default:
+        return null;
+    }
+  }
+
+  private void runRefresh(GerritEventDto event, BooleanSupplier refresh) {
+    try {
+      countEvent(event, refresh.getAsBoolean() ? HANDLED : IGNORED);
+    } catch (RuntimeException e) {
+      log.warn("Gerrit event {} couldn't be handled, version is refreshed by schedule",
+          event.getType(), e);
+      countEvent(event, FAILED);
+    }
+  }
+
+  private boolean refreshHeadBranch() {
+    var headBranch = gerritPropertiesConfig.getHeadBranch();
+    log.debug("Refreshing head branch repository on gerrit event");
+    jGitService.resetHeadBranchToRemote();
+    cacheService.clearCatalogCache(headBranch);
+    return true;
+  }
+
+  /**
+   * Repository that isn't cloned yet gets the current revision on first use, so only existing
+   * repositories are fetched. Current revision is resolved from gerrit as the cached change is
+   * already invalidated
+   */
+  private boolean refreshVersionCandidate(String versionId) {
+    log.debug("Refreshing repository {} on gerrit event", versionId);
+    if (jGitService.repoExists(versionId)) {
+      String refs;
+      try {
+        refs = gerritService.getMRByNumber(versionId).getRefs();
+      } catch (GerritChangeNotFoundException e) {
+        log.debug("Change {} is not found in gerrit, ignoring", versionId);
+        return false;
+      }
+      fetchedRevisionTracker.fetchIfChanged(versionId, refs,
+          () -> jGitService.fetch(versionId, refs));
+    }
+    cacheService.clearCatalogCache(versionId);
+    return true;
+  }
+
+  private void countEvent(GerritEventDto event, String result) {
+    Counter.builder(EVENTS_METRIC)
+        .tag("type", KNOWN_TYPES.contains(event.getType()) ? event.getType() : "other")
+        .tag("result", result)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  private boolean isOwnProject(GerritEventDto event) {
+    var project = Objects.nonNull(event.getChange()) ? event.getChange().getProject()
+        : Objects.nonNull(event.getRefUpdate()) ? event.getRefUpdate().getProject() : null;
+    return gerritPropertiesConfig.getRepository().equals(project);
+  }
+
+  /**
+   * Gerrit sends either short or full name of the updated branch
+   */
+  private boolean isHeadBranch(String refName) {
+    var headBranch = gerritPropertiesConfig.getHeadBranch();
+    return headBranch.equals(refName) || (HEADS_PREFIX + headBranch).equals(refName);
+  }
+}
@@ -20,9 +20,13 @@ import com.epam.digital.data.platform.management.gerritintegration.model.CreateC
 import com.epam.digital.data.platform.management.versionmanagement.model.VersionChangesDto;
 import com.epam.digital.data.platform.management.versionmanagement.model.VersionInfoDto;
 import com.epam.digital.data.platform.management.versionmanagement.model.VersionInfoShortDto;
+import com.epam.digital.data.platform.management.versionmanagement.model.VersionInfoShortPageDto;
 import com.epam.digital.data.platform.management.versionmanagement.model.VersionedFileInfoDto;
 import com.epam.digital.data.platform.management.versionmanagement.validation.VersionCandidate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.lang.Nullable;
 import org.springframework.validation.annotation.Validated;
 
@@ -33,11 +37,24 @@ import org.springframework.validation.annotation.Validated;
 public interface VersionManagementService {
 
   /**
-   * Get versions list
+   * Get all versions, most recently updated first. Versions are read from Gerrit page by page
    *
-   * @return {@link List} of {@link VersionInfoDto}
+   * @param updatedSince if set, only versions updated since then are returned
+   * @return {@link List} of {@link VersionInfoShortDto}
    */
-  List<VersionInfoShortDto> getVersionsList();
+  List<VersionInfoShortDto> getVersionsList(@Nullable LocalDateTime updatedSince);
+
+  /**
+   * Get a page of versions, most recently updated first
+   *
+   * @param cursor       cursor of the page, {@code 0} for the first page
+   * @param limit        maximum number of versions in the page, {@code null} for the default
+   *                     page size
+   * @param updatedSince if set, only versions updated since then are returned
+   * @return {@link VersionInfoShortPageDto} page of versions
+   */
+  VersionInfoShortPageDto getVersionsPage(int cursor, @Nullable Integer limit,
+      @Nullable LocalDateTime updatedSince);
 
 
   /**
@@ -48,6 +65,14 @@ public interface VersionManagementService {
   @Nullable
   VersionInfoDto getMasterInfo();
 
+  /**
+   * Get information about master version without blocking the calling thread
+   *
+   * @return {@link CompletableFuture} of {@link VersionInfoDto}, completed with {@code null} if
+   * there is no merged version
+   */
+  CompletableFuture<VersionInfoDto> getMasterInfoAsync();
+
   /**
    * Details of current version
    *
@@ -56,6 +81,16 @@ public interface VersionManagementService {
    */
   List<VersionedFileInfoDto> getVersionFileList(String versionName);
 
+  /**
+   * Content of the files changed in the version as they are in its current revision in Gerrit,
+   * e.g. to compare the version with the local repository. Files are downloaded by one bulk
+   * request
+   *
+   * @param versionName version identifier
+   * @return {@link Map} of changed file path and its content, deleted files are absent
+   */
+  Map<String, String> getVersionChangedFilesContent(String versionName);
+
   /**
    * Create new version
    *
@@ -72,6 +107,16 @@ public interface VersionManagementService {
    */
   VersionInfoDto getVersionDetails(String versionName);
 
+  /**
+   * Get version details by version identifier without blocking the calling thread on Gerrit.
+   * Deferred push of local changes of the version is flushed on the calling thread first, its
+   * failure completes the returned future exceptionally
+   *
+   * @param versionName version identifier
+   * @return {@link CompletableFuture} of {@link VersionInfoDto}
+   */
+  CompletableFuture<VersionInfoDto> getVersionDetailsAsync(String versionName);
+
   /**
    * Decline version by version identifier
    *
@@ -23,6 +23,7 @@ import com.epam.digital.data.platform.management.filemanagement.model.FileStatus
 import com.epam.digital.data.platform.management.forms.service.FormService;
 import com.epam.digital.data.platform.management.gerritintegration.exception.GerritChangeNotFoundException;
 import com.epam.digital.data.platform.management.gerritintegration.model.CreateChangeInputDto;
+import com.epam.digital.data.platform.management.gerritintegration.service.GerritAsyncService;
 import com.epam.digital.data.platform.management.gerritintegration.service.GerritService;
 import com.epam.digital.data.platform.management.gitintegration.service.JGitService;
 import com.epam.digital.data.platform.management.groups.service.GroupService;
@@ -35,11 +36,14 @@ import com.epam.digital.data.platform.management.versionmanagement.model.EntityC
 import com.epam.digital.data.platform.management.versionmanagement.model.VersionChangesDto;
 import com.epam.digital.data.platform.management.versionmanagement.model.VersionInfoDto;
 import com.epam.digital.data.platform.management.versionmanagement.model.VersionInfoShortDto;
+import com.epam.digital.data.platform.management.versionmanagement.model.VersionInfoShortPageDto;
 import com.epam.digital.data.platform.management.versionmanagement.model.VersionedFileInfoDto;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -51,7 +55,10 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class VersionManagementServiceImpl implements VersionManagementService {
 
+  private static final String DELETED_FILE_STATUS = "D";
+
   private final GerritService gerritService;
+  private final GerritAsyncService gerritAsyncService;
   private final JGitService jGitService;
 
   private final FormService formService;
@@ -66,10 +73,30 @@ public class VersionManagementServiceImpl implements VersionManagementService {
   private final VersionManagementMapper versionManagementMapper;
 
   @Override
-  public List<VersionInfoShortDto> getVersionsList() {
-    return gerritService.getMRList().stream()
+  public List<VersionInfoShortDto> getVersionsList(@Nullable LocalDateTime updatedSince) {
+    var versions = new ArrayList<VersionInfoShortDto>();
+    Integer cursor = 0;
+    do {
+      var page = getVersionsPage(cursor, null, updatedSince);
+      versions.addAll(page.getVersions());
+      cursor = page.getNextCursor();
+    } while (Objects.nonNull(cursor));
+    return versions;
+  }
+
+  @Override
+  public VersionInfoShortPageDto getVersionsPage(int cursor, @Nullable Integer limit,
+      @Nullable LocalDateTime updatedSince) {
+    var pageSize = Objects.requireNonNullElse(limit,
+        gerritPropertiesConfig.getChangeQuery().getPageSize());
+    var page = gerritService.getMRPage(cursor, pageSize, updatedSince);
+    var versions = page.getChanges().stream()
         .map(versionManagementMapper::toVersionInfoDto)
         .collect(Collectors.toList());
+    return VersionInfoShortPageDto.builder()
+        .versions(versions)
+        .nextCursor(page.isMoreChanges() ? cursor + versions.size() : null)
+        .build();
   }
 
   @Override
@@ -79,18 +106,27 @@ public class VersionManagementServiceImpl implements VersionManagementService {
     return versionManagementMapper.toVersionInfoDto(changeInfo, null);
   }
 
+  @Override
+  public CompletableFuture<VersionInfoDto> getMasterInfoAsync() {
+    return gerritAsyncService.getLastMergedMR()
+        .thenApply(changeInfo -> versionManagementMapper.toVersionInfoDto(changeInfo, null));
+  }
+
   @Override
   public void decline(String versionName) {
+    jGitService.flushPush(versionName);
     gerritService.declineChange(versionName);
   }
 
   @Override
   public boolean markReviewed(String versionName) {
+    jGitService.flushPush(versionName);
     return gerritService.review(versionName);
   }
 
   @Override
   public void submit(String versionName) {
+    jGitService.flushPush(versionName);
     gerritService.submitChanges(versionName);
     cacheService.clearCatalogCache(gerritPropertiesConfig.getHeadBranch());
   }
@@ -98,6 +134,7 @@ public class VersionManagementServiceImpl implements VersionManagementService {
   @Override
   public void rebase(String versionName) {
     log.debug("Rebasing {} version candidate", versionName);
+    jGitService.flushPush(versionName);
     var mr = gerritService.getMRByNumber(versionName);
     gerritService.rebase(mr.getChangeId());
     cacheService.clearCatalogCache(versionName);
@@ -117,11 +154,24 @@ public class VersionManagementServiceImpl implements VersionManagementService {
 
   @Override
   public List<VersionedFileInfoDto> getVersionFileList(String versionName) {
+    jGitService.flushPush(versionName);
     return gerritService.getListOfChangesInMR(versionName).entrySet().stream()
         .map(file -> versionManagementMapper.toVersionedFileInfoDto(file.getKey(), file.getValue()))
         .collect(Collectors.toList());
   }
 
+  @Override
+  public Map<String, String> getVersionChangedFilesContent(String versionName) {
+    jGitService.flushPush(versionName);
+    var changedFiles = gerritService.getListOfChangesInMR(versionName).entrySet().stream()
+        // gerrit magic files, e.g. /COMMIT_MSG, start with a slash and aren't repository files
+        .filter(file -> !file.getKey().startsWith("/"))
+        .filter(file -> !DELETED_FILE_STATUS.equals(file.getValue().getStatus()))
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toList());
+    return gerritService.getFilesContent(versionName, changedFiles);
+  }
+
   @Override
   public String createNewVersion(CreateChangeInputDto createChangeInputDto) {
     var versionNumber = gerritService.createChanges(createChangeInputDto);
@@ -131,6 +181,7 @@ public class VersionManagementServiceImpl implements VersionManagementService {
 
   @Override
   public VersionInfoDto getVersionDetails(String versionName) {
+    jGitService.flushPush(versionName);
     var e = gerritService.getMRByNumber(versionName);
     if (Objects.isNull(e)) {
       throw new GerritChangeNotFoundException("Could not find candidate with id " + versionName);
@@ -140,6 +191,25 @@ public class VersionManagementServiceImpl implements VersionManagementService {
         e, cacheService.getLatestRebaseCache(versionName));
   }
 
+  @Override
+  public CompletableFuture<VersionInfoDto> getVersionDetailsAsync(String versionName) {
+    // deferred push is flushed on the calling thread, only gerrit call is asynchronous
+    try {
+      jGitService.flushPush(versionName);
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    return gerritAsyncService.getMRByNumber(versionName)
+        .thenApply(changeInfo -> {
+          if (Objects.isNull(changeInfo)) {
+            throw new GerritChangeNotFoundException(
+                "Could not find candidate with id " + versionName);
+          }
+          return versionManagementMapper.toVersionInfoDto(
+              changeInfo, cacheService.getLatestRebaseCache(versionName));
+        });
+  }
+
   @Override
   public VersionChangesDto getVersionChanges(String versionCandidateId) {
     log.debug("Selecting form changes for version candidate {}", versionCandidateId);
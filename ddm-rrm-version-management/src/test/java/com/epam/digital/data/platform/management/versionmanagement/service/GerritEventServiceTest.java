@@ -0,0 +1,274 @@
+/*
+ * Copyright 2023 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.digital.data.platform.management.versionmanagement.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
+import com.epam.digital.data.platform.management.core.service.CacheService;
+import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoDto;
+import com.epam.digital.data.platform.management.filemanagement.service.FetchedRevisionTracker;
+import com.epam.digital.data.platform.management.gerritintegration.exception.GerritChangeNotFoundException;
+import com.epam.digital.data.platform.management.gerritintegration.service.ChangeLabelsCache;
+import com.epam.digital.data.platform.management.gerritintegration.service.GerritChangeCache;
+import com.epam.digital.data.platform.management.gerritintegration.service.GerritService;
+import com.epam.digital.data.platform.management.gitintegration.service.JGitService;
+import com.epam.digital.data.platform.management.versionmanagement.model.GerritEventDto;
+import com.epam.digital.data.platform.management.versionmanagement.model.GerritEventDto.ChangeDto;
+import com.epam.digital.data.platform.management.versionmanagement.model.GerritEventDto.RefUpdateDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@DisplayName("GerritEventService#handleEvent")
+class GerritEventServiceTest {
+
+  static final String PROJECT = "registry";
+  static final String HEAD_BRANCH = "master";
+
+  @Mock
+  GerritPropertiesConfig gerritPropertiesConfig;
+  @Mock
+  JGitService jGitService;
+  @Mock
+  GerritService gerritService;
+  @Mock
+  CacheService cacheService;
+  @Mock
+  GerritChangeCache changeCache;
+  @Mock
+  ChangeLabelsCache labelsCache;
+
+  MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  FetchedRevisionTracker fetchedRevisionTracker = new FetchedRevisionTracker(meterRegistry);
+  Queue<Runnable> eventTasks = new ArrayDeque<>();
+  GerritEventService gerritEventService;
+
+  @BeforeEach
+  void setUp() {
+    Mockito.doReturn(PROJECT).when(gerritPropertiesConfig).getRepository();
+    Mockito.doReturn(HEAD_BRANCH).when(gerritPropertiesConfig).getHeadBranch();
+    gerritEventService = new GerritEventServiceImpl(gerritPropertiesConfig, jGitService,
+        gerritService, cacheService, changeCache, labelsCache, fetchedRevisionTracker, meterRegistry,
+        eventTasks::add);
+  }
+
+  @Test
+  @DisplayName("should fetch only the current revision of the version candidate of created patch set")
+  void patchSetCreatedTest() {
+    Mockito.doReturn(true).when(jGitService).repoExists("42");
+    Mockito.doReturn(toChangeInfo("refs/changes/42/42/3")).when(gerritService)
+        .getMRByNumber("42");
+    var event = toChangeEvent("patchset-created", PROJECT, "42");
+
+    handleEvent(event);
+    handleEvent(event);
+
+    Mockito.verify(changeCache, Mockito.times(2)).invalidate("42");
+    Mockito.verify(jGitService).fetch("42", "refs/changes/42/42/3");
+    Mockito.verify(cacheService, Mockito.times(2)).clearCatalogCache("42");
+    Mockito.verify(jGitService, Mockito.never()).resetHeadBranchToRemote();
+    Assertions.assertThat(getEventsCount("patchset-created", "handled")).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("should drop cached build status of the change on added comment")
+  void commentAddedTest() {
+    var event = toChangeEvent("comment-added", PROJECT, "42");
+
+    handleEvent(event);
+
+    Mockito.verify(labelsCache).invalidate("42");
+    Mockito.verify(changeCache).invalidate("42");
+    Mockito.verifyNoInteractions(jGitService, cacheService);
+    Assertions.assertThat(getEventsCount("comment-added", "handled")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should not clone version candidate that isn't cloned yet")
+  void patchSetCreatedNotClonedTest() {
+    Mockito.doReturn(false).when(jGitService).repoExists("42");
+    var event = toChangeEvent("patchset-created", PROJECT, "42");
+
+    handleEvent(event);
+
+    Mockito.verify(jGitService, Mockito.never()).cloneRepoIfNotExist(anyString());
+    Mockito.verify(jGitService, Mockito.never()).fetch(anyString(), anyString());
+    Mockito.verify(changeCache).invalidate("42");
+    Mockito.verify(cacheService).clearCatalogCache("42");
+  }
+
+  @Test
+  @DisplayName("should ignore created patch set of the change that is not found in gerrit")
+  void patchSetCreatedNotFoundChangeTest() {
+    Mockito.doReturn(true).when(jGitService).repoExists("42");
+    Mockito.doThrow(GerritChangeNotFoundException.class).when(gerritService).getMRByNumber("42");
+
+    handleEvent(toChangeEvent("patchset-created", PROJECT, "42"));
+
+    Mockito.verify(jGitService, Mockito.never()).fetch(anyString(), anyString());
+    Mockito.verify(cacheService, Mockito.never()).clearCatalogCache(any());
+    Assertions.assertThat(getEventsCount("patchset-created", "ignored")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should refresh repository only after the event is accepted")
+  void refreshAfterAcceptedTest() {
+    gerritEventService.handleEvent(toChangeEvent("change-merged", PROJECT, "42"));
+
+    Mockito.verify(changeCache).invalidate("42");
+    Mockito.verifyNoInteractions(jGitService, cacheService);
+    Assertions.assertThat(eventTasks).hasSize(1);
+
+    eventTasks.remove().run();
+
+    Mockito.verify(jGitService).resetHeadBranchToRemote();
+    Mockito.verify(cacheService).clearCatalogCache(HEAD_BRANCH);
+    Assertions.assertThat(getEventsCount("change-merged", "handled")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should drop the event if there are too many events waiting")
+  void eventDroppedTest() {
+    gerritEventService = new GerritEventServiceImpl(gerritPropertiesConfig, jGitService,
+        gerritService, cacheService, changeCache, labelsCache, fetchedRevisionTracker, meterRegistry,
+        task -> {
+          throw new RejectedExecutionException();
+        });
+
+    gerritEventService.handleEvent(toChangeEvent("change-merged", PROJECT, "42"));
+
+    Mockito.verify(changeCache).invalidate("42");
+    Mockito.verifyNoInteractions(jGitService, cacheService);
+    Assertions.assertThat(getEventsCount("change-merged", "dropped")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should count the event as failed if repository couldn't be refreshed")
+  void refreshFailedTest() {
+    Mockito.doThrow(RuntimeException.class).when(jGitService).resetHeadBranchToRemote();
+
+    handleEvent(toChangeEvent("change-merged", PROJECT, "42"));
+
+    Mockito.verify(cacheService, Mockito.never()).clearCatalogCache(any());
+    Assertions.assertThat(getEventsCount("change-merged", "failed")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should reset head branch when it's updated")
+  void headBranchUpdatedTest() {
+    var event = new GerritEventDto();
+    event.setType("ref-updated");
+    event.setRefUpdate(new RefUpdateDto());
+    event.getRefUpdate().setProject(PROJECT);
+    event.getRefUpdate().setRefName("refs/heads/" + HEAD_BRANCH);
+
+    handleEvent(event);
+
+    Mockito.verify(jGitService).resetHeadBranchToRemote();
+    Mockito.verify(cacheService).clearCatalogCache(HEAD_BRANCH);
+    Mockito.verify(jGitService, Mockito.never()).fetch(anyString(), anyString());
+  }
+
+  @Test
+  @DisplayName("should ignore update of refs other than head branch")
+  void otherRefUpdatedTest() {
+    var event = new GerritEventDto();
+    event.setType("ref-updated");
+    event.setRefUpdate(new RefUpdateDto());
+    event.getRefUpdate().setProject(PROJECT);
+    event.getRefUpdate().setRefName("refs/changes/42/42/3");
+
+    handleEvent(event);
+
+    Mockito.verifyNoInteractions(jGitService, cacheService);
+    Assertions.assertThat(getEventsCount("ref-updated", "ignored")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should reset head branch and invalidate merged change")
+  void changeMergedTest() {
+    handleEvent(toChangeEvent("change-merged", PROJECT, "42"));
+
+    Mockito.verify(changeCache).invalidate("42");
+    Mockito.verify(jGitService).resetHeadBranchToRemote();
+    Mockito.verify(cacheService).clearCatalogCache(HEAD_BRANCH);
+  }
+
+  @Test
+  @DisplayName("should ignore events of other projects")
+  void otherProjectTest() {
+    handleEvent(toChangeEvent("change-merged", "other-project", "42"));
+
+    Mockito.verifyNoInteractions(jGitService, cacheService, changeCache, labelsCache);
+    Assertions.assertThat(getEventsCount("change-merged", "ignored")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should only invalidate change of events that don't move any repository")
+  void otherEventTypeTest() {
+    handleEvent(toChangeEvent("reviewer-added", PROJECT, "42"));
+
+    Mockito.verify(changeCache).invalidate("42");
+    Mockito.verify(labelsCache).invalidate("42");
+    Mockito.verifyNoInteractions(jGitService);
+    Mockito.verify(cacheService, Mockito.never()).clearCatalogCache(any());
+    Assertions.assertThat(getEventsCount("other", "ignored")).isEqualTo(1);
+  }
+
+  private void handleEvent(GerritEventDto event) {
+    gerritEventService.handleEvent(event);
+    while (!eventTasks.isEmpty()) {
+      eventTasks.remove().run();
+    }
+  }
+
+  private double getEventsCount(String type, String result) {
+    return meterRegistry.get(GerritEventServiceImpl.EVENTS_METRIC)
+        .tag("type", type)
+        .tag("result", result)
+        .counter().count();
+  }
+
+  private static ChangeInfoDto toChangeInfo(String refs) {
+    var changeInfo = new ChangeInfoDto();
+    changeInfo.setRefs(refs);
+    return changeInfo;
+  }
+
+  private static GerritEventDto toChangeEvent(String type, String project, String number) {
+    var event = new GerritEventDto();
+    event.setType(type);
+    event.setChange(new ChangeDto());
+    event.getChange().setProject(project);
+    event.getChange().setBranch(HEAD_BRANCH);
+    event.getChange().setNumber(number);
+    return event;
+  }
+}
@@ -28,6 +28,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import com.epam.digital.data.platform.management.core.event.publisher.RegistryRegulationManagementEventPublisher;
 import com.epam.digital.data.platform.management.core.service.CacheService;
 import com.epam.digital.data.platform.management.forms.service.FormService;
+import com.epam.digital.data.platform.management.gerritintegration.service.GerritAsyncService;
 import com.epam.digital.data.platform.management.gerritintegration.service.GerritService;
 import com.epam.digital.data.platform.management.gitintegration.service.JGitService;
 import com.epam.digital.data.platform.management.groups.service.GroupService;
@@ -49,6 +50,8 @@ public abstract class VersionManagementServiceBaseTest {
   @MockBean
   GerritService gerritService;
   @MockBean
+  GerritAsyncService gerritAsyncService;
+  @MockBean
   JGitService jGitService;
   @MockBean
   FormService formService;
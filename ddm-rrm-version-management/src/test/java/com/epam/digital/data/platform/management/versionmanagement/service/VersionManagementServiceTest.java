@@ -21,6 +21,7 @@ import static org.mockito.ArgumentMatchers.*;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.Condition;
@@ -28,11 +29,14 @@ import org.assertj.core.internal.bytebuddy.utility.RandomString;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import com.epam.digital.data.platform.management.core.config.GerritPropertiesConfig;
 import com.epam.digital.data.platform.management.gerritintegration.exception.GerritChangeNotFoundException;
 import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoDto;
 import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoShortDto;
+import com.epam.digital.data.platform.management.gerritintegration.model.ChangeInfoShortPageDto;
 import com.epam.digital.data.platform.management.gerritintegration.model.CreateChangeInputDto;
 import com.epam.digital.data.platform.management.gerritintegration.model.FileInfoDto;
+import com.epam.digital.data.platform.management.gitintegration.exception.GitCommandException;
 import com.epam.digital.data.platform.management.versionmanagement.model.VersionInfoDto;
 import com.epam.digital.data.platform.management.versionmanagement.model.VersionInfoShortDto;
 import com.epam.digital.data.platform.management.versionmanagement.model.VersionedFileInfoDto;
@@ -48,10 +52,24 @@ class VersionManagementServiceTest extends VersionManagementServiceBaseTest {
     changeInfo.setNumber("1");
     changeInfo.setSubject("changeInfoSubject");
     changeInfo.setTopic("changeInfoTopic");
-
-    Mockito.when(gerritService.getMRList()).thenReturn(List.of(changeInfo));
-
-    var actualVersionsList = managementService.getVersionsList();
+    var nextChangeInfo = new ChangeInfoShortDto();
+    nextChangeInfo.setNumber("2");
+    var updatedSince = LocalDateTime.of(2022, 10, 28, 15, 12);
+    var changeQuery = new GerritPropertiesConfig.ChangeQuery();
+    changeQuery.setPageSize(1);
+    Mockito.doReturn(changeQuery).when(gerritPropertiesConfig).getChangeQuery();
+    Mockito.when(gerritService.getMRPage(0, 1, updatedSince))
+        .thenReturn(ChangeInfoShortPageDto.builder()
+            .changes(List.of(changeInfo))
+            .moreChanges(true)
+            .build());
+    Mockito.when(gerritService.getMRPage(1, 1, updatedSince))
+        .thenReturn(ChangeInfoShortPageDto.builder()
+            .changes(List.of(nextChangeInfo))
+            .moreChanges(false)
+            .build());
+
+    var actualVersionsList = managementService.getVersionsList(updatedSince);
 
     var expectedChangeInfoDto = VersionInfoShortDto.builder()
         .number(1)
@@ -59,8 +77,52 @@ class VersionManagementServiceTest extends VersionManagementServiceBaseTest {
         .description("changeInfoTopic")
         .build();
     Assertions.assertThat(actualVersionsList)
-        .hasSize(1)
+        .hasSize(2)
         .element(0).isEqualTo(expectedChangeInfoDto);
+    Assertions.assertThat(actualVersionsList.get(1).getNumber()).isEqualTo(2);
+  }
+
+  @Test
+  @SneakyThrows
+  void getVersionsPageTest() {
+    var changeInfo = new ChangeInfoShortDto();
+    changeInfo.setNumber("1");
+    changeInfo.setSubject("changeInfoSubject");
+    changeInfo.setTopic("changeInfoTopic");
+    var updatedSince = LocalDateTime.of(2022, 10, 28, 15, 12);
+
+    Mockito.when(gerritService.getMRPage(20, 1, updatedSince))
+        .thenReturn(ChangeInfoShortPageDto.builder()
+            .changes(List.of(changeInfo))
+            .moreChanges(true)
+            .build());
+
+    var actualPage = managementService.getVersionsPage(20, 1, updatedSince);
+
+    var expectedChangeInfoDto = VersionInfoShortDto.builder()
+        .number(1)
+        .subject("changeInfoSubject")
+        .description("changeInfoTopic")
+        .build();
+    Assertions.assertThat(actualPage.getVersions()).containsExactly(expectedChangeInfoDto);
+    Assertions.assertThat(actualPage.getNextCursor()).isEqualTo(21);
+  }
+
+  @Test
+  @SneakyThrows
+  void getVersionsPage_lastPage() {
+    var changeQuery = new GerritPropertiesConfig.ChangeQuery();
+    Mockito.doReturn(changeQuery).when(gerritPropertiesConfig).getChangeQuery();
+    Mockito.when(gerritService.getMRPage(0, changeQuery.getPageSize(), null))
+        .thenReturn(ChangeInfoShortPageDto.builder()
+            .changes(List.of())
+            .moreChanges(false)
+            .build());
+
+    var actualPage = managementService.getVersionsPage(0, null, null);
+
+    Assertions.assertThat(actualPage.getVersions()).isEmpty();
+    Assertions.assertThat(actualPage.getNextCursor()).isNull();
   }
 
   @Test
@@ -71,6 +133,7 @@ class VersionManagementServiceTest extends VersionManagementServiceBaseTest {
     Assertions.assertThatCode(() -> managementService.decline(changeId))
         .doesNotThrowAnyException();
 
+    Mockito.verify(jGitService).flushPush(changeId);
     Mockito.verify(gerritService).declineChange(changeId);
   }
 
@@ -146,6 +209,30 @@ class VersionManagementServiceTest extends VersionManagementServiceBaseTest {
         .areAtLeastOne(expectedSecondVersionedFileInfo);
   }
 
+  @Test
+  @SneakyThrows
+  void getVersionChangedFilesContentTest() {
+    var modified = new FileInfoDto();
+    modified.setStatus(null);
+    var added = new FileInfoDto();
+    added.setStatus("A");
+    var deleted = new FileInfoDto();
+    deleted.setStatus("D");
+    Mockito.when(gerritService.getListOfChangesInMR("3")).thenReturn(
+        Map.of("/COMMIT_MSG", added, "file1", modified, "file2", added, "file3", deleted));
+    Mockito.when(gerritService.getFilesContent(eq("3"), anyList()))
+        .thenReturn(Map.of("file1", "content1", "file2", "content2"));
+
+    var result = managementService.getVersionChangedFilesContent("3");
+
+    Assertions.assertThat(result)
+        .containsExactlyInAnyOrderEntriesOf(Map.of("file1", "content1", "file2", "content2"));
+    var inOrder = Mockito.inOrder(jGitService, gerritService);
+    inOrder.verify(jGitService).flushPush("3");
+    inOrder.verify(gerritService).getFilesContent(eq("3"), argThat(files ->
+        files.size() == 2 && files.containsAll(List.of("file1", "file2"))));
+  }
+
   @Test
   @SneakyThrows
   void createNewVersionTest() {
@@ -206,6 +293,52 @@ class VersionManagementServiceTest extends VersionManagementServiceBaseTest {
         .isInstanceOf(GerritChangeNotFoundException.class);
   }
 
+  @Test
+  @SneakyThrows
+  void getVersionDetailsAsyncTest() {
+    var changeInfo = new ChangeInfoDto();
+    changeInfo.setNumber("1");
+    changeInfo.setOwner("owner");
+    changeInfo.setLabels(Map.of());
+    Mockito.when(gerritAsyncService.getMRByNumber("1"))
+        .thenReturn(CompletableFuture.completedFuture(changeInfo));
+
+    var actualChangeInfoDetailedDto = managementService.getVersionDetailsAsync("1").join();
+
+    var expectedChangeInfoDetailedDto = VersionInfoDto.builder()
+        .number(1)
+        .owner("owner")
+        .labels(Map.of())
+        .build();
+    Assertions.assertThat(actualChangeInfoDetailedDto)
+        .isEqualTo(expectedChangeInfoDetailedDto);
+    Mockito.verify(jGitService).flushPush("1");
+    Mockito.verifyNoInteractions(gerritService);
+  }
+
+  @Test
+  @SneakyThrows
+  void getVersionDetailsAsyncTest_notFound() {
+    var changeNumber = RandomString.make();
+    Mockito.when(gerritAsyncService.getMRByNumber(changeNumber))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    Assertions.assertThatThrownBy(
+            () -> managementService.getVersionDetailsAsync(changeNumber).join())
+        .hasCauseInstanceOf(GerritChangeNotFoundException.class);
+  }
+
+  @Test
+  @SneakyThrows
+  void getVersionDetailsAsyncTest_pushFailed() {
+    Mockito.doThrow(new GitCommandException("Push failed", new RuntimeException()))
+        .when(jGitService).flushPush("1");
+
+    Assertions.assertThatThrownBy(() -> managementService.getVersionDetailsAsync("1").join())
+        .hasCauseInstanceOf(GitCommandException.class);
+    Mockito.verifyNoInteractions(gerritAsyncService);
+  }
+
   @Test
   @SneakyThrows
   void getMasterInfo() {
@@ -259,6 +392,19 @@ class VersionManagementServiceTest extends VersionManagementServiceBaseTest {
     Mockito.verify(gerritService).getLastMergedMR();
   }
 
+  @Test
+  @SneakyThrows
+  void getMasterInfoAsync_null() {
+    Mockito.when(gerritAsyncService.getLastMergedMR())
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    var result = managementService.getMasterInfoAsync().join();
+
+    Assertions.assertThat(result)
+        .isNull();
+    Mockito.verify(gerritAsyncService).getLastMergedMR();
+  }
+
   @Test
   @SneakyThrows
   void getVersionChanges() {
@@ -325,6 +471,7 @@ class VersionManagementServiceTest extends VersionManagementServiceBaseTest {
 
     managementService.rebase(version);
 
+    Mockito.verify(jGitService).flushPush(version);
     Mockito.verify(gerritService).getMRByNumber(version);
     Mockito.verify(gerritService).rebase(changeId);
     Mockito.verify(gerritService).getChangeInfo(changeId);
@@ -23,10 +23,12 @@ import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.epam.digital.data.platform.management.dto.TestVersionCandidate;
@@ -75,7 +77,7 @@ class CandidateVersionControllerIT extends BaseIT {
       final var versionsResponse = List.of(versionCandidate1, versionCandidate2);
       final var objectMapper = new ObjectMapper();
       context.getGerritMockServer().addStubMapping(stubFor(
-          WireMock.get(String.format("/a/changes/?q=project:%s+status:open+owner:%s",
+          WireMock.get(String.format("/a/changes/?q=project:%s+status:open+owner:%s&n=500",
                   gerritProps.getRepository(), gerritProps.getUser()))
               .willReturn(aResponse().withStatus(200)
                   .withBody(objectMapper.writeValueAsString(versionsResponse)))));
@@ -96,9 +98,11 @@ class CandidateVersionControllerIT extends BaseIT {
               .willReturn(aResponse().withStatus(200)
                   .withBody("{\"mergeable\":false}"))));
 
-      mockMvc.perform(get("/versions/candidates")
+      var mvcResult = mockMvc.perform(get("/versions/candidates")
           .accept(MediaType.APPLICATION_JSON_VALUE)
-      ).andExpectAll(
+      ).andExpect(request().asyncStarted()).andReturn();
+
+      mockMvc.perform(asyncDispatch(mvcResult)).andExpectAll(
           status().isOk(),
           content().contentType("application/json"),
           jsonPath("$", hasSize(2)),
@@ -117,13 +121,15 @@ class CandidateVersionControllerIT extends BaseIT {
     void getVersionsList_noVersions() {
       var gerritProps = context.getGerritProps();
       context.getGerritMockServer().addStubMapping(stubFor(WireMock.get(
-              String.format("/a/changes/?q=project:%s+status:open+owner:%s",
+              String.format("/a/changes/?q=project:%s+status:open+owner:%s&n=500",
                   gerritProps.getRepository(), gerritProps.getUser()))
           .willReturn(aResponse().withStatus(200).withBody("[]"))));
 
-      mockMvc.perform(get("/versions/candidates")
+      var mvcResult = mockMvc.perform(get("/versions/candidates")
           .accept(MediaType.APPLICATION_JSON_VALUE)
-      ).andExpectAll(
+      ).andExpect(request().asyncStarted()).andReturn();
+
+      mockMvc.perform(asyncDispatch(mvcResult)).andExpectAll(
           status().isOk(),
           jsonPath("$", hasSize(0))
       );
@@ -148,9 +154,12 @@ class CandidateVersionControllerIT extends BaseIT {
               .build()
       );
 
-      mockMvc.perform(get("/versions/candidates/{versionCandidateId}", versionCandidateId)
-          .accept(MediaType.APPLICATION_JSON_VALUE)
-      ).andExpectAll(
+      var mvcResult = mockMvc.perform(
+          get("/versions/candidates/{versionCandidateId}", versionCandidateId)
+              .accept(MediaType.APPLICATION_JSON_VALUE)
+      ).andExpect(request().asyncStarted()).andReturn();
+
+      mockMvc.perform(asyncDispatch(mvcResult)).andExpectAll(
           status().isOk(),
           content().contentType("application/json"),
           jsonPath("$.id", is(versionCandidateId)),
@@ -170,9 +179,12 @@ class CandidateVersionControllerIT extends BaseIT {
     void getVersionDetails_noSuchVersion() {
       final var versionCandidateId = context.mockVersionCandidateDoesNotExist();
 
-      mockMvc.perform(get("/versions/candidates/{versionCandidateId}", versionCandidateId)
-          .accept(MediaType.APPLICATION_JSON_VALUE)
-      ).andExpectAll(
+      var mvcResult = mockMvc.perform(
+          get("/versions/candidates/{versionCandidateId}", versionCandidateId)
+              .accept(MediaType.APPLICATION_JSON_VALUE)
+      ).andExpect(request().asyncStarted()).andReturn();
+
+      mockMvc.perform(asyncDispatch(mvcResult)).andExpectAll(
           status().isNotFound(),
           content().contentType(MediaType.APPLICATION_JSON),
           jsonPath("$.code", is("CHANGE_NOT_FOUND")),
@@ -40,6 +40,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -77,10 +78,12 @@ class MasterVersionControllerIT extends BaseIT {
                 .withBody(om.writeValueAsString(lastMergedChangeInfo)))
     ));
 
-    mockMvc.perform(
+    var mvcResult = mockMvc.perform(
         get("/versions/master")
             .accept(MediaType.APPLICATION_JSON_VALUE)
-    ).andExpectAll(
+    ).andExpect(request().asyncStarted()).andReturn();
+
+    mockMvc.perform(asyncDispatch(mvcResult)).andExpectAll(
         status().isOk(),
         content().contentType("application/json"),
         jsonPath("$.id", is("1")),
@@ -105,10 +108,12 @@ class MasterVersionControllerIT extends BaseIT {
             .willReturn(aResponse().withStatus(200).withBody("[]"))
     ));
 
-    mockMvc.perform(
+    var mvcResult = mockMvc.perform(
         get("/versions/master")
             .accept(MediaType.APPLICATION_JSON_VALUE)
-    ).andExpectAll(
+    ).andExpect(request().asyncStarted()).andReturn();
+
+    mockMvc.perform(asyncDispatch(mvcResult)).andExpectAll(
         status().isOk(),
         content().contentType("application/json"),
         jsonPath("$.id", nullValue()),
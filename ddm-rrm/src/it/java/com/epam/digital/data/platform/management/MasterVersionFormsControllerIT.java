@@ -29,6 +29,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.epam.digital.data.platform.management.core.config.JacksonConfig;
 import com.epam.digital.data.platform.management.core.utils.ETagUtils;
+import com.epam.digital.data.platform.management.gitintegration.service.DatesCacheService;
 import com.google.gson.JsonParser;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -43,7 +44,6 @@ import org.skyscreamer.jsonassert.JSONAssert;
 import org.skyscreamer.jsonassert.JSONCompareMode;
 import org.skyscreamer.jsonassert.comparator.CustomComparator;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
@@ -52,8 +52,7 @@ import org.springframework.mock.web.MockHttpServletResponse;
 class MasterVersionFormsControllerIT extends BaseIT {
 
   @Autowired
-  private CacheManager cacheManager;
-  private static final String DATE_CACHE_NAME = "dates";
+  private DatesCacheService datesCacheService;
 
   @Nested
   @DisplayName("GET /versions/master/forms/{formName}")
@@ -155,18 +154,10 @@ class MasterVersionFormsControllerIT extends BaseIT {
           jsonPath("$[1].updated", is("2022-10-28T20:56:32.309Z"))
       );
 
-      final var datesCache = cacheManager.getCache(DATE_CACHE_NAME);
-      Assertions.assertThat(datesCache).isNotNull();
-
-      final var valueWrapper = datesCache.get("head-branch");
-      Assertions.assertThat(valueWrapper).isNotNull();
+      Assertions.assertThat(datesCacheService.hasDatesCache("head-branch")).isTrue();
 
       Thread.sleep(10000);
-      final var emptyDatesCache = cacheManager.getCache(DATE_CACHE_NAME);
-      Assertions.assertThat(emptyDatesCache)
-          .isNotNull()
-          .extracting(cache -> cache.get("head-branch"))
-          .isNull();
+      Assertions.assertThat(datesCacheService.hasDatesCache("head-branch")).isFalse();
     }
 
     @Test
@@ -20,6 +20,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 
 import com.epam.digital.data.platform.management.config.DataSourceConfigurationProperties;
@@ -42,9 +43,11 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import javax.annotation.PostConstruct;
@@ -242,8 +245,7 @@ public class TestExecutionContext {
     final var versionCandidateId = String.valueOf(versionCandidate);
 
     gerritMockServer.addStubMapping(stubFor(
-        get(String.format("/a/changes/?q=project:%s+%s", gerritProps.getRepository(),
-            versionCandidateId)
+        get(urlMatching(toQueryChangesByNumberUrlRegex(versionCandidateId))
         ).willReturn(
             aResponse()
                 .withStatus(200)
@@ -445,24 +447,52 @@ public class TestExecutionContext {
         get("/a/config/server/version").willReturn(aResponse().withStatus(200).withBody("3.3.2"))));
   }
 
+  @SneakyThrows
   private void stubGerritQueryChangesByNumber(String versionCandidateId) {
+    final var response = new HashMap<>(toGerritChangeResponse());
+    response.put("mergeable", versionCandidate.isMergeable());
     gerritMockServer.addStubMapping(stubFor(get(
-            String.format("/a/changes/?q=project:%s+%s", gerritProps.getRepository(),
-                versionCandidateId)
+            urlMatching(toQueryChangesByNumberUrlRegex(versionCandidateId))
         ).willReturn(aResponse()
             .withStatus(200)
-            .withBody(String.format("[{\"id\":\"%s\",\"change_id\":\"%s\",\"_number\":%d}]",
-                versionCandidate.getId(), versionCandidate.getChangeId(),
-                versionCandidate.getNumber()))))
+            .withBody(new ObjectMapper().writeValueAsString(List.of(response)))))
     );
   }
 
+  /**
+   * Change query url with any list changes options, so the stub serves every change lookup mode
+   */
+  private String toQueryChangesByNumberUrlRegex(String versionCandidateId) {
+    return Pattern.quote(String.format("/a/changes/?q=project:%s+%s",
+        gerritProps.getRepository(), versionCandidateId)) + "(&o=[A-Z_]+)*";
+  }
+
   @SneakyThrows
   private void stubGerritGetChangeById(String id) {
+    gerritMockServer.addStubMapping(stubFor(get(urlPathEqualTo(String.format("/a/changes/%s", id))
+        ).willReturn(aResponse()
+            .withStatus(200)
+            .withBody(new ObjectMapper().writeValueAsString(toGerritChangeResponse()))))
+    );
+    gerritMockServer.addStubMapping(
+        stubFor(get(urlPathEqualTo(String.format("/a/changes/%s/revisions/current/mergeable", id))
+        ).willReturn(aResponse()
+            .withStatus(200)
+            .withBody(String.format("{\"mergeable\":%s}", versionCandidate.isMergeable()))))
+    );
+    gerritMockServer.addStubMapping(
+        stubFor(get(urlPathEqualTo(String.format("/a/changes/%s/revisions/current/files", id))
+        ).willReturn(aResponse()
+            .withStatus(200)
+            .withBody("{}")))
+    );
+  }
+
+  private Map<String, Object> toGerritChangeResponse() {
     final var gerritDateFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSSSSS");
     String message = "Build Started ... MASTER-Code-review ...";
     Timestamp timestamp = Timestamp.valueOf(LocalDateTime.of(2022, 8, 10, 13, 18));
-    final var response = Map.ofEntries(
+    return Map.ofEntries(
         Map.entry("id", versionCandidate.getId()),
         Map.entry("change_id", versionCandidate.getChangeId()),
         Map.entry("_number", versionCandidate.getNumber()),
@@ -477,23 +507,6 @@ public class TestExecutionContext {
         Map.entry("labels", Map.of("Verified", new LabelInfo())),
         Map.entry("messages", List.of(Map.of("message", message, "date", timestamp.toString())))
         );
-    gerritMockServer.addStubMapping(stubFor(get(urlPathEqualTo(String.format("/a/changes/%s", id))
-        ).willReturn(aResponse()
-            .withStatus(200)
-            .withBody(new ObjectMapper().writeValueAsString(response))))
-    );
-    gerritMockServer.addStubMapping(
-        stubFor(get(urlPathEqualTo(String.format("/a/changes/%s/revisions/current/mergeable", id))
-        ).willReturn(aResponse()
-            .withStatus(200)
-            .withBody(String.format("{\"mergeable\":%s}", versionCandidate.isMergeable()))))
-    );
-    gerritMockServer.addStubMapping(
-        stubFor(get(urlPathEqualTo(String.format("/a/changes/%s/revisions/current/files", id))
-        ).willReturn(aResponse()
-            .withStatus(200)
-            .withBody("{}")))
-    );
   }
 
   /**
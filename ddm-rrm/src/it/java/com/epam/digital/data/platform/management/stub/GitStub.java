@@ -23,10 +23,16 @@ import org.eclipse.jgit.lib.Repository;
 public class GitStub extends Git {
 
   private final TestExecutionContext context;
+  private final boolean closeRepository;
 
   public GitStub(Repository repo, TestExecutionContext context) {
+    this(repo, context, true);
+  }
+
+  public GitStub(Repository repo, TestExecutionContext context, boolean closeRepository) {
     super(repo);
     this.context = context;
+    this.closeRepository = closeRepository;
   }
 
   @Override
@@ -46,6 +52,8 @@ public class GitStub extends Git {
 
   @Override
   public void close() {
-    super.getRepository().close();
+    if (closeRepository) {
+      super.getRepository().close();
+    }
   }
 }
@@ -21,6 +21,7 @@ import com.epam.digital.data.platform.management.gitintegration.service.JGitWrap
 import java.io.File;
 import java.io.IOException;
 import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Repository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.lang.NonNull;
@@ -44,4 +45,10 @@ public class JGitWrapperStub extends JGitWrapper {
     final var repo = git.getRepository();
     return new GitStub(repo, context);
   }
+
+  @NonNull
+  @Override
+  public Git wrap(@NonNull Repository repository) {
+    return new GitStub(repository, context, false);
+  }
 }